@@ -5,9 +5,19 @@
  */
 package com.github.toolarium.processing.engine;
 
+import com.github.toolarium.processing.engine.dto.execution.IProcessingExecution;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingExecutionBuilder;
+import com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry;
+import com.github.toolarium.processing.engine.exception.ProcessingRejectedException;
+import com.github.toolarium.processing.engine.exception.ValidationException;
 import com.github.toolarium.processing.unit.dto.Parameter;
 import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnable;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -31,6 +41,22 @@ public interface IProcessEngine {
      * @return the processing unit registry
      */
     IProcessingUnitRegistry getProcessingUnitRegistry();
+
+    
+    /**
+     * Get the processing channel registry
+     *
+     * @return the processing channel registry
+     */
+    IProcessingChannelRegistry getProcessingChannelRegistry();
+
+
+    /**
+     * Get the rate limiter. The rate limits can be changed at runtime and apply to the running processings as well.
+     *
+     * @return the rate limiter
+     */
+    IProcessingRateLimiter getProcessingRateLimiter();
     
     
     /**
@@ -41,8 +67,36 @@ public interface IProcessEngine {
      * @param processingUnitClass the process unit class
      * @param parameterList the parameter list
      * @return the added {@link IProcessingUnitRunnable}.
+     * @throws ProcessingRejectedException In case the processing can't be accepted
      */
-    IProcessingUnitRunnable execute(String id, String name, String processingUnitClass, List<Parameter> parameterList);
+    IProcessingUnitRunnable execute(String id, String name, String processingUnitClass, List<Parameter> parameterList) throws ProcessingRejectedException;
+
+    
+    /**
+     * Execute the process unit partitioned: the process unit is started once per partition and the results of the partitions 
+     * are merged into one result. The process unit gets the partition as parameter, see 
+     * {@link com.github.toolarium.processing.engine.util.ProcessingPartitionUtil}.
+     *
+     * @param id the id of the execution or null
+     * @param name the name of the execution
+     * @param processingUnitClass the process unit class
+     * @param parameterList the parameter list
+     * @param numberOfPartitions the number of partitions
+     * @return the added {@link IProcessingUnitRunnable} list, one per partition.
+     * @throws ProcessingRejectedException In case the processing can't be accepted
+     */
+    List<IProcessingUnitRunnable> execute(String id, String name, String processingUnitClass, List<Parameter> parameterList, int numberOfPartitions) throws ProcessingRejectedException;
+
+    
+    /**
+     * Execute the process units of the builder as group. Process units without dependencies between each other run in 
+     * parallel, a process unit which depends on other process units is started as soon as all its predecessors are ended.
+     *
+     * @param processingExecutionBuilder the processing execution builder
+     * @return the group handle
+     * @throws ProcessingRejectedException In case the processing can't be accepted
+     */
+    IProcessingGroup execute(ProcessingExecutionBuilder processingExecutionBuilder) throws ProcessingRejectedException;
 
     
     /**
@@ -53,7 +107,129 @@ public interface IProcessEngine {
      */
     List<IProcessingUnitRunnable> execute(byte[] persistedContent);
 
+    
+    /**
+     * Execute the persisted process units of a stream, the processings are resumed one by one as soon as they are read.
+     * In case of an invalid entry the already resumed processings are returned, only in case none is resumed the error is 
+     * thrown. The stream is not closed.
+     *
+     * @param inputStream the stream of the persisted content from a shutdown
+     * @return the added {@link IProcessingUnitRunnable} list.
+     */
+    List<IProcessingUnitRunnable> execute(InputStream inputStream);
+
+    
+    /**
+     * Execute the persisted process units of a file, the processings are resumed one by one as soon as they are read.
+     * In case the file doesn't exist there is nothing to resume. In case of an invalid entry the already resumed processings
+     * are returned, only in case none is resumed the error is thrown.
+     *
+     * @param path the file of the persisted content from a shutdown
+     * @return the added {@link IProcessingUnitRunnable} list.
+     */
+    List<IProcessingUnitRunnable> execute(Path path);
+
 
+    /**
+     * Resume the processings of the latest checkpoints in the checkpoint directory, e.g. after a crash. It is called once
+     * after the processing units and listeners are registered. In case there are no checkpoints configured nothing is 
+     * resumed.
+     *
+     * @return the added {@link IProcessingUnitRunnable} list.
+     */
+    List<IProcessingUnitRunnable> resumeCheckpoints();
+
+
+    /**
+     * Submit the process unit. The result of the returned handle is completed as soon as the processing is ended, e.g.
+     * <pre>
+     * processEngine.submit(null, "name", processingUnitClass, parameterList).getResult().thenAccept(result -&gt; ...);
+     * </pre>
+     *
+     * @param id the id of the execution or null
+     * @param name the name of the execution
+     * @param processingUnitClass the process unit class
+     * @param parameterList the parameter list
+     * @return the processing handle
+     * @throws ProcessingRejectedException In case the processing can't be accepted
+     */
+    IProcessingHandle submit(String id, String name, String processingUnitClass, List<Parameter> parameterList) throws ProcessingRejectedException;
+
+
+    /**
+     * Submit a batch of process units at once. All executions are validated before any is started, the process unit 
+     * definitions are resolved once per class and the missing ids are generated in bulk. The processings are enqueued 
+     * together; in case a processing can't be accepted, the result of its handle is completed exceptionally with a
+     * {@link ProcessingRejectedException} and the other processings are started anyway.
+     *
+     * @param processingExecutionList the executions
+     * @return the processing handles in the order of the executions
+     * @throws ProcessingRejectedException In case the batch is shed by the load shedding
+     * @throws ValidationException In case of an invalid execution or a duplicate id within the batch or of a running processing
+     */
+    List<IProcessingHandle> executeAll(Collection<? extends IProcessingExecution> processingExecutionList) throws ProcessingRejectedException, ValidationException;
+
+
+    /**
+     * Schedule the process unit once after a delay. The schedule starts a new processing at its execution time.
+     *
+     * @param name the name of the schedule and its processings
+     * @param processingUnitClass the process unit class
+     * @param parameterList the parameter list
+     * @param delay the delay
+     * @param timeUnit the time unit of the delay
+     * @return the schedule handle
+     */
+    IProcessingSchedule schedule(String name, String processingUnitClass, List<Parameter> parameterList, long delay, TimeUnit timeUnit);
+
+
+    /**
+     * Schedule the process unit at a fixed rate: the first processing is started after the initial delay, then one per period. 
+     * The execution times which are missed, e.g. during a shutdown, are skipped.
+     *
+     * @param name the name of the schedule and its processings
+     * @param processingUnitClass the process unit class
+     * @param parameterList the parameter list
+     * @param initialDelay the initial delay
+     * @param period the period
+     * @param timeUnit the time unit of the initial delay and the period
+     * @return the schedule handle
+     */
+    IProcessingSchedule schedule(String name, String processingUnitClass, List<Parameter> parameterList, long initialDelay, long period, TimeUnit timeUnit);
+
+
+    /**
+     * Schedule the process unit by a cron expression with the five fields minute, hour, day of month, month and day of week, 
+     * e.g. <code>0 2 * * MON-FRI</code>. The execution times are in the default time zone.
+     *
+     * @param name the name of the schedule and its processings
+     * @param processingUnitClass the process unit class
+     * @param parameterList the parameter list
+     * @param cronExpression the cron expression
+     * @return the schedule handle
+     */
+    IProcessingSchedule schedule(String name, String processingUnitClass, List<Parameter> parameterList, String cronExpression);
+
+
+    /**
+     * Get the pending schedules, incl. the schedules which are resumed from the persisted content
+     *
+     * @return the pending schedule list
+     */
+    List<IProcessingSchedule> getProcessingScheduleList();
+
+    
+    /**
+     * Wait until all processings are ended or suspended
+     *
+     * @param timeout the max time to wait
+     * @param timeUnit the time unit of the timeout
+     * @return true if all processings are ended; false if the timeout elapsed before
+     * @throws InterruptedException In case the waiting thread is interrupted
+     */
+    boolean awaitAll(long timeout, TimeUnit timeUnit) throws InterruptedException;
+
+    
     /**
      * Get the status back
      *
@@ -62,6 +238,25 @@ public interface IProcessEngine {
     IProcessingEngineStatus getStatus();    
 
     
+    /**
+     * Get the processings which were interrupted in the previous engine, e.g. by a crash. They are read from the
+     * journal at the start and kept in the journal until they are ended by a new processing with the same id or
+     * acknowledged, in case there is no journal directory configured the list is empty.
+     *
+     * @return the interrupted processings
+     */
+    List<IProcessingJournalEntry> getInterruptedProcessingList();
+
+    
+    /**
+     * Acknowledge an interrupted processing as soon as it is handled, it is removed from the journal
+     *
+     * @param id the id of the interrupted processing
+     * @return true if the processing was interrupted; otherwise false
+     */
+    boolean acknowledgeInterruptedProcessing(String id);
+
+    
     /**
      * Add a {@link IProcessingListener}.
      *
@@ -77,4 +272,23 @@ public interface IProcessEngine {
      * @return the processing suspended state
      */
     byte[] shutdown();
+
+    
+    /**
+     * Initiates an orderly shutdown like {@link #shutdown()}, the processing suspended state is written entry by entry to 
+     * the stream instead of one byte array: the suspended state of a processing is written as soon as it is suspended, it
+     * is not held in memory until all processings are suspended. The stream is flushed but not closed.
+     * 
+     * @param outputStream the stream of the processing suspended state
+     */
+    void shutdown(OutputStream outputStream);
+
+    
+    /**
+     * Initiates an orderly shutdown like {@link #shutdown()}, the processing suspended state is written entry by entry to 
+     * the file. The file is replaced as soon as it is completely written.
+     * 
+     * @param path the file of the processing suspended state
+     */
+    void shutdown(Path path);
 }
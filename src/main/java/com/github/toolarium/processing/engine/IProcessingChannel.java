@@ -0,0 +1,112 @@
+/*
+ * IProcessingChannel.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine;
+
+import com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Defines a bounded channel between processing units of a pipeline. An upstream processing unit offers records inside its
+ * processing steps and a downstream processing unit polls them inside its processing steps. The channel is closed by the
+ * engine as soon as the upstream processing is ended: the downstream processing is done when the channel is closed and empty.
+ *
+ * @param <T> the record type
+ * @author patrick
+ */
+public interface IProcessingChannel<T> {
+
+    /**
+     * Get the name of the channel
+     *
+     * @return the name
+     */
+    String getName();
+
+
+    /**
+     * Offer a record without waiting
+     *
+     * @param record the record
+     * @return true if the record was added; false if the channel is full or closed
+     */
+    boolean offer(T record);
+
+
+    /**
+     * Offer a record. In case the channel is full it waits up to the timeout, this is the backpressure to the upstream processing.
+     *
+     * @param record the record
+     * @param timeout the timeout
+     * @param timeUnit the time unit of the timeout
+     * @return true if the record was added; false if the channel is still full after the timeout or it is closed
+     */
+    boolean offer(T record, long timeout, TimeUnit timeUnit);
+
+
+    /**
+     * Poll a record without waiting
+     *
+     * @return the record or null if the channel is empty
+     */
+    T poll();
+
+
+    /**
+     * Poll a record. In case the channel is empty it waits up to the timeout or until the channel is closed.
+     *
+     * @param timeout the timeout
+     * @param timeUnit the time unit of the timeout
+     * @return the record or null if the channel is still empty
+     */
+    T poll(long timeout, TimeUnit timeUnit);
+
+
+    /**
+     * Close the channel, no more records are accepted
+     */
+    void close();
+
+
+    /**
+     * Check if the channel is closed
+     *
+     * @return true if the channel is closed
+     */
+    boolean isClosed();
+
+
+    /**
+     * Check if the channel is closed and all records are consumed
+     *
+     * @return true if the channel is closed and empty
+     */
+    boolean isDone();
+
+
+    /**
+     * Get the number of records in the channel
+     *
+     * @return the number of records
+     */
+    int size();
+
+
+    /**
+     * Get the capacity of the channel
+     *
+     * @return the capacity
+     */
+    int getCapacity();
+
+
+    /**
+     * Get the status of the channel
+     *
+     * @return the status
+     */
+    IProcessingChannelStatus getStatus();
+}
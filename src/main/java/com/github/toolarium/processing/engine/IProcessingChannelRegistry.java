@@ -0,0 +1,56 @@
+/*
+ * IProcessingChannelRegistry.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine;
+
+import com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus;
+import java.util.List;
+
+
+/**
+ * Defines the processing channel registry. It holds the channels of the running pipelines of an engine.
+ *
+ * @author patrick
+ */
+public interface IProcessingChannelRegistry {
+
+    /**
+     * Create a channel. In case the channel already exists, the existing channel is returned; a closed channel is replaced.
+     *
+     * @param <T> the record type
+     * @param name the name of the channel
+     * @param capacity the capacity of the channel
+     * @return the channel
+     * @throws IllegalArgumentException In case of an invalid name or capacity
+     */
+    <T> IProcessingChannel<T> create(String name, int capacity) throws IllegalArgumentException;
+
+
+    /**
+     * Get a channel
+     *
+     * @param <T> the record type
+     * @param name the name of the channel
+     * @return the channel or null if it don't exist
+     */
+    <T> IProcessingChannel<T> getChannel(String name);
+
+
+    /**
+     * Remove a channel
+     *
+     * @param name the name of the channel
+     * @return true if the channel was removed
+     */
+    boolean remove(String name);
+
+
+    /**
+     * Get the status of all channels
+     *
+     * @return the status list
+     */
+    List<IProcessingChannelStatus> getStatusList();
+}
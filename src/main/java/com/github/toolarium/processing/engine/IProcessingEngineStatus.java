@@ -5,6 +5,15 @@
  */
 package com.github.toolarium.processing.engine;
 
+import com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus;
+import com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus;
+import com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingExecutionMode;
+import com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus;
+import com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus;
+import com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus;
+import com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus;
+import java.util.List;
 
 /**
  * Defines the processing engine status
@@ -27,4 +36,134 @@ public interface IProcessingEngineStatus {
      * @return the number of running processings
      */
     long getNumberOfRunningProcessings();
+
+    
+    /**
+     * Get the number of processings which are queued and wait for a free worker thread
+     *
+     * @return the number of queued processings
+     */
+    long getNumberOfQueuedProcessings();
+
+    
+    /**
+     * Get the queue capacity
+     *
+     * @return the queue capacity
+     */
+    int getQueueCapacity();
+
+    
+    /**
+     * Get the number of processings which were rejected because the worker threads were busy and the queue was full
+     *
+     * @return the number of rejected processings
+     */
+    long getNumberOfRejectedProcessings();
+
+    
+    /**
+     * Get the number of processings which ran in the caller thread because the worker threads were busy and the queue was 
+     * full, see {@link com.github.toolarium.processing.engine.dto.configuration.ProcessingAdmissionPolicy#CALLER_RUNS}
+     *
+     * @return the number of processings which ran in the caller thread
+     */
+    long getNumberOfCallerRunsProcessings();
+
+    
+    /**
+     * Get the execution mode, which kind of threads execute the processing units
+     *
+     * @return the execution mode
+     */
+    ProcessingExecutionMode getExecutionMode();
+
+    
+    /**
+     * Get the number of carrier thread pinnings: a virtual thread was blocked while it was pinned to its carrier thread.
+     * The pinnings are monitored only in execution mode {@link ProcessingExecutionMode#VIRTUAL_THREAD} and it counts all pinnings of the jvm.
+     *
+     * @return the number of carrier thread pinnings
+     */
+    long getNumberOfCarrierThreadPinnings();
+
+    
+    /**
+     * Get the number of time slice switches: a processing unit was suspended after its time slice and re-queued.
+     *
+     * @return the number of time slice switches
+     */
+    long getNumberOfTimeSliceSwitches();
+
+    
+    /**
+     * Get the status of the channels between the processing units of pipelines: the throughput and the occupancy.
+     *
+     * @return the channel status list
+     */
+    List<IProcessingChannelStatus> getProcessingChannelStatusList();
+
+    
+    /**
+     * Get the status of the bulkheads: the active and queued processings of the processing unit classes which have a concurrency limit.
+     *
+     * @return the bulkhead status list
+     */
+    List<IProcessingBulkheadStatus> getProcessingBulkheadStatusList();
+
+    
+    /**
+     * Get the status of the tenants: the throughput and the wait time of the processings per tenant.
+     *
+     * @return the tenant status list
+     */
+    List<IProcessingTenantStatus> getProcessingTenantStatusList();
+
+    
+    /**
+     * Get the status of the rate limits
+     *
+     * @return the rate limit status list
+     */
+    List<IProcessingRateLimitStatus> getProcessingRateLimitStatusList();
+
+    
+    /**
+     * Get the status of the adaptive concurrency limits per processing unit class
+     *
+     * @return the concurrency limit status list
+     */
+    List<IProcessingConcurrencyLimitStatus> getProcessingConcurrencyLimitStatusList();
+
+    
+    /**
+     * Get the status of the load shedding
+     *
+     * @return the load shedding status
+     */
+    IProcessingLoadSheddingStatus getProcessingLoadSheddingStatus();
+
+    
+    /**
+     * Get the number of processings which were not ended within their timeout
+     *
+     * @return the number of timed out processings
+     */
+    long getNumberOfTimedOutProcessings();
+
+    
+    /**
+     * Get the status of the scheduler
+     *
+     * @return the scheduler status
+     */
+    IProcessingSchedulerStatus getProcessingSchedulerStatus();
+
+    
+    /**
+     * Get the number of retries of aborted processings
+     *
+     * @return the number of retries
+     */
+    long getNumberOfRetries();
 }
@@ -0,0 +1,111 @@
+/*
+ * IProcessingGroup.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine;
+
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Defines a group of processings which are submitted together. A processing of the group can depend on other processings
+ * of the group: it is started as soon as all its predecessors are ended. In case a predecessor is aborted or could not be
+ * started, the processing and all its successors are skipped. The group is handled as one unit: it can be cancelled, 
+ * suspended and awaited, and it has one aggregated result.
+ *
+ * @author patrick
+ */
+public interface IProcessingGroup {
+
+    /**
+     * Get the id of the group
+     *
+     * @return the id of the group
+     */
+    String getId();
+
+
+    /**
+     * Get the ids of all processings of the group
+     *
+     * @return the ids of all processings
+     */
+    List<String> getIdList();
+
+
+    /**
+     * Get the ids of the started processings
+     *
+     * @return the ids of the started processings
+     */
+    List<String> getStartedIdList();
+
+
+    /**
+     * Get the ids of the skipped processings
+     *
+     * @return the ids of the skipped processings
+     */
+    List<String> getSkippedIdList();
+
+
+    /**
+     * Get the results of the ended processings
+     *
+     * @return the results of the ended processings
+     */
+    List<IProcessingResult> getProcessingResultList();
+
+
+    /**
+     * Check if all processings of the group are ended or skipped
+     *
+     * @return true if the group is ended
+     */
+    boolean isEnded();
+
+
+    /**
+     * Check if the group fails fast: as soon as one of its processings is aborted, the group is cancelled
+     *
+     * @return true if the group fails fast
+     */
+    boolean isFailFast();
+
+
+    /**
+     * Cancel the group: the running processings are aborted and the not started processings are skipped
+     */
+    void cancel();
+
+
+    /**
+     * Suspend the group: the running processings are suspended and the not started processings are skipped. The suspended
+     * states are part of the persisted content of the shutdown.
+     */
+    void suspend();
+
+
+    /**
+     * Wait until all processings of the group are ended or skipped
+     *
+     * @param timeout the max time to wait
+     * @param timeUnit the time unit of the timeout
+     * @return true if the group is ended; false if the timeout elapsed before or the group is cancelled by a shutdown
+     * @throws InterruptedException In case the waiting thread is interrupted
+     */
+    boolean await(long timeout, TimeUnit timeUnit) throws InterruptedException;
+
+
+    /**
+     * Get the aggregated result of the group: the units and the statistic of all processings are summarized. It is
+     * aborted in case a processing is aborted or skipped, except the processings which are skipped by a suspend.
+     *
+     * @return the result which is completed when the group is ended; it is cancelled by a shutdown
+     */
+    CompletableFuture<IProcessingResult> getResult();
+}
@@ -0,0 +1,42 @@
+/*
+ * IProcessingHandle.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine;
+
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Defines the handle of a submitted processing. The result is completed as soon as the processing is ended or aborted. 
+ * In case the processing is suspended by a shutdown or it is skipped, the result is cancelled.
+ *
+ * @author patrick
+ */
+public interface IProcessingHandle {
+
+    /**
+     * Get the id of the processing
+     *
+     * @return the id
+     */
+    String getId();
+
+
+    /**
+     * Get the name of the processing
+     *
+     * @return the name
+     */
+    String getName();
+
+
+    /**
+     * Get the result of the processing
+     *
+     * @return the result which is completed when the processing is ended
+     */
+    CompletableFuture<IProcessingResult> getResult();
+}
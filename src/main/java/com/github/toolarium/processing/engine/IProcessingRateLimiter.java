@@ -0,0 +1,72 @@
+/*
+ * IProcessingRateLimiter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine;
+
+import com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus;
+import java.util.List;
+
+
+/**
+ * Defines the rate limiter of the processing engine. It limits the number of processing unit calls (steps) per second by
+ * hierarchical token buckets: global, per processing unit class, per tenant and per processing. A call has to pass all
+ * rate limits which apply, e.g. a shared database can be protected over all processings together. The rate limits can be
+ * changed at runtime.
+ * 
+ * <p>A throttled call waits on its worker thread: a platform worker thread is parked and not available for an other 
+ * processing, a virtual thread releases its carrier thread. With time slicing a processing which has to wait longer than
+ * a time slice gives its worker thread free and continues at the end of the run queue.</p>
+ *
+ * @author patrick
+ */
+public interface IProcessingRateLimiter {
+
+    /**
+     * Set the global rate limit over all processings
+     *
+     * @param maxNumberOfCallsPerSecond the max number of calls per second or 0 to remove the rate limit
+     * @throws IllegalArgumentException In case of a negative rate limit
+     */
+    void setMaxNumberOfCallsPerSecond(long maxNumberOfCallsPerSecond) throws IllegalArgumentException;
+
+
+    /**
+     * Set the rate limit over all processings of a processing unit class
+     *
+     * @param processingUnitClassname the processing unit class name
+     * @param maxNumberOfCallsPerSecond the max number of calls per second or 0 to remove the rate limit
+     * @throws IllegalArgumentException In case of an invalid processing unit class name or a negative rate limit
+     */
+    void setMaxNumberOfProcessingUnitCallsPerSecond(String processingUnitClassname, long maxNumberOfCallsPerSecond) throws IllegalArgumentException;
+
+
+    /**
+     * Set the rate limit over all processings of a tenant
+     *
+     * @param tenant the tenant
+     * @param maxNumberOfCallsPerSecond the max number of calls per second or 0 to remove the rate limit
+     * @throws IllegalArgumentException In case of an invalid tenant or a negative rate limit
+     */
+    void setMaxNumberOfTenantCallsPerSecond(String tenant, long maxNumberOfCallsPerSecond) throws IllegalArgumentException;
+
+
+    /**
+     * Set the rate limit of a processing (execution), the partitions of a processing share the rate limit. The rate limit
+     * is removed as soon as the processing is ended.
+     *
+     * @param id the id of the processing
+     * @param maxNumberOfCallsPerSecond the max number of calls per second or 0 to remove the rate limit
+     * @throws IllegalArgumentException In case of an invalid id or a negative rate limit
+     */
+    void setMaxNumberOfProcessingCallsPerSecond(String id, long maxNumberOfCallsPerSecond) throws IllegalArgumentException;
+
+
+    /**
+     * Get the status of all rate limits
+     *
+     * @return the status list
+     */
+    List<IProcessingRateLimitStatus> getStatusList();
+}
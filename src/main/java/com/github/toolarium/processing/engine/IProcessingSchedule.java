@@ -0,0 +1,90 @@
+/*
+ * IProcessingSchedule.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine;
+
+import java.time.Instant;
+
+
+/**
+ * Defines the handle of a scheduled processing. A schedule starts a new processing of the processing unit at every
+ * execution time: once after a delay, at a fixed rate or by a cron expression. The pending schedules are part of the
+ * persisted content of a shutdown and are continued by the resumed engine.
+ *
+ * @author patrick
+ */
+public interface IProcessingSchedule {
+
+    /**
+     * Get the id of the schedule
+     *
+     * @return the id
+     */
+    String getId();
+
+
+    /**
+     * Get the name of the schedule, it is the name of the started processings
+     *
+     * @return the name
+     */
+    String getName();
+
+
+    /**
+     * Get the processing unit class name
+     *
+     * @return the processing unit class name
+     */
+    String getProcessingUnitClassname();
+
+
+    /**
+     * Get the cron expression
+     *
+     * @return the cron expression or null if it is not a cron schedule
+     */
+    String getCronExpression();
+
+
+    /**
+     * Get the period of a fixed rate schedule
+     *
+     * @return the period in milliseconds or 0 if it is not a fixed rate schedule
+     */
+    long getPeriodInMilliseconds();
+
+
+    /**
+     * Get the next execution time
+     *
+     * @return the next execution time or null if there is no further execution
+     */
+    Instant getNextExecutionTime();
+
+
+    /**
+     * Get the number of executions
+     *
+     * @return the number of started processings
+     */
+    long getNumberOfExecutions();
+
+
+    /**
+     * Check if the schedule is cancelled or has no further execution
+     *
+     * @return true if the schedule is done
+     */
+    boolean isDone();
+
+
+    /**
+     * Cancel the schedule, already started processings are not affected
+     *
+     * @return true if the schedule was pending; otherwise false
+     */
+    boolean cancel();
+}
@@ -5,6 +5,8 @@
  */
 package com.github.toolarium.processing.engine;
 
+import com.github.toolarium.processing.engine.dto.pool.IProcessingUnitPoolPolicy;
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
 import com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition;
 import com.github.toolarium.processing.engine.exception.ValidationException;
 import com.github.toolarium.processing.unit.IProcessingUnit;
@@ -38,6 +40,46 @@ public interface IProcessingUnitRegistry {
     IProcessingUnitDefinition register(String processingUnitClassName) throws ValidationException;
 
 
+    /**
+     * Register a processing unit with a concurrency limit (bulkhead): the processings of the processing unit class run at most
+     * with the given number at the same time, further processings wait in the own queue of the processing unit class. 
+     * In case the processing unit is already registered, the concurrency limit is updated.
+     *
+     * @param processingUnit the processing unit class
+     * @param maxNumberOfConcurrentProcessings the max number of concurrent processings or 0 if it is not limited
+     * @param queueCapacity the capacity of the queue
+     * @return the registered processing unit
+     * @throws ValidationException In case of a validation exception
+     */
+    IProcessingUnitDefinition register(Class<? extends IProcessingUnit> processingUnit, int maxNumberOfConcurrentProcessings, int queueCapacity) throws ValidationException;
+
+
+    /**
+     * Register a processing unit with a retry policy: an aborted processing of the processing unit class is retried after 
+     * a backoff as long as the error is retryable and the max number of attempts is not reached. In case the processing 
+     * unit is already registered, the retry policy is updated.
+     *
+     * @param processingUnit the processing unit class
+     * @param retryPolicy the retry policy or null to remove it
+     * @return the registered processing unit
+     * @throws ValidationException In case of a validation exception
+     */
+    IProcessingUnitDefinition register(Class<? extends IProcessingUnit> processingUnit, IProcessingRetryPolicy retryPolicy) throws ValidationException;
+
+
+    /**
+     * Register a processing unit with an instance pool: the released instances are reset by their releaseResource and
+     * reused by the next processings, the min number of idle instances are created at registration. In case the processing 
+     * unit is already registered, the pool policy is updated.
+     *
+     * @param processingUnit the processing unit class
+     * @param poolPolicy the pool policy or null to remove the pool
+     * @return the registered processing unit
+     * @throws ValidationException In case of a validation exception
+     */
+    IProcessingUnitDefinition register(Class<? extends IProcessingUnit> processingUnit, IProcessingUnitPoolPolicy poolPolicy) throws ValidationException;
+
+
     /**
      * Unregister a processing unit
      *
@@ -5,10 +5,13 @@
  */
 package com.github.toolarium.processing.engine;
 
+import com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingEngineConfiguration;
 import com.github.toolarium.processing.engine.impl.ProcessingEngineImpl;
+import com.github.toolarium.processing.engine.impl.executer.impl.ProcessingStepInstanceManager;
 import com.github.toolarium.processing.unit.IProcessingUnit;
 import com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager;
-import com.github.toolarium.processing.unit.util.ProcessingUnitUtil;
+import java.nio.file.Path;
 
 
 /**
@@ -47,12 +50,13 @@ public final class ProcessingEngineFactory {
 
     
     /**
-     * Set the processing unit instance manager. It is used to instantiate {@link IProcessingUnit}.
+     * Set the processing unit instance manager. It is used to instantiate {@link IProcessingUnit}. The instances of 
+     * checkpointed, limited or retried processings are decorated by their interfaces, they can't be cast to their class.
      *
      * @param processingUnitInstanceManager the processing unit instance manager
      */
     public void setProcessingUnitInstanceManager(IProcessingUnitInstanceManager processingUnitInstanceManager) {
-        ProcessingUnitUtil.getInstance().setProcessingUnitInstanceManager(processingUnitInstanceManager);
+        ProcessingStepInstanceManager.getInstance().setProcessingUnitInstanceManager(processingUnitInstanceManager);
     }
 
     
@@ -77,4 +81,54 @@ public final class ProcessingEngineFactory {
         IProcessEngine processEngine = new ProcessingEngineImpl(persistedContent); 
         return processEngine;
     }
+
+
+    /**
+     * Get a processing executer
+     * 
+     * @param processingEngineConfiguration the processing engine configuration
+     * @return a processing executer
+     */
+    public IProcessEngine getProcessingEngine(IProcessingEngineConfiguration processingEngineConfiguration) {
+        IProcessEngine processEngine = new ProcessingEngineImpl(processingEngineConfiguration); 
+        return processEngine;
+    }
+
+    
+    /**
+     * Get a processing executer
+     * 
+     * @param processingEngineConfiguration the processing engine configuration
+     * @param persistedContent the persisted content from a shutdown
+     * @return a processing executer
+     */
+    public IProcessEngine getProcessingEngine(IProcessingEngineConfiguration processingEngineConfiguration, byte[] persistedContent) {
+        IProcessEngine processEngine = new ProcessingEngineImpl(processingEngineConfiguration, persistedContent); 
+        return processEngine;
+    }
+
+    
+    /**
+     * Get a processing executer, the persisted content is read entry by entry from the file
+     * 
+     * @param path the file of the persisted content from a shutdown
+     * @return a processing executer
+     */
+    public IProcessEngine getProcessingEngine(Path path) {
+        return getProcessingEngine(new ProcessingEngineConfiguration(), path);
+    }
+
+    
+    /**
+     * Get a processing executer, the persisted content is read entry by entry from the file
+     * 
+     * @param processingEngineConfiguration the processing engine configuration
+     * @param path the file of the persisted content from a shutdown
+     * @return a processing executer
+     */
+    public IProcessEngine getProcessingEngine(IProcessingEngineConfiguration processingEngineConfiguration, Path path) {
+        IProcessEngine processEngine = new ProcessingEngineImpl(processingEngineConfiguration); 
+        processEngine.execute(path);
+        return processEngine;
+    }
 }
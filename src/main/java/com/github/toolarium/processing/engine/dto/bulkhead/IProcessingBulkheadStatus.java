@@ -0,0 +1,62 @@
+/*
+ * IProcessingBulkheadStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.bulkhead;
+
+
+/**
+ * Defines the status of a bulkhead: the concurrency limit of a processing unit class with its own queue.
+ *
+ * @author patrick
+ */
+public interface IProcessingBulkheadStatus {
+
+    /**
+     * Get the processing unit class name
+     *
+     * @return the processing unit class name
+     */
+    String getProcessingUnitClassname();
+
+
+    /**
+     * Get the max number of processings of the processing unit class which run at the same time
+     *
+     * @return the max number of concurrent processings
+     */
+    int getMaxNumberOfConcurrentProcessings();
+
+
+    /**
+     * Get the capacity of the queue where the processings wait until they can run
+     *
+     * @return the queue capacity
+     */
+    int getQueueCapacity();
+
+
+    /**
+     * Get the number of processings which run
+     *
+     * @return the number of active processings
+     */
+    int getNumberOfActiveProcessings();
+
+
+    /**
+     * Get the number of processings which wait in the queue
+     *
+     * @return the number of queued processings
+     */
+    int getNumberOfQueuedProcessings();
+
+
+    /**
+     * Get the number of processings which were rejected because the queue was full
+     *
+     * @return the number of rejected processings
+     */
+    long getNumberOfRejectedProcessings();
+}
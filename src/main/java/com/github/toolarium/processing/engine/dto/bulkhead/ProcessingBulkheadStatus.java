@@ -0,0 +1,186 @@
+/*
+ * ProcessingBulkheadStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.bulkhead;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingBulkheadStatus}.
+ *
+ * @author patrick
+ */
+public class ProcessingBulkheadStatus implements IProcessingBulkheadStatus, Serializable {
+    private static final long serialVersionUID = 4418276033491802247L;
+    private String processingUnitClassname;
+    private int maxNumberOfConcurrentProcessings;
+    private int queueCapacity;
+    private int numberOfActiveProcessings;
+    private int numberOfQueuedProcessings;
+    private long numberOfRejectedProcessings;
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus#getProcessingUnitClassname()
+     */
+    @Override
+    public String getProcessingUnitClassname() {
+        return processingUnitClassname;
+    }
+
+
+    /**
+     * Set the processing unit class name
+     *
+     * @param processingUnitClassname the processing unit class name
+     */
+    public void setProcessingUnitClassname(String processingUnitClassname) {
+        this.processingUnitClassname = processingUnitClassname;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus#getMaxNumberOfConcurrentProcessings()
+     */
+    @Override
+    public int getMaxNumberOfConcurrentProcessings() {
+        return maxNumberOfConcurrentProcessings;
+    }
+
+
+    /**
+     * Set the max number of concurrent processings
+     *
+     * @param maxNumberOfConcurrentProcessings the max number of concurrent processings
+     */
+    public void setMaxNumberOfConcurrentProcessings(int maxNumberOfConcurrentProcessings) {
+        this.maxNumberOfConcurrentProcessings = maxNumberOfConcurrentProcessings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus#getQueueCapacity()
+     */
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+
+    /**
+     * Set the queue capacity
+     *
+     * @param queueCapacity the queue capacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus#getNumberOfActiveProcessings()
+     */
+    @Override
+    public int getNumberOfActiveProcessings() {
+        return numberOfActiveProcessings;
+    }
+
+
+    /**
+     * Set the number of active processings
+     *
+     * @param numberOfActiveProcessings the number of active processings
+     */
+    public void setNumberOfActiveProcessings(int numberOfActiveProcessings) {
+        this.numberOfActiveProcessings = numberOfActiveProcessings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus#getNumberOfQueuedProcessings()
+     */
+    @Override
+    public int getNumberOfQueuedProcessings() {
+        return numberOfQueuedProcessings;
+    }
+
+
+    /**
+     * Set the number of queued processings
+     *
+     * @param numberOfQueuedProcessings the number of queued processings
+     */
+    public void setNumberOfQueuedProcessings(int numberOfQueuedProcessings) {
+        this.numberOfQueuedProcessings = numberOfQueuedProcessings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus#getNumberOfRejectedProcessings()
+     */
+    @Override
+    public long getNumberOfRejectedProcessings() {
+        return numberOfRejectedProcessings;
+    }
+
+
+    /**
+     * Set the number of rejected processings
+     *
+     * @param numberOfRejectedProcessings the number of rejected processings
+     */
+    public void setNumberOfRejectedProcessings(long numberOfRejectedProcessings) {
+        this.numberOfRejectedProcessings = numberOfRejectedProcessings;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxNumberOfConcurrentProcessings, numberOfActiveProcessings, numberOfQueuedProcessings, numberOfRejectedProcessings, processingUnitClassname, queueCapacity);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingBulkheadStatus other = (ProcessingBulkheadStatus) obj;
+        return maxNumberOfConcurrentProcessings == other.maxNumberOfConcurrentProcessings
+                && numberOfActiveProcessings == other.numberOfActiveProcessings
+                && numberOfQueuedProcessings == other.numberOfQueuedProcessings
+                && numberOfRejectedProcessings == other.numberOfRejectedProcessings
+                && Objects.equals(processingUnitClassname, other.processingUnitClassname)
+                && queueCapacity == other.queueCapacity;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingBulkheadStatus [processingUnitClassname=" + processingUnitClassname + ", maxNumberOfConcurrentProcessings=" + maxNumberOfConcurrentProcessings
+                + ", queueCapacity=" + queueCapacity + ", numberOfActiveProcessings=" + numberOfActiveProcessings
+                + ", numberOfQueuedProcessings=" + numberOfQueuedProcessings + ", numberOfRejectedProcessings=" + numberOfRejectedProcessings + "]";
+    }
+}
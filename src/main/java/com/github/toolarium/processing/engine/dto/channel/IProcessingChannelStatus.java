@@ -0,0 +1,78 @@
+/*
+ * IProcessingChannelStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.channel;
+
+
+/**
+ * Defines the status of a processing channel.
+ *
+ * @author patrick
+ */
+public interface IProcessingChannelStatus {
+
+    /**
+     * Get the name of the channel
+     *
+     * @return the name
+     */
+    String getName();
+
+
+    /**
+     * Get the capacity of the channel
+     *
+     * @return the capacity
+     */
+    int getCapacity();
+
+
+    /**
+     * Get the number of records in the channel
+     *
+     * @return the number of records
+     */
+    int getSize();
+
+
+    /**
+     * Get the number of records which were offered to the channel (upstream throughput)
+     *
+     * @return the number of offered records
+     */
+    long getNumberOfOfferedRecords();
+
+
+    /**
+     * Get the number of records which were polled from the channel (downstream throughput)
+     *
+     * @return the number of polled records
+     */
+    long getNumberOfPolledRecords();
+
+
+    /**
+     * Get the number of polled records per second since the channel was created
+     *
+     * @return the number of polled records per second
+     */
+    double getNumberOfPolledRecordsPerSecond();
+
+
+    /**
+     * Get the number of times the upstream processing had to wait because the channel was full
+     *
+     * @return the number of backpressure waits
+     */
+    long getNumberOfBackpressureWaits();
+
+
+    /**
+     * Check if the channel is closed
+     *
+     * @return true if the channel is closed
+     */
+    boolean isClosed();
+}
@@ -0,0 +1,227 @@
+/*
+ * ProcessingChannelStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.channel;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingChannelStatus}.
+ *
+ * @author patrick
+ */
+public class ProcessingChannelStatus implements IProcessingChannelStatus, Serializable {
+    private static final long serialVersionUID = -2684014926702398151L;
+    private String name;
+    private int capacity;
+    private int size;
+    private long numberOfOfferedRecords;
+    private long numberOfPolledRecords;
+    private double numberOfPolledRecordsPerSecond;
+    private long numberOfBackpressureWaits;
+    private boolean isClosed;
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus#getName()
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Set the name
+     *
+     * @param name the name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus#getCapacity()
+     */
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+
+    /**
+     * Set the capacity
+     *
+     * @param capacity the capacity
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus#getSize()
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+
+    /**
+     * Set the number of records in the channel
+     *
+     * @param size the number of records
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus#getNumberOfOfferedRecords()
+     */
+    @Override
+    public long getNumberOfOfferedRecords() {
+        return numberOfOfferedRecords;
+    }
+
+
+    /**
+     * Set the number of offered records
+     *
+     * @param numberOfOfferedRecords the number of offered records
+     */
+    public void setNumberOfOfferedRecords(long numberOfOfferedRecords) {
+        this.numberOfOfferedRecords = numberOfOfferedRecords;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus#getNumberOfPolledRecords()
+     */
+    @Override
+    public long getNumberOfPolledRecords() {
+        return numberOfPolledRecords;
+    }
+
+
+    /**
+     * Set the number of polled records
+     *
+     * @param numberOfPolledRecords the number of polled records
+     */
+    public void setNumberOfPolledRecords(long numberOfPolledRecords) {
+        this.numberOfPolledRecords = numberOfPolledRecords;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus#getNumberOfPolledRecordsPerSecond()
+     */
+    @Override
+    public double getNumberOfPolledRecordsPerSecond() {
+        return numberOfPolledRecordsPerSecond;
+    }
+
+
+    /**
+     * Set the number of polled records per second
+     *
+     * @param numberOfPolledRecordsPerSecond the number of polled records per second
+     */
+    public void setNumberOfPolledRecordsPerSecond(double numberOfPolledRecordsPerSecond) {
+        this.numberOfPolledRecordsPerSecond = numberOfPolledRecordsPerSecond;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus#getNumberOfBackpressureWaits()
+     */
+    @Override
+    public long getNumberOfBackpressureWaits() {
+        return numberOfBackpressureWaits;
+    }
+
+
+    /**
+     * Set the number of backpressure waits
+     *
+     * @param numberOfBackpressureWaits the number of backpressure waits
+     */
+    public void setNumberOfBackpressureWaits(long numberOfBackpressureWaits) {
+        this.numberOfBackpressureWaits = numberOfBackpressureWaits;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus#isClosed()
+     */
+    @Override
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+
+    /**
+     * Set the channel closed
+     *
+     * @param isClosed true if the channel is closed
+     */
+    public void setIsClosed(boolean isClosed) {
+        this.isClosed = isClosed;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(capacity, isClosed, name, numberOfBackpressureWaits, numberOfOfferedRecords, numberOfPolledRecords, numberOfPolledRecordsPerSecond, size);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingChannelStatus other = (ProcessingChannelStatus) obj;
+        return capacity == other.capacity && isClosed == other.isClosed && Objects.equals(name, other.name)
+                && numberOfBackpressureWaits == other.numberOfBackpressureWaits
+                && numberOfOfferedRecords == other.numberOfOfferedRecords
+                && numberOfPolledRecords == other.numberOfPolledRecords
+                && Double.doubleToLongBits(numberOfPolledRecordsPerSecond) == Double.doubleToLongBits(other.numberOfPolledRecordsPerSecond)
+                && size == other.size;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingChannelStatus [name=" + name + ", capacity=" + capacity + ", size=" + size
+                + ", numberOfOfferedRecords=" + numberOfOfferedRecords + ", numberOfPolledRecords=" + numberOfPolledRecords
+                + ", numberOfPolledRecordsPerSecond=" + numberOfPolledRecordsPerSecond
+                + ", numberOfBackpressureWaits=" + numberOfBackpressureWaits + ", isClosed=" + isClosed + "]";
+    }
+}
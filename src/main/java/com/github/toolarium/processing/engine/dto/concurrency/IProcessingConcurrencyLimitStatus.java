@@ -0,0 +1,86 @@
+/*
+ * IProcessingConcurrencyLimitStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.concurrency;
+
+
+/**
+ * Defines the status of an adaptive concurrency limit: the current number of concurrent processing unit calls (steps) of a processing unit class and the observed step latency.
+ *
+ * @author patrick
+ */
+public interface IProcessingConcurrencyLimitStatus {
+
+    /**
+     * Get the processing unit class name
+     *
+     * @return the processing unit class name
+     */
+    String getProcessingUnitClassname();
+
+
+    /**
+     * Get the current max number of concurrent processing unit calls
+     *
+     * @return the current limit
+     */
+    int getLimit();
+
+
+    /**
+     * Get the upper bound of the limit
+     *
+     * @return the upper bound of the limit
+     */
+    int getMaxLimit();
+
+
+    /**
+     * Get the number of processing unit calls which are currently running
+     *
+     * @return the number of active calls
+     */
+    int getNumberOfActiveCalls();
+
+
+    /**
+     * Get the number of processing unit calls which currently wait for a permit
+     *
+     * @return the number of waiting calls
+     */
+    int getNumberOfWaitingCalls();
+
+
+    /**
+     * Get the number of processing unit calls
+     *
+     * @return the number of calls
+     */
+    long getNumberOfCalls();
+
+
+    /**
+     * Get how many times the limit was decreased because of a rising step latency
+     *
+     * @return the number of limit decreases
+     */
+    long getNumberOfLimitDecreases();
+
+
+    /**
+     * Get the short-term average of the step latency
+     *
+     * @return the short-term latency in microseconds
+     */
+    long getShortTermLatencyInMicroseconds();
+
+
+    /**
+     * Get the long-term average of the step latency, the reference of the short-term latency
+     *
+     * @return the long-term latency in microseconds
+     */
+    long getLongTermLatencyInMicroseconds();
+}
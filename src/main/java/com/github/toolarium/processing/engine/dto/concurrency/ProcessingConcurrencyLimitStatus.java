@@ -0,0 +1,250 @@
+/*
+ * ProcessingConcurrencyLimitStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.concurrency;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingConcurrencyLimitStatus}.
+ *
+ * @author patrick
+ */
+public class ProcessingConcurrencyLimitStatus implements IProcessingConcurrencyLimitStatus, Serializable {
+    private static final long serialVersionUID = 4473619024657163287L;
+    private String processingUnitClassname;
+    private int limit;
+    private int maxLimit;
+    private int numberOfActiveCalls;
+    private int numberOfWaitingCalls;
+    private long numberOfCalls;
+    private long numberOfLimitDecreases;
+    private long shortTermLatencyInMicroseconds;
+    private long longTermLatencyInMicroseconds;
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getProcessingUnitClassname()
+     */
+    @Override
+    public String getProcessingUnitClassname() {
+        return processingUnitClassname;
+    }
+
+
+    /**
+     * Set the processing unit class name
+     *
+     * @param processingUnitClassname the processing unit class name
+     */
+    public void setProcessingUnitClassname(String processingUnitClassname) {
+        this.processingUnitClassname = processingUnitClassname;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getLimit()
+     */
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+
+    /**
+     * Set the current limit
+     *
+     * @param limit the current limit
+     */
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getMaxLimit()
+     */
+    @Override
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+
+    /**
+     * Set the upper bound of the limit
+     *
+     * @param maxLimit the upper bound of the limit
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getNumberOfActiveCalls()
+     */
+    @Override
+    public int getNumberOfActiveCalls() {
+        return numberOfActiveCalls;
+    }
+
+
+    /**
+     * Set the number of active calls
+     *
+     * @param numberOfActiveCalls the number of active calls
+     */
+    public void setNumberOfActiveCalls(int numberOfActiveCalls) {
+        this.numberOfActiveCalls = numberOfActiveCalls;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getNumberOfWaitingCalls()
+     */
+    @Override
+    public int getNumberOfWaitingCalls() {
+        return numberOfWaitingCalls;
+    }
+
+
+    /**
+     * Set the number of waiting calls
+     *
+     * @param numberOfWaitingCalls the number of waiting calls
+     */
+    public void setNumberOfWaitingCalls(int numberOfWaitingCalls) {
+        this.numberOfWaitingCalls = numberOfWaitingCalls;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getNumberOfCalls()
+     */
+    @Override
+    public long getNumberOfCalls() {
+        return numberOfCalls;
+    }
+
+
+    /**
+     * Set the number of calls
+     *
+     * @param numberOfCalls the number of calls
+     */
+    public void setNumberOfCalls(long numberOfCalls) {
+        this.numberOfCalls = numberOfCalls;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getNumberOfLimitDecreases()
+     */
+    @Override
+    public long getNumberOfLimitDecreases() {
+        return numberOfLimitDecreases;
+    }
+
+
+    /**
+     * Set the number of limit decreases
+     *
+     * @param numberOfLimitDecreases the number of limit decreases
+     */
+    public void setNumberOfLimitDecreases(long numberOfLimitDecreases) {
+        this.numberOfLimitDecreases = numberOfLimitDecreases;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getShortTermLatencyInMicroseconds()
+     */
+    @Override
+    public long getShortTermLatencyInMicroseconds() {
+        return shortTermLatencyInMicroseconds;
+    }
+
+
+    /**
+     * Set the short-term latency in microseconds
+     *
+     * @param shortTermLatencyInMicroseconds the short-term latency in microseconds
+     */
+    public void setShortTermLatencyInMicroseconds(long shortTermLatencyInMicroseconds) {
+        this.shortTermLatencyInMicroseconds = shortTermLatencyInMicroseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus#getLongTermLatencyInMicroseconds()
+     */
+    @Override
+    public long getLongTermLatencyInMicroseconds() {
+        return longTermLatencyInMicroseconds;
+    }
+
+
+    /**
+     * Set the long-term latency in microseconds
+     *
+     * @param longTermLatencyInMicroseconds the long-term latency in microseconds
+     */
+    public void setLongTermLatencyInMicroseconds(long longTermLatencyInMicroseconds) {
+        this.longTermLatencyInMicroseconds = longTermLatencyInMicroseconds;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, longTermLatencyInMicroseconds, maxLimit, numberOfActiveCalls, numberOfCalls, numberOfLimitDecreases, numberOfWaitingCalls, processingUnitClassname, shortTermLatencyInMicroseconds);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingConcurrencyLimitStatus other = (ProcessingConcurrencyLimitStatus) obj;
+        return limit == other.limit
+                && longTermLatencyInMicroseconds == other.longTermLatencyInMicroseconds
+                && maxLimit == other.maxLimit
+                && numberOfActiveCalls == other.numberOfActiveCalls
+                && numberOfCalls == other.numberOfCalls
+                && numberOfLimitDecreases == other.numberOfLimitDecreases
+                && numberOfWaitingCalls == other.numberOfWaitingCalls
+                && Objects.equals(processingUnitClassname, other.processingUnitClassname)
+                && shortTermLatencyInMicroseconds == other.shortTermLatencyInMicroseconds;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingConcurrencyLimitStatus [processingUnitClassname=" + processingUnitClassname + ", limit=" + limit
+                + ", maxLimit=" + maxLimit + ", numberOfActiveCalls=" + numberOfActiveCalls + ", numberOfWaitingCalls=" + numberOfWaitingCalls
+                + ", numberOfCalls=" + numberOfCalls + ", numberOfLimitDecreases=" + numberOfLimitDecreases
+                + ", shortTermLatencyInMicroseconds=" + shortTermLatencyInMicroseconds + ", longTermLatencyInMicroseconds=" + longTermLatencyInMicroseconds + "]";
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * IProcessingEngineConfiguration.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.configuration;
+
+
+/**
+ * Defines the processing engine configuration.
+ *  
+ * @author patrick
+ */
+public interface IProcessingEngineConfiguration {
+
+    /**
+     * Get the max number of worker threads. In case the max number of worker threads are reached, 
+     * new processings are queued. With a queue capacity (platform threads) or time slicing the default 
+     * (unbounded) is replaced by the number of available processors.
+     *
+     * @return the max number of worker threads
+     */
+    int getMaxNumberOfWorkerThreads();
+
+    
+    /**
+     * Get the keep alive time in seconds of an idle worker thread.
+     *
+     * @return the keep alive time in seconds
+     */
+    long getKeepAliveTimeInSeconds();
+
+    
+    /**
+     * Get the capacity of the queue where processings wait for a free worker thread. 
+     * In case of 0 the processings are directly handed over to a worker thread.
+     *
+     * @return the queue capacity
+     */
+    int getQueueCapacity();
+
+    
+    /**
+     * Get the admission policy which is used in case all worker threads are busy and the queue is full.
+     *
+     * @return the admission policy
+     */
+    ProcessingAdmissionPolicy getAdmissionPolicy();
+
+    
+    /**
+     * Get the admission timeout in milliseconds. It is used by the admission policy {@link ProcessingAdmissionPolicy#BLOCK}.
+     *
+     * @return the admission timeout in milliseconds
+     */
+    long getAdmissionTimeoutInMilliseconds();
+
+    
+    /**
+     * Get the execution mode, which kind of threads execute the processing units. The execution mode 
+     * {@link ProcessingExecutionMode#VIRTUAL_THREAD} requires java 21 or above, otherwise the engine can't be created. 
+     * The virtual threads are only bounded by an explicit max number of worker threads.
+     *
+     * @return the execution mode
+     */
+    ProcessingExecutionMode getExecutionMode();
+
+    
+    /**
+     * Get the time slice in milliseconds. In case it is greater than 0 the processing units share the worker threads: 
+     * a processing unit which has used its time slice is suspended as soon as other processings wait for a worker thread 
+     * and it is re-queued at the end of the queue with its suspended state. A suspended processing unit don't hold any 
+     * thread and the number of worker threads stays independent of the number of processings. In case the max number of 
+     * worker threads is not limited, the number of available processors is used.
+     *
+     * @return the time slice in milliseconds or 0 if time slicing is disabled
+     */
+    long getTimeSliceInMilliseconds();
+
+    
+    /**
+     * Get the shutdown timeout in milliseconds. On shutdown all processings are suspended at once, a processing which is not
+     * suspended within the timeout is aborted and its state is lost. In case of 0 the shutdown waits until all processings
+     * are suspended.
+     *
+     * @return the shutdown timeout in milliseconds
+     */
+    long getShutdownTimeoutInMilliseconds();
+
+    
+    /**
+     * Get the aging interval in milliseconds. A processing which waits for a worker thread gains one priority level per
+     * aging interval, a processing with a low priority is therefore not starved by processings with a higher priority.
+     * In case of 0 there is no aging.
+     *
+     * @return the aging interval in milliseconds
+     */
+    long getAgingIntervalInMilliseconds();
+
+
+    /**
+     * Get the weight of a tenant. The tenants with waiting processings share the worker threads in relation to their weight.
+     * A tenant without configured weight has the weight 1.
+     *
+     * @param tenant the tenant
+     * @return the weight of the tenant
+     */
+    int getTenantWeight(String tenant);
+
+    
+    /**
+     * Check if the number of concurrent processing unit calls (steps) per processing unit class is limited adaptively. The limit
+     * increases additively as long as the step latency is stable and decreases multiplicatively as soon as the step latency
+     * rises (AIMD), e.g. an overloaded database gets fewer concurrent calls.
+     *
+     * @return true if the adaptive concurrency limit is enabled
+     */
+    boolean isAdaptiveConcurrencyLimit();
+
+    
+    /**
+     * Get the target of the queue delay in milliseconds for the load shedding (CoDel). The queue delay is the time from the 
+     * admission of a processing until a worker thread starts it, incl. the wait in the queue of the thread pool and in the
+     * queue of its bulkhead. In case the queue delay stays above the target for a whole queue delay interval, the engine is
+     * overloaded and new submissions up to the load shedding priority are rejected until the queue delay drops below the 
+     * target. In case of 0 there is no load shedding.
+     * 
+     * <p>The load shedding requires a queue: with a queue capacity or time slicing the processings wait in the run queue.
+     * Without a queue (queue capacity 0) a processing gets a worker thread immediately, only the processings which wait in
+     * the queue of their bulkhead are delayed.</p>
+     *
+     * @return the target of the queue delay in milliseconds
+     */
+    long getQueueDelayTargetInMilliseconds();
+
+    
+    /**
+     * Get the interval in milliseconds the queue delay has to stay above its target until the load shedding starts. Short
+     * bursts which are processed within the interval are not shed.
+     *
+     * @return the queue delay interval in milliseconds
+     */
+    long getQueueDelayIntervalInMilliseconds();
+
+    
+    /**
+     * Get the load shedding priority. In case of an overload new submissions with a priority up to this priority are
+     * rejected, submissions with a higher priority are still accepted.
+     *
+     * @return the load shedding priority
+     */
+    int getLoadSheddingPriority();
+
+    
+    /**
+     * Get the default timeout of a processing in milliseconds, it applies to the processings without an own timeout. The
+     * timeout starts with the submission, a processing which is not ended within its timeout is suspended or aborted
+     * depending on the timeout policy. In case of 0 there is no default timeout.
+     *
+     * @return the default timeout in milliseconds
+     */
+    long getTimeoutInMilliseconds();
+
+    
+    /**
+     * Get the default timeout policy, it applies to the processings without an own timeout policy.
+     *
+     * @return the default timeout policy
+     */
+    ProcessingTimeoutPolicy getTimeoutPolicy();
+
+    
+    /**
+     * Get the compression threshold of the persisted content in bytes: the suspended states of the shutdown which are at least
+     * as large as the threshold are compressed (deflate) in case it makes them smaller, the smaller ones are kept as they are.
+     * In case of 0 the persisted content is not compressed.
+     *
+     * @return the compression threshold in bytes
+     */
+    int getPersistenceCompressionThreshold();
+
+    
+    /**
+     * Get the checkpoint interval in milliseconds: the running processings which made progress since their last checkpoint
+     * are checkpointed once per interval into the checkpoint directory, the engine resumes them after a crash by
+     * IProcessEngine.resumeCheckpoints(). In case of 0 or without checkpoint directory there are no checkpoints.
+     *
+     * @return the checkpoint interval in milliseconds
+     */
+    long getCheckpointIntervalInMilliseconds();
+
+    
+    /**
+     * Get the directory of the checkpoints, the engine resumes the processings of the checkpoints in the directory by
+     * IProcessEngine.resumeCheckpoints(). The directory is locked by one engine at a time.
+     *
+     * @return the directory of the checkpoints or null
+     */
+    String getCheckpointDirectory();
+
+    
+    /**
+     * Get the directory of the processing journal: the submissions, state transitions and results of the processings are
+     * appended to a memory mapped journal, after a crash the engine knows which processings were still running. In case of
+     * null there is no journal.
+     *
+     * @return the directory of the journal or null
+     */
+    String getJournalDirectory();
+
+    
+    /**
+     * Get the commit interval of the processing journal in milliseconds: the records of an interval are synced to the disk
+     * by one commit (group commit), a crash loses at most the records of the last interval.
+     *
+     * @return the commit interval in milliseconds
+     */
+    long getJournalCommitIntervalInMilliseconds();
+
+
+    /**
+     * Get the segment size of the processing journal in bytes: a full segment is compacted into a new segment, the segment
+     * is larger in case the processings of the journal don't fit.
+     *
+     * @return the segment size in bytes
+     */
+    int getJournalSegmentSize();
+}
@@ -0,0 +1,24 @@
+/*
+ * ProcessingAdmissionPolicy.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.configuration;
+
+
+/**
+ * Defines the admission policy in case the processing engine can't accept any new processing: all worker threads are busy and the queue is full. 
+ *  
+ * @author patrick
+ */
+public enum ProcessingAdmissionPolicy {
+    
+    /** The caller blocks until a free place is available or the admission timeout is reached. */
+    BLOCK,
+    
+    /** The processing is rejected with a ProcessingRejectedException. */
+    REJECT,
+    
+    /** The processing is executed by the caller thread. */
+    CALLER_RUNS
+}
@@ -0,0 +1,582 @@
+/*
+ * ProcessingEngineConfiguration.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.configuration;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingEngineConfiguration}. The default values correspond to an unbounded number of 
+ * worker threads without any queue.
+ *  
+ * @author patrick
+ */
+public class ProcessingEngineConfiguration implements IProcessingEngineConfiguration, Serializable {
+    private static final long serialVersionUID = 2891475308816204547L;
+    private int maxNumberOfWorkerThreads;
+    private long keepAliveTimeInSeconds;
+    private int queueCapacity;
+    private ProcessingAdmissionPolicy admissionPolicy;
+    private long admissionTimeoutInMilliseconds;
+    private ProcessingExecutionMode executionMode;
+    private long timeSliceInMilliseconds;
+    private long shutdownTimeoutInMilliseconds;
+    private long agingIntervalInMilliseconds;
+    private Map<String, Integer> tenantWeightMap;
+    private boolean adaptiveConcurrencyLimit;
+    private long queueDelayTargetInMilliseconds;
+    private long queueDelayIntervalInMilliseconds;
+    private int loadSheddingPriority;
+    private long timeoutInMilliseconds;
+    private ProcessingTimeoutPolicy timeoutPolicy;
+    private int persistenceCompressionThreshold;
+    private long checkpointIntervalInMilliseconds;
+    private String checkpointDirectory;
+    private String journalDirectory;
+    private long journalCommitIntervalInMilliseconds;
+    private int journalSegmentSize;
+
+    
+    /**
+     * Constructor for ProcessingEngineConfiguration
+     */
+    public ProcessingEngineConfiguration() {
+        maxNumberOfWorkerThreads = Integer.MAX_VALUE;
+        keepAliveTimeInSeconds = 60L;
+        queueCapacity = 0;
+        admissionPolicy = ProcessingAdmissionPolicy.REJECT;
+        admissionTimeoutInMilliseconds = 30000L;
+        executionMode = ProcessingExecutionMode.PLATFORM_THREAD;
+        timeSliceInMilliseconds = 0L;
+        shutdownTimeoutInMilliseconds = 60000L;
+        agingIntervalInMilliseconds = 1000L;
+        tenantWeightMap = new LinkedHashMap<String, Integer>();
+        adaptiveConcurrencyLimit = false;
+        queueDelayTargetInMilliseconds = 0L;
+        queueDelayIntervalInMilliseconds = 100L;
+        loadSheddingPriority = 0;
+        timeoutInMilliseconds = 0L;
+        timeoutPolicy = ProcessingTimeoutPolicy.SUSPEND;
+        persistenceCompressionThreshold = 0;
+        checkpointIntervalInMilliseconds = 0L;
+        checkpointDirectory = null;
+        journalDirectory = null;
+        journalCommitIntervalInMilliseconds = 10L;
+        journalSegmentSize = 64 * 1024 * 1024;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getMaxNumberOfWorkerThreads()
+     */
+    @Override
+    public int getMaxNumberOfWorkerThreads() {
+        return maxNumberOfWorkerThreads;
+    }
+
+    
+    /**
+     * Set the max number of worker threads
+     *
+     * @param maxNumberOfWorkerThreads the max number of worker threads
+     */
+    public void setMaxNumberOfWorkerThreads(int maxNumberOfWorkerThreads) {
+        this.maxNumberOfWorkerThreads = maxNumberOfWorkerThreads;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getKeepAliveTimeInSeconds()
+     */
+    @Override
+    public long getKeepAliveTimeInSeconds() {
+        return keepAliveTimeInSeconds;
+    }
+
+    
+    /**
+     * Set the keep alive time in seconds
+     *
+     * @param keepAliveTimeInSeconds the keep alive time in seconds
+     */
+    public void setKeepAliveTimeInSeconds(long keepAliveTimeInSeconds) {
+        this.keepAliveTimeInSeconds = keepAliveTimeInSeconds;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getQueueCapacity()
+     */
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    
+    /**
+     * Set the queue capacity
+     *
+     * @param queueCapacity the queue capacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getAdmissionPolicy()
+     */
+    @Override
+    public ProcessingAdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    
+    /**
+     * Set the admission policy
+     *
+     * @param admissionPolicy the admission policy
+     */
+    public void setAdmissionPolicy(ProcessingAdmissionPolicy admissionPolicy) {
+        this.admissionPolicy = admissionPolicy;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getAdmissionTimeoutInMilliseconds()
+     */
+    @Override
+    public long getAdmissionTimeoutInMilliseconds() {
+        return admissionTimeoutInMilliseconds;
+    }
+
+    
+    /**
+     * Set the admission timeout in milliseconds
+     *
+     * @param admissionTimeoutInMilliseconds the admission timeout in milliseconds
+     */
+    public void setAdmissionTimeoutInMilliseconds(long admissionTimeoutInMilliseconds) {
+        this.admissionTimeoutInMilliseconds = admissionTimeoutInMilliseconds;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getExecutionMode()
+     */
+    @Override
+    public ProcessingExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    
+    /**
+     * Set the execution mode
+     *
+     * @param executionMode the execution mode
+     */
+    public void setExecutionMode(ProcessingExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getTimeSliceInMilliseconds()
+     */
+    @Override
+    public long getTimeSliceInMilliseconds() {
+        return timeSliceInMilliseconds;
+    }
+
+    
+    /**
+     * Set the time slice in milliseconds
+     *
+     * @param timeSliceInMilliseconds the time slice in milliseconds or 0 to disable time slicing
+     */
+    public void setTimeSliceInMilliseconds(long timeSliceInMilliseconds) {
+        this.timeSliceInMilliseconds = timeSliceInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getShutdownTimeoutInMilliseconds()
+     */
+    @Override
+    public long getShutdownTimeoutInMilliseconds() {
+        return shutdownTimeoutInMilliseconds;
+    }
+
+    
+    /**
+     * Set the shutdown timeout in milliseconds
+     *
+     * @param shutdownTimeoutInMilliseconds the shutdown timeout in milliseconds or 0 to wait without timeout
+     */
+    public void setShutdownTimeoutInMilliseconds(long shutdownTimeoutInMilliseconds) {
+        this.shutdownTimeoutInMilliseconds = shutdownTimeoutInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getAgingIntervalInMilliseconds()
+     */
+    @Override
+    public long getAgingIntervalInMilliseconds() {
+        return agingIntervalInMilliseconds;
+    }
+
+    
+    /**
+     * Set the aging interval in milliseconds
+     *
+     * @param agingIntervalInMilliseconds the aging interval in milliseconds or 0 to disable aging
+     */
+    public void setAgingIntervalInMilliseconds(long agingIntervalInMilliseconds) {
+        this.agingIntervalInMilliseconds = agingIntervalInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getTenantWeight(java.lang.String)
+     */
+    @Override
+    public int getTenantWeight(String tenant) {
+        if (tenant == null) {
+            return 1;
+        }
+        
+        final Integer weight = tenantWeightMap.get(tenant);
+        if (weight == null) {
+            return 1;
+        }
+        
+        return weight.intValue();
+    }
+
+    
+    /**
+     * Set the weight of a tenant
+     *
+     * @param tenant the tenant
+     * @param weight the weight, at least 1
+     * @throws IllegalArgumentException In case of an invalid tenant or weight
+     */
+    public void setTenantWeight(String tenant, int weight) {
+        if (tenant == null || tenant.isBlank()) {
+            throw new IllegalArgumentException("Invalid empty tenant!");
+        }
+        
+        if (weight < 1) {
+            throw new IllegalArgumentException("Invalid weight " + weight + " of the tenant " + tenant + "!");
+        }
+        
+        tenantWeightMap.put(tenant, weight);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#isAdaptiveConcurrencyLimit()
+     */
+    @Override
+    public boolean isAdaptiveConcurrencyLimit() {
+        return adaptiveConcurrencyLimit;
+    }
+
+    
+    /**
+     * Enable or disable the adaptive concurrency limit
+     *
+     * @param adaptiveConcurrencyLimit true to enable the adaptive concurrency limit
+     */
+    public void setAdaptiveConcurrencyLimit(boolean adaptiveConcurrencyLimit) {
+        this.adaptiveConcurrencyLimit = adaptiveConcurrencyLimit;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getQueueDelayTargetInMilliseconds()
+     */
+    @Override
+    public long getQueueDelayTargetInMilliseconds() {
+        return queueDelayTargetInMilliseconds;
+    }
+
+    
+    /**
+     * Set the target of the queue delay in milliseconds
+     *
+     * @param queueDelayTargetInMilliseconds the target of the queue delay in milliseconds or 0 to disable the load shedding
+     */
+    public void setQueueDelayTargetInMilliseconds(long queueDelayTargetInMilliseconds) {
+        this.queueDelayTargetInMilliseconds = queueDelayTargetInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getQueueDelayIntervalInMilliseconds()
+     */
+    @Override
+    public long getQueueDelayIntervalInMilliseconds() {
+        return queueDelayIntervalInMilliseconds;
+    }
+
+    
+    /**
+     * Set the queue delay interval in milliseconds
+     *
+     * @param queueDelayIntervalInMilliseconds the queue delay interval in milliseconds
+     */
+    public void setQueueDelayIntervalInMilliseconds(long queueDelayIntervalInMilliseconds) {
+        this.queueDelayIntervalInMilliseconds = queueDelayIntervalInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getLoadSheddingPriority()
+     */
+    @Override
+    public int getLoadSheddingPriority() {
+        return loadSheddingPriority;
+    }
+
+    
+    /**
+     * Set the load shedding priority
+     *
+     * @param loadSheddingPriority the load shedding priority
+     */
+    public void setLoadSheddingPriority(int loadSheddingPriority) {
+        this.loadSheddingPriority = loadSheddingPriority;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getTimeoutInMilliseconds()
+     */
+    @Override
+    public long getTimeoutInMilliseconds() {
+        return timeoutInMilliseconds;
+    }
+
+    
+    /**
+     * Set the default timeout in milliseconds
+     *
+     * @param timeoutInMilliseconds the default timeout in milliseconds or 0 for no default timeout
+     */
+    public void setTimeoutInMilliseconds(long timeoutInMilliseconds) {
+        this.timeoutInMilliseconds = timeoutInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getTimeoutPolicy()
+     */
+    @Override
+    public ProcessingTimeoutPolicy getTimeoutPolicy() {
+        return timeoutPolicy;
+    }
+
+    
+    /**
+     * Set the default timeout policy
+     *
+     * @param timeoutPolicy the default timeout policy
+     */
+    public void setTimeoutPolicy(ProcessingTimeoutPolicy timeoutPolicy) {
+        this.timeoutPolicy = timeoutPolicy;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getPersistenceCompressionThreshold()
+     */
+    @Override
+    public int getPersistenceCompressionThreshold() {
+        return persistenceCompressionThreshold;
+    }
+
+    
+    /**
+     * Set the compression threshold in bytes
+     *
+     * @param persistenceCompressionThreshold the compression threshold in bytes or 0 to disable the compression
+     */
+    public void setPersistenceCompressionThreshold(int persistenceCompressionThreshold) {
+        this.persistenceCompressionThreshold = persistenceCompressionThreshold;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getCheckpointIntervalInMilliseconds()
+     */
+    @Override
+    public long getCheckpointIntervalInMilliseconds() {
+        return checkpointIntervalInMilliseconds;
+    }
+
+    
+    /**
+     * Set the checkpoint interval in milliseconds
+     *
+     * @param checkpointIntervalInMilliseconds the checkpoint interval in milliseconds or 0 to disable the checkpoints
+     */
+    public void setCheckpointIntervalInMilliseconds(long checkpointIntervalInMilliseconds) {
+        this.checkpointIntervalInMilliseconds = checkpointIntervalInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getCheckpointDirectory()
+     */
+    @Override
+    public String getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    
+    /**
+     * Set the directory of the checkpoints
+     *
+     * @param checkpointDirectory the directory of the checkpoints or null to disable the checkpoints
+     */
+    public void setCheckpointDirectory(String checkpointDirectory) {
+        this.checkpointDirectory = checkpointDirectory;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getJournalDirectory()
+     */
+    @Override
+    public String getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    
+    /**
+     * Set the directory of the journal
+     *
+     * @param journalDirectory the directory of the journal or null to disable the journal
+     */
+    public void setJournalDirectory(String journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getJournalCommitIntervalInMilliseconds()
+     */
+    @Override
+    public long getJournalCommitIntervalInMilliseconds() {
+        return journalCommitIntervalInMilliseconds;
+    }
+
+    
+    /**
+     * Set the commit interval in milliseconds
+     *
+     * @param journalCommitIntervalInMilliseconds the commit interval in milliseconds
+     */
+    public void setJournalCommitIntervalInMilliseconds(long journalCommitIntervalInMilliseconds) {
+        this.journalCommitIntervalInMilliseconds = journalCommitIntervalInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration#getJournalSegmentSize()
+     */
+    @Override
+    public int getJournalSegmentSize() {
+        return journalSegmentSize;
+    }
+
+    
+    /**
+     * Set the segment size of the journal
+     *
+     * @param journalSegmentSize the segment size in bytes
+     */
+    public void setJournalSegmentSize(int journalSegmentSize) {
+        this.journalSegmentSize = journalSegmentSize;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(admissionPolicy, admissionTimeoutInMilliseconds, executionMode, keepAliveTimeInSeconds, maxNumberOfWorkerThreads, queueCapacity, timeSliceInMilliseconds, 
+                            shutdownTimeoutInMilliseconds, agingIntervalInMilliseconds, tenantWeightMap, adaptiveConcurrencyLimit, queueDelayTargetInMilliseconds, queueDelayIntervalInMilliseconds, loadSheddingPriority, 
+                            timeoutInMilliseconds, timeoutPolicy, persistenceCompressionThreshold, checkpointIntervalInMilliseconds, checkpointDirectory, journalDirectory, journalCommitIntervalInMilliseconds, 
+                            journalSegmentSize);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        
+        if (obj == null) {
+            return false;
+        }
+        
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        
+        ProcessingEngineConfiguration other = (ProcessingEngineConfiguration) obj;
+        return admissionPolicy == other.admissionPolicy 
+                && admissionTimeoutInMilliseconds == other.admissionTimeoutInMilliseconds
+                && executionMode == other.executionMode
+                && keepAliveTimeInSeconds == other.keepAliveTimeInSeconds
+                && maxNumberOfWorkerThreads == other.maxNumberOfWorkerThreads 
+                && queueCapacity == other.queueCapacity
+                && timeSliceInMilliseconds == other.timeSliceInMilliseconds
+                && shutdownTimeoutInMilliseconds == other.shutdownTimeoutInMilliseconds
+                && agingIntervalInMilliseconds == other.agingIntervalInMilliseconds
+                && Objects.equals(tenantWeightMap, other.tenantWeightMap)
+                && adaptiveConcurrencyLimit == other.adaptiveConcurrencyLimit
+                && queueDelayTargetInMilliseconds == other.queueDelayTargetInMilliseconds
+                && queueDelayIntervalInMilliseconds == other.queueDelayIntervalInMilliseconds
+                && loadSheddingPriority == other.loadSheddingPriority
+                && timeoutInMilliseconds == other.timeoutInMilliseconds
+                && timeoutPolicy == other.timeoutPolicy
+                && persistenceCompressionThreshold == other.persistenceCompressionThreshold
+                && checkpointIntervalInMilliseconds == other.checkpointIntervalInMilliseconds
+                && Objects.equals(checkpointDirectory, other.checkpointDirectory)
+                && Objects.equals(journalDirectory, other.journalDirectory)
+                && journalCommitIntervalInMilliseconds == other.journalCommitIntervalInMilliseconds
+                && journalSegmentSize == other.journalSegmentSize;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingEngineConfiguration [maxNumberOfWorkerThreads=" + maxNumberOfWorkerThreads + ", keepAliveTimeInSeconds=" + keepAliveTimeInSeconds
+                + ", queueCapacity=" + queueCapacity + ", admissionPolicy=" + admissionPolicy + ", admissionTimeoutInMilliseconds=" + admissionTimeoutInMilliseconds 
+                + ", executionMode=" + executionMode + ", timeSliceInMilliseconds=" + timeSliceInMilliseconds + ", shutdownTimeoutInMilliseconds=" + shutdownTimeoutInMilliseconds + ", agingIntervalInMilliseconds=" + agingIntervalInMilliseconds 
+                + ", tenantWeightMap=" + tenantWeightMap + ", adaptiveConcurrencyLimit=" + adaptiveConcurrencyLimit
+                + ", queueDelayTargetInMilliseconds=" + queueDelayTargetInMilliseconds + ", queueDelayIntervalInMilliseconds=" + queueDelayIntervalInMilliseconds + ", loadSheddingPriority=" + loadSheddingPriority
+                + ", timeoutInMilliseconds=" + timeoutInMilliseconds + ", timeoutPolicy=" + timeoutPolicy + ", persistenceCompressionThreshold=" + persistenceCompressionThreshold 
+                + ", checkpointIntervalInMilliseconds=" + checkpointIntervalInMilliseconds + ", checkpointDirectory=" + checkpointDirectory 
+                + ", journalDirectory=" + journalDirectory + ", journalCommitIntervalInMilliseconds=" + journalCommitIntervalInMilliseconds 
+                + ", journalSegmentSize=" + journalSegmentSize + "]";
+    }
+}
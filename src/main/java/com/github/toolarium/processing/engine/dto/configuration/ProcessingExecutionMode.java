@@ -0,0 +1,21 @@
+/*
+ * ProcessingExecutionMode.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.configuration;
+
+
+/**
+ * Defines the execution mode, which kind of threads execute the processing units.
+ *  
+ * @author patrick
+ */
+public enum ProcessingExecutionMode {
+    
+    /** The processing units are executed by platform threads. */
+    PLATFORM_THREAD,
+    
+    /** The processing units are executed by virtual threads, it needs at least java 21 otherwise platform threads are used. */
+    VIRTUAL_THREAD
+}
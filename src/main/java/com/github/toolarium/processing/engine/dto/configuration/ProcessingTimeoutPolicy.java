@@ -0,0 +1,21 @@
+/*
+ * ProcessingTimeoutPolicy.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.configuration;
+
+
+/**
+ * Defines what happens with a processing which is not ended within its timeout.
+ *  
+ * @author patrick
+ */
+public enum ProcessingTimeoutPolicy {
+    
+    /** The processing is suspended, its suspended state is kept and returned by the shutdown of the processing engine. */
+    SUSPEND,
+    
+    /** The processing is suspended and its state is discarded. */
+    ABORT
+}
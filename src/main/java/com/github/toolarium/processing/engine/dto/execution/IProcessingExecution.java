@@ -0,0 +1,49 @@
+/*
+ * IProcessingExecution.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.execution;
+
+import com.github.toolarium.processing.unit.dto.Parameter;
+import java.util.List;
+
+
+/**
+ * Defines an execution of a batch submission: the process unit with its parameters and an optional id and name.
+ *
+ * @author patrick
+ */
+public interface IProcessingExecution {
+
+    /**
+     * Get the id of the execution
+     *
+     * @return the id or null in case the id is generated
+     */
+    String getId();
+
+
+    /**
+     * Get the name of the execution
+     *
+     * @return the name or null
+     */
+    String getName();
+
+
+    /**
+     * Get the process unit class
+     *
+     * @return the process unit class name
+     */
+    String getProcessingUnitClass();
+
+
+    /**
+     * Get the parameter list
+     *
+     * @return the parameter list
+     */
+    List<Parameter> getParameterList();
+}
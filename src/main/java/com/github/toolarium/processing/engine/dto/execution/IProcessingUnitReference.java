@@ -0,0 +1,144 @@
+/*
+ * IProcessingUnitReference.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.execution;
+
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingTimeoutPolicy;
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
+import com.github.toolarium.processing.unit.IProcessingUnit;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import java.util.List;
+
+
+/**
+ * Defines the processing unit reference
+ *  
+ * @author patrick
+ */
+public interface IProcessingUnitReference {
+    
+    /**
+     * Get the id
+     *
+     * @return the id
+     */
+    String getId();
+    
+    
+    /**
+     * Get the name
+     *
+     * @return the name
+     */
+    String getName();
+    
+    
+    /**
+     * Get the processing unit class
+     *
+     * @return the processing unit class
+     */
+    Class<? extends IProcessingUnit> getProcessingUnitClass();
+
+
+    /**
+     * Get the parameter list
+     *
+     * @return the parameter list
+     */
+    List<Parameter> getParameterList();
+
+
+    /**
+     * Get the number of partitions. In case it is greater than 1 the processing is started once per partition and the 
+     * results of the partitions are merged.
+     *
+     * @return the number of partitions
+     */
+    int getNumberOfPartitions();
+
+
+    /**
+     * Get the ids of the processings which have to be ended before this processing is started
+     *
+     * @return the ids of the predecessors
+     */
+    List<String> getDependsOnList();
+
+
+    /**
+     * Get the name of the channel to read the records from
+     *
+     * @return the name of the input channel or null
+     */
+    String getInputChannelName();
+
+
+    /**
+     * Get the name of the channel to write the records to
+     *
+     * @return the name of the output channel or null
+     */
+    String getOutputChannelName();
+
+
+    /**
+     * Get the capacity of the output channel
+     *
+     * @return the capacity of the output channel
+     */
+    int getOutputChannelCapacity();
+
+
+    /**
+     * Get the priority. In case the processings wait for a worker thread, the processing with the highest priority is 
+     * started first. With time slicing a processing with a higher priority gets a longer time slice. 
+     *
+     * @return the priority, higher values are more urgent (default 0)
+     */
+    int getPriority();
+
+
+    /**
+     * Get the tenant. The tenants with waiting processings share the worker threads in relation to their weight.
+     *
+     * @return the tenant or null if the processing belongs to the default tenant
+     */
+    String getTenant();
+
+
+    /**
+     * Get the timeout of the processing. The timeout starts with the submission, a processing which is not ended within
+     * its timeout is suspended or aborted depending on its timeout policy.
+     *
+     * @return the timeout in milliseconds or 0 in case the default timeout of the processing engine applies
+     */
+    long getTimeoutInMilliseconds();
+
+
+    /**
+     * Get the timeout policy of the processing
+     *
+     * @return the timeout policy or null in case the default timeout policy of the processing engine applies
+     */
+    ProcessingTimeoutPolicy getTimeoutPolicy();
+
+    
+    /**
+     * Get the retry policy of the processing
+     *
+     * @return the retry policy or null in case the retry policy of the processing unit definition applies
+     */
+    IProcessingRetryPolicy getRetryPolicy();
+
+    
+    /**
+     * Check if the group of the processing fails fast: as soon as the processing is aborted, the other processings of the
+     * group are cancelled
+     *
+     * @return true if the group fails fast
+     */
+    boolean isFailFast();
+}
@@ -0,0 +1,169 @@
+/*
+ * ProcessingExecution.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.execution;
+
+import com.github.toolarium.processing.unit.dto.Parameter;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingExecution}.
+ *
+ * @author patrick
+ */
+public class ProcessingExecution implements IProcessingExecution, Serializable {
+    private static final long serialVersionUID = 3270946716813391442L;
+    private String id;
+    private String name;
+    private String processingUnitClass;
+    private List<Parameter> parameterList;
+
+
+    /**
+     * Constructor for ProcessingExecution
+     */
+    public ProcessingExecution() {
+        this(null, null, new ArrayList<Parameter>());
+    }
+
+
+    /**
+     * Constructor for ProcessingExecution
+     *
+     * @param name the name
+     * @param processingUnitClass the process unit class name
+     * @param parameterList the parameter list
+     */
+    public ProcessingExecution(String name, String processingUnitClass, List<Parameter> parameterList) {
+        this.id = null;
+        this.name = name;
+        this.processingUnitClass = processingUnitClass;
+        this.parameterList = parameterList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingExecution#getId()
+     */
+    @Override
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Set the id of the execution
+     *
+     * @param id the id or null
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingExecution#getName()
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Set the name of the execution
+     *
+     * @param name the name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingExecution#getProcessingUnitClass()
+     */
+    @Override
+    public String getProcessingUnitClass() {
+        return processingUnitClass;
+    }
+
+
+    /**
+     * Set the process unit class
+     *
+     * @param processingUnitClass the process unit class name
+     */
+    public void setProcessingUnitClass(String processingUnitClass) {
+        this.processingUnitClass = processingUnitClass;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingExecution#getParameterList()
+     */
+    @Override
+    public List<Parameter> getParameterList() {
+        return parameterList;
+    }
+
+
+    /**
+     * Set the parameter list
+     *
+     * @param parameterList the parameter list
+     */
+    public void setParameterList(List<Parameter> parameterList) {
+        this.parameterList = parameterList;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, parameterList, processingUnitClass);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingExecution other = (ProcessingExecution) obj;
+        return Objects.equals(id, other.id)
+                && Objects.equals(name, other.name)
+                && Objects.equals(parameterList, other.parameterList)
+                && Objects.equals(processingUnitClass, other.processingUnitClass);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingExecution [id=" + id + ", name=" + name + ", processingUnitClass=" + processingUnitClass
+                + ", parameterList=" + parameterList + "]";
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * ProcessingExecutionBuilder.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.execution;
+
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingTimeoutPolicy;
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
+import com.github.toolarium.processing.engine.util.ProcessingChannelUtil;
+import com.github.toolarium.processing.unit.IProcessingUnit;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Defines the p processing execution builder
+ * 
+ * @author patrick
+ */
+public class ProcessingExecutionBuilder {
+    private List<ProcessingUnitReference> list;
+    private boolean isFailFast;
+    
+
+    /**
+     * Constructor for ProcessingExecutionBuilder
+     */
+    public ProcessingExecutionBuilder() {
+        list = new ArrayList<ProcessingUnitReference>();
+        list.add(new ProcessingUnitReference(null, new ArrayList<Parameter>()));
+        isFailFast = false;
+    }
+    
+    
+    /**
+     * Set the processing unit execution id
+     *
+     * @param id the processing unit execution id
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder id(String id) {
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setId(id);
+        }
+        return this;
+    }
+
+    
+    /**
+     * Set the processing unit execution name
+     *
+     * @param name the processing unit execution name
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder name(String name) {
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setName(name);
+        }
+        return this;
+    }
+
+    
+    /**
+     * Set the processing unit execution name
+     *
+     * @param className the processing unit class name
+     * @return the builder
+     * @throws ClassNotFoundException In case the class can not be resolved
+     */
+    @SuppressWarnings("unchecked")
+    public ProcessingExecutionBuilder processingUnitClass(String className) throws ClassNotFoundException {
+        return processingUnitClass((Class<? extends IProcessingUnit>)Class.forName(className));
+    }
+
+    
+    /**
+     * Set the processing unit execution name
+     *
+     * @param processingUnitClass the processing unit class
+     * @return the builder
+     * @throws IllegalArgumentException In case of invalid processing unit class
+     */
+    public ProcessingExecutionBuilder processingUnitClass(Class<? extends IProcessingUnit> processingUnitClass) throws IllegalArgumentException {
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setProcessingUnitClass(processingUnitClass);
+        }
+
+        validateProcessingUnitClass();        
+        return this;
+    }
+
+    
+    /**
+     * Set the processing unit execution parameter
+     *
+     * @param parameter the parameter to add
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder parameter(Parameter parameter) {
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).getParameterList().add(parameter);
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the processing unit execution parameters
+     *
+     * @param parameters the parameters to add
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder parameters(Parameter... parameters) {
+        for (Parameter p : parameters) {
+            if (list != null && !list.isEmpty()) {
+                list.get(list.size() - 1).getParameterList().add(p);
+            }
+        }
+        return this;
+    }
+
+    
+    /**
+     * Set the number of partitions of the processing unit execution. The processing unit is started once per partition 
+     * and gets the partition as parameter, see {@link com.github.toolarium.processing.engine.util.ProcessingPartitionUtil}. 
+     * The results of the partitions are merged into one result.
+     *
+     * @param numberOfPartitions the number of partitions
+     * @return the builder
+     * @throws IllegalArgumentException In case of an invalid number of partitions
+     */
+    public ProcessingExecutionBuilder partitions(int numberOfPartitions) throws IllegalArgumentException {
+        if (numberOfPartitions < 1) {
+            throw new IllegalArgumentException("Invalid number of partitions: " + numberOfPartitions + "!");
+        }
+        
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setNumberOfPartitions(numberOfPartitions);
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the priority of the processing unit execution. Interactive processings should get a higher priority than bulk
+     * processings: they are started first in case the processings wait for a worker thread. A waiting processing gains
+     * priority over the time (aging), therefore a processing with a low priority is not starved.
+     *
+     * @param priority the priority, higher values are more urgent (default 0)
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder priority(int priority) {
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setPriority(priority);
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the tenant of the processing unit execution. In case the processings wait for a worker thread, the tenants share
+     * the worker threads in relation to their weight, a tenant with many processings can't starve the other tenants.
+     *
+     * @param tenant the tenant (default tenant in case of null)
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder tenant(String tenant) {
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setTenant(tenant);
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the timeout of the processing unit execution. The timeout starts with the submission, a processing which is not
+     * ended within its timeout is suspended (its state is kept) or aborted.
+     *
+     * @param timeoutInMilliseconds the timeout in milliseconds
+     * @param timeoutPolicy the timeout policy or null in case the default timeout policy applies
+     * @return the builder
+     * @throws IllegalArgumentException In case of an invalid timeout
+     */
+    public ProcessingExecutionBuilder timeout(long timeoutInMilliseconds, ProcessingTimeoutPolicy timeoutPolicy) throws IllegalArgumentException {
+        if (timeoutInMilliseconds <= 0) {
+            throw new IllegalArgumentException("Invalid timeout: " + timeoutInMilliseconds + "ms!");
+        }
+
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setTimeoutInMilliseconds(timeoutInMilliseconds);
+            list.get(list.size() - 1).setTimeoutPolicy(timeoutPolicy);
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the retry policy of the processing unit execution: an aborted processing is retried after a backoff as long as
+     * the error is retryable and the max number of attempts is not reached.
+     *
+     * @param retryPolicy the retry policy or null in case the retry policy of the processing unit definition applies
+     * @return the builder
+     * @throws IllegalArgumentException In case of an invalid retry policy
+     */
+    public ProcessingExecutionBuilder retry(IProcessingRetryPolicy retryPolicy) throws IllegalArgumentException {
+        if (retryPolicy != null && (retryPolicy.getMaxNumberOfAttempts() < 1 || retryPolicy.getInitialBackoffInMilliseconds() < 0)) {
+            throw new IllegalArgumentException("Invalid retry policy: " + retryPolicy + "!");
+        }
+
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setRetryPolicy(retryPolicy);
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the processings which have to be ended before the processing unit execution is started. Processings without 
+     * dependencies between each other run in parallel.
+     *
+     * @param ids the ids of the predecessors
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder dependsOn(String... ids) {
+        for (String id : ids) {
+            if (list != null && !list.isEmpty()) {
+                list.get(list.size() - 1).getDependsOnList().add(id);
+            }
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the channel the processing unit execution reads its records from. The name of the channel is passed as parameter,
+     * see {@link ProcessingChannelUtil#INPUT_CHANNEL_PARAMETER}.
+     *
+     * @param channelName the name of the channel
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder inputChannel(String channelName) {
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setInputChannelName(channelName);
+            list.get(list.size() - 1).getParameterList().add(new Parameter(ProcessingChannelUtil.INPUT_CHANNEL_PARAMETER.getKey(), channelName));
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the channel the processing unit execution writes its records to. The channel is created before the processings 
+     * are started and closed as soon as the processing unit execution is ended. The name of the channel is passed as 
+     * parameter, see {@link ProcessingChannelUtil#OUTPUT_CHANNEL_PARAMETER}.
+     *
+     * @param channelName the name of the channel
+     * @param capacity the capacity of the channel, in case it is full the processing unit execution has to wait
+     * @return the builder
+     * @throws IllegalArgumentException In case of an invalid capacity
+     */
+    public ProcessingExecutionBuilder outputChannel(String channelName, int capacity) throws IllegalArgumentException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid channel capacity: " + capacity + "!");
+        }
+
+        if (list != null && !list.isEmpty()) {
+            list.get(list.size() - 1).setOutputChannelName(channelName);
+            list.get(list.size() - 1).setOutputChannelCapacity(capacity);
+            list.get(list.size() - 1).getParameterList().add(new Parameter(ProcessingChannelUtil.OUTPUT_CHANNEL_PARAMETER.getKey(), channelName));
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Let the group fail fast: as soon as one of its processings is aborted, the running processings of the group are 
+     * aborted and the not started are skipped. It applies to all processing unit executions of the builder.
+     *
+     * @return the builder
+     */
+    public ProcessingExecutionBuilder failFast() {
+        isFailFast = true;
+        return this;
+    }
+
+    
+    /**
+     * Start a new processing unit execution dependency
+     *
+     * @return the builder
+     * @throws IllegalArgumentException In case of invalid processing unit class
+     */
+    public ProcessingExecutionBuilder newProcessingUnit() throws IllegalArgumentException {
+        validateProcessingUnitClass();
+        
+        list.add(new ProcessingUnitReference(null, new ArrayList<Parameter>()));
+        return this;
+    }
+
+
+    /**
+     * Build
+     *
+     * @return the list of processing unit executions
+     * @throws IllegalArgumentException In case of invalid processing unit class
+     */
+    public List<ProcessingUnitReference> build() throws IllegalArgumentException {
+        validateProcessingUnitClass();
+        if (isFailFast) {
+            for (ProcessingUnitReference p : list) {
+                p.setIsFailFast(true);
+            }
+        }
+        
+        return list;
+    }
+
+
+    /**
+     * Validate the last processing unit class
+     * 
+     * @throws IllegalArgumentException In case of invalid processing unit class
+     */
+    protected void validateProcessingUnitClass() throws IllegalArgumentException {
+        if (list != null && !list.isEmpty() && list.get(list.size() - 1).getProcessingUnitClass() == null) {
+            throw new IllegalArgumentException("Can't add a new processing unit because the current don't has any processing unit class!");
+        }
+    }
+}
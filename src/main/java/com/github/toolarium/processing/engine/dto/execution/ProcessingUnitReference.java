@@ -0,0 +1,431 @@
+/*
+ * ProcessingUnitReference.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.execution;
+
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingTimeoutPolicy;
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
+import com.github.toolarium.processing.unit.IProcessingUnit;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+
+/**
+ * Implements the {@link IProcessingUnitReference}.
+ * 
+ * @author patrick
+ */
+public class ProcessingUnitReference implements IProcessingUnitReference {
+    private String id;
+    private String name;
+    private Class<? extends IProcessingUnit> processingUnitClass;
+    private List<Parameter> parameterList;
+    private int numberOfPartitions;
+    private List<String> dependsOnList;
+    private String inputChannelName;
+    private String outputChannelName;
+    private int outputChannelCapacity;
+    private int priority;
+    private String tenant;
+    private long timeoutInMilliseconds;
+    private ProcessingTimeoutPolicy timeoutPolicy;
+    private IProcessingRetryPolicy retryPolicy;
+    private boolean isFailFast;
+
+    
+    /**
+     * Constructor for ProcessingUnitReference
+     *
+     * @param processingUnitClass the processing unit class
+     * @param parameterList the parameter list
+     */
+    public ProcessingUnitReference(Class<? extends IProcessingUnit> processingUnitClass, List<Parameter> parameterList) {
+        this(null, null, processingUnitClass, parameterList);
+    }
+
+    
+    /**
+     * Constructor for ProcessingUnitReference
+     * 
+     * @param id the id
+     * @param name the name
+     * @param processingUnitClass the processing unit class
+     * @param parameterList the parameter list
+     */
+    public ProcessingUnitReference(String id, String name, Class<? extends IProcessingUnit> processingUnitClass, List<Parameter> parameterList) {
+        this.id = id;
+        this.name = name;
+        this.processingUnitClass = processingUnitClass;
+        this.parameterList = parameterList;
+        this.numberOfPartitions = 1;
+        this.dependsOnList = new ArrayList<String>();
+        this.inputChannelName = null;
+        this.outputChannelName = null;
+        this.outputChannelCapacity = 0;
+        this.priority = 0;
+        this.tenant = null;
+        this.timeoutInMilliseconds = 0;
+        this.timeoutPolicy = null;
+        this.retryPolicy = null;
+        this.isFailFast = false;
+        
+        if (this.id == null || this.id.isBlank()) {
+            this.id = UUID.randomUUID().toString();
+        }
+        
+        if (processingUnitClass != null && (this.name == null || this.name.isBlank())) {
+            this.name = processingUnitClass.getClass().getName();
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getId()
+     */
+    @Override
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Set the id
+     *
+     * @param id the id
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getName()
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+
+    
+    /**
+     * Set the name
+     *
+     * @param name the name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getProcessingUnitClass()
+     */
+    @Override
+    public Class<? extends IProcessingUnit> getProcessingUnitClass() {
+        return processingUnitClass;
+    }
+
+
+    /**
+     * Set the processing unit class
+     *
+     * @param processingUnitClass the processing unit class
+     */
+    public void setProcessingUnitClass(Class<? extends IProcessingUnit> processingUnitClass) {
+        this.processingUnitClass = processingUnitClass;
+    }
+
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getParameterList()
+     */
+    @Override
+    public List<Parameter> getParameterList() {
+        return parameterList;
+    }
+
+
+    /**
+     * Set the parameter list
+     *
+     * @param parameterList the parameter list
+     */
+    public void setParameterList(List<Parameter> parameterList) {
+        this.parameterList = parameterList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getNumberOfPartitions()
+     */
+    @Override
+    public int getNumberOfPartitions() {
+        return numberOfPartitions;
+    }
+
+
+    /**
+     * Set the number of partitions
+     *
+     * @param numberOfPartitions the number of partitions
+     */
+    public void setNumberOfPartitions(int numberOfPartitions) {
+        this.numberOfPartitions = numberOfPartitions;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getDependsOnList()
+     */
+    @Override
+    public List<String> getDependsOnList() {
+        return dependsOnList;
+    }
+
+
+    /**
+     * Set the ids of the processings which have to be ended before this processing is started
+     *
+     * @param dependsOnList the ids of the predecessors
+     */
+    public void setDependsOnList(List<String> dependsOnList) {
+        this.dependsOnList = dependsOnList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getInputChannelName()
+     */
+    @Override
+    public String getInputChannelName() {
+        return inputChannelName;
+    }
+
+
+    /**
+     * Set the name of the channel to read the records from
+     *
+     * @param inputChannelName the name of the input channel
+     */
+    public void setInputChannelName(String inputChannelName) {
+        this.inputChannelName = inputChannelName;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getOutputChannelName()
+     */
+    @Override
+    public String getOutputChannelName() {
+        return outputChannelName;
+    }
+
+
+    /**
+     * Set the name of the channel to write the records to
+     *
+     * @param outputChannelName the name of the output channel
+     */
+    public void setOutputChannelName(String outputChannelName) {
+        this.outputChannelName = outputChannelName;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getOutputChannelCapacity()
+     */
+    @Override
+    public int getOutputChannelCapacity() {
+        return outputChannelCapacity;
+    }
+
+
+    /**
+     * Set the capacity of the output channel
+     *
+     * @param outputChannelCapacity the capacity of the output channel
+     */
+    public void setOutputChannelCapacity(int outputChannelCapacity) {
+        this.outputChannelCapacity = outputChannelCapacity;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getPriority()
+     */
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+
+    /**
+     * Set the priority
+     *
+     * @param priority the priority, higher values are more urgent
+     */
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getTenant()
+     */
+    @Override
+    public String getTenant() {
+        return tenant;
+    }
+
+
+    /**
+     * Set the tenant
+     *
+     * @param tenant the tenant
+     */
+    public void setTenant(String tenant) {
+        this.tenant = tenant;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getTimeoutInMilliseconds()
+     */
+    @Override
+    public long getTimeoutInMilliseconds() {
+        return timeoutInMilliseconds;
+    }
+
+
+    /**
+     * Set the timeout
+     *
+     * @param timeoutInMilliseconds the timeout in milliseconds or 0 in case the default timeout applies
+     */
+    public void setTimeoutInMilliseconds(long timeoutInMilliseconds) {
+        this.timeoutInMilliseconds = timeoutInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getTimeoutPolicy()
+     */
+    @Override
+    public ProcessingTimeoutPolicy getTimeoutPolicy() {
+        return timeoutPolicy;
+    }
+
+
+    /**
+     * Set the timeout policy
+     *
+     * @param timeoutPolicy the timeout policy or null in case the default timeout policy applies
+     */
+    public void setTimeoutPolicy(ProcessingTimeoutPolicy timeoutPolicy) {
+        this.timeoutPolicy = timeoutPolicy;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#getRetryPolicy()
+     */
+    @Override
+    public IProcessingRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+
+    /**
+     * Set the retry policy
+     *
+     * @param retryPolicy the retry policy or null in case the retry policy of the processing unit definition applies
+     */
+    public void setRetryPolicy(IProcessingRetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.execution.IProcessingUnitReference#isFailFast()
+     */
+    @Override
+    public boolean isFailFast() {
+        return isFailFast;
+    }
+
+
+    /**
+     * Set the group of the processing fails fast
+     *
+     * @param isFailFast true if the other processings of the group are cancelled as soon as the processing is aborted
+     */
+    public void setIsFailFast(boolean isFailFast) {
+        this.isFailFast = isFailFast;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(dependsOnList, id, inputChannelName, name, numberOfPartitions, outputChannelCapacity, outputChannelName, parameterList, priority, processingUnitClass, retryPolicy, isFailFast, tenant, timeoutInMilliseconds, timeoutPolicy);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        
+        if (obj == null) {
+            return false;
+        }
+        
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        
+        ProcessingUnitReference other = (ProcessingUnitReference) obj;
+        return Objects.equals(dependsOnList, other.dependsOnList)
+                && Objects.equals(id, other.id) && Objects.equals(name, other.name)
+                && Objects.equals(inputChannelName, other.inputChannelName)
+                && Objects.equals(outputChannelName, other.outputChannelName)
+                && outputChannelCapacity == other.outputChannelCapacity
+                && numberOfPartitions == other.numberOfPartitions
+                && priority == other.priority
+                && Objects.equals(tenant, other.tenant)
+                && timeoutInMilliseconds == other.timeoutInMilliseconds
+                && timeoutPolicy == other.timeoutPolicy
+                && Objects.equals(retryPolicy, other.retryPolicy)
+                && isFailFast == other.isFailFast
+                && Objects.equals(parameterList, other.parameterList)
+                && Objects.equals(processingUnitClass, other.processingUnitClass);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        String className = null;
+        if (processingUnitClass != null) {
+            className = processingUnitClass.getName();
+        }
+        
+        return "ProcessingUnitReference [id=" + id + ", name=" + name + ", processingUnitClass=" + className + ", parameterList=" + parameterList + "]";
+    }
+}
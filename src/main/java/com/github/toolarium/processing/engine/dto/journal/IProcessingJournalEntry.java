@@ -0,0 +1,64 @@
+/*
+ * IProcessingJournalEntry.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.journal;
+
+import com.github.toolarium.processing.unit.dto.ProcessingActionStatus;
+
+
+/**
+ * Defines an entry of the processing journal: the last recorded state of a processing which was not removed from the engine.
+ *
+ * @author patrick
+ */
+public interface IProcessingJournalEntry {
+
+    /**
+     * Get the id of the processing
+     *
+     * @return the id
+     */
+    String getId();
+
+
+    /**
+     * Get the name of the processing
+     *
+     * @return the name
+     */
+    String getName();
+
+
+    /**
+     * Get the processing unit class name
+     *
+     * @return the processing unit class name
+     */
+    String getProcessingUnitClassname();
+
+
+    /**
+     * Get the last recorded processing action status
+     *
+     * @return the processing action status or null if only the submission is recorded
+     */
+    ProcessingActionStatus getProcessingActionStatus();
+
+
+    /**
+     * Get the number of processed units of the recorded result
+     *
+     * @return the number of processed units
+     */
+    long getNumberOfProcessedUnits();
+
+
+    /**
+     * Get the time of the last record in milliseconds since the epoch
+     *
+     * @return the time of the last record
+     */
+    long getTimestamp();
+}
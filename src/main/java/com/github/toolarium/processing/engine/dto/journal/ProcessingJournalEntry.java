@@ -0,0 +1,187 @@
+/*
+ * ProcessingJournalEntry.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.journal;
+
+import com.github.toolarium.processing.unit.dto.ProcessingActionStatus;
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingJournalEntry}.
+ *
+ * @author patrick
+ */
+public class ProcessingJournalEntry implements IProcessingJournalEntry, Serializable {
+    private static final long serialVersionUID = 7260930473176208539L;
+    private String id;
+    private String name;
+    private String processingUnitClassname;
+    private ProcessingActionStatus processingActionStatus;
+    private long numberOfProcessedUnits;
+    private long timestamp;
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry#getId()
+     */
+    @Override
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Set the id of the processing
+     *
+     * @param id the id
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry#getName()
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Set the name of the processing
+     *
+     * @param name the name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry#getProcessingUnitClassname()
+     */
+    @Override
+    public String getProcessingUnitClassname() {
+        return processingUnitClassname;
+    }
+
+
+    /**
+     * Set the processing unit class name
+     *
+     * @param processingUnitClassname the processing unit class name
+     */
+    public void setProcessingUnitClassname(String processingUnitClassname) {
+        this.processingUnitClassname = processingUnitClassname;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry#getProcessingActionStatus()
+     */
+    @Override
+    public ProcessingActionStatus getProcessingActionStatus() {
+        return processingActionStatus;
+    }
+
+
+    /**
+     * Set the processing action status
+     *
+     * @param processingActionStatus the processing action status
+     */
+    public void setProcessingActionStatus(ProcessingActionStatus processingActionStatus) {
+        this.processingActionStatus = processingActionStatus;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry#getNumberOfProcessedUnits()
+     */
+    @Override
+    public long getNumberOfProcessedUnits() {
+        return numberOfProcessedUnits;
+    }
+
+
+    /**
+     * Set the number of processed units
+     *
+     * @param numberOfProcessedUnits the number of processed units
+     */
+    public void setNumberOfProcessedUnits(long numberOfProcessedUnits) {
+        this.numberOfProcessedUnits = numberOfProcessedUnits;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry#getTimestamp()
+     */
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+
+    /**
+     * Set the time of the last record
+     *
+     * @param timestamp the time of the last record
+     */
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, numberOfProcessedUnits, processingActionStatus, processingUnitClassname, timestamp);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingJournalEntry other = (ProcessingJournalEntry) obj;
+        return Objects.equals(id, other.id)
+                && Objects.equals(name, other.name)
+                && numberOfProcessedUnits == other.numberOfProcessedUnits
+                && Objects.equals(processingActionStatus, other.processingActionStatus)
+                && Objects.equals(processingUnitClassname, other.processingUnitClassname)
+                && timestamp == other.timestamp;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingJournalEntry [id=" + id + ", name=" + name + ", processingUnitClassname=" + processingUnitClassname
+                + ", processingActionStatus=" + processingActionStatus + ", numberOfProcessedUnits=" + numberOfProcessedUnits
+                + ", timestamp=" + timestamp + "]";
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * IProcessingLoadSheddingStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.loadshedding;
+
+
+/**
+ * Defines the status of the load shedding: the queue delay of the run queue and the number of shed submissions.
+ *
+ * @author patrick
+ */
+public interface IProcessingLoadSheddingStatus {
+
+    /**
+     * Get the target of the queue delay
+     *
+     * @return the target of the queue delay in milliseconds or 0 if there is no load shedding
+     */
+    long getQueueDelayTargetInMilliseconds();
+
+
+    /**
+     * Check if the engine is overloaded: the queue delay stays above its target and new submissions are shed
+     *
+     * @return true if the engine is overloaded
+     */
+    boolean isOverloaded();
+
+
+    /**
+     * Get the number of submissions which were rejected because of an overload
+     *
+     * @return the number of shed processings
+     */
+    long getNumberOfShedProcessings();
+
+
+    /**
+     * Get the median of the queue delay of the recent dequeued processings
+     *
+     * @return the 50th percentile of the queue delay in milliseconds
+     */
+    long getQueueDelayP50InMilliseconds();
+
+
+    /**
+     * Get the 90th percentile of the queue delay of the recent dequeued processings
+     *
+     * @return the 90th percentile of the queue delay in milliseconds
+     */
+    long getQueueDelayP90InMilliseconds();
+
+
+    /**
+     * Get the 99th percentile of the queue delay of the recent dequeued processings
+     *
+     * @return the 99th percentile of the queue delay in milliseconds
+     */
+    long getQueueDelayP99InMilliseconds();
+
+
+    /**
+     * Get the max queue delay of the recent dequeued processings
+     *
+     * @return the max queue delay in milliseconds
+     */
+    long getMaxQueueDelayInMilliseconds();
+}
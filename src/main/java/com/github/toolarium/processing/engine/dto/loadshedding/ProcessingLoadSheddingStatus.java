@@ -0,0 +1,208 @@
+/*
+ * ProcessingLoadSheddingStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.loadshedding;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingLoadSheddingStatus}.
+ *
+ * @author patrick
+ */
+public class ProcessingLoadSheddingStatus implements IProcessingLoadSheddingStatus, Serializable {
+    private static final long serialVersionUID = 7702358849141285906L;
+    private long queueDelayTargetInMilliseconds;
+    private boolean overloaded;
+    private long numberOfShedProcessings;
+    private long queueDelayP50InMilliseconds;
+    private long queueDelayP90InMilliseconds;
+    private long queueDelayP99InMilliseconds;
+    private long maxQueueDelayInMilliseconds;
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus#getQueueDelayTargetInMilliseconds()
+     */
+    @Override
+    public long getQueueDelayTargetInMilliseconds() {
+        return queueDelayTargetInMilliseconds;
+    }
+
+
+    /**
+     * Set the target of the queue delay
+     *
+     * @param queueDelayTargetInMilliseconds the target of the queue delay in milliseconds
+     */
+    public void setQueueDelayTargetInMilliseconds(long queueDelayTargetInMilliseconds) {
+        this.queueDelayTargetInMilliseconds = queueDelayTargetInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus#isOverloaded()
+     */
+    @Override
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+
+    /**
+     * Set the overloaded flag
+     *
+     * @param overloaded true if the engine is overloaded
+     */
+    public void setOverloaded(boolean overloaded) {
+        this.overloaded = overloaded;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus#getNumberOfShedProcessings()
+     */
+    @Override
+    public long getNumberOfShedProcessings() {
+        return numberOfShedProcessings;
+    }
+
+
+    /**
+     * Set the number of shed processings
+     *
+     * @param numberOfShedProcessings the number of shed processings
+     */
+    public void setNumberOfShedProcessings(long numberOfShedProcessings) {
+        this.numberOfShedProcessings = numberOfShedProcessings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus#getQueueDelayP50InMilliseconds()
+     */
+    @Override
+    public long getQueueDelayP50InMilliseconds() {
+        return queueDelayP50InMilliseconds;
+    }
+
+
+    /**
+     * Set the 50th percentile of the queue delay
+     *
+     * @param queueDelayP50InMilliseconds the 50th percentile of the queue delay in milliseconds
+     */
+    public void setQueueDelayP50InMilliseconds(long queueDelayP50InMilliseconds) {
+        this.queueDelayP50InMilliseconds = queueDelayP50InMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus#getQueueDelayP90InMilliseconds()
+     */
+    @Override
+    public long getQueueDelayP90InMilliseconds() {
+        return queueDelayP90InMilliseconds;
+    }
+
+
+    /**
+     * Set the 90th percentile of the queue delay
+     *
+     * @param queueDelayP90InMilliseconds the 90th percentile of the queue delay in milliseconds
+     */
+    public void setQueueDelayP90InMilliseconds(long queueDelayP90InMilliseconds) {
+        this.queueDelayP90InMilliseconds = queueDelayP90InMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus#getQueueDelayP99InMilliseconds()
+     */
+    @Override
+    public long getQueueDelayP99InMilliseconds() {
+        return queueDelayP99InMilliseconds;
+    }
+
+
+    /**
+     * Set the 99th percentile of the queue delay
+     *
+     * @param queueDelayP99InMilliseconds the 99th percentile of the queue delay in milliseconds
+     */
+    public void setQueueDelayP99InMilliseconds(long queueDelayP99InMilliseconds) {
+        this.queueDelayP99InMilliseconds = queueDelayP99InMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus#getMaxQueueDelayInMilliseconds()
+     */
+    @Override
+    public long getMaxQueueDelayInMilliseconds() {
+        return maxQueueDelayInMilliseconds;
+    }
+
+
+    /**
+     * Set the max queue delay
+     *
+     * @param maxQueueDelayInMilliseconds the max queue delay in milliseconds
+     */
+    public void setMaxQueueDelayInMilliseconds(long maxQueueDelayInMilliseconds) {
+        this.maxQueueDelayInMilliseconds = maxQueueDelayInMilliseconds;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxQueueDelayInMilliseconds, numberOfShedProcessings, overloaded, queueDelayP50InMilliseconds, queueDelayP90InMilliseconds, queueDelayP99InMilliseconds, queueDelayTargetInMilliseconds);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingLoadSheddingStatus other = (ProcessingLoadSheddingStatus) obj;
+        return maxQueueDelayInMilliseconds == other.maxQueueDelayInMilliseconds
+                && numberOfShedProcessings == other.numberOfShedProcessings
+                && overloaded == other.overloaded
+                && queueDelayP50InMilliseconds == other.queueDelayP50InMilliseconds
+                && queueDelayP90InMilliseconds == other.queueDelayP90InMilliseconds
+                && queueDelayP99InMilliseconds == other.queueDelayP99InMilliseconds
+                && queueDelayTargetInMilliseconds == other.queueDelayTargetInMilliseconds;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingLoadSheddingStatus [queueDelayTargetInMilliseconds=" + queueDelayTargetInMilliseconds
+                + ", overloaded=" + overloaded + ", numberOfShedProcessings=" + numberOfShedProcessings + ", queueDelayP50InMilliseconds=" + queueDelayP50InMilliseconds
+                + ", queueDelayP90InMilliseconds=" + queueDelayP90InMilliseconds + ", queueDelayP99InMilliseconds=" + queueDelayP99InMilliseconds
+                + ", maxQueueDelayInMilliseconds=" + maxQueueDelayInMilliseconds + "]";
+    }
+}
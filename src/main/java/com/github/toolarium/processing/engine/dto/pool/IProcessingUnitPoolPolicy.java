@@ -0,0 +1,32 @@
+/*
+ * IProcessingUnitPoolPolicy.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.pool;
+
+
+/**
+ * Defines the instance pool of a processing unit class: the idle instances are reused by the next processings instead of creating a new 
+ * instance for every processing. The min number of idle instances are created at registration (warm start). A pooled processing 
+ * unit has to reset its state in its releaseResource, it is called after every processing.
+ *
+ * @author patrick
+ */
+public interface IProcessingUnitPoolPolicy {
+
+    /**
+     * Get the number of instances which are created at registration
+     *
+     * @return the min number of idle instances
+     */
+    int getMinNumberOfIdleInstances();
+
+
+    /**
+     * Get the max number of idle instances which are kept for reuse, a released instance above is dropped
+     *
+     * @return the max number of idle instances
+     */
+    int getMaxNumberOfIdleInstances();
+}
@@ -0,0 +1,120 @@
+/*
+ * ProcessingUnitPoolPolicy.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.pool;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingUnitPoolPolicy}.
+ *
+ * @author patrick
+ */
+public class ProcessingUnitPoolPolicy implements IProcessingUnitPoolPolicy, Serializable {
+    private static final long serialVersionUID = -4607391262846163215L;
+    private int minNumberOfIdleInstances;
+    private int maxNumberOfIdleInstances;
+
+
+    /**
+     * Constructor for ProcessingUnitPoolPolicy: no warm start and up to the number of available processors idle instances.
+     */
+    public ProcessingUnitPoolPolicy() {
+        this(0, Runtime.getRuntime().availableProcessors());
+    }
+
+
+    /**
+     * Constructor for ProcessingUnitPoolPolicy
+     *
+     * @param minNumberOfIdleInstances the number of instances which are created at registration
+     * @param maxNumberOfIdleInstances the max number of idle instances which are kept for reuse
+     */
+    public ProcessingUnitPoolPolicy(int minNumberOfIdleInstances, int maxNumberOfIdleInstances) {
+        this.minNumberOfIdleInstances = minNumberOfIdleInstances;
+        this.maxNumberOfIdleInstances = maxNumberOfIdleInstances;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.pool.IProcessingUnitPoolPolicy#getMinNumberOfIdleInstances()
+     */
+    @Override
+    public int getMinNumberOfIdleInstances() {
+        return minNumberOfIdleInstances;
+    }
+
+
+    /**
+     * Set the number of instances which are created at registration
+     *
+     * @param minNumberOfIdleInstances the min number of idle instances
+     */
+    public void setMinNumberOfIdleInstances(int minNumberOfIdleInstances) {
+        this.minNumberOfIdleInstances = minNumberOfIdleInstances;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.pool.IProcessingUnitPoolPolicy#getMaxNumberOfIdleInstances()
+     */
+    @Override
+    public int getMaxNumberOfIdleInstances() {
+        return maxNumberOfIdleInstances;
+    }
+
+
+    /**
+     * Set the max number of idle instances which are kept for reuse
+     *
+     * @param maxNumberOfIdleInstances the max number of idle instances
+     */
+    public void setMaxNumberOfIdleInstances(int maxNumberOfIdleInstances) {
+        this.maxNumberOfIdleInstances = maxNumberOfIdleInstances;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxNumberOfIdleInstances, minNumberOfIdleInstances);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingUnitPoolPolicy other = (ProcessingUnitPoolPolicy) obj;
+        return maxNumberOfIdleInstances == other.maxNumberOfIdleInstances
+                && minNumberOfIdleInstances == other.minNumberOfIdleInstances;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingUnitPoolPolicy [minNumberOfIdleInstances=" + minNumberOfIdleInstances + ", maxNumberOfIdleInstances=" + maxNumberOfIdleInstances + "]";
+    }
+}
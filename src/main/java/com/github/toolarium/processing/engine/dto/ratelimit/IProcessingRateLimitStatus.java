@@ -0,0 +1,62 @@
+/*
+ * IProcessingRateLimitStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.ratelimit;
+
+
+/**
+ * Defines the status of a rate limit: a token bucket which limits the number of processing unit calls (steps) per second.
+ *
+ * @author patrick
+ */
+public interface IProcessingRateLimitStatus {
+
+    /**
+     * Get the scope of the rate limit
+     *
+     * @return the scope
+     */
+    ProcessingRateLimitScope getScope();
+
+
+    /**
+     * Get the name within the scope: the processing unit class name, the tenant or the id of the processing
+     *
+     * @return the name or null in case of the global scope
+     */
+    String getName();
+
+
+    /**
+     * Get the max number of processing unit calls per second
+     *
+     * @return the max number of calls per second
+     */
+    long getMaxNumberOfCallsPerSecond();
+
+
+    /**
+     * Get the number of processing unit calls which passed the rate limit
+     *
+     * @return the number of calls
+     */
+    long getNumberOfCalls();
+
+
+    /**
+     * Get the number of processing unit calls which had to wait for a token
+     *
+     * @return the number of throttled calls
+     */
+    long getNumberOfThrottledCalls();
+
+
+    /**
+     * Get the total time the processing unit calls had to wait for a token
+     *
+     * @return the throttle time in milliseconds
+     */
+    long getThrottleTimeInMilliseconds();
+}
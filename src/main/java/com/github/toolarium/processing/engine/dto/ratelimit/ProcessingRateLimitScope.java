@@ -0,0 +1,27 @@
+/*
+ * ProcessingRateLimitScope.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.ratelimit;
+
+
+/**
+ * Defines the scope of a rate limit. A processing unit call has to pass the rate limits of all scopes.
+ *  
+ * @author patrick
+ */
+public enum ProcessingRateLimitScope {
+    
+    /** The rate limit over all processings of the processing engine. */
+    GLOBAL,
+    
+    /** The rate limit over all processings of a processing unit class. */
+    PROCESSING_UNIT,
+    
+    /** The rate limit over all processings of a tenant. */
+    TENANT,
+    
+    /** The rate limit of one processing (execution), incl. all its partitions. */
+    PROCESSING
+}
@@ -0,0 +1,186 @@
+/*
+ * ProcessingRateLimitStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.ratelimit;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingRateLimitStatus}.
+ *
+ * @author patrick
+ */
+public class ProcessingRateLimitStatus implements IProcessingRateLimitStatus, Serializable {
+    private static final long serialVersionUID = -3120944757127463308L;
+    private ProcessingRateLimitScope scope;
+    private String name;
+    private long maxNumberOfCallsPerSecond;
+    private long numberOfCalls;
+    private long numberOfThrottledCalls;
+    private long throttleTimeInMilliseconds;
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus#getScope()
+     */
+    @Override
+    public ProcessingRateLimitScope getScope() {
+        return scope;
+    }
+
+
+    /**
+     * Set the scope
+     *
+     * @param scope the scope
+     */
+    public void setScope(ProcessingRateLimitScope scope) {
+        this.scope = scope;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus#getName()
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Set the name
+     *
+     * @param name the name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus#getMaxNumberOfCallsPerSecond()
+     */
+    @Override
+    public long getMaxNumberOfCallsPerSecond() {
+        return maxNumberOfCallsPerSecond;
+    }
+
+
+    /**
+     * Set the max number of calls per second
+     *
+     * @param maxNumberOfCallsPerSecond the max number of calls per second
+     */
+    public void setMaxNumberOfCallsPerSecond(long maxNumberOfCallsPerSecond) {
+        this.maxNumberOfCallsPerSecond = maxNumberOfCallsPerSecond;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus#getNumberOfCalls()
+     */
+    @Override
+    public long getNumberOfCalls() {
+        return numberOfCalls;
+    }
+
+
+    /**
+     * Set the number of calls
+     *
+     * @param numberOfCalls the number of calls
+     */
+    public void setNumberOfCalls(long numberOfCalls) {
+        this.numberOfCalls = numberOfCalls;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus#getNumberOfThrottledCalls()
+     */
+    @Override
+    public long getNumberOfThrottledCalls() {
+        return numberOfThrottledCalls;
+    }
+
+
+    /**
+     * Set the number of throttled calls
+     *
+     * @param numberOfThrottledCalls the number of throttled calls
+     */
+    public void setNumberOfThrottledCalls(long numberOfThrottledCalls) {
+        this.numberOfThrottledCalls = numberOfThrottledCalls;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus#getThrottleTimeInMilliseconds()
+     */
+    @Override
+    public long getThrottleTimeInMilliseconds() {
+        return throttleTimeInMilliseconds;
+    }
+
+
+    /**
+     * Set the throttle time in milliseconds
+     *
+     * @param throttleTimeInMilliseconds the throttle time in milliseconds
+     */
+    public void setThrottleTimeInMilliseconds(long throttleTimeInMilliseconds) {
+        this.throttleTimeInMilliseconds = throttleTimeInMilliseconds;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxNumberOfCallsPerSecond, name, numberOfCalls, numberOfThrottledCalls, scope, throttleTimeInMilliseconds);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingRateLimitStatus other = (ProcessingRateLimitStatus) obj;
+        return maxNumberOfCallsPerSecond == other.maxNumberOfCallsPerSecond
+                && Objects.equals(name, other.name)
+                && numberOfCalls == other.numberOfCalls
+                && numberOfThrottledCalls == other.numberOfThrottledCalls
+                && Objects.equals(scope, other.scope)
+                && throttleTimeInMilliseconds == other.throttleTimeInMilliseconds;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingRateLimitStatus [scope=" + scope + ", name=" + name + ", maxNumberOfCallsPerSecond=" + maxNumberOfCallsPerSecond
+                + ", numberOfCalls=" + numberOfCalls + ", numberOfThrottledCalls=" + numberOfThrottledCalls
+                + ", throttleTimeInMilliseconds=" + throttleTimeInMilliseconds + "]";
+    }
+}
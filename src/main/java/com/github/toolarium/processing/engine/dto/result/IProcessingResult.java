@@ -71,6 +71,14 @@ public interface IProcessingResult {
      * @return true if it is aborted
      */
     boolean isAborted();
+
+
+    /**
+     * True if the processing was not ended within its timeout. Depending on the timeout policy it is aborted or suspended.
+     *
+     * @return true if it is timed out
+     */
+    boolean isTimedOut();
     
 
     /**
@@ -31,6 +31,7 @@ public class ProcessingResult implements IProcessingResult, Serializable {
     private int progress;
     private ProcessingRuntimeStatus processingRuntimeStatus;
     private boolean isAborted;
+    private boolean isTimedOut;
     private List<String> statusMessageList;
     private IProcessingStatistic processingStatistic;
 
@@ -263,6 +264,25 @@ public class ProcessingResult implements IProcessingResult, Serializable {
     }
 
     
+    /**
+     * @see com.github.toolarium.processing.engine.dto.result.IProcessingResult#isTimedOut()
+     */
+    @Override
+    public boolean isTimedOut() {
+        return isTimedOut;
+    }
+
+    
+    /**
+     * Set is timed out
+     *
+     * @param isTimedOut the true if it is timed out
+     */
+    public void setIsTimedOut(boolean isTimedOut) {
+        this.isTimedOut = isTimedOut;
+    }
+
+    
     /**
      * @see com.github.toolarium.processing.engine.dto.result.IProcessingResult#getStatusMessageList()
      */
@@ -306,7 +326,7 @@ public class ProcessingResult implements IProcessingResult, Serializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(durationInMilliseconds, id, isAborted, name, numberOfFailedUnits, numberOfProcessedUnits,
+        return Objects.hash(durationInMilliseconds, id, isAborted, isTimedOut, name, numberOfFailedUnits, numberOfProcessedUnits,
                 numberOfSuccessfulUnits, processingRuntimeStatus, processingStatistic, processingUnitClassname,
                 progress, startTimestamp, statusMessageList, stopTimestamp);
     }
@@ -331,7 +351,7 @@ public class ProcessingResult implements IProcessingResult, Serializable {
         
         ProcessingResult other = (ProcessingResult) obj;
         return durationInMilliseconds == other.durationInMilliseconds && Objects.equals(id, other.id)
-                && isAborted == other.isAborted && Objects.equals(name, other.name)
+                && isAborted == other.isAborted && isTimedOut == other.isTimedOut && Objects.equals(name, other.name)
                 && numberOfFailedUnits == other.numberOfFailedUnits
                 && numberOfProcessedUnits == other.numberOfProcessedUnits
                 && numberOfSuccessfulUnits == other.numberOfSuccessfulUnits
@@ -354,7 +374,7 @@ public class ProcessingResult implements IProcessingResult, Serializable {
                 + ", durationInMilliseconds=" + durationInMilliseconds + ", numberOfProcessedUnits="
                 + numberOfProcessedUnits + ", numberOfSuccessfulUnits=" + numberOfSuccessfulUnits
                 + ", numberOfFailedUnits=" + numberOfFailedUnits + ", progress=" + progress
-                + ", processingRuntimeStatus=" + processingRuntimeStatus + ", isAborted=" + isAborted
+                + ", processingRuntimeStatus=" + processingRuntimeStatus + ", isAborted=" + isAborted + ", isTimedOut=" + isTimedOut
                 + ", statusMessageList=" + statusMessageList + ", processingStatistic=" + processingStatistic + "]";
     }
 }
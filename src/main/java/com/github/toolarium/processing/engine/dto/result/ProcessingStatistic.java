@@ -0,0 +1,150 @@
+/*
+ * ProcessingStatistic.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.result;
+
+import com.github.toolarium.common.statistic.StatisticCounter;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * Implements the {@link IProcessingStatistic}. It is used to merge the statistic of several processings.
+ *
+ * @author patrick
+ */
+public class ProcessingStatistic implements IProcessingStatistic, Serializable {
+    private static final long serialVersionUID = 4385937502853021757L;
+    private Map<String, StatisticCounter> statisticMap;
+
+
+    /**
+     * Constructor for ProcessingStatistic
+     */
+    public ProcessingStatistic() {
+        statisticMap = new LinkedHashMap<String, StatisticCounter>();
+    }
+
+
+    /**
+     * Add a processing statistic
+     *
+     * @param processingStatistic the processing statistic to add
+     * @return this instance
+     */
+    public ProcessingStatistic add(IProcessingStatistic processingStatistic) {
+        if (processingStatistic == null || processingStatistic.isEmpty()) {
+            return this;
+        }
+
+        for (String key : processingStatistic.keySet()) {
+            add(key, processingStatistic.get(key));
+        }
+
+        return this;
+    }
+
+
+    /**
+     * Add a statistic counter
+     *
+     * @param key the key
+     * @param statisticCounter the statistic counter to add
+     * @return this instance
+     */
+    public ProcessingStatistic add(String key, StatisticCounter statisticCounter) {
+        if (key == null || statisticCounter == null) {
+            return this;
+        }
+
+        StatisticCounter counter = statisticMap.get(key);
+        if (counter == null) {
+            counter = new StatisticCounter();
+            statisticMap.put(key, counter);
+        }
+
+        counter.add(statisticCounter);
+        return this;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#keySet()
+     */
+    @Override
+    public Set<String> keySet() {
+        return statisticMap.keySet();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#hasKey(java.lang.String)
+     */
+    @Override
+    public boolean hasKey(String key) {
+        return statisticMap.containsKey(key);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#get(java.lang.String)
+     */
+    @Override
+    public StatisticCounter get(String key) {
+        return statisticMap.get(key);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#isEmpty()
+     */
+    @Override
+    public boolean isEmpty() {
+        return statisticMap.isEmpty();
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(statisticMap);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingStatistic other = (ProcessingStatistic) obj;
+        return Objects.equals(statisticMap, other.statisticMap);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingStatistic [statisticMap=" + statisticMap + "]";
+    }
+}
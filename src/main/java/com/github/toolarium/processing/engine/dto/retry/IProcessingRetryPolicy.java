@@ -0,0 +1,74 @@
+/*
+ * IProcessingRetryPolicy.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.retry;
+
+import java.util.List;
+
+
+/**
+ * Defines the retry policy of an aborted processing: the max number of attempts, the exponential backoff with jitter and
+ * the classification of the retryable errors. The errors are classified by the class names of the exception or its causes incl.
+ * their super classes.
+ *
+ * @author patrick
+ */
+public interface IProcessingRetryPolicy {
+
+    /**
+     * Get the max number of attempts incl. the first execution
+     *
+     * @return the max number of attempts
+     */
+    int getMaxNumberOfAttempts();
+
+
+    /**
+     * Get the backoff before the first retry
+     *
+     * @return the initial backoff in milliseconds
+     */
+    long getInitialBackoffInMilliseconds();
+
+
+    /**
+     * Get the max backoff between two attempts
+     *
+     * @return the max backoff in milliseconds
+     */
+    long getMaxBackoffInMilliseconds();
+
+
+    /**
+     * Get the multiplier of the backoff from one retry to the next
+     *
+     * @return the backoff multiplier
+     */
+    double getBackoffMultiplier();
+
+
+    /**
+     * Get the jitter: the part of the backoff which is randomly reduced, e.g. 0.5 waits between 50% and 100% of the backoff
+     *
+     * @return the jitter between 0 and 1
+     */
+    double getJitter();
+
+
+    /**
+     * Get the class names of the retryable exceptions
+     *
+     * @return the retryable exception class names, an empty list retries all errors
+     */
+    List<String> getRetryableExceptionList();
+
+
+    /**
+     * Get the class names of the exceptions which are never retried, they win over the retryable exceptions
+     *
+     * @return the non retryable exception class names
+     */
+    List<String> getNonRetryableExceptionList();
+}
@@ -0,0 +1,235 @@
+/*
+ * ProcessingRetryPolicy.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.retry;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingRetryPolicy}.
+ *
+ * @author patrick
+ */
+public class ProcessingRetryPolicy implements IProcessingRetryPolicy, Serializable {
+    private static final long serialVersionUID = -6622478186357312970L;
+    private int maxNumberOfAttempts;
+    private long initialBackoffInMilliseconds;
+    private long maxBackoffInMilliseconds;
+    private double backoffMultiplier;
+    private double jitter;
+    private List<String> retryableExceptionList;
+    private List<String> nonRetryableExceptionList;
+
+
+    /**
+     * Constructor for ProcessingRetryPolicy: 3 attempts, an initial backoff of 100 milliseconds which is doubled up to 30
+     * seconds and a jitter of 0.5; all errors are retried.
+     */
+    public ProcessingRetryPolicy() {
+        this(3, 100L);
+    }
+
+
+    /**
+     * Constructor for ProcessingRetryPolicy
+     *
+     * @param maxNumberOfAttempts the max number of attempts incl. the first execution
+     * @param initialBackoffInMilliseconds the backoff before the first retry in milliseconds
+     */
+    public ProcessingRetryPolicy(int maxNumberOfAttempts, long initialBackoffInMilliseconds) {
+        this.maxNumberOfAttempts = maxNumberOfAttempts;
+        this.initialBackoffInMilliseconds = initialBackoffInMilliseconds;
+        this.maxBackoffInMilliseconds = 30_000L;
+        this.backoffMultiplier = 2.0;
+        this.jitter = 0.5;
+        this.retryableExceptionList = new ArrayList<String>();
+        this.nonRetryableExceptionList = new ArrayList<String>();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy#getMaxNumberOfAttempts()
+     */
+    @Override
+    public int getMaxNumberOfAttempts() {
+        return maxNumberOfAttempts;
+    }
+
+
+    /**
+     * Set the max number of attempts incl. the first execution
+     *
+     * @param maxNumberOfAttempts the max number of attempts
+     */
+    public void setMaxNumberOfAttempts(int maxNumberOfAttempts) {
+        this.maxNumberOfAttempts = maxNumberOfAttempts;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy#getInitialBackoffInMilliseconds()
+     */
+    @Override
+    public long getInitialBackoffInMilliseconds() {
+        return initialBackoffInMilliseconds;
+    }
+
+
+    /**
+     * Set the backoff before the first retry
+     *
+     * @param initialBackoffInMilliseconds the initial backoff in milliseconds
+     */
+    public void setInitialBackoffInMilliseconds(long initialBackoffInMilliseconds) {
+        this.initialBackoffInMilliseconds = initialBackoffInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy#getMaxBackoffInMilliseconds()
+     */
+    @Override
+    public long getMaxBackoffInMilliseconds() {
+        return maxBackoffInMilliseconds;
+    }
+
+
+    /**
+     * Set the max backoff between two attempts
+     *
+     * @param maxBackoffInMilliseconds the max backoff in milliseconds
+     */
+    public void setMaxBackoffInMilliseconds(long maxBackoffInMilliseconds) {
+        this.maxBackoffInMilliseconds = maxBackoffInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy#getBackoffMultiplier()
+     */
+    @Override
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+
+    /**
+     * Set the multiplier of the backoff from one retry to the next
+     *
+     * @param backoffMultiplier the backoff multiplier
+     */
+    public void setBackoffMultiplier(double backoffMultiplier) {
+        this.backoffMultiplier = backoffMultiplier;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy#getJitter()
+     */
+    @Override
+    public double getJitter() {
+        return jitter;
+    }
+
+
+    /**
+     * Set the jitter
+     *
+     * @param jitter the jitter between 0 and 1
+     */
+    public void setJitter(double jitter) {
+        this.jitter = jitter;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy#getRetryableExceptionList()
+     */
+    @Override
+    public List<String> getRetryableExceptionList() {
+        return retryableExceptionList;
+    }
+
+
+    /**
+     * Set the class names of the retryable exceptions
+     *
+     * @param retryableExceptionList the retryable exception class names
+     */
+    public void setRetryableExceptionList(List<String> retryableExceptionList) {
+        this.retryableExceptionList = retryableExceptionList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy#getNonRetryableExceptionList()
+     */
+    @Override
+    public List<String> getNonRetryableExceptionList() {
+        return nonRetryableExceptionList;
+    }
+
+
+    /**
+     * Set the class names of the exceptions which are never retried
+     *
+     * @param nonRetryableExceptionList the non retryable exception class names
+     */
+    public void setNonRetryableExceptionList(List<String> nonRetryableExceptionList) {
+        this.nonRetryableExceptionList = nonRetryableExceptionList;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(backoffMultiplier, initialBackoffInMilliseconds, jitter, maxBackoffInMilliseconds, maxNumberOfAttempts, nonRetryableExceptionList, retryableExceptionList);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingRetryPolicy other = (ProcessingRetryPolicy) obj;
+        return Double.doubleToLongBits(backoffMultiplier) == Double.doubleToLongBits(other.backoffMultiplier)
+                && initialBackoffInMilliseconds == other.initialBackoffInMilliseconds
+                && Double.doubleToLongBits(jitter) == Double.doubleToLongBits(other.jitter)
+                && maxBackoffInMilliseconds == other.maxBackoffInMilliseconds
+                && maxNumberOfAttempts == other.maxNumberOfAttempts
+                && Objects.equals(nonRetryableExceptionList, other.nonRetryableExceptionList)
+                && Objects.equals(retryableExceptionList, other.retryableExceptionList);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingRetryPolicy [maxNumberOfAttempts=" + maxNumberOfAttempts + ", initialBackoffInMilliseconds=" + initialBackoffInMilliseconds
+                + ", maxBackoffInMilliseconds=" + maxBackoffInMilliseconds + ", backoffMultiplier=" + backoffMultiplier
+                + ", jitter=" + jitter + ", retryableExceptionList=" + retryableExceptionList + ", nonRetryableExceptionList=" + nonRetryableExceptionList + "]";
+    }
+}
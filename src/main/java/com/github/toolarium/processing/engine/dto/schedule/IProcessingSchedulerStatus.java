@@ -0,0 +1,62 @@
+/*
+ * IProcessingSchedulerStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.schedule;
+
+
+/**
+ * Defines the status of the scheduler: the pending schedules, the started processings and the firing jitter.
+ *
+ * @author patrick
+ */
+public interface IProcessingSchedulerStatus {
+
+    /**
+     * Get the number of pending schedules
+     *
+     * @return the number of pending schedules
+     */
+    int getNumberOfSchedules();
+
+
+    /**
+     * Get the number of processings which were started by a schedule
+     *
+     * @return the number of executions
+     */
+    long getNumberOfExecutions();
+
+
+    /**
+     * Get the number of skipped executions: missed execution times of a fixed rate schedule or rejected processings
+     *
+     * @return the number of skipped executions
+     */
+    long getNumberOfSkippedExecutions();
+
+
+    /**
+     * Get the median of the firing jitter (delay between the execution time and the firing) of the recent executions
+     *
+     * @return the 50th percentile of the firing jitter in microseconds
+     */
+    long getFiringJitterP50InMicroseconds();
+
+
+    /**
+     * Get the 99th percentile of the firing jitter of the recent executions
+     *
+     * @return the 99th percentile of the firing jitter in microseconds
+     */
+    long getFiringJitterP99InMicroseconds();
+
+
+    /**
+     * Get the max firing jitter of the recent executions
+     *
+     * @return the max firing jitter in microseconds
+     */
+    long getMaxFiringJitterInMicroseconds();
+}
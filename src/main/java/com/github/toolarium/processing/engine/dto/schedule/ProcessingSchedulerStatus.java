@@ -0,0 +1,186 @@
+/*
+ * ProcessingSchedulerStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.schedule;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingSchedulerStatus}.
+ *
+ * @author patrick
+ */
+public class ProcessingSchedulerStatus implements IProcessingSchedulerStatus, Serializable {
+    private static final long serialVersionUID = -3184503337129755014L;
+    private int numberOfSchedules;
+    private long numberOfExecutions;
+    private long numberOfSkippedExecutions;
+    private long firingJitterP50InMicroseconds;
+    private long firingJitterP99InMicroseconds;
+    private long maxFiringJitterInMicroseconds;
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus#getNumberOfSchedules()
+     */
+    @Override
+    public int getNumberOfSchedules() {
+        return numberOfSchedules;
+    }
+
+
+    /**
+     * Set the number of pending schedules
+     *
+     * @param numberOfSchedules the number of pending schedules
+     */
+    public void setNumberOfSchedules(int numberOfSchedules) {
+        this.numberOfSchedules = numberOfSchedules;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus#getNumberOfExecutions()
+     */
+    @Override
+    public long getNumberOfExecutions() {
+        return numberOfExecutions;
+    }
+
+
+    /**
+     * Set the number of executions
+     *
+     * @param numberOfExecutions the number of executions
+     */
+    public void setNumberOfExecutions(long numberOfExecutions) {
+        this.numberOfExecutions = numberOfExecutions;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus#getNumberOfSkippedExecutions()
+     */
+    @Override
+    public long getNumberOfSkippedExecutions() {
+        return numberOfSkippedExecutions;
+    }
+
+
+    /**
+     * Set the number of skipped executions
+     *
+     * @param numberOfSkippedExecutions the number of skipped executions
+     */
+    public void setNumberOfSkippedExecutions(long numberOfSkippedExecutions) {
+        this.numberOfSkippedExecutions = numberOfSkippedExecutions;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus#getFiringJitterP50InMicroseconds()
+     */
+    @Override
+    public long getFiringJitterP50InMicroseconds() {
+        return firingJitterP50InMicroseconds;
+    }
+
+
+    /**
+     * Set the 50th percentile of the firing jitter
+     *
+     * @param firingJitterP50InMicroseconds the 50th percentile of the firing jitter in microseconds
+     */
+    public void setFiringJitterP50InMicroseconds(long firingJitterP50InMicroseconds) {
+        this.firingJitterP50InMicroseconds = firingJitterP50InMicroseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus#getFiringJitterP99InMicroseconds()
+     */
+    @Override
+    public long getFiringJitterP99InMicroseconds() {
+        return firingJitterP99InMicroseconds;
+    }
+
+
+    /**
+     * Set the 99th percentile of the firing jitter
+     *
+     * @param firingJitterP99InMicroseconds the 99th percentile of the firing jitter in microseconds
+     */
+    public void setFiringJitterP99InMicroseconds(long firingJitterP99InMicroseconds) {
+        this.firingJitterP99InMicroseconds = firingJitterP99InMicroseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus#getMaxFiringJitterInMicroseconds()
+     */
+    @Override
+    public long getMaxFiringJitterInMicroseconds() {
+        return maxFiringJitterInMicroseconds;
+    }
+
+
+    /**
+     * Set the max firing jitter
+     *
+     * @param maxFiringJitterInMicroseconds the max firing jitter in microseconds
+     */
+    public void setMaxFiringJitterInMicroseconds(long maxFiringJitterInMicroseconds) {
+        this.maxFiringJitterInMicroseconds = maxFiringJitterInMicroseconds;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(firingJitterP50InMicroseconds, firingJitterP99InMicroseconds, maxFiringJitterInMicroseconds, numberOfExecutions, numberOfSchedules, numberOfSkippedExecutions);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingSchedulerStatus other = (ProcessingSchedulerStatus) obj;
+        return firingJitterP50InMicroseconds == other.firingJitterP50InMicroseconds
+                && firingJitterP99InMicroseconds == other.firingJitterP99InMicroseconds
+                && maxFiringJitterInMicroseconds == other.maxFiringJitterInMicroseconds
+                && numberOfExecutions == other.numberOfExecutions
+                && numberOfSchedules == other.numberOfSchedules
+                && numberOfSkippedExecutions == other.numberOfSkippedExecutions;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingSchedulerStatus [numberOfSchedules=" + numberOfSchedules + ", numberOfExecutions=" + numberOfExecutions
+                + ", numberOfSkippedExecutions=" + numberOfSkippedExecutions + ", firingJitterP50InMicroseconds=" + firingJitterP50InMicroseconds
+                + ", firingJitterP99InMicroseconds=" + firingJitterP99InMicroseconds + ", maxFiringJitterInMicroseconds=" + maxFiringJitterInMicroseconds + "]";
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * IProcessingTenantStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.tenant;
+
+
+/**
+ * Defines the status of a tenant: its share of the worker threads, the throughput and the wait time of its processings.
+ *
+ * @author patrick
+ */
+public interface IProcessingTenantStatus {
+
+    /**
+     * Get the tenant
+     *
+     * @return the tenant
+     */
+    String getTenant();
+
+
+    /**
+     * Get the weight of the tenant: its share of the worker threads in relation to the other tenants
+     *
+     * @return the weight
+     */
+    int getWeight();
+
+
+    /**
+     * Get the number of processings of the tenant which wait for a worker thread
+     *
+     * @return the number of queued processings
+     */
+    int getNumberOfQueuedProcessings();
+
+
+    /**
+     * Get the number of times a processing of the tenant got a worker thread (incl. time slices)
+     *
+     * @return the number of scheduled processings
+     */
+    long getNumberOfScheduledProcessings();
+
+
+    /**
+     * Get the average time a processing of the tenant waited for a worker thread
+     *
+     * @return the average wait time in milliseconds
+     */
+    double getAverageWaitTimeInMilliseconds();
+
+
+    /**
+     * Get the number of ended processings of the tenant
+     *
+     * @return the number of ended processings
+     */
+    long getNumberOfEndedProcessings();
+
+
+    /**
+     * Get the number of processed units of the ended processings of the tenant
+     *
+     * @return the number of processed units
+     */
+    long getNumberOfProcessedUnits();
+}
@@ -0,0 +1,207 @@
+/*
+ * ProcessingTenantStatus.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.dto.tenant;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Implements the {@link IProcessingTenantStatus}.
+ *
+ * @author patrick
+ */
+public class ProcessingTenantStatus implements IProcessingTenantStatus, Serializable {
+    private static final long serialVersionUID = -6627014817290365342L;
+    private String tenant;
+    private int weight;
+    private int numberOfQueuedProcessings;
+    private long numberOfScheduledProcessings;
+    private double averageWaitTimeInMilliseconds;
+    private long numberOfEndedProcessings;
+    private long numberOfProcessedUnits;
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus#getTenant()
+     */
+    @Override
+    public String getTenant() {
+        return tenant;
+    }
+
+
+    /**
+     * Set the tenant
+     *
+     * @param tenant the tenant
+     */
+    public void setTenant(String tenant) {
+        this.tenant = tenant;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus#getWeight()
+     */
+    @Override
+    public int getWeight() {
+        return weight;
+    }
+
+
+    /**
+     * Set the weight
+     *
+     * @param weight the weight
+     */
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus#getNumberOfQueuedProcessings()
+     */
+    @Override
+    public int getNumberOfQueuedProcessings() {
+        return numberOfQueuedProcessings;
+    }
+
+
+    /**
+     * Set the number of queued processings
+     *
+     * @param numberOfQueuedProcessings the number of queued processings
+     */
+    public void setNumberOfQueuedProcessings(int numberOfQueuedProcessings) {
+        this.numberOfQueuedProcessings = numberOfQueuedProcessings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus#getNumberOfScheduledProcessings()
+     */
+    @Override
+    public long getNumberOfScheduledProcessings() {
+        return numberOfScheduledProcessings;
+    }
+
+
+    /**
+     * Set the number of scheduled processings
+     *
+     * @param numberOfScheduledProcessings the number of scheduled processings
+     */
+    public void setNumberOfScheduledProcessings(long numberOfScheduledProcessings) {
+        this.numberOfScheduledProcessings = numberOfScheduledProcessings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus#getAverageWaitTimeInMilliseconds()
+     */
+    @Override
+    public double getAverageWaitTimeInMilliseconds() {
+        return averageWaitTimeInMilliseconds;
+    }
+
+
+    /**
+     * Set the average wait time in milliseconds
+     *
+     * @param averageWaitTimeInMilliseconds the average wait time in milliseconds
+     */
+    public void setAverageWaitTimeInMilliseconds(double averageWaitTimeInMilliseconds) {
+        this.averageWaitTimeInMilliseconds = averageWaitTimeInMilliseconds;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus#getNumberOfEndedProcessings()
+     */
+    @Override
+    public long getNumberOfEndedProcessings() {
+        return numberOfEndedProcessings;
+    }
+
+
+    /**
+     * Set the number of ended processings
+     *
+     * @param numberOfEndedProcessings the number of ended processings
+     */
+    public void setNumberOfEndedProcessings(long numberOfEndedProcessings) {
+        this.numberOfEndedProcessings = numberOfEndedProcessings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus#getNumberOfProcessedUnits()
+     */
+    @Override
+    public long getNumberOfProcessedUnits() {
+        return numberOfProcessedUnits;
+    }
+
+
+    /**
+     * Set the number of processed units
+     *
+     * @param numberOfProcessedUnits the number of processed units
+     */
+    public void setNumberOfProcessedUnits(long numberOfProcessedUnits) {
+        this.numberOfProcessedUnits = numberOfProcessedUnits;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(averageWaitTimeInMilliseconds, numberOfEndedProcessings, numberOfProcessedUnits, numberOfQueuedProcessings, numberOfScheduledProcessings, tenant, weight);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingTenantStatus other = (ProcessingTenantStatus) obj;
+        return Double.doubleToLongBits(averageWaitTimeInMilliseconds) == Double.doubleToLongBits(other.averageWaitTimeInMilliseconds)
+                && numberOfEndedProcessings == other.numberOfEndedProcessings
+                && numberOfProcessedUnits == other.numberOfProcessedUnits
+                && numberOfQueuedProcessings == other.numberOfQueuedProcessings
+                && numberOfScheduledProcessings == other.numberOfScheduledProcessings
+                && Objects.equals(tenant, other.tenant)
+                && weight == other.weight;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingTenantStatus [tenant=" + tenant + ", weight=" + weight + ", numberOfQueuedProcessings=" + numberOfQueuedProcessings
+                + ", numberOfScheduledProcessings=" + numberOfScheduledProcessings + ", averageWaitTimeInMilliseconds=" + averageWaitTimeInMilliseconds
+                + ", numberOfEndedProcessings=" + numberOfEndedProcessings + ", numberOfProcessedUnits=" + numberOfProcessedUnits + "]";
+    }
+}
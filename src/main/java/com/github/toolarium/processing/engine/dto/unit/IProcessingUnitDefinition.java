@@ -6,6 +6,8 @@
 package com.github.toolarium.processing.engine.dto.unit;
 
 import com.github.toolarium.processing.engine.dto.parameter.IParameterDefinition;
+import com.github.toolarium.processing.engine.dto.pool.IProcessingUnitPoolPolicy;
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
 import com.github.toolarium.processing.engine.exception.ValidationException;
 import com.github.toolarium.processing.unit.IProcessingUnit;
 import java.util.List;
@@ -41,4 +43,38 @@ public interface IProcessingUnitDefinition extends Comparable<IProcessingUnitDef
      * @return the parameter definition list
      */
     List<IParameterDefinition> getParameterDefinitionList();
+
+    
+    /**
+     * Get the max number of processings of this processing unit class which run at the same time. Further processings 
+     * wait in the own queue of the processing unit class (bulkhead), other processing unit classes are not affected.
+     *
+     * @return the max number of concurrent processings or 0 if it is not limited
+     */
+    int getMaxNumberOfConcurrentProcessings();
+
+    
+    /**
+     * Get the capacity of the queue where the processings of this processing unit class wait in case the max number of
+     * concurrent processings is reached. In case the queue is full further processings are rejected.
+     *
+     * @return the queue capacity
+     */
+    int getQueueCapacity();
+
+    
+    /**
+     * Get the retry policy of the processings of this processing unit class, a processing can have its own retry policy
+     *
+     * @return the retry policy or null if an aborted processing is not retried
+     */
+    IProcessingRetryPolicy getRetryPolicy();
+
+    
+    /**
+     * Get the instance pool policy of this processing unit class
+     *
+     * @return the pool policy or null if every processing creates a new instance
+     */
+    IProcessingUnitPoolPolicy getPoolPolicy();
 }
@@ -6,6 +6,8 @@
 package com.github.toolarium.processing.engine.dto.unit;
 
 import com.github.toolarium.processing.engine.dto.parameter.IParameterDefinition;
+import com.github.toolarium.processing.engine.dto.pool.IProcessingUnitPoolPolicy;
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
 import com.github.toolarium.processing.unit.IProcessingUnit;
 import java.io.Serializable;
 import java.util.List;
@@ -22,6 +24,10 @@ public class ProcessingUnitDefinition implements IProcessingUnitDefinition, Seri
     private String processingClassname;
     private Class<? extends IProcessingUnit> processingClass;
     private List<IParameterDefinition> parameterDefinitionList;
+    private int maxNumberOfConcurrentProcessings;
+    private int queueCapacity;
+    private IProcessingRetryPolicy retryPolicy;
+    private IProcessingUnitPoolPolicy poolPolicy;
 
     
     /**
@@ -40,6 +46,8 @@ public class ProcessingUnitDefinition implements IProcessingUnitDefinition, Seri
     public ProcessingUnitDefinition(Class<? extends IProcessingUnit> processingClass, List<IParameterDefinition> parameterDefinitionList) {
         setProcessingClass(processingClass);
         this.parameterDefinitionList = parameterDefinitionList;
+        this.maxNumberOfConcurrentProcessings = 0;
+        this.queueCapacity = 0;
     }
 
     
@@ -91,6 +99,82 @@ public class ProcessingUnitDefinition implements IProcessingUnitDefinition, Seri
     }
 
     
+    /**
+     * @see com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition#getMaxNumberOfConcurrentProcessings()
+     */
+    @Override
+    public int getMaxNumberOfConcurrentProcessings() {
+        return maxNumberOfConcurrentProcessings;
+    }
+
+    
+    /**
+     * Set the max number of concurrent processings
+     *
+     * @param maxNumberOfConcurrentProcessings the max number of concurrent processings or 0 if it is not limited
+     */
+    public void setMaxNumberOfConcurrentProcessings(int maxNumberOfConcurrentProcessings) {
+        this.maxNumberOfConcurrentProcessings = maxNumberOfConcurrentProcessings;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition#getQueueCapacity()
+     */
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    
+    /**
+     * Set the queue capacity
+     *
+     * @param queueCapacity the queue capacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition#getRetryPolicy()
+     */
+    @Override
+    public IProcessingRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    
+    /**
+     * Set the retry policy
+     *
+     * @param retryPolicy the retry policy or null
+     */
+    public void setRetryPolicy(IProcessingRetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition#getPoolPolicy()
+     */
+    @Override
+    public IProcessingUnitPoolPolicy getPoolPolicy() {
+        return poolPolicy;
+    }
+
+    
+    /**
+     * Set the instance pool policy
+     *
+     * @param poolPolicy the pool policy or null
+     */
+    public void setPoolPolicy(IProcessingUnitPoolPolicy poolPolicy) {
+        this.poolPolicy = poolPolicy;
+    }
+
+    
     /**
      * @see java.lang.Comparable#compareTo(java.lang.Object)
      */
@@ -105,7 +189,7 @@ public class ProcessingUnitDefinition implements IProcessingUnitDefinition, Seri
      */
     @Override
     public int hashCode() {
-        return Objects.hash(processingClassname, parameterDefinitionList);
+        return Objects.hash(processingClassname, parameterDefinitionList, maxNumberOfConcurrentProcessings, queueCapacity, retryPolicy, poolPolicy);
     }
 
 
@@ -128,7 +212,11 @@ public class ProcessingUnitDefinition implements IProcessingUnitDefinition, Seri
         
         ProcessingUnitDefinition other = (ProcessingUnitDefinition) obj;
         return Objects.equals(processingClassname, other.processingClassname)
-                && Objects.equals(parameterDefinitionList, other.parameterDefinitionList);
+                && Objects.equals(parameterDefinitionList, other.parameterDefinitionList)
+                && maxNumberOfConcurrentProcessings == other.maxNumberOfConcurrentProcessings
+                && queueCapacity == other.queueCapacity
+                && Objects.equals(retryPolicy, other.retryPolicy)
+                && Objects.equals(poolPolicy, other.poolPolicy);
     }
 
 
@@ -137,6 +225,7 @@ public class ProcessingUnitDefinition implements IProcessingUnitDefinition, Seri
      */
     @Override
     public String toString() {
-        return "ProcessingUnit [name=" + processingClassname + ", parameterDefinitionList=" + parameterDefinitionList + "]";
+        return "ProcessingUnit [name=" + processingClassname + ", parameterDefinitionList=" + parameterDefinitionList 
+                + ", maxNumberOfConcurrentProcessings=" + maxNumberOfConcurrentProcessings + ", queueCapacity=" + queueCapacity + ", retryPolicy=" + retryPolicy + ", poolPolicy=" + poolPolicy + "]";
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * ProcessingRejectedException.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.exception;
+
+import java.io.Serializable;
+
+/**
+ * Defines the exception in case a processing can't be accepted by the processing engine.
+ *
+ * @author patrick
+ */
+public class ProcessingRejectedException extends RuntimeException implements Serializable {
+    private static final long serialVersionUID = 6326137593419027744L;
+
+
+    /**
+     * Constructor for <code>ProcessingRejectedException</code>.
+     *
+     * @param message the message
+     */
+    public ProcessingRejectedException(String message) {
+        super(message);
+    }
+
+
+    /**
+     * Constructor for <code>ProcessingRejectedException</code>.
+     *
+     * @param message the message
+     * @param throwable the throwable
+     */
+    public ProcessingRejectedException(String message, Throwable throwable) {
+        super(message, throwable);
+    }
+}
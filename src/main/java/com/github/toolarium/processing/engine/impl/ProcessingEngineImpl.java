@@ -6,20 +6,48 @@
 package com.github.toolarium.processing.engine.impl;
 
 import com.github.toolarium.processing.engine.IProcessEngine;
+import com.github.toolarium.processing.engine.IProcessingChannelRegistry;
 import com.github.toolarium.processing.engine.IProcessingEngineStatus;
+import com.github.toolarium.processing.engine.IProcessingGroup;
+import com.github.toolarium.processing.engine.IProcessingHandle;
 import com.github.toolarium.processing.engine.IProcessingListener;
+import com.github.toolarium.processing.engine.IProcessingRateLimiter;
+import com.github.toolarium.processing.engine.IProcessingSchedule;
 import com.github.toolarium.processing.engine.IProcessingUnitRegistry;
+import com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.execution.IProcessingExecution;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingExecutionBuilder;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingUnitReference;
+import com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry;
+import com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition;
+import com.github.toolarium.processing.engine.exception.ProcessingRejectedException;
 import com.github.toolarium.processing.engine.exception.ValidationException;
 import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingExecuterPersistenceContainer;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingScheduleReference;
 import com.github.toolarium.processing.engine.impl.executer.impl.ProcessingExecuterImpl;
 import com.github.toolarium.processing.engine.impl.listener.ProcessingEngineListenerImpl;
 import com.github.toolarium.processing.engine.impl.registry.ProcessingUnitRegistry;
 import com.github.toolarium.processing.engine.impl.util.ProcessingPersistenceUtil;
+import com.github.toolarium.processing.unit.IProcessingUnit;
 import com.github.toolarium.processing.unit.IProcessingUnitContext;
 import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
 import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnable;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 /**
@@ -28,19 +56,33 @@ import java.util.List;
  * @author patrick
  */
 public class ProcessingEngineImpl implements IProcessEngine {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingEngineImpl.class);
     private String instanceName;
     private ProcessingExecuterImpl processingExecuter;
     private ProcessingEngineListenerImpl processingEngineListener;
+    private int persistenceCompressionThreshold;
     
     
     /**
      * Constructor for ProcessingEngineImpl
      */
     public ProcessingEngineImpl() {
+        this(new ProcessingEngineConfiguration());
+    }
+
+    
+    /**
+     * Constructor for ProcessingEngineImpl
+     * 
+     * @param processingEngineConfiguration the processing engine configuration
+     */
+    public ProcessingEngineImpl(IProcessingEngineConfiguration processingEngineConfiguration) {
         instanceName = "";
-        processingExecuter = new ProcessingExecuterImpl();
+        persistenceCompressionThreshold = Math.max(0, processingEngineConfiguration.getPersistenceCompressionThreshold());
+        processingExecuter = new ProcessingExecuterImpl(processingEngineConfiguration);
         processingEngineListener = new ProcessingEngineListenerImpl();
         processingExecuter.setProcessingExecuterListener(processingEngineListener);
+        processingExecuter.getProcessingScheduler().setProcessingScheduleConsumer(this::executeSchedule);
     }
 
 
@@ -50,7 +92,18 @@ public class ProcessingEngineImpl implements IProcessEngine {
      * @param persistedContent the persisted content
      */
     public ProcessingEngineImpl(byte[] persistedContent) {
-        this();
+        this(new ProcessingEngineConfiguration(), persistedContent);
+    }
+
+
+    /**
+     * Constructor for ProcessingEngineImpl
+     * 
+     * @param processingEngineConfiguration the processing engine configuration
+     * @param persistedContent the persisted content
+     */
+    public ProcessingEngineImpl(IProcessingEngineConfiguration processingEngineConfiguration, byte[] persistedContent) {
+        this(processingEngineConfiguration);
         
         if (persistedContent != null && persistedContent.length > 0) {
             execute(persistedContent);
@@ -89,29 +142,101 @@ public class ProcessingEngineImpl implements IProcessEngine {
     }
 
 
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#getProcessingChannelRegistry()
+     */
+    @Override
+    public IProcessingChannelRegistry getProcessingChannelRegistry() {
+        return processingExecuter.getProcessingChannelRegistry();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#getProcessingRateLimiter()
+     */
+    @Override
+    public IProcessingRateLimiter getProcessingRateLimiter() {
+        return processingExecuter.getProcessingRateLimiter();
+    }
+
+
     /**
      * @see com.github.toolarium.processing.engine.IProcessEngine#execute(java.lang.String, java.lang.String, java.lang.String, java.util.List)
      */
     @Override
-    public IProcessingUnitRunnable execute(String id, String name, String processingUnitClass, List<Parameter> parameterList) {
+    public IProcessingUnitRunnable execute(String id, String name, String processingUnitClass, List<Parameter> parameterList) throws ProcessingRejectedException {
         if (processingUnitClass == null || processingUnitClass.isBlank()) {
             throw new ValidationException("Invalid empty proccessing unit!");
         }
 
-        if (!getProcessingUnitRegistry().isRegistered(processingUnitClass)) {
-            throw new ValidationException("The referenced procssing unit " + processingUnitClass + " is not registered!");
-        }
+        final Class<? extends IProcessingUnit> clazz = getRegisteredProcessingUnitClass(processingUnitClass);
 
         // TODO:
         IProcessingUnitContext processingUnitContext = null;
         return processingExecuter.execute(id, 
                                           name, 
-                                          getProcessingUnitRegistry().getProcessingUnitList(processingUnitClass).getProcessingClass(), 
+                                          clazz, 
                                           parameterList, 
                                           processingUnitContext);
     }
 
 
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#execute(java.lang.String, java.lang.String, java.lang.String, java.util.List, int)
+     */
+    @Override
+    public List<IProcessingUnitRunnable> execute(String id, String name, String processingUnitClass, List<Parameter> parameterList, int numberOfPartitions) throws ProcessingRejectedException {
+        if (processingUnitClass == null || processingUnitClass.isBlank()) {
+            throw new ValidationException("Invalid empty proccessing unit!");
+        }
+
+        final Class<? extends IProcessingUnit> clazz = getRegisteredProcessingUnitClass(processingUnitClass);
+        if (numberOfPartitions < 1) {
+            throw new ValidationException("Invalid number of partitions: " + numberOfPartitions + "!");
+        }
+
+        IProcessingUnitContext processingUnitContext = null;
+        return processingExecuter.execute(new ProcessingExecutionBuilder().id(id)
+                                                                          .name(name)
+                                                                          .processingUnitClass(clazz)
+                                                                          .parameters(parameterList.toArray(Parameter[]::new))
+                                                                          .partitions(numberOfPartitions)
+                                                                          .build(),
+                                          processingUnitContext);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#execute(com.github.toolarium.processing.engine.dto.execution.ProcessingExecutionBuilder)
+     */
+    @Override
+    public IProcessingGroup execute(ProcessingExecutionBuilder processingExecutionBuilder) throws ProcessingRejectedException {
+        if (processingExecutionBuilder == null) {
+            throw new ValidationException("Invalid empty proccessing execution!");
+        }
+
+        final List<ProcessingUnitReference> processingUnitReferenceList;
+        try {
+            processingUnitReferenceList = processingExecutionBuilder.build();
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage(), e);
+        }
+        
+        for (ProcessingUnitReference p : processingUnitReferenceList) {
+            if (!getProcessingUnitRegistry().isRegistered(p.getProcessingUnitClass())) {
+                throw new ValidationException("The referenced procssing unit " + p.getProcessingUnitClass().getName() + " is not registered!");
+            }
+        }
+
+        IProcessingUnitContext processingUnitContext = null;
+        try {
+            return processingExecuter.executeGroup(processingUnitReferenceList, processingUnitContext);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage(), e);
+        }
+    }
+
+
     /**
      * @see com.github.toolarium.processing.engine.IProcessEngine#execute(byte[])
      */
@@ -125,6 +250,181 @@ public class ProcessingEngineImpl implements IProcessEngine {
     }
 
 
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#execute(java.io.InputStream)
+     */
+    @Override
+    public List<IProcessingUnitRunnable> execute(InputStream inputStream) {
+        if (inputStream == null) {
+            return Collections.emptyList();
+        }
+        
+        final List<IProcessingUnitRunnable> resultList = new ArrayList<IProcessingUnitRunnable>();
+        try {
+            ProcessingPersistenceUtil.getInstance().read(inputStream, suspendedState -> resultList.add(processingExecuter.resume(suspendedState)), processingExecuter::resume);
+        } catch (ProcessingException e) {
+            handleInvalidPersistedContent(resultList, e);
+        }
+        
+        return resultList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#execute(java.nio.file.Path)
+     */
+    @Override
+    public List<IProcessingUnitRunnable> execute(Path path) {
+        if (path == null || !Files.exists(path)) {
+            return Collections.emptyList();
+        }
+        
+        final List<IProcessingUnitRunnable> resultList = new ArrayList<IProcessingUnitRunnable>();
+        try {
+            ProcessingPersistenceUtil.getInstance().read(path, suspendedState -> resultList.add(processingExecuter.resume(suspendedState)), processingExecuter::resume);
+        } catch (ProcessingException e) {
+            handleInvalidPersistedContent(resultList, e);
+        }
+        
+        return resultList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#resumeCheckpoints()
+     */
+    @Override
+    public List<IProcessingUnitRunnable> resumeCheckpoints() {
+        return processingExecuter.resumeCheckpoints();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#submit(java.lang.String, java.lang.String, java.lang.String, java.util.List)
+     */
+    @Override
+    public IProcessingHandle submit(String id, String name, String processingUnitClass, List<Parameter> parameterList) throws ProcessingRejectedException {
+        if (processingUnitClass == null || processingUnitClass.isBlank()) {
+            throw new ValidationException("Invalid empty proccessing unit!");
+        }
+
+        final Class<? extends IProcessingUnit> clazz = getRegisteredProcessingUnitClass(processingUnitClass);
+        IProcessingUnitContext processingUnitContext = null;
+        return processingExecuter.submit(id, 
+                                         name, 
+                                         clazz, 
+                                         parameterList, 
+                                         processingUnitContext);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#executeAll(java.util.Collection)
+     */
+    @Override
+    public List<IProcessingHandle> executeAll(Collection<? extends IProcessingExecution> processingExecutionList) throws ProcessingRejectedException, ValidationException {
+        if (processingExecutionList == null || processingExecutionList.isEmpty()) {
+            return new ArrayList<IProcessingHandle>();
+        }
+
+        // the definitions are resolved once per class and the ids are generated from one random prefix 
+        final Map<String, Class<? extends IProcessingUnit>> processingUnitClassMap = new HashMap<String, Class<? extends IProcessingUnit>>();
+        final List<ProcessingUnitReference> processingUnitReferenceList = new ArrayList<ProcessingUnitReference>(processingExecutionList.size());
+        final String idPrefix = UUID.randomUUID().toString() + "-";
+        int index = 0;
+        for (IProcessingExecution processingExecution : processingExecutionList) {
+            if (processingExecution == null || processingExecution.getProcessingUnitClass() == null || processingExecution.getProcessingUnitClass().isBlank()) {
+                throw new ValidationException("Invalid empty proccessing unit at position " + index + "!");
+            }
+            
+            Class<? extends IProcessingUnit> clazz = processingUnitClassMap.get(processingExecution.getProcessingUnitClass());
+            if (clazz == null) {
+                clazz = getRegisteredProcessingUnitClass(processingExecution.getProcessingUnitClass());
+                processingUnitClassMap.put(processingExecution.getProcessingUnitClass(), clazz);
+            }
+            
+            String id = processingExecution.getId();
+            if (id == null || id.isBlank()) {
+                id = idPrefix + index;
+            }
+
+            String name = processingExecution.getName();
+            if (name == null || name.isBlank()) {
+                name = processingExecution.getProcessingUnitClass();
+            }
+            
+            List<Parameter> parameterList = processingExecution.getParameterList();
+            if (parameterList == null) {
+                parameterList = new ArrayList<Parameter>();
+            }
+            
+            processingUnitReferenceList.add(new ProcessingUnitReference(id, name, clazz, parameterList));
+            index++;
+        }
+
+        IProcessingUnitContext processingUnitContext = null;
+        try {
+            return processingExecuter.executeAll(processingUnitReferenceList, processingUnitContext);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#schedule(java.lang.String, java.lang.String, java.util.List, long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public IProcessingSchedule schedule(String name, String processingUnitClass, List<Parameter> parameterList, long delay, TimeUnit timeUnit) {
+        return schedule(name, processingUnitClass, parameterList, delay, 0, timeUnit);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#schedule(java.lang.String, java.lang.String, java.util.List, long, long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public IProcessingSchedule schedule(String name, String processingUnitClass, List<Parameter> parameterList, long initialDelay, long period, TimeUnit timeUnit) {
+        if (timeUnit == null || initialDelay < 0 || period < 0) {
+            throw new ValidationException("Invalid schedule delay " + initialDelay + " / period " + period + " " + timeUnit + "!");
+        }
+
+        final ProcessingScheduleReference processingScheduleReference = createProcessingScheduleReference(name, processingUnitClass, parameterList);
+        processingScheduleReference.setPeriodInMilliseconds(timeUnit.toMillis(period));
+        processingScheduleReference.setNextExecutionTime(System.currentTimeMillis() + timeUnit.toMillis(initialDelay));
+        return addSchedule(processingScheduleReference);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#schedule(java.lang.String, java.lang.String, java.util.List, java.lang.String)
+     */
+    @Override
+    public IProcessingSchedule schedule(String name, String processingUnitClass, List<Parameter> parameterList, String cronExpression) {
+        final ProcessingScheduleReference processingScheduleReference = createProcessingScheduleReference(name, processingUnitClass, parameterList);
+        processingScheduleReference.setCronExpression(cronExpression);
+        return addSchedule(processingScheduleReference);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#getProcessingScheduleList()
+     */
+    @Override
+    public List<IProcessingSchedule> getProcessingScheduleList() {
+        return processingExecuter.getProcessingScheduler().getScheduleList();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#awaitAll(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public boolean awaitAll(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        return processingExecuter.awaitAll(timeout, timeUnit);
+    }
+
+
     /**
      * @see com.github.toolarium.processing.engine.IProcessEngine#getStatus()
      */
@@ -134,6 +434,24 @@ public class ProcessingEngineImpl implements IProcessEngine {
     }
 
 
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#getInterruptedProcessingList()
+     */
+    @Override
+    public List<IProcessingJournalEntry> getInterruptedProcessingList() {
+        return processingExecuter.getInterruptedProcessingList();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#acknowledgeInterruptedProcessing(java.lang.String)
+     */
+    @Override
+    public boolean acknowledgeInterruptedProcessing(String id) {
+        return processingExecuter.acknowledgeInterruptedProcessing(id);
+    }
+
+
     /**
      * @see com.github.toolarium.processing.engine.IProcessEngine#addListener(com.github.toolarium.processing.engine.IProcessingListener)
      */
@@ -153,6 +471,106 @@ public class ProcessingEngineImpl implements IProcessEngine {
             return null;
         }
         
-        return ProcessingPersistenceUtil.getInstance().toByteArray(processingExecuterPersistenceContainer);
+        return ProcessingPersistenceUtil.getInstance().toByteArray(processingExecuterPersistenceContainer, persistenceCompressionThreshold);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#shutdown(java.io.OutputStream)
+     */
+    @Override
+    public void shutdown(OutputStream outputStream) {
+        ProcessingPersistenceUtil.getInstance().write(outputStream, persistenceCompressionThreshold, processingExecuter::shutdown);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessEngine#shutdown(java.nio.file.Path)
+     */
+    @Override
+    public void shutdown(Path path) {
+        ProcessingPersistenceUtil.getInstance().write(path, persistenceCompressionThreshold, processingExecuter::shutdown);
+    }
+
+
+    /**
+     * Handle an invalid entry of a persisted content: the processings which are already resumed are running, they are returned
+     * to the caller. Only in case no processing is resumed the error is thrown.
+     *
+     * @param resultList the resumed processings
+     * @param e the exception
+     * @throws ProcessingException In case no processing is resumed
+     */
+    protected void handleInvalidPersistedContent(List<IProcessingUnitRunnable> resultList, ProcessingException e) throws ProcessingException {
+        if (resultList.isEmpty()) {
+            throw e;
+        }
+        
+        LOG.warn("Could not resume all persisted processings, " + resultList.size() + " processings are resumed: " + e.getMessage(), e);
+    }
+
+
+    /**
+     * Resolve a registered processing unit class with one lookup in the registry
+     *
+     * @param processingUnitClass the process unit class
+     * @return the processing unit class
+     * @throws ValidationException In case the processing unit is not registered
+     */
+    protected Class<? extends IProcessingUnit> getRegisteredProcessingUnitClass(String processingUnitClass) throws ValidationException {
+        final IProcessingUnitDefinition processingUnitDefinition = getProcessingUnitRegistry().getProcessingUnitList(processingUnitClass);
+        if (processingUnitDefinition == null) {
+            throw new ValidationException("The referenced procssing unit " + processingUnitClass + " is not registered!");
+        }
+
+        return processingUnitDefinition.getProcessingClass();
+    }
+
+
+    /**
+     * Create a processing schedule reference
+     *
+     * @param name the name of the schedule
+     * @param processingUnitClass the process unit class
+     * @param parameterList the parameter list
+     * @return the processing schedule reference
+     * @throws ValidationException In case of an invalid processing unit
+     */
+    protected ProcessingScheduleReference createProcessingScheduleReference(String name, String processingUnitClass, List<Parameter> parameterList) throws ValidationException {
+        if (processingUnitClass == null || processingUnitClass.isBlank()) {
+            throw new ValidationException("Invalid empty proccessing unit!");
+        }
+
+        if (!getProcessingUnitRegistry().isRegistered(processingUnitClass)) {
+            throw new ValidationException("The referenced procssing unit " + processingUnitClass + " is not registered!");
+        }
+
+        return new ProcessingScheduleReference(null, name, getProcessingUnitRegistry().getProcessingUnitList(processingUnitClass).getProcessingClassname(), parameterList);
+    }
+
+
+    /**
+     * Add a schedule to the scheduler
+     *
+     * @param processingScheduleReference the processing schedule reference
+     * @return the schedule handle
+     * @throws ValidationException In case of an invalid schedule
+     */
+    protected IProcessingSchedule addSchedule(ProcessingScheduleReference processingScheduleReference) throws ValidationException {
+        try {
+            return processingExecuter.getProcessingScheduler().schedule(processingScheduleReference);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new ValidationException(e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * Start the processing of a fired schedule, every execution gets its own id
+     *
+     * @param processingScheduleReference the processing schedule reference
+     */
+    protected void executeSchedule(ProcessingScheduleReference processingScheduleReference) {
+        execute(UUID.randomUUID().toString(), processingScheduleReference.getName(), processingScheduleReference.getProcessingUnitClassname(), processingScheduleReference.getParameterList());
     }
 }
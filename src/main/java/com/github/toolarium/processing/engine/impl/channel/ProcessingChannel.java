@@ -0,0 +1,292 @@
+/*
+ * ProcessingChannel.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.channel;
+
+import com.github.toolarium.processing.engine.IProcessingChannel;
+import com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus;
+import com.github.toolarium.processing.engine.dto.channel.ProcessingChannelStatus;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Implements the {@link IProcessingChannel} as bounded lock-free ring buffer. Every slot has a sequence number which tells
+ * the producers and consumers if the slot can be written or read, the positions are claimed by compare and set. It supports
+ * multiple producers and consumers. Only the timed offer and poll wait: they spin a short time and park afterwards.
+ *
+ * @param <T> the record type
+ * @author patrick
+ */
+public class ProcessingChannel<T> implements IProcessingChannel<T> {
+    private static final int SPIN_COUNT = 64;
+    private static final long MAX_PARK_TIME_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(1);
+    private final String name;
+    private final int capacity;
+    private final int bufferSize;
+    private final AtomicReferenceArray<T> buffer;
+    private final AtomicLongArray sequence;
+    private final AtomicLong producerPosition;
+    private final AtomicLong consumerPosition;
+    private final AtomicLong numberOfBackpressureWaits;
+    private final long creationTime;
+    private volatile boolean isClosed;
+
+
+    /**
+     * Constructor for ProcessingChannel
+     *
+     * @param name the name of the channel
+     * @param capacity the capacity
+     * @throws IllegalArgumentException In case of an invalid capacity
+     */
+    public ProcessingChannel(String name, int capacity) throws IllegalArgumentException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " of the channel " + name + "!");
+        }
+
+        // the sequence of a slot can't distinguish a written from a free slot with only one slot
+        this.name = name;
+        this.capacity = capacity;
+        this.bufferSize = Math.max(2, capacity);
+        this.buffer = new AtomicReferenceArray<T>(bufferSize);
+        this.sequence = new AtomicLongArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            sequence.set(i, i);
+        }
+
+        this.producerPosition = new AtomicLong(0);
+        this.consumerPosition = new AtomicLong(0);
+        this.numberOfBackpressureWaits = new AtomicLong(0);
+        this.creationTime = System.nanoTime();
+        this.isClosed = false;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#getName()
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#offer(java.lang.Object)
+     */
+    @Override
+    public boolean offer(T record) {
+        if (record == null) {
+            throw new NullPointerException();
+        }
+
+        if (isClosed) {
+            return false;
+        }
+
+        long position = producerPosition.get();
+        while (true) {
+            if (position - consumerPosition.get() >= capacity) {
+                return false; // full
+            }
+            
+            final int index = (int)(position % bufferSize);
+            final long difference = sequence.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    buffer.set(index, record);
+                    sequence.set(index, position + 1); // publish the record
+                    return true;
+                }
+
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                return false; // full
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#offer(java.lang.Object, long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public boolean offer(T record, long timeout, TimeUnit timeUnit) {
+        if (offer(record)) {
+            return true;
+        }
+
+        numberOfBackpressureWaits.incrementAndGet();
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        int count = 0;
+        while (!isClosed) {
+            if (offer(record)) {
+                return true;
+            }
+
+            if (!await(deadline, count++)) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#poll()
+     */
+    @Override
+    public T poll() {
+        long position = consumerPosition.get();
+        while (true) {
+            final int index = (int)(position % bufferSize);
+            final long difference = sequence.get(index) - (position + 1);
+            if (difference == 0) {
+                if (consumerPosition.compareAndSet(position, position + 1)) {
+                    final T record = buffer.get(index);
+                    buffer.set(index, null);
+                    sequence.set(index, position + bufferSize); // release the slot for the next round
+                    return record;
+                }
+
+                position = consumerPosition.get();
+            } else if (difference < 0) {
+                return null; // empty
+            } else {
+                position = consumerPosition.get();
+            }
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#poll(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public T poll(long timeout, TimeUnit timeUnit) {
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        int count = 0;
+        while (true) {
+            // read the closed flag before polling, otherwise a record offered right before the close could be missed
+            final boolean closed = isClosed;
+            final T record = poll();
+            if (record != null || closed) {
+                return record;
+            }
+
+            if (!await(deadline, count++)) {
+                return null;
+            }
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#close()
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#isClosed()
+     */
+    @Override
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#isDone()
+     */
+    @Override
+    public boolean isDone() {
+        return isClosed && size() == 0;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#size()
+     */
+    @Override
+    public int size() {
+        // read the consumer position first, the size can't be negative
+        final long consumed = consumerPosition.get();
+        final long produced = producerPosition.get();
+        return (int)Math.max(0, Math.min(capacity, produced - consumed));
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#getCapacity()
+     */
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannel#getStatus()
+     */
+    @Override
+    public IProcessingChannelStatus getStatus() {
+        final long numberOfPolledRecords = consumerPosition.get();
+        final double durationInSeconds = Math.max(1L, System.nanoTime() - creationTime) / 1_000_000_000d;
+
+        ProcessingChannelStatus status = new ProcessingChannelStatus();
+        status.setName(name);
+        status.setCapacity(capacity);
+        status.setSize(size());
+        status.setNumberOfOfferedRecords(producerPosition.get());
+        status.setNumberOfPolledRecords(numberOfPolledRecords);
+        status.setNumberOfPolledRecordsPerSecond(numberOfPolledRecords / durationInSeconds);
+        status.setNumberOfBackpressureWaits(numberOfBackpressureWaits.get());
+        status.setIsClosed(isClosed);
+        return status;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingChannel [name=" + name + ", capacity=" + capacity + ", size=" + size() + ", isClosed=" + isClosed + "]";
+    }
+
+
+    /**
+     * Wait a short time: spin first, park afterwards
+     *
+     * @param deadline the deadline in nanoseconds
+     * @param count the number of previous waits
+     * @return false if the deadline is reached or the thread is interrupted
+     */
+    private boolean await(long deadline, int count) {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+
+        if (count < SPIN_COUNT) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(Math.min(remaining, MAX_PARK_TIME_IN_NANOSECONDS));
+        }
+
+        return true;
+    }
+}
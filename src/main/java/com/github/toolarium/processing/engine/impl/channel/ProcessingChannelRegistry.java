@@ -0,0 +1,156 @@
+/*
+ * ProcessingChannelRegistry.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.channel;
+
+import com.github.toolarium.processing.engine.IProcessingChannel;
+import com.github.toolarium.processing.engine.IProcessingChannelRegistry;
+import com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Implements the {@link IProcessingChannelRegistry}. Every engine has its own registry, therefore the channels of different 
+ * engines with the same name don't collide. The processing units get the scoped name of their channels as parameter 
+ * (see {@link #toScopedName(String)}) and resolve it by {@link #resolveChannel(String)}.
+ *
+ * @author patrick
+ */
+public final class ProcessingChannelRegistry implements IProcessingChannelRegistry {
+    private static final String SCOPE_SEPARATOR = "/";
+    private static final Map<String, ProcessingChannelRegistry> PROCESSING_CHANNEL_REGISTRY_MAP = new ConcurrentHashMap<String, ProcessingChannelRegistry>();
+    private final String scope;
+    private final Map<String, ProcessingChannel<?>> processingChannelMap;
+
+
+    /**
+     * Constructor for ProcessingChannelRegistry
+     */
+    public ProcessingChannelRegistry() {
+        scope = UUID.randomUUID().toString();
+        processingChannelMap = new ConcurrentHashMap<String, ProcessingChannel<?>>();
+        PROCESSING_CHANNEL_REGISTRY_MAP.put(scope, this);
+    }
+
+
+    /**
+     * Resolve a channel by its scoped name
+     *
+     * @param <T> the record type
+     * @param scopedName the scoped name of the channel
+     * @return the channel or null if it don't exist
+     */
+    public static <T> IProcessingChannel<T> resolveChannel(String scopedName) {
+        if (scopedName == null) {
+            return null;
+        }
+
+        final int index = scopedName.indexOf(SCOPE_SEPARATOR);
+        if (index <= 0) {
+            return null;
+        }
+        
+        final ProcessingChannelRegistry processingChannelRegistry = PROCESSING_CHANNEL_REGISTRY_MAP.get(scopedName.substring(0, index));
+        if (processingChannelRegistry == null) {
+            return null;
+        }
+        
+        return processingChannelRegistry.getChannel(scopedName.substring(index + 1));
+    }
+
+
+    /**
+     * Get the scoped name of a channel, it is unique over all engines
+     *
+     * @param name the name of the channel
+     * @return the scoped name
+     */
+    public String toScopedName(String name) {
+        return scope + SCOPE_SEPARATOR + name;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannelRegistry#create(java.lang.String, int)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> IProcessingChannel<T> create(String name, int capacity) throws IllegalArgumentException {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Invalid empty channel name!");
+        }
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " of the channel " + name + "!");
+        }
+
+        // a closed channel belongs to an ended pipeline, it is replaced
+        return (IProcessingChannel<T>)processingChannelMap.compute(name, (n, c) -> {
+            if (c == null || c.isClosed()) {
+                return new ProcessingChannel<T>(n, capacity);
+            }
+            
+            return c;
+        });
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannelRegistry#getChannel(java.lang.String)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> IProcessingChannel<T> getChannel(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        return (IProcessingChannel<T>)processingChannelMap.get(name);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannelRegistry#remove(java.lang.String)
+     */
+    @Override
+    public boolean remove(String name) {
+        if (name == null) {
+            return false;
+        }
+
+        return processingChannelMap.remove(name) != null;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingChannelRegistry#getStatusList()
+     */
+    @Override
+    public List<IProcessingChannelStatus> getStatusList() {
+        List<IProcessingChannelStatus> result = new ArrayList<IProcessingChannelStatus>();
+        for (ProcessingChannel<?> processingChannel : processingChannelMap.values()) {
+            result.add(processingChannel.getStatus());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Close the registry: all channels are closed and removed, the scoped names are not resolved anymore
+     */
+    public void close() {
+        PROCESSING_CHANNEL_REGISTRY_MAP.remove(scope);
+        for (ProcessingChannel<?> processingChannel : processingChannelMap.values()) {
+            processingChannel.close();
+        }
+        
+        processingChannelMap.clear();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * ProcessingCheckpointStore.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.checkpoint;
+
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingExecuterPersistenceContainer;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingSuspendedState;
+import com.github.toolarium.processing.engine.impl.util.ProcessingDirectoryLock;
+import com.github.toolarium.processing.engine.impl.util.ProcessingPersistenceUtil;
+import com.github.toolarium.processing.engine.impl.util.ProcessingThreadFactory;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Implements the local checkpoint store: every processing has one checkpoint file in the checkpoint directory which
+ * holds its latest suspended state in the binary format of the persisted content. The checkpoints are written and
+ * removed in the background by one writer thread, a checkpoint which is not yet written is replaced by a newer one of the
+ * same processing. A checkpoint file is replaced as soon as the new one is completely written, a crash keeps the
+ * previous checkpoint. The store holds a lock file in the checkpoint directory until it is closed, an other engine can't
+ * use the same checkpoint directory at the same time.
+ *
+ * @author patrick
+ */
+public class ProcessingCheckpointStore {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingCheckpointStore.class);
+    private static final String CHECKPOINT_FILE_EXTENSION = ".checkpoint";
+    private final Path directory;
+    private final ProcessingDirectoryLock processingDirectoryLock;
+    private final int compressionThreshold;
+    private final Map<String, ProcessingSuspendedState> pendingCheckpointMap;
+    private final ExecutorService writerExecutor;
+    private final AtomicLong numberOfCheckpoints;
+
+
+    /**
+     * Constructor for ProcessingCheckpointStore
+     *
+     * @param directory the checkpoint directory, it is created in case it doesn't exist
+     * @param compressionThreshold the compression threshold in bytes or 0 to disable the compression
+     * @throws ProcessingException In case the checkpoint directory can't be created or it is used by an other engine
+     */
+    public ProcessingCheckpointStore(Path directory, int compressionThreshold) throws ProcessingException {
+        this.directory = directory;
+        this.compressionThreshold = compressionThreshold;
+        this.pendingCheckpointMap = new ConcurrentHashMap<String, ProcessingSuspendedState>();
+        this.numberOfCheckpoints = new AtomicLong(0);
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new ProcessingException("Could not create the checkpoint directory [" + directory + "]: " + e.getMessage(), e, true);
+        }
+
+        this.processingDirectoryLock = new ProcessingDirectoryLock(directory);
+        this.writerExecutor = Executors.newSingleThreadExecutor(ProcessingThreadFactory.getInstance());
+    }
+
+
+    /**
+     * Get the checkpoint directory
+     *
+     * @return the checkpoint directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+
+    /**
+     * Get the number of written checkpoints
+     *
+     * @return the number of written checkpoints
+     */
+    public long getNumberOfCheckpoints() {
+        return numberOfCheckpoints.get();
+    }
+
+
+    /**
+     * Write the checkpoint of a processing in the background, a pending checkpoint of the processing is replaced
+     *
+     * @param suspendedState the suspended state of the processing
+     */
+    public void write(ProcessingSuspendedState suspendedState) {
+        if (suspendedState == null || suspendedState.getId() == null) {
+            return;
+        }
+
+        if (pendingCheckpointMap.put(suspendedState.getId(), suspendedState) == null) {
+            submit(() -> writeCheckpoint(suspendedState.getId()));
+        }
+    }
+
+
+    /**
+     * Remove the checkpoint of a processing in the background, it is removed after its pending checkpoint
+     *
+     * @param id the id of the processing
+     */
+    public void remove(String id) {
+        if (id == null) {
+            return;
+        }
+
+        pendingCheckpointMap.remove(id);
+        submit(() -> removeCheckpoint(id));
+    }
+
+
+    /**
+     * Read the latest checkpoints of the checkpoint directory, an invalid checkpoint is skipped
+     *
+     * @param suspendedStateConsumer the consumer of the suspended states
+     * @return the number of read checkpoints
+     */
+    public int read(Consumer<ProcessingSuspendedState> suspendedStateConsumer) {
+        int result = 0;
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "*" + CHECKPOINT_FILE_EXTENSION)) {
+            for (Path path : directoryStream) {
+                final ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer = new ProcessingExecuterPersistenceContainer();
+                try {
+                    ProcessingPersistenceUtil.getInstance().read(path, processingExecuterPersistenceContainer::add, processingScheduleReference -> { });
+                } catch (ProcessingException e) {
+                    LOG.warn("Could not read the checkpoint [" + path + "], it is skipped: " + e.getMessage());
+                    continue;
+                }
+
+                for (ProcessingSuspendedState suspendedState : processingExecuterPersistenceContainer.getSuspendedStateEntryList()) {
+                    suspendedStateConsumer.accept(suspendedState);
+                    result++;
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not read the checkpoint directory [" + directory + "]: " + e.getMessage());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Close the checkpoint store, the pending checkpoints are written within the timeout
+     *
+     * @param timeoutInMilliseconds the timeout in milliseconds
+     * @return true if all pending checkpoints are written
+     */
+    public boolean close(long timeoutInMilliseconds) {
+        writerExecutor.shutdown();
+        try {
+            return writerExecutor.awaitTermination(timeoutInMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            processingDirectoryLock.release();
+        }
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingCheckpointStore [directory=" + directory + ", numberOfCheckpoints=" + numberOfCheckpoints + ", numberOfPendingCheckpoints=" + pendingCheckpointMap.size() + "]";
+    }
+
+
+    /**
+     * Submit a task to the writer thread, the tasks are executed in their order
+     *
+     * @param task the task
+     */
+    private void submit(Runnable task) {
+        try {
+            writerExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("The checkpoint store [" + directory + "] is closed.");
+        }
+    }
+
+
+    /**
+     * Write the pending checkpoint of a processing
+     *
+     * @param id the id of the processing
+     */
+    private void writeCheckpoint(String id) {
+        final ProcessingSuspendedState suspendedState = pendingCheckpointMap.remove(id);
+        if (suspendedState == null) {
+            // it is already removed
+            return;
+        }
+
+        final ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer = new ProcessingExecuterPersistenceContainer();
+        processingExecuterPersistenceContainer.add(suspendedState);
+        try {
+            ProcessingPersistenceUtil.getInstance().write(getPath(id), processingExecuterPersistenceContainer, compressionThreshold);
+            numberOfCheckpoints.incrementAndGet();
+        } catch (ProcessingException e) {
+            LOG.warn("Could not write the checkpoint of the processing " + id + ": " + e.getMessage());
+        }
+    }
+
+
+    /**
+     * Remove the checkpoint file of a processing
+     *
+     * @param id the id of the processing
+     */
+    private void removeCheckpoint(String id) {
+        try {
+            Files.deleteIfExists(getPath(id));
+        } catch (IOException e) {
+            LOG.warn("Could not remove the checkpoint of the processing " + id + ": " + e.getMessage());
+        }
+    }
+
+
+    /**
+     * Get the checkpoint file of a processing, the id is encoded to a valid file name
+     *
+     * @param id the id of the processing
+     * @return the path of the checkpoint file
+     */
+    private Path getPath(String id) {
+        return directory.resolve(Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8)) + CHECKPOINT_FILE_EXTENSION);
+    }
+}
@@ -5,14 +5,23 @@
  */
 package com.github.toolarium.processing.engine.impl.executer;
 
+import com.github.toolarium.processing.engine.IProcessingChannelRegistry;
+import com.github.toolarium.processing.engine.IProcessingGroup;
+import com.github.toolarium.processing.engine.IProcessingHandle;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingUnitReference;
+import com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry;
+import com.github.toolarium.processing.engine.exception.ProcessingRejectedException;
 import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingExecuterPersistenceContainer;
-import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingUnitReference;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingScheduleReference;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingSuspendedState;
 import com.github.toolarium.processing.engine.impl.status.IProcessingExecuterStatus;
 import com.github.toolarium.processing.unit.IProcessingUnit;
 import com.github.toolarium.processing.unit.IProcessingUnitContext;
 import com.github.toolarium.processing.unit.dto.Parameter;
 import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnable;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 
 /**
@@ -58,13 +67,15 @@ public interface IProcessingExecuter {
 
     
     /**
-     * Execute a processing with its parameter
+     * Execute processings with their parameter, they are started independent of each other. Processings which depend on 
+     * other processings have to be executed as group, see {@link #executeGroup(List, IProcessingUnitContext)}.
      *
      * @param processingUnitReferenceList the processing unit reference list 
      * @param processingUnitContext the processing context.
-     * @return the added {@link IProcessingUnitRunnable}.
+     * @return the added {@link IProcessingUnitRunnable}s, in case of partitions one per partition.
+     * @throws IllegalArgumentException In case a processing depends on other processings
      */
-    List<IProcessingUnitRunnable> execute(List<ProcessingUnitReference> processingUnitReferenceList, IProcessingUnitContext processingUnitContext);
+    List<IProcessingUnitRunnable> execute(List<ProcessingUnitReference> processingUnitReferenceList, IProcessingUnitContext processingUnitContext) throws IllegalArgumentException;
 
     
     /**
@@ -76,6 +87,101 @@ public interface IProcessingExecuter {
     List<IProcessingUnitRunnable> execute(ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer);
 
     
+    /**
+     * After shutdown this method resumes one suspended processing unit, e.g. while the persisted content is read
+     *
+     * @param suspendedState the suspended state
+     * @return the added {@link IProcessingUnitRunnable}
+     */
+    IProcessingUnitRunnable resume(ProcessingSuspendedState suspendedState);
+
+    
+    /**
+     * After shutdown this method resumes one pending schedule, the missed execution times are executed once
+     *
+     * @param processingScheduleReference the pending schedule
+     */
+    void resume(ProcessingScheduleReference processingScheduleReference);
+
+    
+    /**
+     * Resume the processings of the latest checkpoints, e.g. after a crash. In case there are no checkpoints configured
+     * nothing is resumed.
+     *
+     * @return the added {@link IProcessingUnitRunnable}s.
+     */
+    List<IProcessingUnitRunnable> resumeCheckpoints();
+
+    
+    /**
+     * Get the processings which were interrupted in the previous engine, e.g. by a crash. They are read from the
+     * journal at the start and kept until they are acknowledged, in case there is no journal configured the list is empty.
+     *
+     * @return the interrupted processings
+     */
+    List<IProcessingJournalEntry> getInterruptedProcessingList();
+
+    
+    /**
+     * Acknowledge an interrupted processing, it is removed from the journal
+     *
+     * @param id the id of the interrupted processing
+     * @return true if the processing was interrupted; otherwise false
+     */
+    boolean acknowledgeInterruptedProcessing(String id);
+
+    
+    /**
+     * Execute processings as group. Processings without dependencies between each other run in parallel, a processing 
+     * which depends on other processings is started as soon as all its predecessors are ended.
+     *
+     * @param processingUnitReferenceList the processing unit reference list 
+     * @param processingUnitContext the processing context which is shared by the processings of the group.
+     * @return the group handle
+     * @throws IllegalArgumentException In case of duplicate ids, unknown or cyclic dependencies
+     */
+    IProcessingGroup executeGroup(List<ProcessingUnitReference> processingUnitReferenceList, IProcessingUnitContext processingUnitContext) throws IllegalArgumentException;
+
+    
+    /**
+     * Submit a processing. The result of the returned handle is completed as soon as the processing is ended.
+     *
+     * @param id the unique id of this processing or null
+     * @param name the name of this processing unit runnable
+     * @param processingUnitClass the processing unit class
+     * @param parameterList the parameter list
+     * @param processingUnitContext the processing context.
+     * @return the processing handle
+     * @throws ProcessingRejectedException In case the processing can't be accepted
+     */
+    IProcessingHandle submit(String id, String name, Class<? extends IProcessingUnit> processingUnitClass, List<Parameter> parameterList, IProcessingUnitContext processingUnitContext) throws ProcessingRejectedException;
+
+
+    /**
+     * Submit a batch of independent processings. The batch is admitted once and the accepted processings are enqueued 
+     * together. In case a processing can't be accepted, the result of its handle is completed exceptionally with a 
+     * {@link ProcessingRejectedException}.
+     *
+     * @param processingUnitReferenceList the processing unit reference list, the references must have an id
+     * @param processingUnitContext the processing context which is shared by the processings or null
+     * @return the processing handles in the order of the references
+     * @throws ProcessingRejectedException In case the batch is shed by the load shedding
+     * @throws IllegalArgumentException In case of a duplicate id within the batch or of a running processing
+     */
+    List<IProcessingHandle> executeAll(List<ProcessingUnitReference> processingUnitReferenceList, IProcessingUnitContext processingUnitContext) throws ProcessingRejectedException, IllegalArgumentException;
+
+    
+    /**
+     * Wait until all processings are ended or suspended
+     *
+     * @param timeout the max time to wait
+     * @param timeUnit the time unit of the timeout
+     * @return true if all processings are ended; false if the timeout elapsed before
+     * @throws InterruptedException In case the waiting thread is interrupted
+     */
+    boolean awaitAll(long timeout, TimeUnit timeUnit) throws InterruptedException;
+
+    
     /**
      * Initiates an orderly shutdown in which previously submitted tasks are executed, but no new tasks will be accepted.
      * Invocation has no additional effect if already shut down.
@@ -83,6 +189,26 @@ public interface IProcessingExecuter {
      * @return the processing executer persistence container
      */
     ProcessingExecuterPersistenceContainer shutdown();
+
+    
+    /**
+     * Initiates an orderly shutdown like {@link #shutdown()}, the suspended states and the pending schedules are passed to 
+     * their consumer instead of a container: a suspended state is passed as soon as its processing is suspended. The consumers
+     * are called by one thread at a time. In case a consumer fails, the following entries are not passed anymore and the error
+     * is thrown at the end of the shutdown.
+     * 
+     * @param suspendedStateConsumer the consumer of the suspended states
+     * @param scheduleReferenceConsumer the consumer of the pending schedules
+     */
+    void shutdown(Consumer<ProcessingSuspendedState> suspendedStateConsumer, Consumer<ProcessingScheduleReference> scheduleReferenceConsumer);
+    
+    
+    /**
+     * Get the channel registry of the pipelines of this executer
+     *
+     * @return the channel registry
+     */
+    IProcessingChannelRegistry getProcessingChannelRegistry();
     
     
     /**
@@ -0,0 +1,40 @@
+/*
+ * IProcessingStepInterceptor.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer;
+
+
+/**
+ * Defines the interceptor of the processing unit calls (steps) of a processing.
+ * 
+ * @author patrick
+ */
+public interface IProcessingStepInterceptor {
+
+    /**
+     * Called before a processing unit call, the calling thread can be parked to delay the call
+     *
+     * @param id the id of the processing
+     */
+    void beforeStep(String id);
+
+    
+    /**
+     * Called after a processing unit call
+     *
+     * @param id the id of the processing
+     * @param durationInNanoseconds the duration of the call in nanoseconds
+     */
+    void afterStep(String id, long durationInNanoseconds);
+
+
+    /**
+     * Called in case a processing unit call failed, it is called before the {@link #afterStep(String, long)}
+     *
+     * @param id the id of the processing
+     * @param e the error of the call
+     */
+    void failedStep(String id, Throwable e);
+}
@@ -7,6 +7,7 @@ package com.github.toolarium.processing.engine.impl.executer.dto;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 
@@ -18,6 +19,10 @@ import java.util.List;
 public class ProcessingExecuterPersistenceContainer implements Serializable {
     private static final long serialVersionUID = -1201116669971116276L;
     private List<byte[]> suspendedStateList;
+    private List<ProcessingScheduleReference> scheduleReferenceList;
+    
+    // the metadata of the suspended states, a container of a previous version has none
+    private transient List<ProcessingSuspendedState> suspendedStateEntryList;
     
     
     /**
@@ -25,6 +30,8 @@ public class ProcessingExecuterPersistenceContainer implements Serializable {
      */
     public ProcessingExecuterPersistenceContainer() {
         suspendedStateList = new ArrayList<byte[]>();
+        scheduleReferenceList = new ArrayList<ProcessingScheduleReference>();
+        suspendedStateEntryList = new ArrayList<ProcessingSuspendedState>();
     }
 
     
@@ -35,6 +42,7 @@ public class ProcessingExecuterPersistenceContainer implements Serializable {
      */
     public ProcessingExecuterPersistenceContainer(List<byte[]> suspendedStateList) {
         this.suspendedStateList = suspendedStateList;
+        this.scheduleReferenceList = new ArrayList<ProcessingScheduleReference>();
     }
 
     
@@ -43,7 +51,20 @@ public class ProcessingExecuterPersistenceContainer implements Serializable {
      * @param suspendedState the suspended state
      */
     public void add(byte[] suspendedState) {
-        suspendedStateList.add(suspendedState);
+        add(new ProcessingSuspendedState(null, null, suspendedState));
+    }
+
+
+    /**
+     * Add a suspended state with its metadata
+     * 
+     * @param suspendedState the suspended state
+     */
+    public void add(ProcessingSuspendedState suspendedState) {
+        suspendedStateList.add(suspendedState.getSuspendedState());
+        if (suspendedStateEntryList != null) {
+            suspendedStateEntryList.add(suspendedState);
+        }
     }
 
 
@@ -57,12 +78,61 @@ public class ProcessingExecuterPersistenceContainer implements Serializable {
     }
     
     
+    /**
+     * Get the suspended states with their metadata
+     *
+     * @return the suspended state list, the states of a container of a previous version have no metadata
+     */
+    public List<ProcessingSuspendedState> getSuspendedStateEntryList() {
+        synchronized (suspendedStateList) {
+            if (suspendedStateEntryList != null && suspendedStateEntryList.size() == suspendedStateList.size()) {
+                return new ArrayList<ProcessingSuspendedState>(suspendedStateEntryList);
+            }
+            
+            final List<ProcessingSuspendedState> result = new ArrayList<ProcessingSuspendedState>(suspendedStateList.size());
+            for (byte[] suspendedState : suspendedStateList) {
+                result.add(new ProcessingSuspendedState(null, null, suspendedState));
+            }
+            
+            return result;
+        }
+    }
+    
+    
+    /**
+     * Add the pending schedules
+     * 
+     * @param scheduleReferenceList the schedule reference list
+     */
+    public void addSchedules(List<ProcessingScheduleReference> scheduleReferenceList) {
+        if (this.scheduleReferenceList == null) {
+            this.scheduleReferenceList = new ArrayList<ProcessingScheduleReference>();
+        }
+        
+        this.scheduleReferenceList.addAll(scheduleReferenceList);
+    }
+
+
+    /**
+     * Get the list of the pending schedules
+     *
+     * @return the schedule reference list, a container of a previous version has none
+     */
+    public List<ProcessingScheduleReference> getScheduleReferenceList() {
+        if (scheduleReferenceList == null) {
+            return Collections.emptyList();
+        }
+        
+        return scheduleReferenceList;
+    }
+    
+    
     /**
      * Check if it is empty
      *
      * @return true if it is empty
      */
     public boolean isEmpty() {
-        return suspendedStateList.isEmpty();
+        return suspendedStateList.isEmpty() && getScheduleReferenceList().isEmpty();
     }
 }
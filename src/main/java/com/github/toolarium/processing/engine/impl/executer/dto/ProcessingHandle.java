@@ -0,0 +1,72 @@
+/*
+ * ProcessingHandle.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.dto;
+
+import com.github.toolarium.processing.engine.IProcessingHandle;
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Implements the {@link IProcessingHandle}.
+ *
+ * @author patrick
+ */
+public class ProcessingHandle implements IProcessingHandle {
+    private String id;
+    private String name;
+    private CompletableFuture<IProcessingResult> result;
+
+
+    /**
+     * Constructor for ProcessingHandle
+     *
+     * @param id the id
+     * @param name the name
+     * @param result the result
+     */
+    public ProcessingHandle(String id, String name, CompletableFuture<IProcessingResult> result) {
+        this.id = id;
+        this.name = name;
+        this.result = result;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingHandle#getId()
+     */
+    @Override
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingHandle#getName()
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingHandle#getResult()
+     */
+    @Override
+    public CompletableFuture<IProcessingResult> getResult() {
+        return result;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingHandle [id=" + id + ", name=" + name + ", result=" + result + "]";
+    }
+}
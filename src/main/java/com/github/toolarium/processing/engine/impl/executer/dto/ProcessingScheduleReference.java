@@ -0,0 +1,230 @@
+/*
+ * ProcessingScheduleReference.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.dto;
+
+import com.github.toolarium.processing.unit.dto.Parameter;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+
+/**
+ * Defines the reference of a schedule, it is part of the persisted content.
+ *
+ * @author patrick
+ */
+public class ProcessingScheduleReference implements Serializable {
+    private static final long serialVersionUID = 4417308860178203365L;
+    private String id;
+    private String name;
+    private String processingUnitClassname;
+    private List<Parameter> parameterList;
+    private String cronExpression;
+    private long periodInMilliseconds;
+    private long nextExecutionTime;
+    private long numberOfExecutions;
+
+
+    /**
+     * Constructor for ProcessingScheduleReference
+     *
+     * @param id the id or null
+     * @param name the name
+     * @param processingUnitClassname the processing unit class name
+     * @param parameterList the parameter list
+     */
+    public ProcessingScheduleReference(String id, String name, String processingUnitClassname, List<Parameter> parameterList) {
+        this.id = id;
+        this.name = name;
+        this.processingUnitClassname = processingUnitClassname;
+        this.parameterList = new ArrayList<Parameter>();
+        this.cronExpression = null;
+        this.periodInMilliseconds = 0;
+        this.nextExecutionTime = 0;
+        this.numberOfExecutions = 0;
+
+        if (parameterList != null) {
+            this.parameterList.addAll(parameterList);
+        }
+
+        if (this.id == null || this.id.isBlank()) {
+            this.id = UUID.randomUUID().toString();
+        }
+
+        if (this.name == null || this.name.isBlank()) {
+            this.name = processingUnitClassname;
+        }
+    }
+
+
+    /**
+     * Get the id
+     *
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Get the name
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Get the processing unit class name
+     *
+     * @return the processing unit class name
+     */
+    public String getProcessingUnitClassname() {
+        return processingUnitClassname;
+    }
+
+
+    /**
+     * Get the parameter list
+     *
+     * @return the parameter list
+     */
+    public List<Parameter> getParameterList() {
+        return parameterList;
+    }
+
+
+    /**
+     * Get the cron expression
+     *
+     * @return the cron expression or null
+     */
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+
+    /**
+     * Set the cron expression
+     *
+     * @param cronExpression the cron expression
+     */
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+
+    /**
+     * Get the period of a fixed rate schedule
+     *
+     * @return the period in milliseconds or 0
+     */
+    public long getPeriodInMilliseconds() {
+        return periodInMilliseconds;
+    }
+
+
+    /**
+     * Set the period of a fixed rate schedule
+     *
+     * @param periodInMilliseconds the period in milliseconds
+     */
+    public void setPeriodInMilliseconds(long periodInMilliseconds) {
+        this.periodInMilliseconds = periodInMilliseconds;
+    }
+
+
+    /**
+     * Get the next execution time. It is the wall clock time, a persisted schedule survives the restart of the jvm.
+     *
+     * @return the next execution time in milliseconds since the epoch
+     */
+    public long getNextExecutionTime() {
+        return nextExecutionTime;
+    }
+
+
+    /**
+     * Set the next execution time
+     *
+     * @param nextExecutionTime the next execution time in milliseconds since the epoch
+     */
+    public void setNextExecutionTime(long nextExecutionTime) {
+        this.nextExecutionTime = nextExecutionTime;
+    }
+
+
+    /**
+     * Get the number of executions
+     *
+     * @return the number of executions
+     */
+    public long getNumberOfExecutions() {
+        return numberOfExecutions;
+    }
+
+
+    /**
+     * Set the number of executions
+     *
+     * @param numberOfExecutions the number of executions
+     */
+    public void setNumberOfExecutions(long numberOfExecutions) {
+        this.numberOfExecutions = numberOfExecutions;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(cronExpression, id, name, nextExecutionTime, numberOfExecutions, parameterList, periodInMilliseconds, processingUnitClassname);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingScheduleReference other = (ProcessingScheduleReference) obj;
+        return Objects.equals(cronExpression, other.cronExpression)
+                && Objects.equals(id, other.id) && Objects.equals(name, other.name)
+                && nextExecutionTime == other.nextExecutionTime
+                && numberOfExecutions == other.numberOfExecutions
+                && Objects.equals(parameterList, other.parameterList)
+                && periodInMilliseconds == other.periodInMilliseconds
+                && Objects.equals(processingUnitClassname, other.processingUnitClassname);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingScheduleReference [id=" + id + ", name=" + name + ", processingUnitClassname=" + processingUnitClassname + ", cronExpression=" + cronExpression
+                + ", periodInMilliseconds=" + periodInMilliseconds + ", nextExecutionTime=" + nextExecutionTime + ", numberOfExecutions=" + numberOfExecutions + "]";
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * ProcessingSuspendedState.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.dto;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * Defines the suspended state of a processing with its metadata
+ *
+ * @author patrick
+ */
+public class ProcessingSuspendedState {
+    private String id;
+    private String processingUnitClassname;
+    private byte[] suspendedState;
+
+
+    /**
+     * Constructor for ProcessingSuspendedState
+     *
+     * @param id the id of the processing or null if it is unknown
+     * @param processingUnitClassname the processing unit class name or null if it is unknown
+     * @param suspendedState the suspended state
+     */
+    public ProcessingSuspendedState(String id, String processingUnitClassname, byte[] suspendedState) {
+        this.id = id;
+        this.processingUnitClassname = processingUnitClassname;
+        this.suspendedState = suspendedState;
+    }
+
+
+    /**
+     * Get the id of the processing
+     *
+     * @return the id or null
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Get the processing unit class name
+     *
+     * @return the processing unit class name or null
+     */
+    public String getProcessingUnitClassname() {
+        return processingUnitClassname;
+    }
+
+
+    /**
+     * Get the suspended state
+     *
+     * @return the suspended state
+     */
+    public byte[] getSuspendedState() {
+        return suspendedState;
+    }
+
+
+    /**
+     * Get the size of the suspended state
+     *
+     * @return the size in bytes
+     */
+    public int getSize() {
+        if (suspendedState == null) {
+            return 0;
+        }
+
+        return suspendedState.length;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, processingUnitClassname) * 31 + Arrays.hashCode(suspendedState);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ProcessingSuspendedState other = (ProcessingSuspendedState) obj;
+        return Objects.equals(id, other.id)
+                && Objects.equals(processingUnitClassname, other.processingUnitClassname)
+                && Arrays.equals(suspendedState, other.suspendedState);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingSuspendedState [id=" + id + ", processingUnitClassname=" + processingUnitClassname + ", size=" + getSize() + "]";
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * ProcessingAdmissionHandler.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingAdmissionPolicy;
+import com.github.toolarium.processing.engine.exception.ProcessingRejectedException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Implements the {@link RejectedExecutionHandler} which is called in case all worker threads are busy and the queue is full.
+ * Depending on the {@link ProcessingAdmissionPolicy} the caller blocks, the processing is rejected or it runs in the caller thread.
+ *  
+ * @author patrick
+ */
+public class ProcessingAdmissionHandler implements RejectedExecutionHandler {
+    private final ProcessingAdmissionPolicy admissionPolicy;
+    private final long admissionTimeoutInMilliseconds;
+    private final AtomicLong numberOfRejectedProcessings;
+    private final AtomicLong numberOfCallerRunsProcessings;
+
+    
+    /**
+     * Constructor for ProcessingAdmissionHandler
+     *
+     * @param admissionPolicy the admission policy
+     * @param admissionTimeoutInMilliseconds the admission timeout in milliseconds
+     */
+    public ProcessingAdmissionHandler(ProcessingAdmissionPolicy admissionPolicy, long admissionTimeoutInMilliseconds) {
+        this.admissionPolicy = admissionPolicy;
+        this.admissionTimeoutInMilliseconds = admissionTimeoutInMilliseconds;
+        this.numberOfRejectedProcessings = new AtomicLong(0);
+        this.numberOfCallerRunsProcessings = new AtomicLong(0);
+    }
+
+    
+    /**
+     * @see java.util.concurrent.RejectedExecutionHandler#rejectedExecution(java.lang.Runnable, java.util.concurrent.ThreadPoolExecutor)
+     */
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            reject("The processing engine is shut down!");
+        }
+
+        if (ProcessingAdmissionPolicy.CALLER_RUNS.equals(admissionPolicy)) {
+            numberOfCallerRunsProcessings.incrementAndGet();
+            runInCallerThread(r);
+        } else if (ProcessingAdmissionPolicy.BLOCK.equals(admissionPolicy)) {
+            try {
+                if (!executor.getQueue().offer(r, admissionTimeoutInMilliseconds, TimeUnit.MILLISECONDS)) {
+                    reject("The processing could not be accepted within " + admissionTimeoutInMilliseconds + "ms, all " + executor.getMaximumPoolSize() + " worker threads are busy and the queue is full!");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reject("The processing could not be accepted, interrupted while waiting for admission!");
+            }
+        } else {
+            reject("The processing could not be accepted, all " + executor.getMaximumPoolSize() + " worker threads are busy and the queue is full!");
+        }
+    }
+
+    
+    /**
+     * Run a processing in the caller thread, it passes by the worker threads of the thread pool
+     *
+     * @param r the runnable
+     */
+    protected void runInCallerThread(Runnable r) {
+        r.run();
+    }
+
+    
+    /**
+     * Get the admission policy
+     *
+     * @return the admission policy
+     */
+    public ProcessingAdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    
+    /**
+     * Get the number of rejected processings
+     *
+     * @return the number of rejected processings
+     */
+    public long getNumberOfRejectedProcessings() {
+        return numberOfRejectedProcessings.get();
+    }
+
+    
+    /**
+     * Get the number of processings which ran in the caller thread
+     *
+     * @return the number of processings which ran in the caller thread
+     */
+    public long getNumberOfCallerRunsProcessings() {
+        return numberOfCallerRunsProcessings.get();
+    }
+
+    
+    /**
+     * Reject a processing
+     *
+     * @param message the message
+     * @throws ProcessingRejectedException the rejected exception
+     */
+    private void reject(String message) throws ProcessingRejectedException {
+        numberOfRejectedProcessings.incrementAndGet();
+        throw new ProcessingRejectedException(message);
+    }
+}
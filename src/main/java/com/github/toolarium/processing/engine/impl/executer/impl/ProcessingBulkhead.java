@@ -0,0 +1,128 @@
+/*
+ * ProcessingBulkhead.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus;
+import com.github.toolarium.processing.engine.dto.bulkhead.ProcessingBulkheadStatus;
+import com.github.toolarium.processing.engine.exception.ProcessingRejectedException;
+import com.github.toolarium.processing.unit.runtime.runnable.impl.ProcessingUnitRunnable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Limits the number of processings of a processing unit class which run at the same time (bulkhead). The processings which
+ * exceed the limit wait in the own queue of the processing unit class and don't occupy a worker thread, a flood of one
+ * processing unit class can't starve the other processing unit classes.
+ *
+ * @author patrick
+ */
+public class ProcessingBulkhead {
+    private String processingUnitClassname;
+    private int maxNumberOfConcurrentProcessings;
+    private int queueCapacity;
+    private Set<String> activeIdSet;
+    private Deque<ProcessingUnitRunnable> queue;
+    private long numberOfRejectedProcessings;
+
+
+    /**
+     * Constructor for ProcessingBulkhead
+     *
+     * @param processingUnitClassname the processing unit class name
+     */
+    public ProcessingBulkhead(String processingUnitClassname) {
+        this.processingUnitClassname = processingUnitClassname;
+        this.maxNumberOfConcurrentProcessings = 0;
+        this.queueCapacity = 0;
+        this.activeIdSet = new HashSet<String>();
+        this.queue = new ArrayDeque<ProcessingUnitRunnable>();
+        this.numberOfRejectedProcessings = 0;
+    }
+
+
+    /**
+     * Acquire a permit for a processing
+     *
+     * @param processingUnitRunnable the processing unit runnable
+     * @param maxNumberOfConcurrentProcessings the max number of concurrent processings or 0 if it is not limited
+     * @param queueCapacity the queue capacity
+     * @return true if the processing can be started; false if it is queued and is started as soon as a permit is released
+     * @throws ProcessingRejectedException In case the max number of concurrent processings is reached and the queue is full
+     */
+    public synchronized boolean acquire(ProcessingUnitRunnable processingUnitRunnable, int maxNumberOfConcurrentProcessings, int queueCapacity) throws ProcessingRejectedException {
+        this.maxNumberOfConcurrentProcessings = maxNumberOfConcurrentProcessings;
+        this.queueCapacity = queueCapacity;
+
+        if (maxNumberOfConcurrentProcessings <= 0 || activeIdSet.size() < maxNumberOfConcurrentProcessings) {
+            activeIdSet.add(processingUnitRunnable.getId());
+            return true;
+        }
+
+        if (queue.size() < queueCapacity) {
+            queue.add(processingUnitRunnable);
+            return false;
+        }
+
+        numberOfRejectedProcessings++;
+        throw new ProcessingRejectedException("The max number of concurrent processings (" + maxNumberOfConcurrentProcessings + ") of the processing unit "
+                                              + processingUnitClassname + " is reached and its queue is full (" + queueCapacity + ")!");
+    }
+
+
+    /**
+     * Release the permit of a processing
+     *
+     * @param id the id of the processing
+     * @return the queued processings which got a permit and have to be started now
+     */
+    public synchronized List<ProcessingUnitRunnable> release(String id) {
+        final List<ProcessingUnitRunnable> result = new ArrayList<ProcessingUnitRunnable>();
+        if (!activeIdSet.remove(id)) {
+            queue.removeIf(p -> p.getId().equals(id));
+            return result;
+        }
+
+        while (!queue.isEmpty() && (maxNumberOfConcurrentProcessings <= 0 || activeIdSet.size() < maxNumberOfConcurrentProcessings)) {
+            final ProcessingUnitRunnable processingUnitRunnable = queue.poll();
+            activeIdSet.add(processingUnitRunnable.getId());
+            result.add(processingUnitRunnable);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get the status
+     *
+     * @return the status
+     */
+    public synchronized IProcessingBulkheadStatus getStatus() {
+        ProcessingBulkheadStatus status = new ProcessingBulkheadStatus();
+        status.setProcessingUnitClassname(processingUnitClassname);
+        status.setMaxNumberOfConcurrentProcessings(maxNumberOfConcurrentProcessings);
+        status.setQueueCapacity(queueCapacity);
+        status.setNumberOfActiveProcessings(activeIdSet.size());
+        status.setNumberOfQueuedProcessings(queue.size());
+        status.setNumberOfRejectedProcessings(numberOfRejectedProcessings);
+        return status;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString() {
+        return "ProcessingBulkhead [processingUnitClassname=" + processingUnitClassname + ", maxNumberOfConcurrentProcessings=" + maxNumberOfConcurrentProcessings
+                + ", queueCapacity=" + queueCapacity + ", numberOfActiveProcessings=" + activeIdSet.size() + ", numberOfQueuedProcessings=" + queue.size() + "]";
+    }
+}
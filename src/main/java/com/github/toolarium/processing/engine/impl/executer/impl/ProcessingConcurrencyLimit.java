@@ -0,0 +1,195 @@
+/*
+ * ProcessingConcurrencyLimit.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus;
+import com.github.toolarium.processing.engine.dto.concurrency.ProcessingConcurrencyLimitStatus;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Limits the number of concurrent processing unit calls (steps) of a processing unit class adaptively (AIMD). Every step
+ * updates a short-term and a long-term average of the step latency. As long as the short-term latency stays within the
+ * tolerance of the long-term latency and the limit is used up, the limit increases by one per round (1 / limit per step).
+ * As soon as the short-term latency rises above the tolerance, the limit decreases multiplicatively, at most once per round.
+ * The steps which exceed the limit wait until a running step is ended.
+ *
+ * @author patrick
+ */
+public class ProcessingConcurrencyLimit {
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MAX_LIMIT = 1000;
+    private static final double SHORT_TERM_FACTOR = 0.2;
+    private static final double LONG_TERM_FACTOR = 0.02;
+    private static final double LATENCY_TOLERANCE = 1.5;
+    private static final double BACKOFF_FACTOR = 0.9;
+    private final String processingUnitClassname;
+    private final int maxLimit;
+    private final ReentrantLock lock;
+    private final Condition permitAvailable;
+    private double limit;
+    private int numberOfActiveCalls;
+    private int numberOfWaitingCalls;
+    private long numberOfCalls;
+    private long numberOfLimitDecreases;
+    private long numberOfCallsSinceDecrease;
+    private double shortTermLatency;
+    private double longTermLatency;
+
+
+    /**
+     * Constructor for ProcessingConcurrencyLimit
+     *
+     * @param processingUnitClassname the processing unit class name
+     * @param maxLimit the upper bound of the limit, e.g. the number of worker threads
+     */
+    public ProcessingConcurrencyLimit(String processingUnitClassname, int maxLimit) {
+        this.processingUnitClassname = processingUnitClassname;
+        this.maxLimit = Math.max(1, Math.min(MAX_LIMIT, maxLimit));
+        this.lock = new ReentrantLock();
+        this.permitAvailable = lock.newCondition();
+        this.limit = Math.min(INITIAL_LIMIT, this.maxLimit);
+        this.numberOfActiveCalls = 0;
+        this.numberOfWaitingCalls = 0;
+        this.numberOfCalls = 0;
+        this.numberOfLimitDecreases = 0;
+        this.numberOfCallsSinceDecrease = 0;
+        this.shortTermLatency = 0;
+        this.longTermLatency = 0;
+    }
+
+
+    /**
+     * Acquire a permit for a processing unit call, waits as long as the limit is reached. In case the waiting thread is
+     * interrupted the call gets no permit.
+     *
+     * @throws InterruptedException In case the waiting thread is interrupted
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            numberOfWaitingCalls++;
+            try {
+                while (numberOfActiveCalls >= getLimit()) {
+                    permitAvailable.await();
+                }
+            } finally {
+                numberOfWaitingCalls--;
+            }
+
+            numberOfActiveCalls++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Release the permit of an ended processing unit call and adapt the limit
+     *
+     * @param durationInNanoseconds the duration of the call in nanoseconds
+     */
+    public void release(long durationInNanoseconds) {
+        lock.lock();
+        try {
+            final int previousLimit = getLimit();
+            final boolean isLimitReached = numberOfActiveCalls >= previousLimit;
+            numberOfActiveCalls = Math.max(0, numberOfActiveCalls - 1);
+            update(Math.max(0L, durationInNanoseconds), isLimitReached);
+
+            if (getLimit() > previousLimit) {
+                permitAvailable.signalAll();
+            } else {
+                permitAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Get the current limit
+     *
+     * @return the current max number of concurrent processing unit calls
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return Math.max(1, (int)limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Get the status
+     *
+     * @return the status
+     */
+    public IProcessingConcurrencyLimitStatus getStatus() {
+        lock.lock();
+        try {
+            ProcessingConcurrencyLimitStatus status = new ProcessingConcurrencyLimitStatus();
+            status.setProcessingUnitClassname(processingUnitClassname);
+            status.setLimit(getLimit());
+            status.setMaxLimit(maxLimit);
+            status.setNumberOfActiveCalls(numberOfActiveCalls);
+            status.setNumberOfWaitingCalls(numberOfWaitingCalls);
+            status.setNumberOfCalls(numberOfCalls);
+            status.setNumberOfLimitDecreases(numberOfLimitDecreases);
+            status.setShortTermLatencyInMicroseconds(TimeUnit.NANOSECONDS.toMicros((long)shortTermLatency));
+            status.setLongTermLatencyInMicroseconds(TimeUnit.NANOSECONDS.toMicros((long)longTermLatency));
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingConcurrencyLimit [processingUnitClassname=" + processingUnitClassname + ", limit=" + getLimit() + ", maxLimit=" + maxLimit + "]";
+    }
+
+
+    /**
+     * Update the latency averages and adapt the limit
+     *
+     * @param latency the latency of the call in nanoseconds
+     * @param isLimitReached true if the limit was used up by the call
+     */
+    private void update(long latency, boolean isLimitReached) {
+        if (numberOfCalls == 0) {
+            shortTermLatency = latency;
+            longTermLatency = latency;
+        } else {
+            shortTermLatency += (latency - shortTermLatency) * SHORT_TERM_FACTOR;
+            longTermLatency += (latency - longTermLatency) * LONG_TERM_FACTOR;
+        }
+
+        numberOfCalls++;
+        numberOfCallsSinceDecrease++;
+
+        if (shortTermLatency > longTermLatency * LATENCY_TOLERANCE) {
+            // multiplicative decrease, once per round: the calls of the last round still saw the old limit
+            if (numberOfCallsSinceDecrease >= limit) {
+                limit = Math.max(1.0, limit * BACKOFF_FACTOR);
+                numberOfLimitDecreases++;
+                numberOfCallsSinceDecrease = 0;
+            }
+        } else if (isLimitReached) {
+            // additive increase: one per round as long as the limit is used up
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * ProcessingCronExpression.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Implements a cron expression with the five fields minute, hour, day of month, month and day of week, e.g.
+ * <code>*&#47;15 8-18 * * MON-FRI</code>. A field supports <code>*</code>, lists, ranges, steps and for the month
+ * and the day of week the names. The day of week 0 and 7 is sunday. In case the day of month and the day of week are
+ * both restricted, a day matches if one of them matches. The macros <code>@yearly</code>, <code>@monthly</code>,
+ * <code>@weekly</code>, <code>@daily</code> and <code>@hourly</code> are supported as well.
+ *
+ * @author patrick
+ */
+public class ProcessingCronExpression {
+    private static final int NUMBER_OF_FIELDS = 5;
+    private static final int MAX_YEARS = 5;
+    private static final String WILDCARD = "*";
+    private static final String[] MONTH_NAMES = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_OF_WEEK_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    private static final Map<String, String> MACROS = Map.of("@yearly", "0 0 1 1 *",
+                                                             "@annually", "0 0 1 1 *",
+                                                             "@monthly", "0 0 1 * *",
+                                                             "@weekly", "0 0 * * 0",
+                                                             "@daily", "0 0 * * *",
+                                                             "@midnight", "0 0 * * *",
+                                                             "@hourly", "0 * * * *");
+    private final String expression;
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet daysOfMonth;
+    private final BitSet months;
+    private final BitSet daysOfWeek;
+    private final boolean isDayOfMonthRestricted;
+    private final boolean isDayOfWeekRestricted;
+
+
+    /**
+     * Constructor for ProcessingCronExpression
+     *
+     * @param expression the cron expression
+     * @throws IllegalArgumentException In case of an invalid cron expression
+     */
+    public ProcessingCronExpression(String expression) throws IllegalArgumentException {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Invalid empty cron expression!");
+        }
+
+        this.expression = expression.trim();
+        String fieldExpression = MACROS.get(this.expression.toLowerCase(Locale.ROOT));
+        if (fieldExpression == null) {
+            fieldExpression = this.expression;
+        }
+
+        final String[] fields = fieldExpression.split("\\s+");
+        if (fields.length != NUMBER_OF_FIELDS) {
+            throw new IllegalArgumentException("Invalid cron expression [" + expression + "], expected the five fields minute, hour, day of month, month and day of week!");
+        }
+
+        this.minutes = parseField(fields[0], 0, 59, null);
+        this.hours = parseField(fields[1], 0, 23, null);
+        this.daysOfMonth = parseField(fields[2], 1, 31, null);
+        this.months = parseField(fields[3], 1, 12, MONTH_NAMES);
+        this.daysOfWeek = parseField(fields[4], 0, 7, DAY_OF_WEEK_NAMES);
+        if (daysOfWeek.get(7)) {
+            daysOfWeek.set(0);
+        }
+
+        this.isDayOfMonthRestricted = !isWildcard(fields[2]);
+        this.isDayOfWeekRestricted = !isWildcard(fields[4]);
+    }
+
+
+    /**
+     * Get the cron expression
+     *
+     * @return the cron expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+
+    /**
+     * Get the next execution time after the given time
+     *
+     * @param time the time
+     * @return the next execution time or null if there is none within the next years
+     */
+    public ZonedDateTime getNextExecutionTime(ZonedDateTime time) {
+        ZonedDateTime t = time.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        final ZonedDateTime limit = t.plusYears(MAX_YEARS);
+        while (t.isBefore(limit)) {
+            if (!months.get(t.getMonthValue())) {
+                t = t.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+            } else if (!isDayMatching(t)) {
+                t = t.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+            } else if (!hours.get(t.getHour())) {
+                t = t.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            } else if (!minutes.get(t.getMinute())) {
+                t = t.plusMinutes(1);
+            } else {
+                return t;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+
+    /**
+     * Check if the day matches
+     *
+     * @param t the time
+     * @return true if the day matches
+     */
+    private boolean isDayMatching(ZonedDateTime t) {
+        final boolean isDayOfMonthMatching = daysOfMonth.get(t.getDayOfMonth());
+        final boolean isDayOfWeekMatching = daysOfWeek.get(t.getDayOfWeek().getValue() % 7);
+        if (isDayOfMonthRestricted && isDayOfWeekRestricted) {
+            return isDayOfMonthMatching || isDayOfWeekMatching;
+        }
+
+        return isDayOfMonthMatching && isDayOfWeekMatching;
+    }
+
+
+    /**
+     * Check if a field is a wildcard
+     *
+     * @param field the field
+     * @return true if the field is a wildcard
+     */
+    private boolean isWildcard(String field) {
+        return WILDCARD.equals(field) || "?".equals(field);
+    }
+
+
+    /**
+     * Parse a field
+     *
+     * @param field the field
+     * @param min the min value
+     * @param max the max value
+     * @param names the names of the values starting with the min value or null
+     * @return the values of the field
+     * @throws IllegalArgumentException In case of an invalid field
+     */
+    private BitSet parseField(String field, int min, int max, String[] names) throws IllegalArgumentException {
+        final BitSet result = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            String range = part;
+            int step = 1;
+            final int stepIndex = part.indexOf('/');
+            if (stepIndex >= 0) {
+                range = part.substring(0, stepIndex);
+                step = parseValue(part.substring(stepIndex + 1), 1, max, null);
+            }
+
+            int start = min;
+            int end = max;
+            if (!isWildcard(range)) {
+                final int rangeIndex = range.indexOf('-');
+                if (rangeIndex > 0) {
+                    start = parseValue(range.substring(0, rangeIndex), min, max, names);
+                    end = parseValue(range.substring(rangeIndex + 1), min, max, names);
+                } else {
+                    start = parseValue(range, min, max, names);
+                    if (stepIndex < 0) {
+                        end = start;
+                    }
+                }
+            }
+
+            if (start > end) {
+                throw new IllegalArgumentException("Invalid range [" + part + "] in the cron expression [" + expression + "]!");
+            }
+
+            for (int i = start; i <= end; i += step) {
+                result.set(i);
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Parse a value
+     *
+     * @param value the value
+     * @param min the min value
+     * @param max the max value
+     * @param names the names of the values starting with the min value or null
+     * @return the value
+     * @throws IllegalArgumentException In case of an invalid value
+     */
+    private int parseValue(String value, int min, int max, String[] names) throws IllegalArgumentException {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(value)) {
+                    return min + i;
+                }
+            }
+        }
+
+        final int result;
+        try {
+            result = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value [" + value + "] in the cron expression [" + expression + "]!", e);
+        }
+
+        if (result < min || result > max) {
+            throw new IllegalArgumentException("Invalid value [" + value + "] in the cron expression [" + expression + "], expected " + min + "-" + max + "!");
+        }
+
+        return result;
+    }
+}
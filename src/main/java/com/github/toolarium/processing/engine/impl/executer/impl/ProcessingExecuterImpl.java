@@ -7,56 +7,165 @@ package com.github.toolarium.processing.engine.impl.executer.impl;
 
 import com.github.toolarium.common.bandwidth.IBandwidthThrottling;
 import com.github.toolarium.common.statistic.StatisticCounter;
-import com.github.toolarium.common.util.ThreadUtil;
+import com.github.toolarium.processing.engine.IProcessingChannel;
+import com.github.toolarium.processing.engine.IProcessingChannelRegistry;
+import com.github.toolarium.processing.engine.IProcessingGroup;
+import com.github.toolarium.processing.engine.IProcessingHandle;
 import com.github.toolarium.processing.engine.IProcessingListener;
+import com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus;
+import com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus;
+import com.github.toolarium.processing.engine.dto.configuration.IProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingExecutionMode;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingTimeoutPolicy;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingExecutionBuilder;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingUnitReference;
+import com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry;
+import com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus;
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
 import com.github.toolarium.processing.engine.dto.result.IProcessingStatistic;
 import com.github.toolarium.processing.engine.dto.result.ProcessingResult;
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
+import com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus;
+import com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition;
+import com.github.toolarium.processing.engine.exception.ProcessingRejectedException;
+import com.github.toolarium.processing.engine.impl.channel.ProcessingChannelRegistry;
+import com.github.toolarium.processing.engine.impl.checkpoint.ProcessingCheckpointStore;
 import com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter;
-import com.github.toolarium.processing.engine.impl.executer.ProcessingExecutionBuilder;
+import com.github.toolarium.processing.engine.impl.executer.IProcessingStepInterceptor;
 import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingExecuterPersistenceContainer;
-import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingUnitReference;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingHandle;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingScheduleReference;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingSuspendedState;
+import com.github.toolarium.processing.engine.impl.group.IProcessingGroupController;
+import com.github.toolarium.processing.engine.impl.group.ProcessingGroup;
+import com.github.toolarium.processing.engine.impl.journal.ProcessingJournal;
+import com.github.toolarium.processing.engine.impl.ratelimit.ProcessingRateLimiter;
+import com.github.toolarium.processing.engine.impl.registry.ProcessingUnitRegistry;
 import com.github.toolarium.processing.engine.impl.status.IProcessingExecuterStatus;
 import com.github.toolarium.processing.engine.impl.status.ProcessingExecuterStatus;
+import com.github.toolarium.processing.engine.impl.util.ProcessingPinningMonitor;
 import com.github.toolarium.processing.engine.impl.util.ProcessingThreadFactory;
+import com.github.toolarium.processing.engine.impl.util.ProcessingVirtualThreadFactory;
+import com.github.toolarium.processing.engine.util.ProcessingChannelUtil;
+import com.github.toolarium.processing.engine.util.ProcessingPartitionUtil;
 import com.github.toolarium.processing.unit.IProcessingUnit;
 import com.github.toolarium.processing.unit.IProcessingUnitContext;
 import com.github.toolarium.processing.unit.IProcessingUnitProgress;
 import com.github.toolarium.processing.unit.dto.Parameter;
 import com.github.toolarium.processing.unit.dto.ProcessingActionStatus;
 import com.github.toolarium.processing.unit.dto.ProcessingRuntimeStatus;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
 import com.github.toolarium.processing.unit.runtime.IProcessingUnitRuntimeTimeMeasurement;
 import com.github.toolarium.processing.unit.runtime.ProcessingUnitContext;
 import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnable;
 import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnableListener;
 import com.github.toolarium.processing.unit.runtime.runnable.impl.ProcessingUnitRunnable;
 import com.github.toolarium.processing.unit.util.ProcessingUnitUtil;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
 /**
- * Implements the {@link IProcessingExecuter}.
+ * Implements the {@link IProcessingExecuter}. In case a time slice is configured the processing units share the worker 
+ * threads: a processing unit which has used its time slice while other processings are waiting is suspended and continues
+ * as new {@link ProcessingUnitRunnable} at the end of the run queue. A runnable returned by an execute method may therefore
+ * be replaced during the processing; the id stays the same.
+ * 
+ * <p>Every processing unit call (step) passes the rate limiter. With time slicing a processing which has to wait longer than
+ * a time slice for its next token is suspended and continues after the wait, it doesn't hold a worker thread.</p>
  * 
  * @author patrick
  */
-public class ProcessingExecuterImpl implements IProcessingExecuter, IProcessingUnitRunnableListener {
+public class ProcessingExecuterImpl implements IProcessingExecuter, IProcessingUnitRunnableListener, IProcessingStepInterceptor, IProcessingGroupController {
     private static final Logger LOG = LoggerFactory.getLogger(ProcessingExecuterImpl.class);
+    private static final int MAX_TIME_SLICE_FACTOR = 10;
+    private static final long TIMER_WHEEL_TICK_IN_MILLISECONDS = 10L;
+    private static final int TIMER_WHEEL_SIZE = 512;
+    private static final long MAX_THROTTLE_PARK_TIME_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(TIMER_WHEEL_TICK_IN_MILLISECONDS);
     private int corePoolSize = 0;
     private int maximumPoolSize = Integer.MAX_VALUE;
     private long keepAliveTimeInSeconds = 60L;
+    private int queueCapacity = 0;
     private Map<String, ProcessingUnitRunnable> processingUnitRunnableMap;
+    private Map<String, ProcessingUnitRunnableHandle> processingUnitRunnableHandleMap;
     private IProcessingListener processingListener;
-    private ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer;
+    private Consumer<ProcessingSuspendedState> shutdownSuspendedStateConsumer;
+    private RuntimeException shutdownException;
+    private List<String> persistedIdList;
     private ThreadPoolExecutor threadPoolExecutor;
+    private ProcessingAdmissionHandler processingAdmissionHandler;
+    private ProcessingExecutionMode executionMode;
+    private ProcessingPinningMonitor processingPinningMonitor;
+    private ProcessingRunQueue processingRunQueue;
+    private long timeSliceInMilliseconds;
+    private ScheduledExecutorService timeSliceExecutor;
+    private Map<String, Long> timeSliceStartMap;
+    private Set<String> timeSliceSuspendSet;
+    private Set<String> timeSliceResumeSet;
+    private AtomicLong numberOfTimeSliceSwitches;
+    private volatile boolean isShuttingDown;
+    private long shutdownTimeoutInMilliseconds;
+    private Map<String, ProcessingPartitionGroup> processingPartitionGroupMap;
+    private Map<String, ProcessingGroup> processingGroupMap;
+    private Map<String, ProcessingBulkhead> processingBulkheadMap;
+    private Map<String, Integer> processingPriorityMap;
+    private Map<String, ProcessingTenant> processingTenantMap;
+    private Map<String, ProcessingTenant> processingIdTenantMap;
+    private IProcessingEngineConfiguration processingEngineConfiguration;
+    private ProcessingRateLimiter processingRateLimiter;
+    private ProcessingChannelRegistry processingChannelRegistry;
+    private Map<String, ProcessingUnitRunnable> throttledContinuationMap;
+    private boolean adaptiveConcurrencyLimit;
+    private Map<String, ProcessingConcurrencyLimit> processingConcurrencyLimitMap;
+    private Map<String, ProcessingConcurrencyLimit> stepConcurrencyLimitMap;
+    private ProcessingLoadShedder processingLoadShedder;
+    private Map<String, Long> admissionTimeMap;
+    private ProcessingTimerWheel processingTimerWheel;
+    private volatile ScheduledExecutorService timerWheelExecutor;
+    private Map<String, ProcessingTimeoutPolicy> processingTimeoutPolicyMap;
+    private Map<String, ProcessingTimeoutPolicy> timedOutMap;
+    private Map<String, ProcessingTimeoutPolicy> stoppedMap;
+    private Queue<ProcessingSuspendedState> suspendedStateQueue;
+    private Object suspendedStateLock;
+    private AtomicLong numberOfTimedOutProcessings;
+    private ProcessingTimerWheel processingRetryTimerWheel;
+    private Map<String, ProcessingRetry> processingRetryMap;
+    private AtomicLong numberOfRetries;
+    private ProcessingScheduler processingScheduler;
+    private ExecutorService scheduleExecutor;
+    private long checkpointIntervalInMilliseconds;
+    private ProcessingCheckpointStore processingCheckpointStore;
+    private ScheduledExecutorService checkpointExecutor;
+    private Set<String> checkpointProgressSet;
+    private Set<String> checkpointDueSet;
+    private Set<String> suspendedCheckpointSet;
+    private ProcessingJournal processingJournal;
+    private Map<String, CompletableFuture<IProcessingResult>> processingResultFutureMap;
+    private Object processingEndLock;
     //private Executor cleanupExecutor = Executors.newSingleThreadExecutor();
 
     
@@ -64,20 +173,136 @@ public class ProcessingExecuterImpl implements IProcessingExecuter, IProcessingU
      * Constructor for ProcessingExecuterImpl
      */
     public ProcessingExecuterImpl() {
+        this(new ProcessingEngineConfiguration());
+    }
+
+    
+    /**
+     * Constructor for ProcessingExecuterImpl
+     * 
+     * @param processingEngineConfiguration the processing engine configuration
+     */
+    public ProcessingExecuterImpl(IProcessingEngineConfiguration processingEngineConfiguration) {
         processingUnitRunnableMap = new ConcurrentHashMap<String, ProcessingUnitRunnable>();        
-        processingExecuterPersistenceContainer = null;
+        processingUnitRunnableHandleMap = new ConcurrentHashMap<String, ProcessingUnitRunnableHandle>();
+        processingPartitionGroupMap = new ConcurrentHashMap<String, ProcessingPartitionGroup>();
+        processingGroupMap = new ConcurrentHashMap<String, ProcessingGroup>();
+        processingBulkheadMap = new ConcurrentHashMap<String, ProcessingBulkhead>();
+        processingPriorityMap = new ConcurrentHashMap<String, Integer>();
+        processingTenantMap = new ConcurrentHashMap<String, ProcessingTenant>();
+        processingIdTenantMap = new ConcurrentHashMap<String, ProcessingTenant>();
+        this.processingEngineConfiguration = processingEngineConfiguration;
+        processingRateLimiter = new ProcessingRateLimiter();
+        processingChannelRegistry = new ProcessingChannelRegistry();
+        throttledContinuationMap = new ConcurrentHashMap<String, ProcessingUnitRunnable>();
+        adaptiveConcurrencyLimit = processingEngineConfiguration.isAdaptiveConcurrencyLimit();
+        processingConcurrencyLimitMap = new ConcurrentHashMap<String, ProcessingConcurrencyLimit>();
+        stepConcurrencyLimitMap = new ConcurrentHashMap<String, ProcessingConcurrencyLimit>();
+        processingResultFutureMap = new ConcurrentHashMap<String, CompletableFuture<IProcessingResult>>();
+        processingEndLock = new Object();
+        shutdownSuspendedStateConsumer = null;
+        persistedIdList = new ArrayList<String>();
         processingListener = null;
-        threadPoolExecutor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTimeInSeconds, TimeUnit.SECONDS, new SynchronousQueue<Runnable>());
-        threadPoolExecutor.setThreadFactory(ProcessingThreadFactory.getInstance());
-        threadPoolExecutor.setRejectedExecutionHandler(new RejectedExecutionHandler() {
+        
+        maximumPoolSize = Math.max(1, processingEngineConfiguration.getMaxNumberOfWorkerThreads());
+        keepAliveTimeInSeconds = processingEngineConfiguration.getKeepAliveTimeInSeconds();
+        queueCapacity = Math.max(0, processingEngineConfiguration.getQueueCapacity());
+        timeSliceInMilliseconds = Math.max(0L, processingEngineConfiguration.getTimeSliceInMilliseconds());
+        final long agingIntervalInMilliseconds = Math.max(0L, processingEngineConfiguration.getAgingIntervalInMilliseconds());
+        timeSliceStartMap = new ConcurrentHashMap<String, Long>();
+        timeSliceSuspendSet = ConcurrentHashMap.newKeySet();
+        timeSliceResumeSet = ConcurrentHashMap.newKeySet();
+        numberOfTimeSliceSwitches = new AtomicLong(0);
+        isShuttingDown = false;
+        shutdownTimeoutInMilliseconds = Math.max(0L, processingEngineConfiguration.getShutdownTimeoutInMilliseconds());
+        processingLoadShedder = new ProcessingLoadShedder(processingEngineConfiguration.getQueueDelayTargetInMilliseconds(), 
+                                                          processingEngineConfiguration.getQueueDelayIntervalInMilliseconds(), 
+                                                          processingEngineConfiguration.getLoadSheddingPriority());
+        admissionTimeMap = new ConcurrentHashMap<String, Long>();
+        processingTimerWheel = new ProcessingTimerWheel(TIMER_WHEEL_TICK_IN_MILLISECONDS, TIMER_WHEEL_SIZE, System.nanoTime());
+        timerWheelExecutor = null;
+        processingTimeoutPolicyMap = new ConcurrentHashMap<String, ProcessingTimeoutPolicy>();
+        timedOutMap = new ConcurrentHashMap<String, ProcessingTimeoutPolicy>();
+        stoppedMap = new ConcurrentHashMap<String, ProcessingTimeoutPolicy>();
+        suspendedStateQueue = new ConcurrentLinkedQueue<ProcessingSuspendedState>();
+        suspendedStateLock = new Object();
+        numberOfTimedOutProcessings = new AtomicLong(0);
+        processingRetryTimerWheel = new ProcessingTimerWheel(TIMER_WHEEL_TICK_IN_MILLISECONDS, TIMER_WHEEL_SIZE, System.nanoTime());
+        processingRetryMap = new ConcurrentHashMap<String, ProcessingRetry>();
+        numberOfRetries = new AtomicLong(0);
+        scheduleExecutor = Executors.newSingleThreadExecutor(ProcessingThreadFactory.getInstance());
+        processingScheduler = new ProcessingScheduler(processingTimerWheel, this::startTimerWheel, scheduleExecutor);
+        executionMode = ProcessingExecutionMode.PLATFORM_THREAD;
+        if (ProcessingExecutionMode.VIRTUAL_THREAD.equals(processingEngineConfiguration.getExecutionMode())) {
+            ProcessingVirtualThreadFactory.getInstance().validate();
+            executionMode = ProcessingExecutionMode.VIRTUAL_THREAD;
+        }
+        
+        checkpointIntervalInMilliseconds = Math.max(0L, processingEngineConfiguration.getCheckpointIntervalInMilliseconds());
+        processingCheckpointStore = createProcessingCheckpointStore(processingEngineConfiguration);
+        checkpointProgressSet = ConcurrentHashMap.newKeySet();
+        checkpointDueSet = ConcurrentHashMap.newKeySet();
+        suspendedCheckpointSet = ConcurrentHashMap.newKeySet();
+        try {
+            processingJournal = createProcessingJournal(processingEngineConfiguration);
+        } catch (RuntimeException e) {
+            // the checkpoint directory is released for the next engine
+            if (processingCheckpointStore != null) {
+                processingCheckpointStore.close(0L);
+            }
+            
+            throw e;
+        }
+
+        final BlockingQueue<Runnable> queue = createQueue(agingIntervalInMilliseconds);
+        threadPoolExecutor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTimeInSeconds, TimeUnit.SECONDS, queue) {
             
             /**
-             * @see java.util.concurrent.RejectedExecutionHandler#rejectedExecution(java.lang.Runnable, java.util.concurrent.ThreadPoolExecutor)
+             * @see java.util.concurrent.ThreadPoolExecutor#beforeExecute(java.lang.Thread, java.lang.Runnable)
              */
             @Override
-            public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            protected void beforeExecute(Thread t, Runnable r) {
+                super.beforeExecute(t, r);
+                ProcessingStepInstanceManager.getInstance().bind(ProcessingExecuterImpl.this);
+                measureQueueDelay(r);
+                startTimeSlice(r);
             }
-        });
+
+
+            /**
+             * @see java.util.concurrent.ThreadPoolExecutor#afterExecute(java.lang.Runnable, java.lang.Throwable)
+             */
+            @Override
+            protected void afterExecute(Runnable r, Throwable t) {
+                ProcessingStepInstanceManager.getInstance().bind(null);
+                super.afterExecute(r, t);
+            }
+        };
+        threadPoolExecutor.allowCoreThreadTimeOut(corePoolSize > 0);
+        threadPoolExecutor.setThreadFactory(ProcessingThreadFactory.getInstance());
+        
+        processingPinningMonitor = null;
+        if (ProcessingExecutionMode.VIRTUAL_THREAD.equals(executionMode)) {
+            threadPoolExecutor.setThreadFactory(ProcessingVirtualThreadFactory.getInstance());
+            processingPinningMonitor = ProcessingPinningMonitor.getInstance();
+            processingPinningMonitor.start();
+        }
+        
+        processingAdmissionHandler = createAdmissionHandler(processingEngineConfiguration);
+        threadPoolExecutor.setRejectedExecutionHandler(processingAdmissionHandler);
+        
+        timeSliceExecutor = null;
+        if (timeSliceInMilliseconds > 0) {
+            final long period = Math.max(1L, timeSliceInMilliseconds / 2);
+            timeSliceExecutor = Executors.newSingleThreadScheduledExecutor(ProcessingThreadFactory.getInstance());
+            timeSliceExecutor.scheduleAtFixedRate(this::checkTimeSlices, period, period, TimeUnit.MILLISECONDS);
+        }
+
+        checkpointExecutor = null;
+        if (processingCheckpointStore != null) {
+            checkpointExecutor = Executors.newSingleThreadScheduledExecutor(ProcessingThreadFactory.getInstance());
+            checkpointExecutor.scheduleAtFixedRate(this::checkCheckpoints, checkpointIntervalInMilliseconds, checkpointIntervalInMilliseconds, TimeUnit.MILLISECONDS);
+        }
 
         /*
         cleanupExecutor = Executors.newSingleThreadExecutor(ProcessingThreadFactory.getInstance());
@@ -146,34 +371,67 @@ public class ProcessingExecuterImpl implements IProcessingExecuter, IProcessingU
      * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#execute(java.util.List, com.github.toolarium.processing.unit.IProcessingUnitContext)
      */
     @Override
-    public List<IProcessingUnitRunnable> execute(List<ProcessingUnitReference> processingUnitExecutionList, IProcessingUnitContext inputProcessingUnitContext) {
+    public List<IProcessingUnitRunnable> execute(List<ProcessingUnitReference> processingUnitExecutionList, IProcessingUnitContext inputProcessingUnitContext) throws IllegalArgumentException {
         IProcessingUnitContext processingUnitContext = inputProcessingUnitContext;
         if (processingUnitContext == null) {
             processingUnitContext = new ProcessingUnitContext();
         }
         
-        final List<IProcessingUnitRunnable> resultList = new ArrayList<IProcessingUnitRunnable>();
+        // the processings are independent of each other, the dependencies are only supported by the execution as group
+        for (ProcessingUnitReference p : processingUnitExecutionList) {
+            if (!p.getDependsOnList().isEmpty()) {
+                throw new IllegalArgumentException("The processing " + p.getId() + " depends on other processings, it can only be executed as group!");
+            }
+        }
+        
+        admitProcessing(processingUnitExecutionList);
+        
+        // the output channels of all processings are created before any processing is started
+        final List<ProcessingGroup> processingGroupList = new ArrayList<ProcessingGroup>(processingUnitExecutionList.size());
         for (ProcessingUnitReference p : processingUnitExecutionList) {
-            resultList.add(execute(new ProcessingUnitRunnable(p.getId(), p.getName(), p.getProcessingUnitClass(), p.getParameterList(), processingUnitContext, this)));
+            processingGroupList.add(createProcessingGroup(List.of(p), processingUnitContext));
+        }
+
+        final List<IProcessingUnitRunnable> resultList = new ArrayList<IProcessingUnitRunnable>();
+        for (ProcessingGroup processingGroup : processingGroupList) {
+            resultList.addAll(execute(processingGroup, processingGroup.start(), true));
         }
         
         return resultList;
     }
-    
-    
+
+
     /**
      * Execute a processing unit runnable
      *
      * @param processingUnitRunnable the processing unit runnable
-     * @return the processing unit runnable
+     * @return the stable handle of the processing unit runnable, it follows the processing across time slices and retries
+     * @throws ProcessingRejectedException In case the processing can't be accepted
      */
-    protected ProcessingUnitRunnable execute(final ProcessingUnitRunnable processingUnitRunnable) {
-        // start execution
-        threadPoolExecutor.execute(processingUnitRunnable);
-        
-        // add to processing unit runnable map
+    protected IProcessingUnitRunnable execute(final ProcessingUnitRunnable processingUnitRunnable) throws ProcessingRejectedException {
+        // add to processing unit runnable map before it starts, otherwise a fast processing could end before it is registered
         processingUnitRunnableMap.put(processingUnitRunnable.getId(), processingUnitRunnable);
-        return processingUnitRunnable;
+        final ProcessingUnitRunnableHandle processingUnitRunnableHandle = updateProcessingUnitRunnableHandle(processingUnitRunnable.getId(), processingUnitRunnable);
+        registerStepInterceptor(processingUnitRunnable.getId());
+        if (processingJournal != null) {
+            processingJournal.submit(processingUnitRunnable.getId(), processingUnitRunnable.getName(), processingUnitRunnable.getProcessingUnitClass());
+        }
+
+        try {
+            // a processing which exceeds the concurrency limit of its processing unit class waits in the queue of the bulkhead
+            admitted(processingUnitRunnable.getId());
+            if (acquireProcessing(processingUnitRunnable)) {
+                // start execution
+                threadPoolExecutor.execute(processingUnitRunnable);
+            }
+        } catch (ProcessingRejectedException e) {
+            removeProcessing(processingUnitRunnable.getId(), processingUnitRunnable.getProcessingUnitClass());
+            signalProcessingEnd();
+            LOG.warn(ProcessingUnitUtil.getInstance().toString(processingUnitRunnable.getId(), processingUnitRunnable.getName(), (String)null) + " rejected: " + e.getMessage());
+            throw e;
+        }
+        
+        return processingUnitRunnableHandle.getHandle();
     }
 
 
@@ -184,10 +442,15 @@ public class ProcessingExecuterImpl implements IProcessingExecuter, IProcessingU
     public List<IProcessingUnitRunnable> execute(ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer) {
         List<IProcessingUnitRunnable> resultList = new ArrayList<IProcessingUnitRunnable>();
         if (processingExecuterPersistenceContainer != null && processingExecuterPersistenceContainer.getSuspendedStateList() != null) {
-            for (byte[] suspendedState : processingExecuterPersistenceContainer.getSuspendedStateList()) {
-                ProcessingUnitRunnable p = new ProcessingUnitRunnable(suspendedState, this);
-                resultList.add(p);
-                execute(p);
+            for (ProcessingSuspendedState suspendedState : processingExecuterPersistenceContainer.getSuspendedStateEntryList()) {
+                resultList.add(resume(suspendedState));
+            }
+        }
+        
+        // the pending schedules are continued, the missed execution times are executed once
+        if (processingExecuterPersistenceContainer != null) {
+            for (ProcessingScheduleReference processingScheduleReference : processingExecuterPersistenceContainer.getScheduleReferenceList()) {
+                resume(processingScheduleReference);
             }
         }
         
@@ -196,207 +459,2113 @@ public class ProcessingExecuterImpl implements IProcessingExecuter, IProcessingU
 
     
     /**
-     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#shutdown()
+     * Start processings of a group
+     *
+     * @param processingGroup the processing group
+     * @param processingUnitReferenceList the processings to start
+     * @param throwRejection true to throw a rejection, in this case the remaining processings are skipped; otherwise 
+     *        only the rejected processing is skipped
+     * @return the started processing unit runnable list
+     * @throws ProcessingRejectedException In case a processing can't be accepted and throwRejection is true
      */
-    @Override
-    public ProcessingExecuterPersistenceContainer shutdown() {
-        processingExecuterPersistenceContainer = new ProcessingExecuterPersistenceContainer();
+    protected List<IProcessingUnitRunnable> execute(ProcessingGroup processingGroup, List<ProcessingUnitReference> processingUnitReferenceList, boolean throwRejection) throws ProcessingRejectedException {
+        final List<IProcessingUnitRunnable> resultList = new ArrayList<IProcessingUnitRunnable>();
+        for (int i = 0; i < processingUnitReferenceList.size(); i++) {
+            final ProcessingUnitReference p = processingUnitReferenceList.get(i);
+            processingGroupMap.put(p.getId(), processingGroup);
+
+            try {
+                if (p.getNumberOfPartitions() > 1) {
+                    resultList.addAll(executePartitions(p, processingGroup.getProcessingUnitContext()));
+                } else {
+                    processingPriorityMap.put(p.getId(), p.getPriority());
+                    processingIdTenantMap.put(p.getId(), getTenant(p.getTenant()));
+                    scheduleTimeout(p.getId(), p);
+                    registerRetry(p.getId(), p, p.getParameterList(), processingGroup.getProcessingUnitContext());
+                    resultList.add(execute(new ProcessingUnitRunnable(p.getId(), p.getName(), p.getProcessingUnitClass(), p.getParameterList(), processingGroup.getProcessingUnitContext(), this)));
+                }
+            } catch (ProcessingRejectedException e) {
+                processingGroupMap.remove(p.getId());
+                processingGroup.reject(p.getId());
+                if (throwRejection) {
+                    for (int j = i + 1; j < processingUnitReferenceList.size(); j++) {
+                        processingGroup.reject(processingUnitReferenceList.get(j).getId());
+                    }
+                    
+                    cancelProcessing(processingGroup.getSkippedIdList());
+                    throw e;
+                }
+                
+                cancelProcessing(processingGroup.getSkippedIdList());
+            }
+        }
         
-        for (String id : processingUnitRunnableMap.keySet()) {
-            suspendProcessing(id);
+        return resultList;
+    }
+
+
+    /**
+     * Update the stable handle of a processing with its current processing unit runnable, it is created in case it doesn't exist
+     *
+     * @param id the id of the processing
+     * @param processingUnitRunnable the current processing unit runnable
+     * @return the handle
+     */
+    protected ProcessingUnitRunnableHandle updateProcessingUnitRunnableHandle(String id, ProcessingUnitRunnable processingUnitRunnable) {
+        final ProcessingUnitRunnableHandle processingUnitRunnableHandle = processingUnitRunnableHandleMap.computeIfAbsent(id, key -> new ProcessingUnitRunnableHandle(processingUnitRunnable));
+        processingUnitRunnableHandle.setProcessingUnitRunnable(processingUnitRunnable);
+        return processingUnitRunnableHandle;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#resume(com.github.toolarium.processing.engine.impl.executer.dto.ProcessingSuspendedState)
+     */
+    @Override
+    public IProcessingUnitRunnable resume(ProcessingSuspendedState suspendedState) {
+        return execute(new ProcessingUnitRunnable(suspendedState.getSuspendedState(), this));
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#resume(com.github.toolarium.processing.engine.impl.executer.dto.ProcessingScheduleReference)
+     */
+    @Override
+    public void resume(ProcessingScheduleReference processingScheduleReference) {
+        try {
+            processingScheduler.schedule(processingScheduleReference);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not resume the schedule " + processingScheduleReference + ": " + e.getMessage());
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#resumeCheckpoints()
+     */
+    @Override
+    public List<IProcessingUnitRunnable> resumeCheckpoints() {
+        final List<IProcessingUnitRunnable> resultList = new ArrayList<IProcessingUnitRunnable>();
+        if (processingCheckpointStore == null) {
+            return resultList;
         }
         
-        while (!processingUnitRunnableMap.isEmpty()) {
-            for (ProcessingUnitRunnable p : processingUnitRunnableMap.values()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug(ProcessingUnitUtil.getInstance().toString(p.getId(), p.getName(), (String)null /*p.getprocessingUnitClass*/) + " wait on is going to: " + p.getProcessingActionStatus());
-                }
+        processingCheckpointStore.read(suspendedState -> {
+            try {
+                resultList.add(resume(suspendedState));
+            } catch (RuntimeException e) {
+                LOG.warn("Could not resume the checkpoint of the processing " + suspendedState.getId() + ": " + e.getMessage());
             }
-            
-            ThreadUtil.getInstance().sleep(1000L);
+        });
+        
+        if (!resultList.isEmpty()) {
+            LOG.info("Resumed " + resultList.size() + " processings from the checkpoints of " + processingCheckpointStore.getDirectory() + ".");
         }
         
-        return processingExecuterPersistenceContainer;
+        return resultList;
     }
-    
-    
+
+
     /**
-     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#getStatus()
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#getInterruptedProcessingList()
      */
     @Override
-    public IProcessingExecuterStatus getStatus() {
-        ProcessingExecuterStatus p = new ProcessingExecuterStatus();
-        p.setCorePoolSize(corePoolSize);
-        p.setMaxPoolSize(maximumPoolSize);
-        p.setKeepAliveTimeInSeconds(keepAliveTimeInSeconds);
-        p.setNumberOfRunningProcessings(processingUnitRunnableMap.size());
-        return p;
+    public List<IProcessingJournalEntry> getInterruptedProcessingList() {
+        if (processingJournal == null) {
+            return List.of();
+        }
+        
+        return processingJournal.getInterruptedProcessingList();
     }
 
-    
+
     /**
-     * Set a process unit throttling
-     *
-     * @param id the id
-     * @param maxNumberOfProcessingUnitCallsPerSecond the max number of processing units per second
-     * @return this instance
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#acknowledgeInterruptedProcessing(java.lang.String)
      */
-    public ProcessingExecuterImpl setMaxNumberOfProcessingUnitCallsPerSecond(String id, Long maxNumberOfProcessingUnitCallsPerSecond) {
-        ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
-        if (p != null) {
-            p.setMaxNumberOfProcessingUnitCallsPerSecond(maxNumberOfProcessingUnitCallsPerSecond);
+    @Override
+    public boolean acknowledgeInterruptedProcessing(String id) {
+        if (processingJournal == null) {
+            return false;
         }
         
-        return this;
+        return processingJournal.acknowledgeInterrupted(id);
     }
 
-    
+
     /**
-     * Set the processing listener
-     *
-     * @param processingListener the processing listener 
-     * @return this instance
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#submit(java.lang.String, java.lang.String, java.lang.Class, java.util.List, com.github.toolarium.processing.unit.IProcessingUnitContext)
      */
-    public ProcessingExecuterImpl setProcessingExecuterListener(IProcessingListener processingListener) {
-        this.processingListener = processingListener;
-        return this;
+    @Override
+    public IProcessingHandle submit(String id, String name, Class<? extends IProcessingUnit> processingUnitClass, List<Parameter> parameterList, IProcessingUnitContext processingUnitContext) throws ProcessingRejectedException {
+        List<ProcessingUnitReference> list = new ProcessingExecutionBuilder().name(name).processingUnitClass(processingUnitClass).parameters(parameterList.toArray(Parameter[]::new)).build();
+        final ProcessingUnitReference processingUnitReference = list.get(0);
+        if (id != null && !id.isBlank()) {
+            // the reference has already a generated id, the future needs the final id
+            processingUnitReference.setId(id);
+        }
+        
+        final CompletableFuture<IProcessingResult> result = new CompletableFuture<IProcessingResult>();
+        
+        // register the future before the start, otherwise a fast processing could end before
+        processingResultFutureMap.put(processingUnitReference.getId(), result);
+        try {
+            execute(list, processingUnitContext);
+        } catch (RuntimeException e) {
+            processingResultFutureMap.remove(processingUnitReference.getId());
+            throw e;
+        }
+        
+        return new ProcessingHandle(processingUnitReference.getId(), processingUnitReference.getName(), result);
     }
-    
-    
 
 
     /**
-     * @see com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnableListener#notifyProcessingUnitProgress(java.lang.String, java.lang.String, java.lang.String, java.util.List, 
-     *      com.github.toolarium.processing.unit.IProcessingUnitContext, com.github.toolarium.processing.unit.IProcessingUnitProgress, com.github.toolarium.processing.unit.dto.ProcessingActionStatus, 
-     *      com.github.toolarium.processing.unit.dto.ProcessingRuntimeStatus, java.util.List, com.github.toolarium.processing.unit.runtime.IProcessingUnitRuntimeTimeMeasurement, com.github.toolarium.common.bandwidth.IBandwidthThrottling, int)
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#executeAll(java.util.List, com.github.toolarium.processing.unit.IProcessingUnitContext)
      */
     @Override
-    public void notifyProcessingUnitProgress(String id, // CHECKSTYLE IGNORE THIS LINE
-                                             String name, 
-                                             String processingUnitClass,
-                                             List<Parameter> parameters, 
-                                             IProcessingUnitContext processingUnitContext,
-                                             IProcessingUnitProgress processingProgress, 
-                                             ProcessingActionStatus processingActionStatus,
-                                             ProcessingRuntimeStatus processingRuntimeStatus, 
-                                             List<String> messages,
-                                             IProcessingUnitRuntimeTimeMeasurement timeMeasurement, 
-                                             IBandwidthThrottling processingUnitThrottling,
-                                             int lastProgressInPercentage) {
-        if (processingListener != null) {
-            processingListener.notifyProcessingUnitProgress(id, 
-                                                            name, 
-                                                            processingUnitClass, 
-                                                            parameters,
-                                                            processingUnitContext, 
-                                                            processingProgress, 
-                                                            processingActionStatus, 
-                                                            processingRuntimeStatus,
-                                                            messages, 
-                                                            timeMeasurement, 
-                                                            processingUnitThrottling, 
-                                                            lastProgressInPercentage);
+    public List<IProcessingHandle> executeAll(List<ProcessingUnitReference> processingUnitReferenceList, IProcessingUnitContext inputProcessingUnitContext) throws ProcessingRejectedException {
+        final List<IProcessingHandle> resultList = new ArrayList<IProcessingHandle>();
+        if (processingUnitReferenceList == null || processingUnitReferenceList.isEmpty()) {
+            return resultList;
+        }
+
+        // the ids are validated before any processing is started
+        final Set<String> idSet = new HashSet<String>();
+        for (ProcessingUnitReference p : processingUnitReferenceList) {
+            if (p.getId() == null || !idSet.add(p.getId()) || processingUnitRunnableMap.containsKey(p.getId()) || processingResultFutureMap.containsKey(p.getId())) {
+                throw new IllegalArgumentException("Duplicate processing id " + p.getId() + "!");
+            }
+        }
+
+        IProcessingUnitContext processingUnitContext = inputProcessingUnitContext;
+        if (processingUnitContext == null) {
+            processingUnitContext = new ProcessingUnitContext();
+        }
+        
+        // the batch is admitted once, the processings are independent and don't need a group
+        admitProcessing(processingUnitReferenceList);
+        final List<ProcessingUnitRunnable> startList = new ArrayList<ProcessingUnitRunnable>(processingUnitReferenceList.size());
+        for (ProcessingUnitReference p : processingUnitReferenceList) {
+            final CompletableFuture<IProcessingResult> result = new CompletableFuture<IProcessingResult>();
+            processingResultFutureMap.put(p.getId(), result);
+            resultList.add(new ProcessingHandle(p.getId(), p.getName(), result));
+
+            processingPriorityMap.put(p.getId(), p.getPriority());
+            processingIdTenantMap.put(p.getId(), getTenant(p.getTenant()));
+            scheduleTimeout(p.getId(), p);
+            registerRetry(p.getId(), p, p.getParameterList(), processingUnitContext);
+            
+            final ProcessingUnitRunnable processingUnitRunnable = new ProcessingUnitRunnable(p.getId(), p.getName(), p.getProcessingUnitClass(), p.getParameterList(), processingUnitContext, this);
+            processingUnitRunnableMap.put(p.getId(), processingUnitRunnable);
+            registerStepInterceptor(p.getId());
+            if (processingJournal != null) {
+                processingJournal.submit(p.getId(), p.getName(), processingUnitRunnable.getProcessingUnitClass());
+            }
+            try {
+                // a processing which exceeds the concurrency limit of its processing unit class waits in the queue of the bulkhead
+                if (acquireProcessing(processingUnitRunnable)) {
+                    startList.add(processingUnitRunnable);
+                }
+            } catch (ProcessingRejectedException e) {
+                rejectProcessing(processingUnitRunnable, e);
+            }
         }
+        
+        startAll(startList);
+        return resultList;
     }
 
-    
+
     /**
-     * @see com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnableListener#notifyProcessingUnitState(java.lang.String, java.lang.String, java.lang.String, com.github.toolarium.processing.unit.dto.ProcessingActionStatus, 
-     *      com.github.toolarium.processing.unit.dto.ProcessingActionStatus, com.github.toolarium.processing.unit.IProcessingUnitProgress, 
-     *      com.github.toolarium.processing.unit.runtime.IProcessingUnitRuntimeTimeMeasurement, com.github.toolarium.processing.unit.IProcessingUnitContext)
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#awaitAll(long, java.util.concurrent.TimeUnit)
      */
     @Override
-    public void notifyProcessingUnitState(String id, 
-                                          String name, 
-                                          String processingUnitClass, 
-                                          ProcessingActionStatus previousProcessingActionStatus, 
-                                          ProcessingActionStatus processingActionStatus, 
-                                          IProcessingUnitProgress processingUnitProgress, 
-                                          IProcessingUnitRuntimeTimeMeasurement runtimeTimeMeasurment, 
-                                          IProcessingUnitContext processingUnitContext) {
-        if (processingListener != null) {
-            processingListener.notifyProcessingUnitState(id, name, processingUnitClass, previousProcessingActionStatus, processingActionStatus, processingUnitProgress, runtimeTimeMeasurment, processingUnitContext);
+    public boolean awaitAll(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        synchronized (processingEndLock) {
+            while (!processingUnitRunnableMap.isEmpty()) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                
+                TimeUnit.NANOSECONDS.timedWait(processingEndLock, remaining);
+            }
         }
         
-        if (ProcessingActionStatus.ABORTED.equals(processingActionStatus) || ProcessingActionStatus.ENDED.equals(processingActionStatus)) {
-            IProcessingUnitRunnable processingUnitRunnable = processingUnitRunnableMap.remove(id);
-            if (processingUnitRunnable == null) {
-                return;
+        return true;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#executeGroup(java.util.List, com.github.toolarium.processing.unit.IProcessingUnitContext)
+     */
+    @Override
+    public IProcessingGroup executeGroup(List<ProcessingUnitReference> processingUnitReferenceList, IProcessingUnitContext inputProcessingUnitContext) throws IllegalArgumentException {
+        IProcessingUnitContext processingUnitContext = inputProcessingUnitContext;
+        if (processingUnitContext == null) {
+            processingUnitContext = new ProcessingUnitContext();
+        }
+
+        admitProcessing(processingUnitReferenceList);
+        ProcessingGroup processingGroup = createProcessingGroup(processingUnitReferenceList, processingUnitContext);
+        execute(processingGroup, processingGroup.start(), true);
+        return processingGroup;
+    }
+
+
+    /**
+     * Create a processing group. The output channels of the processings are created before any processing is started.
+     *
+     * @param processingUnitReferenceList the processing unit reference list 
+     * @param processingUnitContext the processing context which is shared by the processings of the group.
+     * @return the processing group
+     * @throws IllegalArgumentException In case of duplicate ids, unknown or cyclic dependencies
+     */
+    protected ProcessingGroup createProcessingGroup(List<ProcessingUnitReference> processingUnitReferenceList, IProcessingUnitContext processingUnitContext) throws IllegalArgumentException {
+        ProcessingGroup processingGroup = new ProcessingGroup(processingUnitReferenceList, processingUnitContext);
+        processingGroup.setProcessingGroupController(this);
+        for (ProcessingUnitReference p : processingUnitReferenceList) {
+            // the processing units get the channel names scoped by this executer
+            if (p.getInputChannelName() != null) {
+                scopeChannelParameter(p.getParameterList(), ProcessingChannelUtil.INPUT_CHANNEL_PARAMETER.getKey(), p.getInputChannelName());
             }
             
-            if (processingListener != null) {
-                // collect all information together
-                ProcessingResult result = new ProcessingResult();
-                result.setId(processingUnitRunnable.getId());
-                result.setName(processingUnitRunnable.getName());
-                result.setProcessingUnitClassname(processingUnitClass);
-                result.setStartTimestamp(processingUnitRunnable.getTimeMeasurement().getStartTimestamp());
-                result.setStopTimestamp(processingUnitRunnable.getTimeMeasurement().getStopTimestamp());
-                result.setProcessingDuration(processingUnitRunnable.getTimeMeasurement().getDuration());
-                result.setNumberOfProcessedUnits(processingUnitProgress.getNumberOfProcessedUnits());
-                result.setNumberOfSuccessfulUnits(processingUnitProgress.getNumberOfSuccessfulUnits());
-                result.setNumberOfFailedUnits(processingUnitProgress.getNumberOfFailedUnits());
-                result.setProgress(processingUnitProgress.getProgress());
-                result.setProcessingRuntimeStatus(processingUnitRunnable.getProcessingRuntimeStatus());
-                result.setIsAborted(ProcessingActionStatus.ABORTED.equals(processingActionStatus));
-                result.setStatusMessageList(processingUnitRunnable.getStatusMessageList());
-                result.setProcessingStatistic(new IProcessingStatistic() {
-                 
-                    /**
-                     * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#keySet()
-                     */
-                    @Override
-                    public Set<String> keySet() {
-                        return processingUnitProgress.getProcessingUnitStatistic().keySet();
-                    }
-
+            if (p.getOutputChannelName() != null) {
+                scopeChannelParameter(p.getParameterList(), ProcessingChannelUtil.OUTPUT_CHANNEL_PARAMETER.getKey(), p.getOutputChannelName());
+                processingChannelRegistry.create(p.getOutputChannelName(), p.getOutputChannelCapacity());
+            }
+        }
+        
+        return processingGroup;
+    }
 
-                    /**
-                     * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#isEmpty()
-                     */
-                    @Override
-                    public boolean isEmpty() {
-                        return processingUnitProgress.getProcessingUnitStatistic().isEmpty();
-                    }
-                    
-                    
-                    /**
-                     * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#hasKey(java.lang.String)
-                     */
-                    @Override
-                    public boolean hasKey(String key) {
-                        return processingUnitProgress.getProcessingUnitStatistic().hasKey(key);
-                    }
 
-                    
-                    /**
-                     * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#get(java.lang.String)
-                     */
-                    @Override
-                    public StatisticCounter get(String key) {
-                        return processingUnitProgress.getProcessingUnitStatistic().get(key);
-                    }
-                });
-                processingListener.notifyProcessEnd(result);
+    /**
+     * Create the queue of the worker threads and define the pool size: with time slicing or a bounded queue the number of 
+     * worker threads is fixed, otherwise the processings are handed over to a new worker thread.
+     *
+     * @param agingIntervalInMilliseconds the aging interval of the run queue in milliseconds
+     * @return the queue
+     */
+    protected BlockingQueue<Runnable> createQueue(long agingIntervalInMilliseconds) {
+        final BlockingQueue<Runnable> queue;
+        if (timeSliceInMilliseconds > 0) {
+            // the processings share a fixed number of worker threads
+            if (maximumPoolSize == Integer.MAX_VALUE) {
+                maximumPoolSize = Runtime.getRuntime().availableProcessors();
             }
-        } else if (ProcessingActionStatus.SUSPENDED.equals(processingActionStatus)) {
-            ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
-            if (p != null) {
-                final byte[] suspendedState = p.getSuspendedState();
-                if (suspendedState != null && suspendedState.length > 0) {
-                    processingExecuterPersistenceContainer.add(suspendedState);
-                }
-                
-                processingUnitRunnableMap.remove(id);
+            
+            corePoolSize = maximumPoolSize;
+            if (queueCapacity > 0) {
+                processingRunQueue = new ProcessingRunQueue(queueCapacity, agingIntervalInMilliseconds, this::getPriority, this::getTenant);
+            } else {
+                processingRunQueue = new ProcessingRunQueue(Integer.MAX_VALUE, agingIntervalInMilliseconds, this::getPriority, this::getTenant);
             }
-        } else {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(ProcessingUnitUtil.getInstance().toString(id, name, processingUnitClass) + " is going to: " + processingActionStatus);
+            queue = processingRunQueue;
+        } else if (queueCapacity > 0 && ProcessingExecutionMode.VIRTUAL_THREAD.equals(executionMode) && maximumPoolSize == Integer.MAX_VALUE) {
+            // the virtual threads are not bounded by the processors, every processing gets its own virtual thread 
+            LOG.info("The queue capacity " + queueCapacity + " is not used, the virtual threads are only bounded by the max number of worker threads.");
+            corePoolSize = 0;
+            processingRunQueue = null;
+            queue = new SynchronousQueue<Runnable>();
+        } else if (queueCapacity > 0) {
+            // the worker threads are fixed, the processings wait in the bounded queue
+            if (maximumPoolSize == Integer.MAX_VALUE) {
+                maximumPoolSize = Runtime.getRuntime().availableProcessors();
             }
+            
+            corePoolSize = maximumPoolSize;
+            processingRunQueue = new ProcessingRunQueue(queueCapacity, agingIntervalInMilliseconds, this::getPriority, this::getTenant);
+            queue = processingRunQueue;
+        } else {
+            corePoolSize = 0;
+            processingRunQueue = null;
+            queue = new SynchronousQueue<Runnable>();
         }
+        
+        if (processingLoadShedder.isActive() && processingRunQueue == null) {
+            LOG.warn("The load shedding has no queue of the worker threads (queue capacity 0), only the processings which wait in the queue of their bulkhead are delayed.");
+        }
+        
+        return queue;
     }
 
 
+    /**
+     * Create the admission handler: a processing which runs in the caller thread passes its steps like on a worker thread
+     *
+     * @param processingEngineConfiguration the processing engine configuration
+     * @return the admission handler
+     */
+    protected ProcessingAdmissionHandler createAdmissionHandler(IProcessingEngineConfiguration processingEngineConfiguration) {
+        return new ProcessingAdmissionHandler(processingEngineConfiguration.getAdmissionPolicy(), processingEngineConfiguration.getAdmissionTimeoutInMilliseconds()) {
+            
+            /**
+             * @see com.github.toolarium.processing.engine.impl.executer.impl.ProcessingAdmissionHandler#runInCallerThread(java.lang.Runnable)
+             */
+            @Override
+            protected void runInCallerThread(Runnable r) {
+                // like a worker thread the caller thread passes the steps, the caller can be a worker thread of a predecessor
+                final IProcessingStepInterceptor previousProcessingStepInterceptor = ProcessingStepInstanceManager.getInstance().bind(ProcessingExecuterImpl.this);
+                try {
+                    measureQueueDelay(r);
+                    startTimeSlice(r);
+                    super.runInCallerThread(r);
+                } finally {
+                    ProcessingStepInstanceManager.getInstance().bind(previousProcessingStepInterceptor);
+                }
+            }
+        };
+    }
+
+
+    /**
+     * Create the processing checkpoint store, it is only created in case a checkpoint interval and directory are configured
+     *
+     * @param processingEngineConfiguration the processing engine configuration
+     * @return the processing checkpoint store or null
+     */
+    protected ProcessingCheckpointStore createProcessingCheckpointStore(IProcessingEngineConfiguration processingEngineConfiguration) {
+        if (checkpointIntervalInMilliseconds <= 0 || processingEngineConfiguration.getCheckpointDirectory() == null || processingEngineConfiguration.getCheckpointDirectory().isBlank()) {
+            return null;
+        }
+
+        return new ProcessingCheckpointStore(Paths.get(processingEngineConfiguration.getCheckpointDirectory()), 
+                                             Math.max(0, processingEngineConfiguration.getPersistenceCompressionThreshold()));
+    }
+
+
+    /**
+     * Create the processing journal, it is only created in case a journal directory is configured
+     *
+     * @param processingEngineConfiguration the processing engine configuration
+     * @return the processing journal or null
+     */
+    protected ProcessingJournal createProcessingJournal(IProcessingEngineConfiguration processingEngineConfiguration) {
+        if (processingEngineConfiguration.getJournalDirectory() == null || processingEngineConfiguration.getJournalDirectory().isBlank()) {
+            return null;
+        }
+
+        return new ProcessingJournal(Paths.get(processingEngineConfiguration.getJournalDirectory()),
+                                     processingEngineConfiguration.getJournalSegmentSize(),
+                                     Math.max(0L, processingEngineConfiguration.getJournalCommitIntervalInMilliseconds()));
+    }
+
+
+    /**
+     * Execute a processing unit once per partition. The partitions share the worker threads with all other processings
+     * and the results of the partitions are merged into one result with the id of the processing.
+     *
+     * @param processingUnitReference the processing unit reference
+     * @param processingUnitContext the processing unit context
+     * @return the processing unit runnable list of the partitions
+     * @throws ProcessingRejectedException In case a partition can't be accepted, the already started partitions are processed
+     */
+    protected List<IProcessingUnitRunnable> executePartitions(ProcessingUnitReference processingUnitReference, IProcessingUnitContext processingUnitContext) throws ProcessingRejectedException {
+        final int numberOfPartitions = processingUnitReference.getNumberOfPartitions();
+        final ProcessingPartitionGroup processingPartitionGroup = new ProcessingPartitionGroup(processingUnitReference.getId(), processingUnitReference.getName(), numberOfPartitions);
+        final List<IProcessingUnitRunnable> resultList = new ArrayList<IProcessingUnitRunnable>();
+        
+        for (int i = 0; i < numberOfPartitions; i++) {
+            final String partitionId = processingPartitionGroup.getPartitionId(i);
+            final List<Parameter> parameterList = ProcessingPartitionUtil.getInstance().createPartitionParameterList(processingUnitReference.getParameterList(), i, numberOfPartitions);
+            processingPartitionGroupMap.put(partitionId, processingPartitionGroup);
+            processingPriorityMap.put(partitionId, processingUnitReference.getPriority());
+            processingIdTenantMap.put(partitionId, getTenant(processingUnitReference.getTenant()));
+            scheduleTimeout(partitionId, processingUnitReference);
+            registerRetry(partitionId, processingUnitReference, parameterList, processingUnitContext);
+            
+            try {
+                resultList.add(execute(new ProcessingUnitRunnable(partitionId, processingUnitReference.getName(), processingUnitReference.getProcessingUnitClass(), parameterList, processingUnitContext, this)));
+            } catch (ProcessingRejectedException e) {
+                processingPartitionGroupMap.remove(partitionId);
+                notifyProcessEnd(processingPartitionGroup.reduce(i));
+                throw e;
+            }
+        }
+        
+        return resultList;
+    }
+    
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#shutdown()
+     */
+    @Override
+    public ProcessingExecuterPersistenceContainer shutdown() {
+        final ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer = new ProcessingExecuterPersistenceContainer();
+        final List<ProcessingScheduleReference> scheduleReferenceList = new ArrayList<ProcessingScheduleReference>();
+        shutdown(processingExecuterPersistenceContainer::add, scheduleReferenceList::add);
+        processingExecuterPersistenceContainer.addSchedules(scheduleReferenceList);
+        return processingExecuterPersistenceContainer;
+    }
+    
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#shutdown(java.util.function.Consumer, java.util.function.Consumer)
+     */
+    @Override
+    public void shutdown(Consumer<ProcessingSuspendedState> suspendedStateConsumer, Consumer<ProcessingScheduleReference> scheduleReferenceConsumer) {
+        // the processings which were suspended by their timeout or their group before are passed first, the others as soon as 
+        // their worker thread suspends them
+        synchronized (suspendedStateLock) {
+            shutdownException = null;
+            persistedIdList.clear();
+            shutdownSuspendedStateConsumer = suspendedStateConsumer;
+            for (ProcessingSuspendedState suspendedState = suspendedStateQueue.poll(); suspendedState != null; suspendedState = suspendedStateQueue.poll()) {
+                keepSuspendedState(suspendedState);
+            }
+        }
+        
+        isShuttingDown = true;
+        for (ProcessingScheduleReference processingScheduleReference : processingScheduler.shutdown()) {
+            passShutdownEntry(scheduleReferenceConsumer, processingScheduleReference);
+        }
+        
+        scheduleExecutor.shutdownNow();
+        if (timeSliceExecutor != null) {
+            timeSliceExecutor.shutdownNow();
+        }
+        
+        if (checkpointExecutor != null) {
+            checkpointExecutor.shutdownNow();
+        }
+        
+        if (timerWheelExecutor != null) {
+            timerWheelExecutor.shutdownNow();
+        }
+        
+        // the pending retries are kept with the suspended state of their last attempt
+        for (String id : new ArrayList<String>(processingRetryMap.keySet())) {
+            keepPendingRetry(id);
+        }
+        
+        // the throttled processings have to suspend as well
+        for (String id : new ArrayList<String>(throttledContinuationMap.keySet())) {
+            continueThrottledProcessing(id);
+        }
+        
+        // signal all processings at once, every suspend or end signals the waiting thread
+        for (String id : processingUnitRunnableMap.keySet()) {
+            suspendProcessing(id);
+        }
+        
+        if (!awaitSuspend()) {
+            abortProcessing();
+        }
+        
+        // the suspended processings don't end in this executer
+        cancelProcessing(new ArrayList<String>(processingResultFutureMap.keySet()));
+        for (ProcessingGroup processingGroup : new HashSet<ProcessingGroup>(processingGroupMap.values())) {
+            processingGroup.getResult().cancel(false);
+        }
+        
+        if (processingPinningMonitor != null) {
+            processingPinningMonitor.stop();
+            processingPinningMonitor = null;
+        }
+        
+        final RuntimeException e;
+        synchronized (suspendedStateLock) {
+            shutdownSuspendedStateConsumer = null;
+            e = shutdownException;
+        }
+        
+        // the processings of the persisted content don't need their checkpoints anymore, the aborted ones keep them. In case
+        // the content is not completely passed all checkpoints are kept.
+        if (processingCheckpointStore != null) {
+            if (e == null) {
+                for (String id : persistedIdList) {
+                    processingCheckpointStore.remove(id);
+                }
+            }
+            
+            persistedIdList.clear();
+            suspendedCheckpointSet.clear();
+            
+            processingCheckpointStore.close(shutdownTimeoutInMilliseconds);
+        }
+        
+        if (processingJournal != null) {
+            processingJournal.close();
+        }
+        
+        processingChannelRegistry.close();
+        
+        // the processing unit runtime gets its instance manager back in case no other processing engine intercepts steps
+        ProcessingStepInstanceManager.getInstance().uninstall();
+        
+        if (e != null) {
+            throw e;
+        }
+    }
+    
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#getProcessingChannelRegistry()
+     */
+    @Override
+    public IProcessingChannelRegistry getProcessingChannelRegistry() {
+        return processingChannelRegistry;
+    }
+    
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter#getStatus()
+     */
+    @Override
+    public IProcessingExecuterStatus getStatus() {
+        ProcessingExecuterStatus p = new ProcessingExecuterStatus();
+        p.setCorePoolSize(corePoolSize);
+        p.setMaxPoolSize(maximumPoolSize);
+        p.setKeepAliveTimeInSeconds(keepAliveTimeInSeconds);
+        p.setPoolSize(threadPoolExecutor.getPoolSize());
+        p.setNumberOfRunningProcessings(processingUnitRunnableMap.size());
+        p.setNumberOfQueuedProcessings(threadPoolExecutor.getQueue().size());
+        p.setQueueCapacity(queueCapacity);
+        p.setNumberOfRejectedProcessings(processingAdmissionHandler.getNumberOfRejectedProcessings());
+        p.setNumberOfCallerRunsProcessings(processingAdmissionHandler.getNumberOfCallerRunsProcessings());
+        p.setAdmissionPolicy(processingAdmissionHandler.getAdmissionPolicy());
+        p.setExecutionMode(executionMode);
+        final ProcessingPinningMonitor pinningMonitor = processingPinningMonitor;
+        if (pinningMonitor != null) {
+            p.setNumberOfCarrierThreadPinnings(pinningMonitor.getNumberOfPinnedEvents());
+        }
+        p.setTimeSliceInMilliseconds(timeSliceInMilliseconds);
+        p.setProcessingChannelStatusList(processingChannelRegistry.getStatusList());
+        p.setNumberOfTimeSliceSwitches(numberOfTimeSliceSwitches.get());
+        
+        List<IProcessingBulkheadStatus> processingBulkheadStatusList = new ArrayList<IProcessingBulkheadStatus>();
+        for (ProcessingBulkhead processingBulkhead : processingBulkheadMap.values()) {
+            processingBulkheadStatusList.add(processingBulkhead.getStatus());
+        }
+        p.setProcessingBulkheadStatusList(processingBulkheadStatusList);
+
+        List<IProcessingTenantStatus> processingTenantStatusList = new ArrayList<IProcessingTenantStatus>();
+        for (ProcessingTenant processingTenant : processingTenantMap.values()) {
+            processingTenantStatusList.add(processingTenant.getStatus());
+        }
+        p.setProcessingTenantStatusList(processingTenantStatusList);
+        p.setProcessingRateLimitStatusList(processingRateLimiter.getStatusList());
+
+        List<IProcessingConcurrencyLimitStatus> processingConcurrencyLimitStatusList = new ArrayList<IProcessingConcurrencyLimitStatus>();
+        for (ProcessingConcurrencyLimit processingConcurrencyLimit : processingConcurrencyLimitMap.values()) {
+            processingConcurrencyLimitStatusList.add(processingConcurrencyLimit.getStatus());
+        }
+        p.setProcessingConcurrencyLimitStatusList(processingConcurrencyLimitStatusList);
+        p.setProcessingLoadSheddingStatus(processingLoadShedder.getStatus());
+        p.setNumberOfTimedOutProcessings(numberOfTimedOutProcessings.get());
+        p.setNumberOfRetries(numberOfRetries.get());
+        p.setProcessingSchedulerStatus(processingScheduler.getStatus());
+        return p;
+    }
+
+    
+    /**
+     * Get the rate limiter
+     *
+     * @return the rate limiter
+     */
+    public ProcessingRateLimiter getProcessingRateLimiter() {
+        return processingRateLimiter;
+    }
+
+
+    /**
+     * Get the scheduler of the delayed, fixed rate and cron executions
+     *
+     * @return the scheduler
+     */
+    public ProcessingScheduler getProcessingScheduler() {
+        return processingScheduler;
+    }
+
+    
+    /**
+     * Set a process unit throttling
+     *
+     * @param id the id
+     * @param maxNumberOfProcessingUnitCallsPerSecond the max number of processing units per second
+     * @return this instance
+     */
+    public ProcessingExecuterImpl setMaxNumberOfProcessingUnitCallsPerSecond(String id, Long maxNumberOfProcessingUnitCallsPerSecond) {
+        ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
+        if (p != null) {
+            p.setMaxNumberOfProcessingUnitCallsPerSecond(maxNumberOfProcessingUnitCallsPerSecond);
+        }
+        
+        return this;
+    }
+
+    
+    /**
+     * Set the processing listener
+     *
+     * @param processingListener the processing listener 
+     * @return this instance
+     */
+    public ProcessingExecuterImpl setProcessingExecuterListener(IProcessingListener processingListener) {
+        this.processingListener = processingListener;
+        return this;
+    }
+    
+    
+
+
+    /**
+     * @see com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnableListener#notifyProcessingUnitProgress(java.lang.String, java.lang.String, java.lang.String, java.util.List, 
+     *      com.github.toolarium.processing.unit.IProcessingUnitContext, com.github.toolarium.processing.unit.IProcessingUnitProgress, com.github.toolarium.processing.unit.dto.ProcessingActionStatus, 
+     *      com.github.toolarium.processing.unit.dto.ProcessingRuntimeStatus, java.util.List, com.github.toolarium.processing.unit.runtime.IProcessingUnitRuntimeTimeMeasurement, com.github.toolarium.common.bandwidth.IBandwidthThrottling, int)
+     */
+    @Override
+    public void notifyProcessingUnitProgress(String id, // CHECKSTYLE IGNORE THIS LINE
+                                             String name, 
+                                             String processingUnitClass,
+                                             List<Parameter> parameters, 
+                                             IProcessingUnitContext processingUnitContext,
+                                             IProcessingUnitProgress processingProgress, 
+                                             ProcessingActionStatus processingActionStatus,
+                                             ProcessingRuntimeStatus processingRuntimeStatus, 
+                                             List<String> messages,
+                                             IProcessingUnitRuntimeTimeMeasurement timeMeasurement, 
+                                             IBandwidthThrottling processingUnitThrottling,
+                                             int lastProgressInPercentage) {
+        if (processingListener != null) {
+            processingListener.notifyProcessingUnitProgress(id, 
+                                                            name, 
+                                                            processingUnitClass, 
+                                                            parameters,
+                                                            processingUnitContext, 
+                                                            processingProgress, 
+                                                            processingActionStatus, 
+                                                            processingRuntimeStatus,
+                                                            messages, 
+                                                            timeMeasurement, 
+                                                            processingUnitThrottling, 
+                                                            lastProgressInPercentage);
+        }
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnableListener#notifyProcessingUnitState(java.lang.String, java.lang.String, java.lang.String, com.github.toolarium.processing.unit.dto.ProcessingActionStatus, 
+     *      com.github.toolarium.processing.unit.dto.ProcessingActionStatus, com.github.toolarium.processing.unit.IProcessingUnitProgress, 
+     *      com.github.toolarium.processing.unit.runtime.IProcessingUnitRuntimeTimeMeasurement, com.github.toolarium.processing.unit.IProcessingUnitContext)
+     */
+    @Override
+    public void notifyProcessingUnitState(String id, 
+                                          String name, 
+                                          String processingUnitClass, 
+                                          ProcessingActionStatus previousProcessingActionStatus, 
+                                          ProcessingActionStatus processingActionStatus, 
+                                          IProcessingUnitProgress processingUnitProgress, 
+                                          IProcessingUnitRuntimeTimeMeasurement runtimeTimeMeasurment, 
+                                          IProcessingUnitContext processingUnitContext) {
+        ProcessingActionStatus actionStatus = processingActionStatus;
+        ProcessingTimeoutPolicy stopPolicy = null;
+        boolean isTimedOut = false;
+        if (ProcessingActionStatus.SUSPENDED.equals(processingActionStatus) && !isShuttingDown) {
+            stopPolicy = timedOutMap.remove(id);
+            isTimedOut = stopPolicy != null;
+            final ProcessingTimeoutPolicy groupStopPolicy = stoppedMap.remove(id);
+            if (stopPolicy == null) {
+                stopPolicy = groupStopPolicy;
+            }
+        }
+        
+        if (stopPolicy != null) {
+            // the processing is suspended by its timeout or its group, it ends here
+            timeSliceSuspendSet.remove(id);
+            if (ProcessingTimeoutPolicy.ABORT.equals(stopPolicy)) {
+                actionStatus = ProcessingActionStatus.ABORTED;
+            } else {
+                keepSuspendedProcessing(id);
+            }
+        } else if (ProcessingActionStatus.SUSPENDED.equals(processingActionStatus) && timeSliceSuspendSet.remove(id)) {
+            timeSliceStartMap.remove(id);
+            if (!isShuttingDown && continueTimeSlice(id)) {
+                return;
+            }
+        } else if ((ProcessingActionStatus.RESUMED.equals(processingActionStatus) || ProcessingActionStatus.RUNNING.equals(processingActionStatus)) && timeSliceResumeSet.contains(id)) {
+            // a time slice continuation is not a resume of the caller, the processing is still running
+            if (ProcessingActionStatus.RUNNING.equals(processingActionStatus)) {
+                timeSliceResumeSet.remove(id);
+            }
+            
+            return;
+        } else if (ProcessingActionStatus.ABORTED.equals(processingActionStatus) && !isShuttingDown && retryProcessing(id)) {
+            // the processing is retried after its backoff, it doesn't end
+            return;
+        }
+        
+        if (processingJournal != null) {
+            processingJournal.transition(id, actionStatus);
+        }
+        
+        if (processingListener != null) {
+            processingListener.notifyProcessingUnitState(id, name, processingUnitClass, previousProcessingActionStatus, actionStatus, processingUnitProgress, runtimeTimeMeasurment, processingUnitContext);
+        }
+        
+        if (stopPolicy != null || ProcessingActionStatus.ABORTED.equals(actionStatus) || ProcessingActionStatus.ENDED.equals(actionStatus)) {
+            timeSliceStartMap.remove(id);
+            timeSliceSuspendSet.remove(id);
+            timeSliceResumeSet.remove(id);
+            
+            // the processing is removed at the end, a successor or the merged result has to be there before it is not running anymore 
+            IProcessingUnitRunnable processingUnitRunnable = processingUnitRunnableMap.get(id);
+            if (processingUnitRunnable == null) {
+                return;
+            }
+            
+            final ProcessingPartitionGroup processingPartitionGroup = processingPartitionGroupMap.remove(id);
+            final ProcessingTenant processingTenant = processingIdTenantMap.get(id);
+            if (processingTenant != null) {
+                long numberOfProcessedUnits = 0;
+                if (processingUnitProgress != null) {
+                    numberOfProcessedUnits = processingUnitProgress.getNumberOfProcessedUnits();
+                }
+                
+                processingTenant.end(numberOfProcessedUnits);
+            }
+            
+            // collect all information together
+            final ProcessingResult result = createProcessingResult(processingUnitRunnable, processingUnitClass, actionStatus, processingUnitProgress);
+            result.setIsTimedOut(isTimedOut);
+            if (processingJournal != null) {
+                processingJournal.result(id, actionStatus, result.getNumberOfProcessedUnits());
+            }
+            
+            IProcessingResult processingResult = result;
+            if (processingPartitionGroup != null) {
+                // the result is reported as soon as all partitions are ended
+                processingResult = processingPartitionGroup.add(result);
+            }
+            
+            try {
+                if (processingResult != null) {
+                    processingRateLimiter.removeProcessing(processingResult.getId());
+                    notifyProcessEnd(processingResult);
+                    completeProcessing(processingResult);
+                    endProcessing(processingResult);
+                }
+            } finally {
+                removeProcessing(id, processingUnitClass);
+                signalProcessingEnd();
+            }
+        } else if (ProcessingActionStatus.SUSPENDED.equals(actionStatus)) {
+            timeSliceStartMap.remove(id);
+            timeSliceResumeSet.remove(id);
+            ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
+            if (p != null) {
+                final byte[] suspendedState = p.getSuspendedState();
+                if (suspendedState != null && suspendedState.length > 0) {
+                    keepSuspendedState(new ProcessingSuspendedState(id, processingUnitClass, suspendedState));
+                }
+                
+                removeProcessing(id, processingUnitClass);
+                cancelProcessing(List.of(id));
+                signalProcessingEnd();
+            }
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(ProcessingUnitUtil.getInstance().toString(id, name, processingUnitClass) + " is going to: " + actionStatus);
+            }
+        }
+    }
+
+
+    /**
+     * Create the processing result of an ended processing unit runnable
+     *
+     * @param processingUnitRunnable the processing unit runnable
+     * @param processingUnitClass the processing unit class
+     * @param processingActionStatus the processing action status
+     * @param processingUnitProgress the processing unit progress
+     * @return the processing result
+     */
+    protected ProcessingResult createProcessingResult(IProcessingUnitRunnable processingUnitRunnable, 
+                                                      String processingUnitClass, 
+                                                      ProcessingActionStatus processingActionStatus, 
+                                                      IProcessingUnitProgress processingUnitProgress) {
+        // collect all information together
+        ProcessingResult result = new ProcessingResult();
+        result.setId(processingUnitRunnable.getId());
+        result.setName(processingUnitRunnable.getName());
+        result.setProcessingUnitClassname(processingUnitClass);
+        
+        // the time measurement covers all time slices of the processing
+        Instant startTimestamp = processingUnitRunnable.getTimeMeasurement().getStartTimestamp();
+        long processingDuration = processingUnitRunnable.getTimeMeasurement().getDuration();
+        final ProcessingUnitRunnableHandle processingUnitRunnableHandle = processingUnitRunnableHandleMap.get(processingUnitRunnable.getId());
+        if (processingUnitRunnableHandle != null) {
+            startTimestamp = processingUnitRunnableHandle.getStartTimestamp(startTimestamp);
+            processingDuration += processingUnitRunnableHandle.getPreviousDuration();
+        }
+        
+        result.setStartTimestamp(startTimestamp);
+        result.setStopTimestamp(processingUnitRunnable.getTimeMeasurement().getStopTimestamp());
+        result.setProcessingDuration(processingDuration);
+        result.setNumberOfProcessedUnits(processingUnitProgress.getNumberOfProcessedUnits());
+        result.setNumberOfSuccessfulUnits(processingUnitProgress.getNumberOfSuccessfulUnits());
+        result.setNumberOfFailedUnits(processingUnitProgress.getNumberOfFailedUnits());
+        result.setProgress(processingUnitProgress.getProgress());
+        result.setProcessingRuntimeStatus(processingUnitRunnable.getProcessingRuntimeStatus());
+        result.setIsAborted(ProcessingActionStatus.ABORTED.equals(processingActionStatus));
+        result.setStatusMessageList(processingUnitRunnable.getStatusMessageList());
+        result.setProcessingStatistic(new IProcessingStatistic() {
+         
+            /**
+             * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#keySet()
+             */
+            @Override
+            public Set<String> keySet() {
+                return processingUnitProgress.getProcessingUnitStatistic().keySet();
+            }
+
+
+            /**
+             * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#isEmpty()
+             */
+            @Override
+            public boolean isEmpty() {
+                return processingUnitProgress.getProcessingUnitStatistic().isEmpty();
+            }
+            
+            
+            /**
+             * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#hasKey(java.lang.String)
+             */
+            @Override
+            public boolean hasKey(String key) {
+                return processingUnitProgress.getProcessingUnitStatistic().hasKey(key);
+            }
+
+            
+            /**
+             * @see com.github.toolarium.processing.engine.dto.result.IProcessingStatistic#get(java.lang.String)
+             */
+            @Override
+            public StatisticCounter get(String key) {
+                return processingUnitProgress.getProcessingUnitStatistic().get(key);
+            }
+        });
+        return result;
+    }
+
+    
+    /**
+     * Notify the end of a processing
+     *
+     * @param processingResult the processing result or null
+     */
+    protected void notifyProcessEnd(IProcessingResult processingResult) {
+        if (processingListener != null && processingResult != null) {
+            processingListener.notifyProcessEnd(processingResult);
+        }
+    }
+
+    
+    /**
+     * Complete the result of a submitted processing
+     *
+     * @param processingResult the processing result
+     */
+    protected void completeProcessing(IProcessingResult processingResult) {
+        final CompletableFuture<IProcessingResult> result = processingResultFutureMap.remove(processingResult.getId());
+        if (result != null) {
+            result.complete(processingResult);
+        }
+    }
+
+
+    /**
+     * Start a batch of processing unit runnables: in case of a run queue they are enqueued under one lock, the remaining 
+     * are passed one by one to the admission of the thread pool.
+     *
+     * @param processingUnitRunnableList the processing unit runnables
+     */
+    protected void startAll(List<ProcessingUnitRunnable> processingUnitRunnableList) {
+        for (ProcessingUnitRunnable processingUnitRunnable : processingUnitRunnableList) {
+            admitted(processingUnitRunnable.getId());
+        }
+        
+        int numberOfQueuedProcessings = 0;
+        if (processingRunQueue != null && !threadPoolExecutor.isShutdown()) {
+            numberOfQueuedProcessings = processingRunQueue.offerAll(processingUnitRunnableList);
+            
+            // the queue is passed by, the missing worker threads are started up to the number of queued processings
+            int numberOfStartedThreads = 0;
+            while (numberOfStartedThreads < numberOfQueuedProcessings && threadPoolExecutor.prestartCoreThread()) {
+                numberOfStartedThreads++;
+            }
+        }
+        
+        for (int i = numberOfQueuedProcessings; i < processingUnitRunnableList.size(); i++) {
+            final ProcessingUnitRunnable processingUnitRunnable = processingUnitRunnableList.get(i);
+            try {
+                threadPoolExecutor.execute(processingUnitRunnable);
+            } catch (ProcessingRejectedException e) {
+                rejectProcessing(processingUnitRunnable, e);
+            }
+        }
+    }
+
+
+    /**
+     * Reject a processing of a batch which is not started: it is removed and its result is completed exceptionally
+     *
+     * @param processingUnitRunnable the processing unit runnable
+     * @param e the rejection
+     */
+    protected void rejectProcessing(ProcessingUnitRunnable processingUnitRunnable, ProcessingRejectedException e) {
+        removeProcessing(processingUnitRunnable.getId(), processingUnitRunnable.getProcessingUnitClass());
+        final CompletableFuture<IProcessingResult> result = processingResultFutureMap.remove(processingUnitRunnable.getId());
+        if (result != null) {
+            result.completeExceptionally(e);
+        }
+        
+        signalProcessingEnd();
+        LOG.warn(ProcessingUnitUtil.getInstance().toString(processingUnitRunnable.getId(), processingUnitRunnable.getName(), (String)null) + " rejected: " + e.getMessage());
+    }
+
+
+    /**
+     * Cancel the results of submitted processings which are not ended
+     *
+     * @param idList the ids of the processings
+     */
+    protected void cancelProcessing(List<String> idList) {
+        for (String id : idList) {
+            final CompletableFuture<IProcessingResult> result = processingResultFutureMap.remove(id);
+            if (result != null) {
+                result.cancel(false);
+            }
+        }
+    }
+
+
+    /**
+     * Wait until all processings are suspended or ended or the shutdown timeout is reached
+     *
+     * @return true if all processings are suspended or ended
+     */
+    protected boolean awaitSuspend() {
+        long timeout = shutdownTimeoutInMilliseconds;
+        if (timeout <= 0) {
+            timeout = Long.MAX_VALUE;
+        }
+        
+        try {
+            return awaitAll(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return processingUnitRunnableMap.isEmpty();
+        }
+    }
+
+
+    /**
+     * Abort the processings which are not suspended within the shutdown timeout: the worker threads are interrupted and 
+     * the processings are removed without any state. The listener is notified and the results are completed with an 
+     * aborted result.
+     */
+    protected void abortProcessing() {
+        final List<ProcessingResult> abortedProcessingResultList = new ArrayList<ProcessingResult>();
+        for (ProcessingUnitRunnable p : processingUnitRunnableMap.values()) {
+            LOG.warn(ProcessingUnitUtil.getInstance().toString(p.getId(), p.getName(), p.getProcessingUnitClass()) 
+                     + " is not suspended within " + shutdownTimeoutInMilliseconds + "ms (status: " + p.getProcessingActionStatus() + "), it is aborted!");
+            
+            // the aborted processings stay in the journal, like their checkpoints they are interrupted
+            if (processingJournal != null) {
+                processingJournal.transition(p.getId(), ProcessingActionStatus.ABORTED);
+            }
+
+            if (processingListener != null) {
+                processingListener.notifyProcessingUnitState(p.getId(), p.getName(), p.getProcessingUnitClass(), p.getProcessingActionStatus(), ProcessingActionStatus.ABORTED, null, p.getTimeMeasurement(), null);
+            }
+
+            abortedProcessingResultList.add(createAbortedProcessingResult(p));
+        }
+        
+        threadPoolExecutor.shutdownNow();
+        processingBulkheadMap.clear();
+        processingPriorityMap.clear();
+        processingIdTenantMap.clear();
+        processingRetryMap.clear();
+        for (String id : new ArrayList<String>(processingUnitRunnableMap.keySet())) {
+            processingUnitRunnableMap.remove(id);
+            processingUnitRunnableHandleMap.remove(id);
+            ProcessingStepInstanceManager.getInstance().unregister(id, this);
+        }
+        
+        for (ProcessingResult processingResult : abortedProcessingResultList) {
+            notifyProcessEnd(processingResult);
+            completeProcessing(processingResult);
+        }
+        
+        signalProcessingEnd();
+    }
+
+
+    /**
+     * Create the result of a processing which is aborted by the shutdown, its progress is unknown
+     *
+     * @param processingUnitRunnable the processing unit runnable
+     * @return the aborted result
+     */
+    protected ProcessingResult createAbortedProcessingResult(ProcessingUnitRunnable processingUnitRunnable) {
+        ProcessingResult result = new ProcessingResult();
+        result.setId(processingUnitRunnable.getId());
+        result.setName(processingUnitRunnable.getName());
+        result.setProcessingUnitClassname(processingUnitRunnable.getProcessingUnitClass());
+        Instant startTimestamp = processingUnitRunnable.getTimeMeasurement().getStartTimestamp();
+        final ProcessingUnitRunnableHandle processingUnitRunnableHandle = processingUnitRunnableHandleMap.get(processingUnitRunnable.getId());
+        if (processingUnitRunnableHandle != null) {
+            startTimestamp = processingUnitRunnableHandle.getStartTimestamp(startTimestamp);
+        }
+        
+        result.setStartTimestamp(startTimestamp);
+        result.setStopTimestamp(Instant.now());
+        result.setProcessingRuntimeStatus(processingUnitRunnable.getProcessingRuntimeStatus());
+        result.setIsAborted(true);
+        result.setStatusMessageList(processingUnitRunnable.getStatusMessageList());
+        return result;
+    }
+
+
+    /**
+     * Signal the end of a processing to the threads which wait on all processings
+     */
+    protected void signalProcessingEnd() {
+        synchronized (processingEndLock) {
+            processingEndLock.notifyAll();
+        }
+    }
+
+
+    /**
+     * Remove a processing which is not running anymore and release its permit of the bulkhead
+     *
+     * @param id the id of the processing
+     * @param processingUnitClassname the processing unit class name
+     */
+    protected void removeProcessing(String id, String processingUnitClassname) {
+        processingUnitRunnableMap.remove(id);
+        processingUnitRunnableHandleMap.remove(id);
+        processingPriorityMap.remove(id);
+        processingIdTenantMap.remove(id);
+        processingTimeoutPolicyMap.remove(id);
+        admissionTimeMap.remove(id);
+        timedOutMap.remove(id);
+        stoppedMap.remove(id);
+        processingTimerWheel.cancel(id);
+        processingRetryMap.remove(id);
+        processingRetryTimerWheel.cancel(id);
+        ProcessingStepInstanceManager.getInstance().unregister(id, this);
+        releaseProcessing(id, processingUnitClassname);
+        
+        if (processingCheckpointStore != null) {
+            checkpointProgressSet.remove(id);
+            checkpointDueSet.remove(id);
+            
+            // the checkpoint of a processing which is suspended by its timeout or its group is kept until the shutdown
+            if (!suspendedCheckpointSet.contains(id)) {
+                processingCheckpointStore.remove(id);
+            }
+        }
+        
+        if (processingJournal != null) {
+            processingJournal.remove(id);
+        }
+    }
+
+    
+    /**
+     * Admit a new submission: in case the engine is overloaded the submissions up to the load shedding priority are shed.
+     * A submission is admitted in case one of its processings has a higher priority, the already accepted processings
+     * (successors, partitions, time slices) are never shed.
+     *
+     * @param processingUnitExecutionList the processings of the submission
+     * @throws ProcessingRejectedException In case the submission is shed
+     */
+    protected void admitProcessing(List<ProcessingUnitReference> processingUnitExecutionList) throws ProcessingRejectedException {
+        if (!processingLoadShedder.isActive() || processingUnitExecutionList == null || processingUnitExecutionList.isEmpty()) {
+            return;
+        }
+        
+        int priority = Integer.MIN_VALUE;
+        for (ProcessingUnitReference p : processingUnitExecutionList) {
+            priority = Math.max(priority, p.getPriority());
+        }
+        
+        if (!processingLoadShedder.admit(priority)) {
+            final IProcessingLoadSheddingStatus status = processingLoadShedder.getStatus();
+            final ProcessingUnitReference p = processingUnitExecutionList.get(0);
+            final String message = "The processing is shed, the engine is overloaded: the queue delay (p90 " + status.getQueueDelayP90InMilliseconds() 
+                                   + "ms) stays above the target of " + status.getQueueDelayTargetInMilliseconds() + "ms!";
+            LOG.warn(ProcessingUnitUtil.getInstance().toString(p.getId(), p.getName(), (String)null) + " rejected: " + message);
+            throw new ProcessingRejectedException(message);
+        }
+    }
+
+    
+    /**
+     * Get the priority of a processing
+     *
+     * @param id the id of the processing
+     * @return the priority
+     */
+    protected int getPriority(String id) {
+        if (id == null) {
+            return 0;
+        }
+        
+        final Integer priority = processingPriorityMap.get(id);
+        if (priority == null) {
+            return 0;
+        }
+        
+        return priority.intValue();
+    }
+
+    
+    /**
+     * Get the priority of a runnable of the run queue
+     *
+     * @param runnable the runnable
+     * @return the priority
+     */
+    protected int getPriority(Runnable runnable) {
+        if (runnable instanceof ProcessingUnitRunnable) {
+            return getPriority(((ProcessingUnitRunnable)runnable).getId());
+        }
+        
+        return 0;
+    }
+
+    
+    /**
+     * Get the tenant by its name, it is created with the configured weight on the first use
+     *
+     * @param tenant the name of the tenant or null for the default tenant
+     * @return the tenant
+     */
+    protected ProcessingTenant getTenant(String tenant) {
+        String tenantName = tenant;
+        if (tenantName == null || tenantName.isBlank()) {
+            tenantName = ProcessingTenant.DEFAULT_TENANT;
+        }
+        
+        return processingTenantMap.computeIfAbsent(tenantName, t -> new ProcessingTenant(t, processingEngineConfiguration.getTenantWeight(t)));
+    }
+
+    
+    /**
+     * Get the tenant of a runnable of the run queue
+     *
+     * @param runnable the runnable
+     * @return the tenant
+     */
+    protected ProcessingTenant getTenant(Runnable runnable) {
+        if (runnable instanceof ProcessingUnitRunnable) {
+            final ProcessingTenant processingTenant = processingIdTenantMap.get(((ProcessingUnitRunnable)runnable).getId());
+            if (processingTenant != null) {
+                return processingTenant;
+            }
+        }
+        
+        return getTenant((String)null);
+    }
+
+    
+    /**
+     * Acquire a permit of the bulkhead of the processing unit class in case it has a concurrency limit
+     *
+     * @param processingUnitRunnable the processing unit runnable
+     * @return true if the processing can be started; false if it waits in the queue of the bulkhead
+     * @throws ProcessingRejectedException In case the concurrency limit is reached and the queue of the bulkhead is full
+     */
+    protected boolean acquireProcessing(ProcessingUnitRunnable processingUnitRunnable) throws ProcessingRejectedException {
+        final String processingUnitClassname = processingUnitRunnable.getProcessingUnitClass();
+        if (processingUnitClassname == null) {
+            return true;
+        }
+        
+        final IProcessingUnitDefinition processingUnitDefinition = ProcessingUnitRegistry.getInstance().getProcessingUnitList(processingUnitClassname);
+        ProcessingBulkhead processingBulkhead = processingBulkheadMap.get(processingUnitClassname);
+        if (processingBulkhead == null) {
+            if (processingUnitDefinition == null || processingUnitDefinition.getMaxNumberOfConcurrentProcessings() <= 0) {
+                return true;
+            }
+
+            processingBulkhead = processingBulkheadMap.computeIfAbsent(processingUnitClassname, ProcessingBulkhead::new);
+        }
+        
+        int maxNumberOfConcurrentProcessings = 0;
+        int processingUnitQueueCapacity = 0;
+        if (processingUnitDefinition != null) {
+            maxNumberOfConcurrentProcessings = processingUnitDefinition.getMaxNumberOfConcurrentProcessings();
+            processingUnitQueueCapacity = processingUnitDefinition.getQueueCapacity();
+        }
+        
+        return processingBulkhead.acquire(processingUnitRunnable, maxNumberOfConcurrentProcessings, processingUnitQueueCapacity);
+    }
+
+    
+    /**
+     * Release the permit of the bulkhead of the processing unit class and start the queued processings which got a permit
+     *
+     * @param id the id of the processing
+     * @param processingUnitClassname the processing unit class name
+     */
+    protected void releaseProcessing(String id, String processingUnitClassname) {
+        if (processingUnitClassname == null) {
+            return;
+        }
+        
+        final ProcessingBulkhead processingBulkhead = processingBulkheadMap.get(processingUnitClassname);
+        if (processingBulkhead == null) {
+            return;
+        }
+        
+        for (ProcessingUnitRunnable processingUnitRunnable : processingBulkhead.release(id)) {
+            try {
+                threadPoolExecutor.execute(processingUnitRunnable);
+            } catch (ProcessingRejectedException e) {
+                LOG.warn(ProcessingUnitUtil.getInstance().toString(processingUnitRunnable.getId(), processingUnitRunnable.getName(), processingUnitClassname) + " rejected: " + e.getMessage());
+                processingUnitRunnableMap.remove(processingUnitRunnable.getId());
+                processingUnitRunnableHandleMap.remove(processingUnitRunnable.getId());
+                admissionTimeMap.remove(processingUnitRunnable.getId());
+                processingPriorityMap.remove(processingUnitRunnable.getId());
+                processingIdTenantMap.remove(processingUnitRunnable.getId());
+                final ProcessingGroup processingGroup = processingGroupMap.remove(processingUnitRunnable.getId());
+                if (processingGroup != null) {
+                    processingGroup.reject(processingUnitRunnable.getId());
+                    cancelProcessing(processingGroup.getSkippedIdList());
+                }
+                
+                cancelProcessing(List.of(processingUnitRunnable.getId()));
+                releaseProcessing(processingUnitRunnable.getId(), processingUnitClassname);
+            }
+        }
+    }
+
+
+    /**
+     * End the upstream processing of a channel because its downstream processing is gone: the channel is closed and removed, 
+     * therefore the upstream processing can't offer records anymore. In case the upstream processing still runs, it is 
+     * aborted instead of waiting for a free slot forever.
+     *
+     * @param channelName the name of the channel
+     */
+    protected void endProducer(String channelName) {
+        final IProcessingChannel<Object> processingChannel = processingChannelRegistry.getChannel(channelName);
+        if (processingChannel != null) {
+            processingChannel.close();
+            processingChannelRegistry.remove(channelName);
+        }
+        
+        for (Map.Entry<String, ProcessingGroup> e : processingGroupMap.entrySet()) {
+            final ProcessingUnitReference p = e.getValue().getProcessingUnitReference(e.getKey());
+            if (p != null && channelName.equals(p.getOutputChannelName()) && processingUnitRunnableMap.containsKey(e.getKey())) {
+                LOG.warn(ProcessingUnitUtil.getInstance().toString(e.getKey(), p.getName(), p.getProcessingUnitClass().getName()) + " is aborted because the downstream processing of the channel " + channelName + " is ended.");
+                stopProcessing(e.getKey(), true);
+            }
+        }
+    }
+
+
+    /**
+     * Scope the channel name of a processing unit parameter by this executer, it replaces the parameter of the builder
+     *
+     * @param parameterList the parameter list of the processing unit
+     * @param key the key of the channel parameter
+     * @param channelName the name of the channel
+     */
+    protected void scopeChannelParameter(List<Parameter> parameterList, String key, String channelName) {
+        for (ListIterator<Parameter> it = parameterList.listIterator(); it.hasNext();) {
+            if (key.equals(it.next().getKey())) {
+                it.set(new Parameter(key, processingChannelRegistry.toScopedName(channelName)));
+            }
+        }
+    }
+
+
+    /**
+     * End a processing of a group: the output channel is closed, the input channel is released and the successors are started
+     *
+     * @param processingResult the processing result
+     */
+    protected void endProcessing(IProcessingResult processingResult) {
+        final ProcessingGroup processingGroup = processingGroupMap.remove(processingResult.getId());
+        if (processingGroup == null) {
+            return;
+        }
+
+        final ProcessingUnitReference processingUnitReference = processingGroup.getProcessingUnitReference(processingResult.getId());
+        if (processingUnitReference != null) {
+            if (processingUnitReference.getOutputChannelName() != null && processingChannelRegistry.getChannel(processingUnitReference.getOutputChannelName()) != null) {
+                // the downstream processing is done as soon as it consumed the remaining records
+                processingChannelRegistry.getChannel(processingUnitReference.getOutputChannelName()).close();
+            }
+            
+            if (processingUnitReference.getInputChannelName() != null) {
+                endProducer(processingUnitReference.getInputChannelName());
+            }
+        }
+
+        List<ProcessingUnitReference> successorList = processingGroup.end(processingResult);
+        if (!successorList.isEmpty()) {
+            if (isShuttingDown) {
+                LOG.warn("Skip the successors " + successorList + " of " + processingResult.getId() + " because of shutdown.");
+                for (ProcessingUnitReference p : successorList) {
+                    processingGroup.reject(p.getId());
+                }
+            } else {
+                execute(processingGroup, successorList, false);
+            }
+        }
+        
+        cancelProcessing(processingGroup.getSkippedIdList());
+    }
+
+    
+    /**
+     * Keep the admission time of a processing, its queue delay is measured as soon as it starts
+     *
+     * @param id the id of the processing
+     */
+    protected void admitted(String id) {
+        admissionTimeMap.put(id, System.nanoTime());
+    }
+
+    
+    /**
+     * Measure the queue delay of a processing unit runnable which is going to be executed: the time from its admission until 
+     * it starts, it is measured for every queue of the thread pool and includes the queue of its bulkhead. There is no
+     * standing queue anymore as soon as no admitted processing waits for its start.
+     *
+     * @param runnable the runnable which is going to be executed
+     */
+    protected void measureQueueDelay(Runnable runnable) {
+        if (!(runnable instanceof ProcessingUnitRunnable)) {
+            return;
+        }
+        
+        final Long admissionTime = admissionTimeMap.remove(((ProcessingUnitRunnable)runnable).getId());
+        if (admissionTime != null) {
+            final long now = System.nanoTime();
+            processingLoadShedder.dequeued(now - admissionTime, admissionTimeMap.isEmpty(), now);
+        }
+    }
+
+    
+    /**
+     * Start the time slice of a processing unit runnable
+     *
+     * @param runnable the runnable which is going to be executed
+     */
+    protected void startTimeSlice(Runnable runnable) {
+        if (timeSliceInMilliseconds > 0 && runnable instanceof ProcessingUnitRunnable) {
+            timeSliceStartMap.put(((ProcessingUnitRunnable)runnable).getId(), System.nanoTime());
+        }
+    }
+
+    
+    /**
+     * Check the checkpoints: the processings which made progress since their last checkpoint are due, they take their
+     * checkpoint before their next step. A processing is checkpointed at most once per checkpoint interval.
+     */
+    protected void checkCheckpoints() {
+        for (String id : checkpointProgressSet) {
+            if (checkpointProgressSet.remove(id)) {
+                checkpointDueSet.add(id);
+            }
+        }
+    }
+
+
+    /**
+     * Take the checkpoint of a running processing: its suspended state is captured by the worker thread between two
+     * steps, the checkpoint store writes it in the background.
+     *
+     * @param id the id of the processing
+     */
+    protected void checkpoint(String id) {
+        final ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
+        if (p == null || isShuttingDown) {
+            return;
+        }
+        
+        try {
+            final byte[] suspendedState = p.getSuspendedState();
+            if (suspendedState != null && suspendedState.length > 0) {
+                processingCheckpointStore.write(new ProcessingSuspendedState(id, p.getProcessingUnitClass(), suspendedState));
+            }
+        } catch (RuntimeException e) {
+            LOG.warn(ProcessingUnitUtil.getInstance().toString(id, p.getName(), p.getProcessingUnitClass()) + " could not be checkpointed: " + e.getMessage());
+        }
+    }
+
+    
+    /**
+     * Check the time slices: in case processings are waiting, the processing units which used their time slice are suspended.
+     */
+    protected void checkTimeSlices() {
+        if (isShuttingDown || processingRunQueue == null) {
+            return;
+        }
+
+        try {
+            int numberOfWaitingProcessings = processingRunQueue.size();
+            final long now = System.nanoTime();
+            final long timeSliceInNanoseconds = TimeUnit.MILLISECONDS.toNanos(timeSliceInMilliseconds);
+            for (Map.Entry<String, Long> e : timeSliceStartMap.entrySet()) {
+                if (numberOfWaitingProcessings <= 0) {
+                    return;
+                }
+                
+                // a processing with a higher priority gets a longer time slice
+                final long timeSliceFactor = 1 + Math.min(MAX_TIME_SLICE_FACTOR - 1, Math.max(0, getPriority(e.getKey())));
+                if (now - e.getValue() >= timeSliceInNanoseconds * timeSliceFactor && timeSliceStartMap.remove(e.getKey(), e.getValue())) {
+                    ProcessingUnitRunnable p = processingUnitRunnableMap.get(e.getKey());
+                    if (p != null) {
+                        timeSliceSuspendSet.add(e.getKey());
+                        p.suspendProcessing();
+                        numberOfWaitingProcessings--;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Could not check the time slices: " + e.getMessage(), e);
+        }
+    }
+
+    
+    /**
+     * Continue a processing unit which was suspended after its time slice at the end of the run queue
+     *
+     * @param id the id
+     * @return true if the processing continues; otherwise false
+     */
+    protected boolean continueTimeSlice(String id) {
+        ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
+        if (p == null) {
+            return false;
+        }
+        
+        final byte[] suspendedState = p.getSuspendedState();
+        if (suspendedState == null || suspendedState.length == 0) {
+            return false;
+        }
+        
+        ProcessingUnitRunnable continuation = new ProcessingUnitRunnable(suspendedState, this);
+        timeSliceResumeSet.add(id);
+        processingUnitRunnableMap.put(id, continuation);
+        final ProcessingUnitRunnableHandle processingUnitRunnableHandle = processingUnitRunnableHandleMap.get(id);
+        if (processingUnitRunnableHandle != null) {
+            // the start timestamp and the duration of the ended time slice are kept
+            processingUnitRunnableHandle.continueTimeSlice(continuation);
+        } else {
+            updateProcessingUnitRunnableHandle(id, continuation);
+        }
+        
+        if (isStopping(id)) {
+            // the timeout expired or the group is stopped during the switch
+            continuation.suspendProcessing();
+        }
+        
+        numberOfTimeSliceSwitches.incrementAndGet();
+        
+        long throttleTime = 0;
+        if (processingRateLimiter.isActive()) {
+            throttleTime = getThrottleTime(id, false);
+        }
+        
+        if (throttleTime > TimeUnit.MILLISECONDS.toNanos(timeSliceInMilliseconds)) {
+            // the processing waits for its next token without worker thread
+            throttledContinuationMap.put(id, continuation);
+            try {
+                timeSliceExecutor.schedule(() -> continueThrottledProcessing(id), throttleTime, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                continueThrottledProcessing(id);
+            }
+        } else {
+            requeueProcessing(continuation);
+        }
+        
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(ProcessingUnitUtil.getInstance().toString(p.getId(), p.getName(), (String)null) + " time slice ended, continue later.");
+        }
+        
+        return true;
+    }
+
+    
+    /**
+     * Continue a throttled processing at the end of the run queue
+     *
+     * @param id the id
+     */
+    protected void continueThrottledProcessing(String id) {
+        final ProcessingUnitRunnable continuation = throttledContinuationMap.remove(id);
+        if (continuation != null) {
+            requeueProcessing(continuation);
+        }
+    }
+
+    
+    /**
+     * Requeue a continuation of a processing at the end of the run queue. The requeue passes by the admission of the thread 
+     * pool: in case the idle worker threads are timed out, a worker thread is started for the continuation.
+     *
+     * @param continuation the processing unit runnable which continues the processing
+     */
+    protected void requeueProcessing(ProcessingUnitRunnable continuation) {
+        admitted(continuation.getId());
+        processingRunQueue.requeue(continuation);
+        
+        // like the thread pool executer itself a worker thread which ends concurrently is covered by the recheck 
+        if (threadPoolExecutor.getPoolSize() == 0) {
+            threadPoolExecutor.prestartCoreThread();
+        }
+    }
+
+    
+    /**
+     * Schedule the timeout of a processing, the timeout of the processing unit reference or the default timeout applies
+     *
+     * @param id the id of the processing
+     * @param processingUnitReference the processing unit reference
+     */
+    protected void scheduleTimeout(String id, ProcessingUnitReference processingUnitReference) {
+        long timeoutInMilliseconds = processingUnitReference.getTimeoutInMilliseconds();
+        if (timeoutInMilliseconds <= 0) {
+            timeoutInMilliseconds = processingEngineConfiguration.getTimeoutInMilliseconds();
+        }
+        
+        if (timeoutInMilliseconds <= 0) {
+            return;
+        }
+        
+        ProcessingTimeoutPolicy timeoutPolicy = processingUnitReference.getTimeoutPolicy();
+        if (timeoutPolicy == null) {
+            timeoutPolicy = processingEngineConfiguration.getTimeoutPolicy();
+        }
+        
+        if (timeoutPolicy == null) {
+            timeoutPolicy = ProcessingTimeoutPolicy.SUSPEND;
+        }
+
+        processingTimeoutPolicyMap.put(id, timeoutPolicy);
+        processingTimerWheel.schedule(id, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMilliseconds));
+        startTimerWheel();
+    }
+
+    
+    /**
+     * Start the thread which drives the timer wheels in case it is not running
+     */
+    protected void startTimerWheel() {
+        if (timerWheelExecutor == null) {
+            synchronized (processingTimerWheel) {
+                if (timerWheelExecutor == null) {
+                    // one thread drives the timer wheels of all processings
+                    final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(ProcessingThreadFactory.getInstance());
+                    executor.scheduleAtFixedRate(this::advanceTimerWheels, TIMER_WHEEL_TICK_IN_MILLISECONDS, TIMER_WHEEL_TICK_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+                    timerWheelExecutor = executor;
+                }
+            }
+        }
+    }
+
+    
+    /**
+     * Advance the timer wheels: the processings which are timed out are suspended, the schedules are fired and the pending 
+     * retries are started
+     */
+    protected void advanceTimerWheels() {
+        if (isShuttingDown) {
+            return;
+        }
+        
+        final long now = System.nanoTime();
+        try {
+            for (String id : processingTimerWheel.advance(now)) {
+                // the timer wheel is shared by the timeouts and the schedules
+                if (!processingScheduler.fire(id, now)) {
+                    timeoutProcessing(id);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Could not check the timeouts and the schedules: " + e.getMessage(), e);
+        }
+
+        try {
+            for (String id : processingRetryTimerWheel.advance(now)) {
+                startRetry(id);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Could not start the retries: " + e.getMessage(), e);
+        }
+    }
+
+    
+    /**
+     * Register the retry of a processing, the retry policy of the processing unit reference or of the processing unit 
+     * definition applies
+     *
+     * @param id the id of the processing
+     * @param processingUnitReference the processing unit reference
+     * @param parameterList the parameter list of the processing
+     * @param processingUnitContext the processing unit context
+     */
+    protected void registerRetry(String id, ProcessingUnitReference processingUnitReference, List<Parameter> parameterList, IProcessingUnitContext processingUnitContext) {
+        IProcessingRetryPolicy retryPolicy = processingUnitReference.getRetryPolicy();
+        if (retryPolicy == null && processingUnitReference.getProcessingUnitClass() != null) {
+            final IProcessingUnitDefinition processingUnitDefinition = ProcessingUnitRegistry.getInstance().getProcessingUnitList(processingUnitReference.getProcessingUnitClass().getName());
+            if (processingUnitDefinition != null) {
+                retryPolicy = processingUnitDefinition.getRetryPolicy();
+            }
+        }
+        
+        if (retryPolicy == null || retryPolicy.getMaxNumberOfAttempts() <= 1) {
+            return;
+        }
+        
+        processingRetryMap.put(id, new ProcessingRetry(id, processingUnitReference.getName(), processingUnitReference.getProcessingUnitClass(), parameterList, processingUnitContext, retryPolicy));
+    }
+
+    
+    /**
+     * Retry an aborted processing: the next attempt resumes from the suspended state of the aborted attempt or restarts the 
+     * processing. It waits on the timer wheel until its backoff is over, it holds neither a worker thread nor a permit.
+     *
+     * @param id the id of the processing
+     * @return true if the processing is retried; otherwise false
+     */
+    protected boolean retryProcessing(String id) {
+        final ProcessingRetry processingRetry = processingRetryMap.get(id);
+        final ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
+        if (processingRetry == null || p == null || !processingRetry.hasNextAttempt()) {
+            return false;
+        }
+        
+        byte[] suspendedState = null;
+        try {
+            suspendedState = p.getSuspendedState();
+        } catch (RuntimeException e) {
+            LOG.debug(ProcessingUnitUtil.getInstance().toString(id, p.getName(), p.getProcessingUnitClass()) + " has no suspended state, it is restarted: " + e.getMessage());
+        }
+
+        final Throwable lastError = processingRetry.getLastError();
+        final long backoffInMilliseconds = processingRetry.nextAttempt(suspendedState, this);
+        timeSliceStartMap.remove(id);
+        timeSliceSuspendSet.remove(id);
+        timeSliceResumeSet.remove(id);
+        numberOfRetries.incrementAndGet();
+        
+        String message = "";
+        if (lastError != null) {
+            message = " (" + lastError.getClass().getName() + ": " + lastError.getMessage() + ")";
+        }
+
+        LOG.info(ProcessingUnitUtil.getInstance().toString(id, p.getName(), p.getProcessingUnitClass()) + " is aborted" + message + ", attempt " 
+                 + processingRetry.getNumberOfAttempts() + " of " + processingRetry.getRetryPolicy().getMaxNumberOfAttempts() + " starts in " + backoffInMilliseconds + "ms.");
+        
+        // the pending retry doesn't hold the permit of its bulkhead
+        releaseProcessing(id, p.getProcessingUnitClass());
+        processingRetryTimerWheel.schedule(id, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffInMilliseconds));
+        startTimerWheel();
+        return true;
+    }
+
+    
+    /**
+     * Start the pending retry of a processing after its backoff
+     *
+     * @param id the id of the processing
+     */
+    protected void startRetry(String id) {
+        final ProcessingRetry processingRetry = processingRetryMap.get(id);
+        if (processingRetry == null) {
+            return;
+        }
+        
+        final ProcessingUnitRunnable p = processingRetry.takePendingProcessingUnitRunnable();
+        if (p == null) {
+            return;
+        }
+        
+        if (isStopping(id)) {
+            // the processing is timed out or its group is stopped during its backoff, it is suspended as soon as it runs
+            p.suspendProcessing();
+        }
+        
+        try {
+            execute(p);
+        } catch (ProcessingRejectedException e) {
+            final ProcessingGroup processingGroup = processingGroupMap.remove(id);
+            if (processingGroup != null) {
+                processingGroup.reject(id);
+                cancelProcessing(processingGroup.getSkippedIdList());
+            }
+            
+            cancelProcessing(List.of(id));
+        }
+    }
+
+    
+    /**
+     * Keep the pending retry of a processing in the persistence container, it is resumed with the suspended state of its
+     * last attempt
+     *
+     * @param id the id of the processing
+     */
+    protected void keepPendingRetry(String id) {
+        final ProcessingRetry processingRetry = processingRetryMap.get(id);
+        if (processingRetry == null) {
+            return;
+        }
+        
+        final ProcessingUnitRunnable p = processingRetry.takePendingProcessingUnitRunnable();
+        if (p == null) {
+            return;
+        }
+        
+        byte[] suspendedState = processingRetry.getSuspendedState();
+        if (suspendedState == null) {
+            try {
+                suspendedState = p.getSuspendedState();
+            } catch (RuntimeException e) {
+                LOG.warn(ProcessingUnitUtil.getInstance().toString(id, p.getName(), processingRetry.getProcessingUnitClassname()) + " has no suspended state, the pending retry is lost: " + e.getMessage());
+            }
+        }
+        
+        if (suspendedState != null && suspendedState.length > 0) {
+            keepSuspendedState(new ProcessingSuspendedState(id, processingRetry.getProcessingUnitClassname(), suspendedState));
+        }
+        
+        removeProcessing(id, processingRetry.getProcessingUnitClassname());
+        cancelProcessing(List.of(id));
+        signalProcessingEnd();
+    }
+
+    
+    /**
+     * Suspend a processing which is timed out, it ends as soon as it is suspended
+     *
+     * @param id the id of the processing
+     */
+    protected void timeoutProcessing(String id) {
+        final ProcessingTimeoutPolicy timeoutPolicy = processingTimeoutPolicyMap.remove(id);
+        final ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
+        if (timeoutPolicy == null || p == null) {
+            return;
+        }
+        
+        LOG.warn(ProcessingUnitUtil.getInstance().toString(id, p.getName(), p.getProcessingUnitClass()) + " is timed out, it is going to: " + timeoutPolicy);
+        timedOutMap.put(id, timeoutPolicy);
+        numberOfTimedOutProcessings.incrementAndGet();
+        
+        // a throttled processing has to run to be suspended
+        continueThrottledProcessing(id);
+        suspendProcessing(id);
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.group.IProcessingGroupController#stopProcessing(java.lang.String, boolean)
+     */
+    @Override
+    public void stopProcessing(String id, boolean isAborted) {
+        ProcessingTimeoutPolicy stopPolicy = ProcessingTimeoutPolicy.SUSPEND;
+        if (isAborted) {
+            stopPolicy = ProcessingTimeoutPolicy.ABORT;
+        }
+        
+        // a partitioned processing is stopped by its partitions
+        final List<String> idList = new ArrayList<String>();
+        if (processingUnitRunnableMap.containsKey(id)) {
+            idList.add(id);
+        } else {
+            for (Map.Entry<String, ProcessingPartitionGroup> e : processingPartitionGroupMap.entrySet()) {
+                if (id.equals(e.getValue().getId())) {
+                    idList.add(e.getKey());
+                }
+            }
+        }
+        
+        for (String processingId : idList) {
+            final ProcessingUnitRunnable p = processingUnitRunnableMap.get(processingId);
+            if (p != null) {
+                LOG.info(ProcessingUnitUtil.getInstance().toString(processingId, p.getName(), p.getProcessingUnitClass()) + " is stopped by its group, it is going to: " + stopPolicy);
+                stoppedMap.put(processingId, stopPolicy);
+                
+                // a throttled processing has to run to be suspended
+                continueThrottledProcessing(processingId);
+                suspendProcessing(processingId);
+            }
+        }
+    }
+
+    
+    /**
+     * Check if a processing is going to be stopped by its timeout or its group
+     *
+     * @param id the id of the processing
+     * @return true if the processing is suspended as soon as it runs
+     */
+    protected boolean isStopping(String id) {
+        return timedOutMap.containsKey(id) || stoppedMap.containsKey(id);
+    }
+
+    
+    /**
+     * Keep the suspended state of a processing which is suspended by its timeout or its group. The suspended state is part 
+     * of the persisted content of the shutdown; with checkpoints it is written as checkpoint as well, otherwise it is lost
+     * by a crash.
+     *
+     * @param id the id of the processing
+     */
+    protected void keepSuspendedProcessing(String id) {
+        final ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
+        if (p == null) {
+            return;
+        }
+        
+        final byte[] suspendedState = p.getSuspendedState();
+        if (suspendedState != null && suspendedState.length > 0) {
+            final ProcessingSuspendedState processingSuspendedState = new ProcessingSuspendedState(id, p.getProcessingUnitClass(), suspendedState);
+            keepSuspendedState(processingSuspendedState);
+            if (processingCheckpointStore != null) {
+                suspendedCheckpointSet.add(id);
+                processingCheckpointStore.write(processingSuspendedState);
+            }
+        }
+    }
+
+    
+    /**
+     * Keep a suspended state for the persisted content of the shutdown: during the shutdown it is passed to the consumer of 
+     * the shutdown as soon as it is kept, before the shutdown it is queued.
+     *
+     * @param suspendedState the suspended state
+     */
+    protected void keepSuspendedState(ProcessingSuspendedState suspendedState) {
+        synchronized (suspendedStateLock) {
+            if (shutdownSuspendedStateConsumer == null) {
+                suspendedStateQueue.add(suspendedState);
+            } else if (passShutdownEntry(shutdownSuspendedStateConsumer, suspendedState) && processingCheckpointStore != null) {
+                persistedIdList.add(suspendedState.getId());
+            }
+        }
+    }
+
+    
+    /**
+     * Pass an entry of the shutdown to its consumer, one entry at a time. After an error of a consumer the following entries 
+     * are not passed anymore, the error is thrown at the end of the shutdown.
+     *
+     * @param <T> the type of the entry
+     * @param consumer the consumer
+     * @param entry the entry
+     * @return true if the entry is passed
+     */
+    private <T> boolean passShutdownEntry(Consumer<T> consumer, T entry) {
+        synchronized (suspendedStateLock) {
+            if (shutdownException != null) {
+                return false;
+            }
+            
+            try {
+                consumer.accept(entry);
+                return true;
+            } catch (RuntimeException e) {
+                LOG.warn("Could not pass the persisted content of the shutdown: " + e.getMessage());
+                shutdownException = e;
+                return false;
+            }
+        }
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingStepInterceptor#beforeStep(java.lang.String)
+     */
+    @Override
+    public void beforeStep(String id) {
+        // the checkpoint is taken between two steps
+        if (processingCheckpointStore != null && checkpointDueSet.remove(id)) {
+            checkpoint(id);
+        }
+        
+        if (processingRateLimiter.isActive()) {
+            throttleStep(id);
+        }
+
+        // the permit is acquired after the throttling, a throttled step doesn't hold a permit
+        if (adaptiveConcurrencyLimit) {
+            final ProcessingConcurrencyLimit processingConcurrencyLimit = getConcurrencyLimit(id);
+            if (processingConcurrencyLimit != null) {
+                try {
+                    processingConcurrencyLimit.acquire();
+                } catch (InterruptedException e) {
+                    // the step is not called without a permit, the interrupt is kept for the processing unit runnable
+                    Thread.currentThread().interrupt();
+                    throw new ProcessingException("The processing [" + id + "] is interrupted while waiting for its concurrency limit!", e, true);
+                }
+                
+                stepConcurrencyLimitMap.put(id, processingConcurrencyLimit);
+            }
+        }
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingStepInterceptor#failedStep(java.lang.String, java.lang.Throwable)
+     */
+    @Override
+    public void failedStep(String id, Throwable e) {
+        final ProcessingRetry processingRetry = processingRetryMap.get(id);
+        if (processingRetry != null) {
+            processingRetry.setLastError(e);
+        }
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.executer.IProcessingStepInterceptor#afterStep(java.lang.String, long)
+     */
+    @Override
+    public void afterStep(String id, long durationInNanoseconds) {
+        if (processingCheckpointStore != null) {
+            checkpointProgressSet.add(id);
+        }
+        
+        if (adaptiveConcurrencyLimit) {
+            final ProcessingConcurrencyLimit processingConcurrencyLimit = stepConcurrencyLimitMap.remove(id);
+            if (processingConcurrencyLimit != null) {
+                processingConcurrencyLimit.release(durationInNanoseconds);
+            }
+        }
+
+        if (timeSliceInMilliseconds <= 0 || isShuttingDown || !processingRateLimiter.isActive()) {
+            return;
+        }
+        
+        // a processing which has to wait longer than a time slice for its next token gives its worker thread free
+        final long waitTime = getThrottleTime(id, false);
+        if (waitTime > TimeUnit.MILLISECONDS.toNanos(timeSliceInMilliseconds) && timeSliceStartMap.remove(id) != null) {
+            final ProcessingUnitRunnable p = processingUnitRunnableMap.get(id);
+            if (p != null) {
+                timeSliceSuspendSet.add(id);
+                p.suspendProcessing();
+            }
+        }
+    }
+
+    
+    /**
+     * Throttle a processing unit call until its tokens are valid. The step waits on its worker thread: a virtual thread 
+     * releases its carrier thread, a platform worker thread is parked. With time slicing a processing which has to wait 
+     * longer than a time slice is suspended after its step instead (see {@link #afterStep(String, long)}), its worker 
+     * thread is free for the other processings.
+     *
+     * @param id the id of the processing
+     */
+    protected void throttleStep(String id) {
+        final long waitTime = getThrottleTime(id, true);
+        if (waitTime <= 0) {
+            return;
+        }
+
+        // a suspended processing stops to wait
+        final long deadline = System.nanoTime() + waitTime;
+        long remaining = waitTime;
+        while (remaining > 0 && !Thread.currentThread().isInterrupted() && !isSuspending(id)) {
+            LockSupport.parkNanos(this, Math.min(remaining, MAX_THROTTLE_PARK_TIME_IN_NANOSECONDS));
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+
+    /**
+     * Check if a processing is going to be suspended by the shutdown, its timeout, its group or its time slice
+     *
+     * @param id the id of the processing
+     * @return true if the processing is going to be suspended
+     */
+    protected boolean isSuspending(String id) {
+        return isShuttingDown || isStopping(id) || timeSliceSuspendSet.contains(id);
+    }
+
+
+    /**
+     * Register the step interceptor of a processing, only a processing which is checkpointed, limited or retried has to 
+     * pass the steps of its processing unit
+     *
+     * @param id the id of the processing
+     */
+    protected void registerStepInterceptor(String id) {
+        if (processingCheckpointStore != null || adaptiveConcurrencyLimit || processingRateLimiter.isActive() || processingRetryMap.containsKey(id)) {
+            ProcessingStepInstanceManager.getInstance().register(id, this);
+        }
+    }
+
+
+    /**
+     * Get the adaptive concurrency limit of the processing unit class of a processing
+     *
+     * @param id the id of the processing
+     * @return the concurrency limit or null if the processing is unknown
+     */
+    protected ProcessingConcurrencyLimit getConcurrencyLimit(String id) {
+        final ProcessingUnitRunnable processingUnitRunnable = processingUnitRunnableMap.get(id);
+        if (processingUnitRunnable == null || processingUnitRunnable.getProcessingUnitClass() == null) {
+            return null;
+        }
+
+        return processingConcurrencyLimitMap.computeIfAbsent(processingUnitRunnable.getProcessingUnitClass(), c -> new ProcessingConcurrencyLimit(c, maximumPoolSize));
+    }
+
+
+    /**
+     * Get the time the next processing unit call of a processing has to wait for its tokens
+     *
+     * @param id the id of the processing
+     * @param reserve true to reserve the tokens; otherwise false
+     * @return the wait time in nanoseconds
+     */
+    protected long getThrottleTime(String id, boolean reserve) {
+        String processingUnitClassname = null;
+        final ProcessingUnitRunnable processingUnitRunnable = processingUnitRunnableMap.get(id);
+        if (processingUnitRunnable != null) {
+            processingUnitClassname = processingUnitRunnable.getProcessingUnitClass();
+        }
+
+        String tenant = null;
+        final ProcessingTenant processingTenant = processingIdTenantMap.get(id);
+        if (processingTenant != null) {
+            tenant = processingTenant.getName();
+        }
+
+        // the partitions share the rate limit of their processing
+        String processingId = id;
+        final ProcessingPartitionGroup processingPartitionGroup = processingPartitionGroupMap.get(id);
+        if (processingPartitionGroup != null) {
+            processingId = processingPartitionGroup.getId();
+        }
+
+        if (reserve) {
+            return processingRateLimiter.reserve(processingUnitClassname, tenant, processingId, System.nanoTime());
+        }
+        
+        return processingRateLimiter.getWaitTime(processingUnitClassname, tenant, processingId, System.nanoTime());
+    }
+
+    
     /**
      * Suspend a processing
      *
@@ -0,0 +1,169 @@
+/*
+ * ProcessingLoadShedder.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus;
+import com.github.toolarium.processing.engine.dto.loadshedding.ProcessingLoadSheddingStatus;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Implements the load shedding of new submissions based on the queue delay (CoDel). The processing executer reports the queue
+ * delay (sojourn time) of every started processing, it is the time from its admission until a worker thread starts it. It 
+ * includes the wait in the queue of the thread pool and in the queue of its bulkhead. As soon as the queue delay stays above the target for a whole interval, there
+ * is a standing queue and the engine is overloaded: new submissions up to the load shedding priority are rejected. A queue
+ * delay below the target or an empty run queue ends the overload. A short burst which is processed within the interval is
+ * not shed.
+ *
+ * @author patrick
+ */
+public class ProcessingLoadShedder {
+    private static final int NUMBER_OF_SAMPLES = 1024;
+    private static final int P50 = 50;
+    private static final int P90 = 90;
+    private static final int P99 = 99;
+    private static final int PERCENT = 100;
+    private final long targetInNanoseconds;
+    private final long intervalInNanoseconds;
+    private final int loadSheddingPriority;
+    private final long[] queueDelaySamples;
+    private int numberOfQueueDelaySamples;
+    private int queueDelaySampleIndex;
+    private long firstAboveTime;
+    private boolean isOverloaded;
+    private long numberOfShedProcessings;
+
+
+    /**
+     * Constructor for ProcessingLoadShedder
+     *
+     * @param targetInMilliseconds the target of the queue delay in milliseconds or 0 to disable the load shedding
+     * @param intervalInMilliseconds the interval in milliseconds the queue delay has to stay above the target
+     * @param loadSheddingPriority the submissions up to this priority are shed in case of an overload
+     */
+    public ProcessingLoadShedder(long targetInMilliseconds, long intervalInMilliseconds, int loadSheddingPriority) {
+        this.targetInNanoseconds = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, targetInMilliseconds));
+        this.intervalInNanoseconds = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, intervalInMilliseconds));
+        this.loadSheddingPriority = loadSheddingPriority;
+        this.queueDelaySamples = new long[NUMBER_OF_SAMPLES];
+        this.numberOfQueueDelaySamples = 0;
+        this.queueDelaySampleIndex = 0;
+        this.firstAboveTime = 0;
+        this.isOverloaded = false;
+        this.numberOfShedProcessings = 0;
+    }
+
+
+    /**
+     * Check if the load shedding is enabled
+     *
+     * @return true if the load shedding is enabled
+     */
+    public boolean isActive() {
+        return targetInNanoseconds > 0;
+    }
+
+
+    /**
+     * Report the queue delay of a dequeued processing
+     *
+     * @param queueDelayInNanoseconds the queue delay in nanoseconds
+     * @param isQueueEmpty true if the run queue is empty after the dequeue
+     * @param now the current time in nanoseconds
+     */
+    public synchronized void dequeued(long queueDelayInNanoseconds, boolean isQueueEmpty, long now) {
+        queueDelaySamples[queueDelaySampleIndex] = queueDelayInNanoseconds;
+        queueDelaySampleIndex = (queueDelaySampleIndex + 1) % NUMBER_OF_SAMPLES;
+        numberOfQueueDelaySamples = Math.min(NUMBER_OF_SAMPLES, numberOfQueueDelaySamples + 1);
+        if (!isActive()) {
+            return;
+        }
+
+        if (queueDelayInNanoseconds < targetInNanoseconds || isQueueEmpty) {
+            // no standing queue
+            firstAboveTime = 0;
+            isOverloaded = false;
+        } else if (firstAboveTime == 0) {
+            firstAboveTime = now + intervalInNanoseconds;
+        } else if (now - firstAboveTime >= 0) {
+            isOverloaded = true;
+        }
+    }
+
+
+    /**
+     * Check if a new submission is admitted, in case of an overload the submissions up to the load shedding priority are shed
+     *
+     * @param priority the priority of the submission
+     * @return true if the submission is admitted; false if it is shed
+     */
+    public synchronized boolean admit(int priority) {
+        if (!isOverloaded || priority > loadSheddingPriority) {
+            return true;
+        }
+
+        numberOfShedProcessings++;
+        return false;
+    }
+
+
+    /**
+     * Check if the engine is overloaded
+     *
+     * @return true if the queue delay stays above its target
+     */
+    public synchronized boolean isOverloaded() {
+        return isOverloaded;
+    }
+
+
+    /**
+     * Get the status
+     *
+     * @return the status
+     */
+    public synchronized IProcessingLoadSheddingStatus getStatus() {
+        ProcessingLoadSheddingStatus status = new ProcessingLoadSheddingStatus();
+        status.setQueueDelayTargetInMilliseconds(TimeUnit.NANOSECONDS.toMillis(targetInNanoseconds));
+        status.setOverloaded(isOverloaded);
+        status.setNumberOfShedProcessings(numberOfShedProcessings);
+
+        if (numberOfQueueDelaySamples > 0) {
+            final long[] samples = Arrays.copyOf(queueDelaySamples, numberOfQueueDelaySamples);
+            Arrays.sort(samples);
+            status.setQueueDelayP50InMilliseconds(getPercentile(samples, P50));
+            status.setQueueDelayP90InMilliseconds(getPercentile(samples, P90));
+            status.setQueueDelayP99InMilliseconds(getPercentile(samples, P99));
+            status.setMaxQueueDelayInMilliseconds(TimeUnit.NANOSECONDS.toMillis(samples[samples.length - 1]));
+        }
+
+        return status;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString() {
+        return "ProcessingLoadShedder [targetInNanoseconds=" + targetInNanoseconds + ", intervalInNanoseconds=" + intervalInNanoseconds
+                + ", loadSheddingPriority=" + loadSheddingPriority + ", isOverloaded=" + isOverloaded + ", numberOfShedProcessings=" + numberOfShedProcessings + "]";
+    }
+
+
+    /**
+     * Get a percentile (nearest rank) of the sorted samples
+     *
+     * @param sortedSamples the sorted samples in nanoseconds
+     * @param percentile the percentile
+     * @return the percentile in milliseconds
+     */
+    private long getPercentile(long[] sortedSamples, int percentile) {
+        final int rank = (int)Math.ceil(percentile * sortedSamples.length / (double)PERCENT);
+        return TimeUnit.NANOSECONDS.toMillis(sortedSamples[Math.max(0, rank - 1)]);
+    }
+}
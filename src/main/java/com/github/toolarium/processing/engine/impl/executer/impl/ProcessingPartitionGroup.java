@@ -0,0 +1,108 @@
+/*
+ * ProcessingPartitionGroup.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
+import com.github.toolarium.processing.engine.impl.util.ProcessingResultUtil;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Collects the results of the partitions of a processing and merges them into one result as soon as all partitions ended.
+ *
+ * @author patrick
+ */
+public class ProcessingPartitionGroup {
+    private String id;
+    private String name;
+    private int numberOfPartitions;
+    private List<IProcessingResult> processingResultList;
+
+
+    /**
+     * Constructor for ProcessingPartitionGroup
+     *
+     * @param id the id of the processing
+     * @param name the name of the processing
+     * @param numberOfPartitions the number of partitions
+     */
+    public ProcessingPartitionGroup(String id, String name, int numberOfPartitions) {
+        this.id = id;
+        this.name = name;
+        this.numberOfPartitions = numberOfPartitions;
+        this.processingResultList = new ArrayList<IProcessingResult>();
+    }
+
+
+    /**
+     * Get the id of the processing
+     *
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Get the id of a partition
+     *
+     * @param partitionIndex the partition index
+     * @return the partition id
+     */
+    public String getPartitionId(int partitionIndex) {
+        return id + "-" + partitionIndex;
+    }
+
+
+    /**
+     * Get the number of partitions
+     *
+     * @return the number of partitions
+     */
+    public synchronized int getNumberOfPartitions() {
+        return numberOfPartitions;
+    }
+
+
+    /**
+     * Add the result of an ended partition
+     *
+     * @param processingResult the result of the partition
+     * @return the merged result in case all partitions are ended; otherwise null
+     */
+    public synchronized IProcessingResult add(IProcessingResult processingResult) {
+        processingResultList.add(processingResult);
+        return getMergedResult();
+    }
+
+
+    /**
+     * Reduce the number of partitions, e.g. in case not all partitions could be started
+     *
+     * @param numberOfStartedPartitions the number of started partitions
+     * @return the merged result in case all started partitions are already ended; otherwise null
+     */
+    public synchronized IProcessingResult reduce(int numberOfStartedPartitions) {
+        numberOfPartitions = numberOfStartedPartitions;
+        return getMergedResult();
+    }
+
+
+    /**
+     * Get the merged result
+     *
+     * @return the merged result in case all partitions are ended; otherwise null
+     */
+    private IProcessingResult getMergedResult() {
+        if (processingResultList.isEmpty() || processingResultList.size() < numberOfPartitions) {
+            return null;
+        }
+
+        return ProcessingResultUtil.getInstance().merge(id, name, processingResultList);
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * ProcessingRetry.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
+import com.github.toolarium.processing.unit.IProcessingUnit;
+import com.github.toolarium.processing.unit.IProcessingUnitContext;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnableListener;
+import com.github.toolarium.processing.unit.runtime.runnable.impl.ProcessingUnitRunnable;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * Implements the retries of a processing: an aborted processing is retried after an exponential backoff as long as its
+ * last error is retryable and the max number of attempts is not reached. The pending retry waits on the timer wheel,
+ * it doesn't hold a worker thread.
+ *
+ * @author patrick
+ */
+public class ProcessingRetry {
+    private final String id;
+    private final String name;
+    private final Class<? extends IProcessingUnit> processingUnitClass;
+    private final List<Parameter> parameterList;
+    private final IProcessingUnitContext processingUnitContext;
+    private final IProcessingRetryPolicy retryPolicy;
+    private volatile int numberOfAttempts;
+    private volatile Throwable lastError;
+    private volatile byte[] suspendedState;
+    private volatile ProcessingUnitRunnable pendingProcessingUnitRunnable;
+
+
+    /**
+     * Constructor for ProcessingRetry
+     *
+     * @param id the id of the processing
+     * @param name the name of the processing
+     * @param processingUnitClass the processing unit class
+     * @param parameterList the parameter list
+     * @param processingUnitContext the processing unit context
+     * @param retryPolicy the retry policy
+     */
+    public ProcessingRetry(String id,
+                           String name,
+                           Class<? extends IProcessingUnit> processingUnitClass,
+                           List<Parameter> parameterList,
+                           IProcessingUnitContext processingUnitContext,
+                           IProcessingRetryPolicy retryPolicy) {
+        this.id = id;
+        this.name = name;
+        this.processingUnitClass = processingUnitClass;
+        this.parameterList = parameterList;
+        this.processingUnitContext = processingUnitContext;
+        this.retryPolicy = retryPolicy;
+        this.numberOfAttempts = 1;
+        this.lastError = null;
+        this.suspendedState = null;
+        this.pendingProcessingUnitRunnable = null;
+    }
+
+
+    /**
+     * Get the id of the processing
+     *
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Get the retry policy
+     *
+     * @return the retry policy
+     */
+    public IProcessingRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+
+    /**
+     * Get the number of attempts incl. the running one
+     *
+     * @return the number of attempts
+     */
+    public int getNumberOfAttempts() {
+        return numberOfAttempts;
+    }
+
+
+    /**
+     * Get the last error of the processing
+     *
+     * @return the last error or null
+     */
+    public Throwable getLastError() {
+        return lastError;
+    }
+
+
+    /**
+     * Set the last error of the processing
+     *
+     * @param lastError the last error
+     */
+    public void setLastError(Throwable lastError) {
+        this.lastError = lastError;
+    }
+
+
+    /**
+     * Get the suspended state of the last attempt
+     *
+     * @return the suspended state or null in case the last attempt restarted the processing
+     */
+    public byte[] getSuspendedState() {
+        return suspendedState;
+    }
+
+
+    /**
+     * Get the processing unit class name
+     *
+     * @return the processing unit class name or null
+     */
+    public String getProcessingUnitClassname() {
+        if (processingUnitClass == null) {
+            return null;
+        }
+
+        return processingUnitClass.getName();
+    }
+
+
+    /**
+     * Check if the aborted processing can be retried
+     *
+     * @return true if the last error is retryable and the max number of attempts is not reached
+     */
+    public boolean hasNextAttempt() {
+        return numberOfAttempts < retryPolicy.getMaxNumberOfAttempts() && isRetryable(lastError);
+    }
+
+
+    /**
+     * Prepare the next attempt: the processing resumes from the given suspended state or it restarts in case there is none.
+     *
+     * @param lastSuspendedState the last suspended state of the processing or null
+     * @param processingUnitRunnableListener the listener of the processing unit runnable
+     * @return the backoff of the next attempt in milliseconds
+     */
+    public synchronized long nextAttempt(byte[] lastSuspendedState, IProcessingUnitRunnableListener processingUnitRunnableListener) {
+        ProcessingUnitRunnable processingUnitRunnable = null;
+        if (lastSuspendedState != null && lastSuspendedState.length > 0) {
+            try {
+                processingUnitRunnable = new ProcessingUnitRunnable(lastSuspendedState, processingUnitRunnableListener);
+                suspendedState = lastSuspendedState;
+            } catch (RuntimeException e) {
+                processingUnitRunnable = null;
+            }
+        }
+
+        if (processingUnitRunnable == null) {
+            processingUnitRunnable = new ProcessingUnitRunnable(id, name, processingUnitClass, parameterList, processingUnitContext, processingUnitRunnableListener);
+            suspendedState = null;
+        }
+
+        pendingProcessingUnitRunnable = processingUnitRunnable;
+        lastError = null;
+        numberOfAttempts++;
+        return getBackoffInMilliseconds(numberOfAttempts - 1, ThreadLocalRandom.current().nextDouble());
+    }
+
+
+    /**
+     * Take the pending processing unit runnable, either the retry or the shutdown takes it
+     *
+     * @return the pending processing unit runnable or null if it is already taken
+     */
+    public synchronized ProcessingUnitRunnable takePendingProcessingUnitRunnable() {
+        final ProcessingUnitRunnable result = pendingProcessingUnitRunnable;
+        pendingProcessingUnitRunnable = null;
+        return result;
+    }
+
+
+    /**
+     * Get the backoff after a failed attempt: the initial backoff grows with the multiplier up to the max backoff, the
+     * jitter reduces it randomly to spread the retries of processings which failed at the same time.
+     *
+     * @param attempt the failed attempt, starting with 1
+     * @param random the random value between 0 and 1
+     * @return the backoff in milliseconds
+     */
+    public long getBackoffInMilliseconds(int attempt, double random) {
+        double backoff = Math.max(0L, retryPolicy.getInitialBackoffInMilliseconds()) * Math.pow(Math.max(1.0, retryPolicy.getBackoffMultiplier()), Math.max(0, attempt - 1));
+        if (retryPolicy.getMaxBackoffInMilliseconds() > 0) {
+            backoff = Math.min(backoff, retryPolicy.getMaxBackoffInMilliseconds());
+        }
+
+        final double jitter = Math.min(1.0, Math.max(0.0, retryPolicy.getJitter()));
+        return Math.round(backoff - random * jitter * backoff);
+    }
+
+
+    /**
+     * Check if an error is retryable: the error or one of its causes is classified by its class or a super class. A
+     * non retryable error is never retried, in case there are no retryable errors defined all other errors are retryable.
+     *
+     * @param e the error or null
+     * @return true if the error is retryable
+     */
+    public boolean isRetryable(Throwable e) {
+        final List<String> retryableExceptionList = retryPolicy.getRetryableExceptionList();
+        final boolean isRetryableDefined = retryableExceptionList != null && !retryableExceptionList.isEmpty();
+        boolean isRetryable = !isRetryableDefined;
+        for (Throwable t = e; t != null; t = nextCause(t)) {
+            if (matches(t, retryPolicy.getNonRetryableExceptionList())) {
+                return false;
+            }
+
+            if (isRetryableDefined && matches(t, retryableExceptionList)) {
+                isRetryable = true;
+            }
+        }
+
+        return isRetryable;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingRetry [id=" + id + ", name=" + name + ", numberOfAttempts=" + numberOfAttempts + ", retryPolicy=" + retryPolicy + "]";
+    }
+
+
+    /**
+     * Check if an error matches an exception list by its class or a super class
+     *
+     * @param e the error
+     * @param exceptionList the class names of the exceptions
+     * @return true if it matches
+     */
+    private boolean matches(Throwable e, List<String> exceptionList) {
+        if (exceptionList == null || exceptionList.isEmpty()) {
+            return false;
+        }
+
+        for (Class<?> c = e.getClass(); c != null; c = c.getSuperclass()) {
+            if (exceptionList.contains(c.getName())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Get the next cause of an error
+     *
+     * @param e the error
+     * @return the cause or null
+     */
+    private Throwable nextCause(Throwable e) {
+        if (e.getCause() == e) {
+            return null;
+        }
+
+        return e.getCause();
+    }
+}
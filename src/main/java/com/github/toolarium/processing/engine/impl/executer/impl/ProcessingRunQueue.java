@@ -0,0 +1,557 @@
+/*
+ * ProcessingRunQueue.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+
+/**
+ * Implements the run queue of the processing executer. New processings are accepted as long as the capacity is not reached.
+ * A processing which was already accepted and is suspended after its time slice can always be re-queued, independent of the capacity.
+ * 
+ * <p>The processings are ordered by their priority, processings with the same priority are first in first out. With aging 
+ * a waiting processing gains one priority level per aging interval. Since all waiting processings age at the same rate,
+ * the order is given by the constant key <code>enqueue time - priority * aging interval</code> and the queue stays a heap.</p>
+ * 
+ * <p>Every tenant has its own heap. The tenants with waiting processings share the worker threads by deficit round robin:
+ * in every round a tenant can dequeue as many processings as its weight, the priority is only considered within a tenant.
+ * Since a suspended processing is re-queued after each time slice, the fair share is given on the level of time slices.</p>
+ *  
+ * @author patrick
+ */
+public class ProcessingRunQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+    private static final int MAX_PRIORITY = 1_000_000;
+    private final int capacity;
+    private final long agingIntervalInNanoseconds;
+    private final ToIntFunction<Runnable> priorityFunction;
+    private final Function<Runnable, ProcessingTenant> tenantFunction;
+    private final ProcessingTenant defaultTenant;
+    private final Comparator<Entry> comparator;
+    private final Map<ProcessingTenant, PriorityQueue<Entry>> tenantQueueMap;
+    private final Deque<ProcessingTenant> activeTenantQueue;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private int count;
+    private long sequence;
+
+    
+    /**
+     * Constructor for ProcessingRunQueue
+     *
+     * @param capacity the capacity for new processings
+     */
+    public ProcessingRunQueue(int capacity) {
+        this(capacity, 0L, null);
+    }
+
+    
+    /**
+     * Constructor for ProcessingRunQueue
+     *
+     * @param capacity the capacity for new processings
+     * @param agingIntervalInMilliseconds the aging interval in milliseconds or 0 to disable aging
+     * @param priorityFunction resolves the priority of a runnable or null if all runnables have the same priority
+     */
+    public ProcessingRunQueue(int capacity, long agingIntervalInMilliseconds, ToIntFunction<Runnable> priorityFunction) {
+        this(capacity, agingIntervalInMilliseconds, priorityFunction, null);
+    }
+
+    
+    /**
+     * Constructor for ProcessingRunQueue
+     *
+     * @param capacity the capacity for new processings
+     * @param agingIntervalInMilliseconds the aging interval in milliseconds or 0 to disable aging
+     * @param priorityFunction resolves the priority of a runnable or null if all runnables have the same priority
+     * @param tenantFunction resolves the tenant of a runnable or null if all runnables belong to the same tenant
+     */
+    public ProcessingRunQueue(int capacity, long agingIntervalInMilliseconds, ToIntFunction<Runnable> priorityFunction, Function<Runnable, ProcessingTenant> tenantFunction) {
+        this.capacity = capacity;
+        this.agingIntervalInNanoseconds = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, agingIntervalInMilliseconds));
+        this.priorityFunction = priorityFunction;
+        this.tenantFunction = tenantFunction;
+        this.defaultTenant = new ProcessingTenant(ProcessingTenant.DEFAULT_TENANT, 1);
+        this.count = 0;
+        this.sequence = 0;
+        
+        Comparator<Entry> entryComparator;
+        if (agingIntervalInNanoseconds > 0) {
+            entryComparator = Comparator.comparingLong((Entry e) -> e.key);
+        } else {
+            entryComparator = Comparator.comparingInt((Entry e) -> -e.priority);
+        }
+        this.comparator = entryComparator.thenComparingLong(e -> e.sequence);
+        this.tenantQueueMap = new IdentityHashMap<ProcessingTenant, PriorityQueue<Entry>>();
+        this.activeTenantQueue = new ArrayDeque<ProcessingTenant>();
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+
+    
+    /**
+     * Re-queue an already accepted processing. The capacity is not considered.
+     *
+     * @param runnable the runnable
+     * @throws NullPointerException In case the runnable is null
+     */
+    public void requeue(Runnable runnable) {
+        if (runnable == null) {
+            throw new NullPointerException();
+        }
+
+        lock.lock();
+        try {
+            enqueue(runnable);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * Get the capacity
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    
+    /**
+     * @see java.util.Queue#offer(java.lang.Object)
+     */
+    @Override
+    public boolean offer(Runnable runnable) {
+        if (runnable == null) {
+            throw new NullPointerException();
+        }
+
+        lock.lock();
+        try {
+            if (count >= capacity) {
+                return false;
+            }
+            
+            enqueue(runnable);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.concurrent.BlockingQueue#offer(java.lang.Object, long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public boolean offer(Runnable runnable, long timeout, TimeUnit unit) throws InterruptedException {
+        if (runnable == null) {
+            throw new NullPointerException();
+        }
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                
+                nanos = notFull.awaitNanos(nanos);
+            }
+            
+            enqueue(runnable);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.concurrent.BlockingQueue#put(java.lang.Object)
+     */
+    @Override
+    public void put(Runnable runnable) throws InterruptedException {
+        if (runnable == null) {
+            throw new NullPointerException();
+        }
+
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                notFull.await();
+            }
+            
+            enqueue(runnable);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * Offer a batch of runnables under one lock: the runnables are inserted in their order as long as there is capacity.
+     *
+     * @param runnableList the runnables
+     * @return the number of the inserted runnables, the remaining runnables are not inserted
+     * @throws NullPointerException In case of a null runnable
+     */
+    public int offerAll(List<? extends Runnable> runnableList) throws NullPointerException {
+        if (runnableList == null || runnableList.isEmpty()) {
+            return 0;
+        }
+
+        int result = 0;
+        lock.lock();
+        try {
+            for (Runnable runnable : runnableList) {
+                if (runnable == null) {
+                    throw new NullPointerException();
+                }
+                
+                if (count >= capacity) {
+                    break;
+                }
+                
+                enqueue(runnable);
+                result++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        
+        return result;
+    }
+
+    
+    /**
+     * @see java.util.concurrent.BlockingQueue#take()
+     */
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.concurrent.BlockingQueue#poll(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.Queue#poll()
+     */
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            if (count == 0) {
+                return null;
+            }
+
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.Queue#peek()
+     */
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            final ProcessingTenant tenant = activeTenantQueue.peekFirst();
+            if (tenant == null) {
+                return null;
+            }
+            
+            return tenantQueueMap.get(tenant).peek().runnable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.AbstractCollection#remove(java.lang.Object)
+     */
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            for (Map.Entry<ProcessingTenant, PriorityQueue<Entry>> tenantQueue : tenantQueueMap.entrySet()) {
+                final Iterator<Entry> it = tenantQueue.getValue().iterator();
+                while (it.hasNext()) {
+                    if (it.next().runnable.equals(o)) {
+                        it.remove();
+                        count--;
+                        tenantQueue.getKey().remove();
+                        if (tenantQueue.getValue().isEmpty()) {
+                            deactivate(tenantQueue.getKey());
+                        }
+                        
+                        notFull.signal();
+                        return true;
+                    }
+                }
+            }
+            
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.AbstractCollection#size()
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.concurrent.BlockingQueue#remainingCapacity()
+     */
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return Math.max(0, capacity - count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * @see java.util.concurrent.BlockingQueue#drainTo(java.util.Collection)
+     */
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    
+    /**
+     * @see java.util.concurrent.BlockingQueue#drainTo(java.util.Collection, int)
+     */
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && count > 0) {
+                c.add(dequeue());
+                n++;
+            }
+            
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * Returns a snapshot iterator, it doesn't support to remove elements.
+     * 
+     * @see java.util.AbstractCollection#iterator()
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            List<Runnable> result = new ArrayList<Runnable>(count);
+            for (PriorityQueue<Entry> tenantQueue : tenantQueueMap.values()) {
+                for (Entry entry : tenantQueue) {
+                    result.add(entry.runnable);
+                }
+            }
+            
+            return result.iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    /**
+     * Enqueue a runnable, the lock must be held
+     *
+     * @param runnable the runnable
+     */
+    protected void enqueue(Runnable runnable) {
+        int priority = 0;
+        if (priorityFunction != null) {
+            priority = Math.max(-MAX_PRIORITY, Math.min(MAX_PRIORITY, priorityFunction.applyAsInt(runnable)));
+        }
+        
+        ProcessingTenant tenant = null;
+        if (tenantFunction != null) {
+            tenant = tenantFunction.apply(runnable);
+        }
+        
+        if (tenant == null) {
+            tenant = defaultTenant;
+        }
+        
+        PriorityQueue<Entry> tenantQueue = tenantQueueMap.get(tenant);
+        if (tenantQueue == null) {
+            tenantQueue = new PriorityQueue<Entry>(comparator);
+            tenantQueueMap.put(tenant, tenantQueue);
+            activeTenantQueue.addLast(tenant);
+        }
+
+        final long now = System.nanoTime();
+        tenantQueue.add(new Entry(runnable, tenant, priority, now, now - priority * agingIntervalInNanoseconds, sequence++));
+        count++;
+        tenant.enqueue();
+        notEmpty.signal();
+    }
+
+    
+    /**
+     * Dequeue a runnable, the lock must be held and the queue must not be empty
+     *
+     * @return the runnable
+     */
+    protected Runnable dequeue() {
+        final ProcessingTenant tenant = activeTenantQueue.peekFirst();
+        if (tenant.getDeficit() <= 0) {
+            tenant.setDeficit(tenant.getDeficit() + tenant.getWeight());
+        }
+
+        final PriorityQueue<Entry> tenantQueue = tenantQueueMap.get(tenant);
+        final Entry entry = tenantQueue.poll();
+        count--;
+        tenant.setDeficit(tenant.getDeficit() - 1);
+        if (tenantQueue.isEmpty()) {
+            deactivate(tenant);
+        } else if (tenant.getDeficit() <= 0) {
+            // the share of the round is used, the next tenant
+            activeTenantQueue.addLast(activeTenantQueue.pollFirst());
+        }
+        
+        final long now = System.nanoTime();
+        tenant.dequeue(now - entry.enqueueTime);
+        
+        notFull.signal();
+        return entry.runnable;
+    }
+
+    
+    /**
+     * Deactivate a tenant without waiting processings, the lock must be held
+     *
+     * @param tenant the tenant
+     */
+    private void deactivate(ProcessingTenant tenant) {
+        tenantQueueMap.remove(tenant);
+        activeTenantQueue.remove(tenant);
+        tenant.setDeficit(0);
+    }
+
+    
+    /**
+     * The entry of the run queue
+     *
+     * @author patrick
+     */
+    private static class Entry {
+        private final Runnable runnable;
+        private final ProcessingTenant tenant;
+        private final int priority;
+        private final long enqueueTime;
+        private final long key;
+        private final long sequence;
+
+        
+        /**
+         * Constructor for Entry
+         *
+         * @param runnable the runnable
+         * @param tenant the tenant
+         * @param priority the priority
+         * @param enqueueTime the enqueue time in nanoseconds
+         * @param key the aging key
+         * @param sequence the sequence number
+         */
+        Entry(Runnable runnable, ProcessingTenant tenant, int priority, long enqueueTime, long key, long sequence) {
+            this.runnable = runnable;
+            this.tenant = tenant;
+            this.priority = priority;
+            this.enqueueTime = enqueueTime;
+            this.key = key;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,540 @@
+/*
+ * ProcessingScheduler.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.IProcessingSchedule;
+import com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus;
+import com.github.toolarium.processing.engine.dto.schedule.ProcessingSchedulerStatus;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingScheduleReference;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Implements the scheduler of the delayed, fixed rate and cron executions. The schedules are kept in the hashed timer
+ * wheel of the executer which is driven by its timer thread, independent of the number of schedules. A fired schedule is
+ * put into the wheel again with its next execution time and hands its reference to the executor, the consumer which starts
+ * the processing doesn't run in the timer thread. The execution times are wall clock times, the pending schedules can be
+ * persisted by a shutdown. The firing jitter, the delay between the execution time and the firing, is measured for every
+ * execution.
+ *
+ * @author patrick
+ */
+public class ProcessingScheduler {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingScheduler.class);
+    private static final String TIMER_ID_PREFIX = "\0schedule/";
+    private static final int NUMBER_OF_SAMPLES = 1024;
+    private static final int P50 = 50;
+    private static final int P99 = 99;
+    private static final int PERCENT = 100;
+    private final ProcessingTimerWheel timerWheel;
+    private final Runnable timerWheelStarter;
+    private final Executor executor;
+    private final Map<String, Schedule> scheduleMap;
+    private final long[] jitterSamples;
+    private int numberOfJitterSamples;
+    private int jitterSampleIndex;
+    private final AtomicLong numberOfExecutions;
+    private final AtomicLong numberOfSkippedExecutions;
+    private volatile Consumer<ProcessingScheduleReference> processingScheduleConsumer;
+    private volatile boolean isShutdown;
+
+
+    /**
+     * Constructor for ProcessingScheduler
+     *
+     * @param timerWheel the timer wheel which keeps the schedules, it is shared with the timeouts of the executer
+     * @param timerWheelStarter starts the thread which drives the timer wheel
+     * @param executor the executor which starts the processings of the fired schedules
+     */
+    public ProcessingScheduler(ProcessingTimerWheel timerWheel, Runnable timerWheelStarter, Executor executor) {
+        this.timerWheel = timerWheel;
+        this.timerWheelStarter = timerWheelStarter;
+        this.executor = executor;
+        this.scheduleMap = new ConcurrentHashMap<String, Schedule>();
+        this.jitterSamples = new long[NUMBER_OF_SAMPLES];
+        this.numberOfJitterSamples = 0;
+        this.jitterSampleIndex = 0;
+        this.numberOfExecutions = new AtomicLong(0);
+        this.numberOfSkippedExecutions = new AtomicLong(0);
+        this.processingScheduleConsumer = null;
+        this.isShutdown = false;
+    }
+
+
+    /**
+     * Set the consumer which starts the processing of a fired schedule
+     *
+     * @param processingScheduleConsumer the processing schedule consumer
+     */
+    public void setProcessingScheduleConsumer(Consumer<ProcessingScheduleReference> processingScheduleConsumer) {
+        this.processingScheduleConsumer = processingScheduleConsumer;
+    }
+
+
+    /**
+     * Add a schedule. A schedule without next execution time is a cron schedule, its first execution time is calculated.
+     * A next execution time in the past is executed with the next tick, e.g. the schedules which were missed during a
+     * shutdown.
+     *
+     * @param processingScheduleReference the processing schedule reference
+     * @return the schedule handle
+     * @throws IllegalArgumentException In case of an invalid schedule
+     * @throws IllegalStateException In case the scheduler is shut down
+     */
+    public IProcessingSchedule schedule(ProcessingScheduleReference processingScheduleReference) throws IllegalArgumentException, IllegalStateException {
+        if (processingScheduleReference == null) {
+            throw new IllegalArgumentException("Invalid empty schedule!");
+        }
+
+        if (isShutdown) {
+            throw new IllegalStateException("The scheduler is shut down!");
+        }
+
+        if (processingScheduleReference.getPeriodInMilliseconds() < 0) {
+            throw new IllegalArgumentException("Invalid period: " + processingScheduleReference.getPeriodInMilliseconds() + "!");
+        }
+
+        ProcessingCronExpression cronExpression = null;
+        if (processingScheduleReference.getCronExpression() != null) {
+            cronExpression = new ProcessingCronExpression(processingScheduleReference.getCronExpression());
+            if (processingScheduleReference.getNextExecutionTime() <= 0) {
+                final ZonedDateTime nextExecutionTime = cronExpression.getNextExecutionTime(ZonedDateTime.now(ZoneId.systemDefault()));
+                if (nextExecutionTime == null) {
+                    throw new IllegalArgumentException("The cron expression [" + cronExpression + "] has no execution time!");
+                }
+
+                processingScheduleReference.setNextExecutionTime(nextExecutionTime.toInstant().toEpochMilli());
+            }
+        } else if (processingScheduleReference.getNextExecutionTime() <= 0) {
+            throw new IllegalArgumentException("Invalid schedule without execution time: " + processingScheduleReference + "!");
+        }
+
+        final Schedule schedule = new Schedule(processingScheduleReference, cronExpression);
+        if (scheduleMap.putIfAbsent(schedule.getId(), schedule) != null) {
+            throw new IllegalArgumentException("Duplicate schedule id: " + schedule.getId() + "!");
+        }
+
+        arm(schedule);
+        timerWheelStarter.run();
+        return schedule;
+    }
+
+
+    /**
+     * Get the pending schedules
+     *
+     * @return the pending schedule list
+     */
+    public List<IProcessingSchedule> getScheduleList() {
+        return new ArrayList<IProcessingSchedule>(scheduleMap.values());
+    }
+
+
+    /**
+     * Cancel a schedule
+     *
+     * @param id the id of the schedule
+     * @return true if the schedule was pending; otherwise false
+     */
+    public boolean cancel(String id) {
+        final Schedule schedule = scheduleMap.remove(id);
+        if (schedule == null) {
+            return false;
+        }
+
+        timerWheel.cancel(toTimerId(id));
+        schedule.setDone();
+        return true;
+    }
+
+
+    /**
+     * Stop the scheduler
+     *
+     * @return the pending schedules
+     */
+    public List<ProcessingScheduleReference> shutdown() {
+        isShutdown = true;
+        final List<ProcessingScheduleReference> result = new ArrayList<ProcessingScheduleReference>();
+        for (Schedule schedule : new ArrayList<Schedule>(scheduleMap.values())) {
+            if (cancel(schedule.getId())) {
+                result.add(schedule.getProcessingScheduleReference());
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get the status
+     *
+     * @return the status
+     */
+    public IProcessingSchedulerStatus getStatus() {
+        ProcessingSchedulerStatus status = new ProcessingSchedulerStatus();
+        status.setNumberOfSchedules(scheduleMap.size());
+        status.setNumberOfExecutions(numberOfExecutions.get());
+        status.setNumberOfSkippedExecutions(numberOfSkippedExecutions.get());
+
+        final long[] samples;
+        synchronized (jitterSamples) {
+            samples = Arrays.copyOf(jitterSamples, numberOfJitterSamples);
+        }
+
+        if (samples.length > 0) {
+            Arrays.sort(samples);
+            status.setFiringJitterP50InMicroseconds(getPercentile(samples, P50));
+            status.setFiringJitterP99InMicroseconds(getPercentile(samples, P99));
+            status.setMaxFiringJitterInMicroseconds(TimeUnit.NANOSECONDS.toMicros(samples[samples.length - 1]));
+        }
+
+        return status;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingScheduler [numberOfSchedules=" + scheduleMap.size() + ", numberOfExecutions=" + numberOfExecutions + ", numberOfSkippedExecutions=" + numberOfSkippedExecutions + "]";
+    }
+
+
+    /**
+     * Fire an expired timer of the timer wheel, it is called by the thread which drives the timer wheel
+     *
+     * @param timerId the id of the expired timer
+     * @param now the current time in nanoseconds
+     * @return true if the timer belongs to a schedule; otherwise false
+     */
+    public boolean fire(String timerId, long now) {
+        if (timerId == null || !timerId.startsWith(TIMER_ID_PREFIX)) {
+            return false;
+        }
+
+        final Schedule schedule = scheduleMap.get(timerId.substring(TIMER_ID_PREFIX.length()));
+        if (schedule != null && !isShutdown) {
+            execute(schedule, now);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Execute a schedule and put it into the timer wheel again with its next execution time, the processing is started by
+     * the executor
+     *
+     * @param schedule the schedule
+     * @param now the current time in nanoseconds
+     */
+    protected void execute(Schedule schedule, long now) {
+        addJitterSample(Math.max(0L, now - schedule.getDeadline()));
+
+        try {
+            executor.execute(() -> start(schedule));
+        } catch (RuntimeException e) {
+            numberOfSkippedExecutions.incrementAndGet();
+            LOG.warn("Could not execute the schedule " + schedule.getId() + " (" + schedule.getName() + "): " + e.getMessage());
+        }
+
+        if (!schedule.next(System.currentTimeMillis())) {
+            cancel(schedule.getId());
+        } else if (scheduleMap.containsKey(schedule.getId())) {
+            arm(schedule);
+        }
+    }
+
+
+    /**
+     * Start the processing of a fired schedule
+     *
+     * @param schedule the schedule
+     */
+    protected void start(Schedule schedule) {
+        final Consumer<ProcessingScheduleReference> consumer = processingScheduleConsumer;
+        try {
+            if (consumer == null) {
+                throw new IllegalStateException("No processing schedule consumer!");
+            }
+
+            consumer.accept(schedule.getProcessingScheduleReference());
+            schedule.executed();
+            numberOfExecutions.incrementAndGet();
+        } catch (RuntimeException e) {
+            numberOfSkippedExecutions.incrementAndGet();
+            LOG.warn("Could not execute the schedule " + schedule.getId() + " (" + schedule.getName() + "): " + e.getMessage());
+        }
+    }
+
+
+    /**
+     * Put a schedule into the timer wheel
+     *
+     * @param schedule the schedule
+     */
+    private void arm(Schedule schedule) {
+        final long delayInMilliseconds = Math.max(0L, schedule.getProcessingScheduleReference().getNextExecutionTime() - System.currentTimeMillis());
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayInMilliseconds);
+        schedule.setDeadline(deadline);
+        timerWheel.schedule(toTimerId(schedule.getId()), deadline);
+    }
+
+
+    /**
+     * Get the id of the timer of a schedule, the timer wheel is shared with the timeouts of the processings
+     *
+     * @param id the id of the schedule
+     * @return the timer id
+     */
+    private String toTimerId(String id) {
+        return TIMER_ID_PREFIX + id;
+    }
+
+
+    /**
+     * Add a jitter sample
+     *
+     * @param jitterInNanoseconds the jitter in nanoseconds
+     */
+    private void addJitterSample(long jitterInNanoseconds) {
+        synchronized (jitterSamples) {
+            jitterSamples[jitterSampleIndex] = jitterInNanoseconds;
+            jitterSampleIndex = (jitterSampleIndex + 1) % NUMBER_OF_SAMPLES;
+            numberOfJitterSamples = Math.min(NUMBER_OF_SAMPLES, numberOfJitterSamples + 1);
+        }
+    }
+
+
+    /**
+     * Get a percentile (nearest rank) of the sorted samples
+     *
+     * @param sortedSamples the sorted samples in nanoseconds
+     * @param percentile the percentile
+     * @return the percentile in microseconds
+     */
+    private long getPercentile(long[] sortedSamples, int percentile) {
+        final int rank = (int)Math.ceil(percentile * sortedSamples.length / (double)PERCENT);
+        return TimeUnit.NANOSECONDS.toMicros(sortedSamples[Math.max(0, rank - 1)]);
+    }
+
+
+    /**
+     * The schedule handle
+     *
+     * @author patrick
+     */
+    private class Schedule implements IProcessingSchedule {
+        private final ProcessingScheduleReference processingScheduleReference;
+        private final ProcessingCronExpression cronExpression;
+        private volatile long deadline;
+        private volatile boolean isDone;
+
+
+        /**
+         * Constructor for Schedule
+         *
+         * @param processingScheduleReference the processing schedule reference
+         * @param cronExpression the cron expression or null
+         */
+        Schedule(ProcessingScheduleReference processingScheduleReference, ProcessingCronExpression cronExpression) {
+            this.processingScheduleReference = processingScheduleReference;
+            this.cronExpression = cronExpression;
+            this.deadline = 0;
+            this.isDone = false;
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#getId()
+         */
+        @Override
+        public String getId() {
+            return processingScheduleReference.getId();
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#getName()
+         */
+        @Override
+        public String getName() {
+            return processingScheduleReference.getName();
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#getProcessingUnitClassname()
+         */
+        @Override
+        public String getProcessingUnitClassname() {
+            return processingScheduleReference.getProcessingUnitClassname();
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#getCronExpression()
+         */
+        @Override
+        public String getCronExpression() {
+            return processingScheduleReference.getCronExpression();
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#getPeriodInMilliseconds()
+         */
+        @Override
+        public long getPeriodInMilliseconds() {
+            return processingScheduleReference.getPeriodInMilliseconds();
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#getNextExecutionTime()
+         */
+        @Override
+        public synchronized Instant getNextExecutionTime() {
+            if (isDone) {
+                return null;
+            }
+
+            return Instant.ofEpochMilli(processingScheduleReference.getNextExecutionTime());
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#getNumberOfExecutions()
+         */
+        @Override
+        public synchronized long getNumberOfExecutions() {
+            return processingScheduleReference.getNumberOfExecutions();
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#isDone()
+         */
+        @Override
+        public boolean isDone() {
+            return isDone;
+        }
+
+
+        /**
+         * @see com.github.toolarium.processing.engine.IProcessingSchedule#cancel()
+         */
+        @Override
+        public boolean cancel() {
+            return ProcessingScheduler.this.cancel(getId());
+        }
+
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public synchronized String toString() {
+            return "Schedule [" + processingScheduleReference + ", isDone=" + isDone + "]";
+        }
+
+
+        /**
+         * Get the processing schedule reference
+         *
+         * @return the processing schedule reference
+         */
+        synchronized ProcessingScheduleReference getProcessingScheduleReference() {
+            return processingScheduleReference;
+        }
+
+
+        /**
+         * Get the deadline in the timer wheel
+         *
+         * @return the deadline in nanoseconds
+         */
+        long getDeadline() {
+            return deadline;
+        }
+
+
+        /**
+         * Set the deadline in the timer wheel
+         *
+         * @param deadline the deadline in nanoseconds
+         */
+        void setDeadline(long deadline) {
+            this.deadline = deadline;
+        }
+
+
+        /**
+         * Count an execution
+         */
+        synchronized void executed() {
+            processingScheduleReference.setNumberOfExecutions(processingScheduleReference.getNumberOfExecutions() + 1);
+        }
+
+
+        /**
+         * Mark the schedule as done
+         */
+        void setDone() {
+            isDone = true;
+        }
+
+
+        /**
+         * Calculate the next execution time. The missed execution times of a fixed rate schedule are skipped.
+         *
+         * @param currentTime the current wall clock time in milliseconds
+         * @return true if there is a next execution; otherwise false
+         */
+        synchronized boolean next(long currentTime) {
+            final long executionTime = processingScheduleReference.getNextExecutionTime();
+            if (cronExpression != null) {
+                final ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochMilli(Math.max(currentTime, executionTime)), ZoneId.systemDefault());
+                final ZonedDateTime nextExecutionTime = cronExpression.getNextExecutionTime(time);
+                if (nextExecutionTime == null) {
+                    return false;
+                }
+
+                processingScheduleReference.setNextExecutionTime(nextExecutionTime.toInstant().toEpochMilli());
+                return true;
+            }
+
+            final long period = processingScheduleReference.getPeriodInMilliseconds();
+            if (period <= 0) {
+                return false;
+            }
+
+            long numberOfPeriods = 1;
+            if (currentTime >= executionTime + period) {
+                numberOfPeriods = (currentTime - executionTime) / period + 1;
+                numberOfSkippedExecutions.addAndGet(numberOfPeriods - 1);
+            }
+
+            processingScheduleReference.setNextExecutionTime(executionTime + numberOfPeriods * period);
+            return true;
+        }
+    }
+}
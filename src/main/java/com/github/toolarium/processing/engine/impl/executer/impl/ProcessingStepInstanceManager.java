@@ -0,0 +1,332 @@
+/*
+ * ProcessingStepInstanceManager.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.impl.executer.IProcessingStepInterceptor;
+import com.github.toolarium.processing.engine.impl.pool.ProcessingUnitInstancePool;
+import com.github.toolarium.processing.unit.IProcessingUnit;
+import com.github.toolarium.processing.unit.exception.ValidationException;
+import com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager;
+import com.github.toolarium.processing.unit.util.ProcessingUnitUtil;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Decorates the processing unit instance manager: the processing unit instances of the registered processings are wrapped,
+ * every processing unit call (step) passes the {@link IProcessingStepInterceptor} of its processing. The steps are called by
+ * the processing unit runnable, this is the only place where the processing engine sees them.
+ * The ids of the processings are only unique within a processing engine: a step passes the interceptor which is bound to the
+ * worker thread of its processing engine, two processing engines can run processings with the same id.
+ * The decoration is installed with the first intercepted processing and uninstalled by the shutdown of a processing engine
+ * as soon as no processing is intercepted anymore. A decorated instance implements all interfaces of its processing unit, 
+ * it can't be cast to the class of the processing unit.
+ *
+ * @author patrick
+ */
+public final class ProcessingStepInstanceManager implements IProcessingUnitInstanceManager {
+    private static final String PROCESS_UNIT_METHOD = "processUnit";
+    private final ProcessingUnitInstancePool processingUnitInstanceManager;
+    private final ThreadLocal<IProcessingStepInterceptor> boundProcessingStepInterceptor;
+    private Map<String, Set<IProcessingStepInterceptor>> processingStepInterceptorMap;
+
+
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     *
+     * @author patrick
+     */
+    private static class HOLDER {
+        static final ProcessingStepInstanceManager INSTANCE = new ProcessingStepInstanceManager();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private ProcessingStepInstanceManager() {
+        processingUnitInstanceManager = ProcessingUnitInstancePool.getInstance();
+        boundProcessingStepInterceptor = new ThreadLocal<IProcessingStepInterceptor>();
+        processingStepInterceptorMap = new ConcurrentHashMap<String, Set<IProcessingStepInterceptor>>();
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static ProcessingStepInstanceManager getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Install the decoration in the processing unit runtime, the current processing unit instance manager is kept as decorated
+     * processing unit instance manager
+     */
+    public synchronized void install() {
+        final IProcessingUnitInstanceManager instanceManager = ProcessingUnitUtil.getInstance().getProcessingUnitInstanceManager();
+        if (instanceManager == this) {
+            return;
+        }
+
+        processingUnitInstanceManager.setProcessingUnitInstanceManager(instanceManager);
+        ProcessingUnitUtil.getInstance().setProcessingUnitInstanceManager(this);
+    }
+
+
+    /**
+     * Uninstall the decoration in case no processing is intercepted and no processing unit class is pooled: the decorated 
+     * processing unit instance manager is restored in the processing unit runtime. A later intercepted processing installs 
+     * the decoration again.
+     */
+    public synchronized void uninstall() {
+        if (ProcessingUnitUtil.getInstance().getProcessingUnitInstanceManager() != this || !processingStepInterceptorMap.isEmpty() || processingUnitInstanceManager.hasPool()) {
+            return;
+        }
+
+        ProcessingUnitUtil.getInstance().setProcessingUnitInstanceManager(processingUnitInstanceManager.getProcessingUnitInstanceManager());
+    }
+
+
+    /**
+     * Set the decorated processing unit instance manager and install the decoration, the instance pool sits in between
+     *
+     * @param instanceManager the processing unit instance manager
+     */
+    public synchronized void setProcessingUnitInstanceManager(IProcessingUnitInstanceManager instanceManager) {
+        if (instanceManager != this) {
+            processingUnitInstanceManager.setProcessingUnitInstanceManager(instanceManager);
+        }
+
+        ProcessingUnitUtil.getInstance().setProcessingUnitInstanceManager(this);
+    }
+
+
+    /**
+     * Register the step interceptor of a processing, the decoration is installed with the first registration
+     *
+     * @param id the id of the processing
+     * @param processingStepInterceptor the step interceptor
+     */
+    public void register(String id, IProcessingStepInterceptor processingStepInterceptor) {
+        if (id == null || processingStepInterceptor == null) {
+            return;
+        }
+
+        // the registration is done before the installation, a concurrent uninstall keeps the decoration
+        processingStepInterceptorMap.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(processingStepInterceptor);
+        install();
+    }
+
+
+    /**
+     * Unregister the step interceptor of a processing, the registrations of other processing engines are kept
+     *
+     * @param id the id of the processing
+     * @param processingStepInterceptor the step interceptor
+     */
+    public void unregister(String id, IProcessingStepInterceptor processingStepInterceptor) {
+        if (id == null || processingStepInterceptor == null) {
+            return;
+        }
+
+        processingStepInterceptorMap.computeIfPresent(id, (k, s) -> {
+            s.remove(processingStepInterceptor);
+            if (s.isEmpty()) {
+                return null;
+            }
+
+            return s;
+        });
+    }
+
+
+    /**
+     * Bind the step interceptor of a processing engine to the current worker thread
+     *
+     * @param processingStepInterceptor the step interceptor or null to unbind it
+     * @return the previous bound step interceptor or null
+     */
+    public IProcessingStepInterceptor bind(IProcessingStepInterceptor processingStepInterceptor) {
+        final IProcessingStepInterceptor previousProcessingStepInterceptor = boundProcessingStepInterceptor.get();
+        if (processingStepInterceptor == null) {
+            boundProcessingStepInterceptor.remove();
+        } else {
+            boundProcessingStepInterceptor.set(processingStepInterceptor);
+        }
+        
+        return previousProcessingStepInterceptor;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager#createProcessingUnitInstance(java.lang.String, java.lang.String, java.lang.Class)
+     */
+    @Override
+    public IProcessingUnit createProcessingUnitInstance(String id, String name, Class<? extends IProcessingUnit> processingUnitClass) throws ValidationException {
+        return decorate(id, processingUnitInstanceManager.createProcessingUnitInstance(id, name, processingUnitClass));
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager#createParallelProcessingUnitInstance(java.lang.String, java.lang.String, java.lang.Class)
+     */
+    @Override
+    public IProcessingUnit createParallelProcessingUnitInstance(String id, String name, Class<? extends IProcessingUnit> processingUnitClass) throws ValidationException {
+        return decorate(id, processingUnitInstanceManager.createParallelProcessingUnitInstance(id, name, processingUnitClass));
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager#releaseResource(java.lang.String, java.lang.String, com.github.toolarium.processing.unit.IProcessingUnit)
+     */
+    @Override
+    public void releaseResource(String id, String name, IProcessingUnit processingUnit) {
+        IProcessingUnit target = processingUnit;
+        if (processingUnit != null && Proxy.isProxyClass(processingUnit.getClass()) && Proxy.getInvocationHandler(processingUnit) instanceof ProcessingStepInvocationHandler) {
+            target = ((ProcessingStepInvocationHandler)Proxy.getInvocationHandler(processingUnit)).getTarget();
+        }
+
+        processingUnitInstanceManager.releaseResource(id, name, target);
+    }
+
+
+    /**
+     * Decorate a processing unit instance in case its processing has a step interceptor
+     *
+     * @param id the id of the processing
+     * @param processingUnit the processing unit instance
+     * @return the decorated processing unit instance
+     */
+    private IProcessingUnit decorate(String id, IProcessingUnit processingUnit) {
+        if (id == null || processingUnit == null) {
+            return processingUnit;
+        }
+
+        if (!processingStepInterceptorMap.containsKey(id)) {
+            return processingUnit;
+        }
+
+        // the decoration keeps all interfaces of the processing unit
+        final Set<Class<?>> interfaceSet = new LinkedHashSet<Class<?>>();
+        for (Class<?> c = processingUnit.getClass(); c != null; c = c.getSuperclass()) {
+            addInterfaces(interfaceSet, c.getInterfaces());
+        }
+
+        return (IProcessingUnit)Proxy.newProxyInstance(processingUnit.getClass().getClassLoader(),
+                                                       interfaceSet.toArray(new Class<?>[interfaceSet.size()]),
+                                                       new ProcessingStepInvocationHandler(id, processingUnit));
+    }
+
+
+    /**
+     * Get the step interceptor of a processing which is bound to the current worker thread
+     *
+     * @param id the id of the processing
+     * @return the step interceptor or null if the processing is not intercepted
+     */
+    IProcessingStepInterceptor getProcessingStepInterceptor(String id) {
+        final IProcessingStepInterceptor processingStepInterceptor = boundProcessingStepInterceptor.get();
+        if (processingStepInterceptor == null) {
+            return null;
+        }
+
+        final Set<IProcessingStepInterceptor> processingStepInterceptorSet = processingStepInterceptorMap.get(id);
+        if (processingStepInterceptorSet == null || !processingStepInterceptorSet.contains(processingStepInterceptor)) {
+            return null;
+        }
+
+        return processingStepInterceptor;
+    }
+
+
+    /**
+     * Add interfaces incl. their super interfaces
+     *
+     * @param interfaceSet the interface set
+     * @param interfaces the interfaces to add
+     */
+    private void addInterfaces(Set<Class<?>> interfaceSet, Class<?>[] interfaces) {
+        for (Class<?> i : interfaces) {
+            if (interfaceSet.add(i)) {
+                addInterfaces(interfaceSet, i.getInterfaces());
+            }
+        }
+    }
+
+
+    /**
+     * The invocation handler which intercepts the processing unit calls
+     *
+     * @author patrick
+     */
+    private static class ProcessingStepInvocationHandler implements InvocationHandler {
+        private final String id;
+        private final IProcessingUnit target;
+
+
+        /**
+         * Constructor for ProcessingStepInvocationHandler
+         *
+         * @param id the id of the processing
+         * @param target the processing unit instance
+         */
+        ProcessingStepInvocationHandler(String id, IProcessingUnit target) {
+            this.id = id;
+            this.target = target;
+        }
+
+
+        /**
+         * Get the processing unit instance
+         *
+         * @return the processing unit instance
+         */
+        IProcessingUnit getTarget() {
+            return target;
+        }
+
+
+        /**
+         * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+         */
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            try {
+                if (!PROCESS_UNIT_METHOD.equals(method.getName())) {
+                    return method.invoke(target, args);
+                }
+
+                // the step passes the processing engine which runs it
+                final IProcessingStepInterceptor processingStepInterceptor = getInstance().getProcessingStepInterceptor(id);
+                if (processingStepInterceptor == null) {
+                    return method.invoke(target, args);
+                }
+
+                processingStepInterceptor.beforeStep(id);
+                final long start = System.nanoTime();
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    processingStepInterceptor.failedStep(id, e.getCause());
+                    throw e;
+                } finally {
+                    processingStepInterceptor.afterStep(id, System.nanoTime() - start);
+                }
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * ProcessingTenant.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus;
+import com.github.toolarium.processing.engine.dto.tenant.ProcessingTenantStatus;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Defines a tenant of the processing executer. The run queue shares the worker threads between the tenants by deficit
+ * round robin: in every round a tenant can start as many processings (or time slices) as its weight.
+ *
+ * @author patrick
+ */
+public class ProcessingTenant {
+    /** DEFAULT_TENANT: the tenant of the processings without tenant. */
+    public static final String DEFAULT_TENANT = "default";
+    private final String name;
+    private final int weight;
+    private final AtomicInteger numberOfQueuedProcessings;
+    private final AtomicLong numberOfScheduledProcessings;
+    private final AtomicLong waitTimeInNanoseconds;
+    private final AtomicLong numberOfEndedProcessings;
+    private final AtomicLong numberOfProcessedUnits;
+    private int deficit;
+
+
+    /**
+     * Constructor for ProcessingTenant
+     *
+     * @param name the name of the tenant
+     * @param weight the weight, at least 1
+     */
+    public ProcessingTenant(String name, int weight) {
+        this.name = name;
+        this.weight = Math.max(1, weight);
+        this.numberOfQueuedProcessings = new AtomicInteger(0);
+        this.numberOfScheduledProcessings = new AtomicLong(0);
+        this.waitTimeInNanoseconds = new AtomicLong(0);
+        this.numberOfEndedProcessings = new AtomicLong(0);
+        this.numberOfProcessedUnits = new AtomicLong(0);
+        this.deficit = 0;
+    }
+
+
+    /**
+     * Get the name of the tenant
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Get the weight of the tenant
+     *
+     * @return the weight
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+
+    /**
+     * A processing of the tenant is queued
+     */
+    public void enqueue() {
+        numberOfQueuedProcessings.incrementAndGet();
+    }
+
+
+    /**
+     * A processing of the tenant got a worker thread
+     *
+     * @param waitTimeInNanoseconds the time the processing waited in the queue
+     */
+    public void dequeue(long waitTimeInNanoseconds) {
+        numberOfQueuedProcessings.decrementAndGet();
+        numberOfScheduledProcessings.incrementAndGet();
+        this.waitTimeInNanoseconds.addAndGet(Math.max(0L, waitTimeInNanoseconds));
+    }
+
+
+    /**
+     * A processing of the tenant is removed from the queue without getting a worker thread
+     */
+    public void remove() {
+        numberOfQueuedProcessings.decrementAndGet();
+    }
+
+
+    /**
+     * A processing of the tenant is ended
+     *
+     * @param numberOfProcessedUnits the number of processed units
+     */
+    public void end(long numberOfProcessedUnits) {
+        numberOfEndedProcessings.incrementAndGet();
+        this.numberOfProcessedUnits.addAndGet(numberOfProcessedUnits);
+    }
+
+
+    /**
+     * Get the deficit of the current round, it must be called by the holder of the run queue lock
+     *
+     * @return the deficit
+     */
+    int getDeficit() {
+        return deficit;
+    }
+
+
+    /**
+     * Set the deficit of the current round, it must be called by the holder of the run queue lock
+     *
+     * @param deficit the deficit
+     */
+    void setDeficit(int deficit) {
+        this.deficit = deficit;
+    }
+
+
+    /**
+     * Get the status of the tenant
+     *
+     * @return the status
+     */
+    public IProcessingTenantStatus getStatus() {
+        final long scheduled = numberOfScheduledProcessings.get();
+        double averageWaitTimeInMilliseconds = 0;
+        if (scheduled > 0) {
+            averageWaitTimeInMilliseconds = (double)waitTimeInNanoseconds.get() / scheduled / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        ProcessingTenantStatus status = new ProcessingTenantStatus();
+        status.setTenant(name);
+        status.setWeight(weight);
+        status.setNumberOfQueuedProcessings(Math.max(0, numberOfQueuedProcessings.get()));
+        status.setNumberOfScheduledProcessings(scheduled);
+        status.setAverageWaitTimeInMilliseconds(averageWaitTimeInMilliseconds);
+        status.setNumberOfEndedProcessings(numberOfEndedProcessings.get());
+        status.setNumberOfProcessedUnits(numberOfProcessedUnits.get());
+        return status;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingTenant [name=" + name + ", weight=" + weight + ", numberOfQueuedProcessings=" + numberOfQueuedProcessings.get() + "]";
+    }
+}
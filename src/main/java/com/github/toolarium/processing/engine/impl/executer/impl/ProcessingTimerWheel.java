@@ -0,0 +1,165 @@
+/*
+ * ProcessingTimerWheel.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Implements a hashed timer wheel for the timeouts of the processings. The wheel has a fixed number of slots, every slot
+ * covers one tick. A timeout is put into the slot of its deadline tick and gets the number of rounds the wheel has to turn
+ * until it expires. Scheduling and cancelling are O(1), one advance only visits the slots of the passed ticks. The wheel
+ * is driven by one thread which calls {@link #advance(long)} once per tick, independent of the number of timeouts.
+ *
+ * @author patrick
+ */
+public class ProcessingTimerWheel {
+    private final long tickInNanoseconds;
+    private final int mask;
+    private final List<Map<String, Timeout>> wheel;
+    private final Map<String, Timeout> timeoutMap;
+    private final long startTime;
+    private long currentTick;
+
+
+    /**
+     * Constructor for ProcessingTimerWheel
+     *
+     * @param tickInMilliseconds the duration of a tick in milliseconds, the precision of the timeouts
+     * @param numberOfSlots the number of slots, it is rounded up to a power of two
+     * @param now the current time in nanoseconds
+     */
+    public ProcessingTimerWheel(long tickInMilliseconds, int numberOfSlots, long now) {
+        this.tickInNanoseconds = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, tickInMilliseconds));
+
+        int size = 1;
+        while (size < numberOfSlots) {
+            size <<= 1;
+        }
+
+        this.mask = size - 1;
+        this.wheel = new ArrayList<Map<String, Timeout>>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new HashMap<String, Timeout>());
+        }
+
+        this.timeoutMap = new HashMap<String, Timeout>();
+        this.startTime = now;
+        this.currentTick = 0;
+    }
+
+
+    /**
+     * Schedule a timeout, an already scheduled timeout with the same id is replaced
+     *
+     * @param id the id
+     * @param deadline the deadline in nanoseconds
+     */
+    public synchronized void schedule(String id, long deadline) {
+        cancel(id);
+
+        // a deadline in the past expires with the next tick
+        final long deadlineTick = Math.max(currentTick + 1, (deadline - startTime + tickInNanoseconds - 1) / tickInNanoseconds);
+        final Timeout timeout = new Timeout(id, (int)(deadlineTick & mask), (deadlineTick - currentTick - 1) / wheel.size());
+        wheel.get(timeout.slot).put(id, timeout);
+        timeoutMap.put(id, timeout);
+    }
+
+
+    /**
+     * Cancel a timeout
+     *
+     * @param id the id
+     * @return true if the timeout was scheduled; otherwise false
+     */
+    public synchronized boolean cancel(String id) {
+        final Timeout timeout = timeoutMap.remove(id);
+        if (timeout == null) {
+            return false;
+        }
+
+        wheel.get(timeout.slot).remove(id);
+        return true;
+    }
+
+
+    /**
+     * Advance the wheel up to the current time
+     *
+     * @param now the current time in nanoseconds
+     * @return the ids of the expired timeouts
+     */
+    public synchronized List<String> advance(long now) {
+        final List<String> result = new ArrayList<String>();
+        final long tick = (now - startTime) / tickInNanoseconds;
+        while (currentTick < tick) {
+            currentTick++;
+            final Iterator<Timeout> it = wheel.get((int)(currentTick & mask)).values().iterator();
+            while (it.hasNext()) {
+                final Timeout timeout = it.next();
+                if (timeout.remainingRounds <= 0) {
+                    it.remove();
+                    timeoutMap.remove(timeout.id);
+                    result.add(timeout.id);
+                } else {
+                    timeout.remainingRounds--;
+                }
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get the number of scheduled timeouts
+     *
+     * @return the number of scheduled timeouts
+     */
+    public synchronized int size() {
+        return timeoutMap.size();
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString() {
+        return "ProcessingTimerWheel [tickInNanoseconds=" + tickInNanoseconds + ", numberOfSlots=" + wheel.size() + ", currentTick=" + currentTick + ", size=" + timeoutMap.size() + "]";
+    }
+
+
+    /**
+     * The timeout of the timer wheel
+     *
+     * @author patrick
+     */
+    private static class Timeout {
+        private final String id;
+        private final int slot;
+        private long remainingRounds;
+
+
+        /**
+         * Constructor for Timeout
+         *
+         * @param id the id
+         * @param slot the slot
+         * @param remainingRounds the number of rounds until the timeout expires
+         */
+        Timeout(String id, int slot, long remainingRounds) {
+            this.id = id;
+            this.slot = slot;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+}
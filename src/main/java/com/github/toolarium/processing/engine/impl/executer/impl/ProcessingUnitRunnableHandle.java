@@ -0,0 +1,142 @@
+/*
+ * ProcessingUnitRunnableHandle.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import com.github.toolarium.processing.unit.runtime.IProcessingUnitRuntimeTimeMeasurement;
+import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+
+
+/**
+ * Implements the stable handle of a processing: a time slice or a retry continues the processing with a new processing unit
+ * runnable, the handle which is returned to the caller always delegates to the current processing unit runnable. After the
+ * end of the processing the handle keeps its last processing unit runnable. The start timestamp and the duration of the
+ * previous time slices are kept by the handle, they are part of the result of the processing.
+ *
+ * @author patrick
+ */
+public final class ProcessingUnitRunnableHandle implements InvocationHandler {
+    private static final String EQUALS_METHOD = "equals";
+    private static final String HASHCODE_METHOD = "hashCode";
+    private final IProcessingUnitRunnable proxy;
+    private volatile IProcessingUnitRunnable processingUnitRunnable;
+    private volatile Instant startTimestamp;
+    private volatile long previousDuration;
+
+
+    /**
+     * Constructor for ProcessingUnitRunnableHandle
+     *
+     * @param processingUnitRunnable the processing unit runnable
+     */
+    public ProcessingUnitRunnableHandle(IProcessingUnitRunnable processingUnitRunnable) {
+        this.processingUnitRunnable = processingUnitRunnable;
+        this.startTimestamp = null;
+        this.previousDuration = 0;
+        this.proxy = (IProcessingUnitRunnable)Proxy.newProxyInstance(IProcessingUnitRunnable.class.getClassLoader(), new Class<?>[] {IProcessingUnitRunnable.class}, this);
+    }
+
+
+    /**
+     * Get the handle which is returned to the caller
+     *
+     * @return the handle
+     */
+    public IProcessingUnitRunnable getHandle() {
+        return proxy;
+    }
+
+
+    /**
+     * Get the current processing unit runnable
+     *
+     * @return the current processing unit runnable
+     */
+    public IProcessingUnitRunnable getProcessingUnitRunnable() {
+        return processingUnitRunnable;
+    }
+
+
+    /**
+     * Set the processing unit runnable which continues the processing
+     *
+     * @param processingUnitRunnable the processing unit runnable
+     */
+    public void setProcessingUnitRunnable(IProcessingUnitRunnable processingUnitRunnable) {
+        this.processingUnitRunnable = processingUnitRunnable;
+    }
+
+
+    /**
+     * Continue the processing with the processing unit runnable of its next time slice: the start timestamp of the first 
+     * time slice and the duration of the ended time slice are kept.
+     *
+     * @param continuation the processing unit runnable which continues the processing
+     */
+    public void continueTimeSlice(IProcessingUnitRunnable continuation) {
+        final IProcessingUnitRuntimeTimeMeasurement timeMeasurement = processingUnitRunnable.getTimeMeasurement();
+        if (timeMeasurement != null) {
+            if (startTimestamp == null) {
+                startTimestamp = timeMeasurement.getStartTimestamp();
+            }
+            
+            previousDuration += Math.max(0, timeMeasurement.getDuration());
+        }
+        
+        this.processingUnitRunnable = continuation;
+    }
+
+
+    /**
+     * Get the start timestamp of the processing
+     *
+     * @param currentStartTimestamp the start timestamp of the current processing unit runnable
+     * @return the start timestamp of the first time slice or the current start timestamp
+     */
+    public Instant getStartTimestamp(Instant currentStartTimestamp) {
+        if (startTimestamp != null) {
+            return startTimestamp;
+        }
+        
+        return currentStartTimestamp;
+    }
+
+
+    /**
+     * Get the duration of the previous time slices of the processing
+     *
+     * @return the duration of the previous time slices
+     */
+    public long getPreviousDuration() {
+        return previousDuration;
+    }
+
+
+    /**
+     * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+     */
+    @Override
+    public Object invoke(Object proxyInstance, Method method, Object[] args) throws Throwable {
+        // the identity of the handle doesn't change with its processing unit runnable
+        if (EQUALS_METHOD.equals(method.getName()) && args != null && args.length == 1) {
+            return proxyInstance == args[0];
+        }
+
+        if (HASHCODE_METHOD.equals(method.getName()) && (args == null || args.length == 0)) {
+            return System.identityHashCode(proxyInstance);
+        }
+
+        try {
+            return method.invoke(processingUnitRunnable, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * IProcessingGroupController.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.group;
+
+
+/**
+ * Defines the controller of the running processings of a group, it is implemented by the processing executer.
+ *
+ * @author patrick
+ */
+public interface IProcessingGroupController {
+
+    /**
+     * Stop a running processing of a group incl. its partitions. The processing is suspended, it ends as soon as it
+     * is suspended.
+     *
+     * @param id the id of the processing
+     * @param isAborted true if the processing ends as aborted; false if its suspended state is kept
+     */
+    void stopProcessing(String id, boolean isAborted);
+}
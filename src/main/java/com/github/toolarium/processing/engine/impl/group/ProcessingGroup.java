@@ -0,0 +1,454 @@
+/*
+ * ProcessingGroup.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.group;
+
+import com.github.toolarium.processing.engine.IProcessingGroup;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingUnitReference;
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
+import com.github.toolarium.processing.engine.dto.result.ProcessingResult;
+import com.github.toolarium.processing.engine.impl.util.ProcessingResultUtil;
+import com.github.toolarium.processing.unit.IProcessingUnitContext;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+
+/**
+ * Implements the {@link IProcessingGroup}. It holds the dependency graph of the processings and decides which processings
+ * can be started when a processing ends.
+ *
+ * @author patrick
+ */
+public class ProcessingGroup implements IProcessingGroup {
+    private String id;
+    private IProcessingUnitContext processingUnitContext;
+    private Map<String, ProcessingUnitReference> processingUnitReferenceMap;
+    private Map<String, Set<String>> successorMap;
+    private Map<String, Integer> numberOfOpenPredecessorMap;
+    private Set<String> startedIdSet;
+    private Set<String> skippedIdSet;
+    private Map<String, IProcessingResult> processingResultMap;
+    private boolean isFailFast;
+    private boolean isStopped;
+    private boolean isSuspended;
+    private CompletableFuture<IProcessingResult> result;
+    private volatile IProcessingGroupController processingGroupController;
+
+
+    /**
+     * Constructor for ProcessingGroup
+     *
+     * @param processingUnitReferenceList the processing unit references
+     * @param processingUnitContext the processing unit context which is shared by the processings of the group
+     * @throws IllegalArgumentException In case of duplicate ids, unknown dependencies or cyclic dependencies
+     */
+    public ProcessingGroup(List<ProcessingUnitReference> processingUnitReferenceList, IProcessingUnitContext processingUnitContext) throws IllegalArgumentException {
+        this.id = UUID.randomUUID().toString();
+        this.processingUnitContext = processingUnitContext;
+        this.processingUnitReferenceMap = new LinkedHashMap<String, ProcessingUnitReference>();
+        this.successorMap = new LinkedHashMap<String, Set<String>>();
+        this.numberOfOpenPredecessorMap = new LinkedHashMap<String, Integer>();
+        this.startedIdSet = new LinkedHashSet<String>();
+        this.skippedIdSet = new LinkedHashSet<String>();
+        this.processingResultMap = new LinkedHashMap<String, IProcessingResult>();
+        this.isFailFast = false;
+        this.isStopped = false;
+        this.isSuspended = false;
+        this.result = new CompletableFuture<IProcessingResult>();
+        this.processingGroupController = null;
+
+        for (ProcessingUnitReference p : processingUnitReferenceList) {
+            if (processingUnitReferenceMap.put(p.getId(), p) != null) {
+                throw new IllegalArgumentException("Duplicate processing id " + p.getId() + "!");
+            }
+
+            isFailFast = isFailFast || p.isFailFast();
+
+            successorMap.put(p.getId(), new LinkedHashSet<String>());
+        }
+
+        for (ProcessingUnitReference p : processingUnitReferenceList) {
+            Set<String> predecessorSet = new LinkedHashSet<String>(p.getDependsOnList());
+            for (String predecessor : predecessorSet) {
+                if (!successorMap.containsKey(predecessor)) {
+                    throw new IllegalArgumentException("The processing " + p.getId() + " depends on the unknown processing " + predecessor + "!");
+                }
+
+                successorMap.get(predecessor).add(p.getId());
+            }
+
+            numberOfOpenPredecessorMap.put(p.getId(), predecessorSet.size());
+        }
+
+        validateAcyclic();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#getId()
+     */
+    @Override
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Get the processing unit context
+     *
+     * @return the processing unit context
+     */
+    public IProcessingUnitContext getProcessingUnitContext() {
+        return processingUnitContext;
+    }
+
+
+    /**
+     * Set the controller of the running processings
+     *
+     * @param processingGroupController the processing group controller
+     */
+    public void setProcessingGroupController(IProcessingGroupController processingGroupController) {
+        this.processingGroupController = processingGroupController;
+    }
+
+
+    /**
+     * Get a processing unit reference of the group
+     *
+     * @param processingId the id of the processing
+     * @return the processing unit reference or null
+     */
+    public ProcessingUnitReference getProcessingUnitReference(String processingId) {
+        return processingUnitReferenceMap.get(processingId);
+    }
+
+
+    /**
+     * Get the processing unit references of the group
+     *
+     * @return the processing unit references
+     */
+    public List<ProcessingUnitReference> getProcessingUnitReferenceList() {
+        return new ArrayList<ProcessingUnitReference>(processingUnitReferenceMap.values());
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#getIdList()
+     */
+    @Override
+    public List<String> getIdList() {
+        return new ArrayList<String>(processingUnitReferenceMap.keySet());
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#getStartedIdList()
+     */
+    @Override
+    public synchronized List<String> getStartedIdList() {
+        return new ArrayList<String>(startedIdSet);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#getSkippedIdList()
+     */
+    @Override
+    public synchronized List<String> getSkippedIdList() {
+        return new ArrayList<String>(skippedIdSet);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#getProcessingResultList()
+     */
+    @Override
+    public synchronized List<IProcessingResult> getProcessingResultList() {
+        return new ArrayList<IProcessingResult>(processingResultMap.values());
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#isEnded()
+     */
+    @Override
+    public synchronized boolean isEnded() {
+        return processingResultMap.size() + skippedIdSet.size() >= processingUnitReferenceMap.size();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#isFailFast()
+     */
+    @Override
+    public boolean isFailFast() {
+        return isFailFast;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#cancel()
+     */
+    @Override
+    public void cancel() {
+        final List<String> runningIdList;
+        synchronized (this) {
+            runningIdList = stop();
+        }
+
+        stopProcessings(runningIdList, true);
+        completeIfEnded();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#suspend()
+     */
+    @Override
+    public void suspend() {
+        final List<String> runningIdList;
+        synchronized (this) {
+            if (!isStopped) {
+                isSuspended = true;
+            }
+
+            runningIdList = stop();
+        }
+
+        stopProcessings(runningIdList, false);
+        completeIfEnded();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#await(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public boolean await(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        try {
+            result.get(timeout, timeUnit);
+            return true;
+        } catch (TimeoutException | CancellationException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingGroup#getResult()
+     */
+    @Override
+    public CompletableFuture<IProcessingResult> getResult() {
+        return result;
+    }
+
+
+    /**
+     * Start the group
+     *
+     * @return the processings without predecessors which have to be started
+     */
+    public synchronized List<ProcessingUnitReference> start() {
+        List<ProcessingUnitReference> result = new ArrayList<ProcessingUnitReference>();
+        for (Map.Entry<String, Integer> e : numberOfOpenPredecessorMap.entrySet()) {
+            if (e.getValue().intValue() == 0 && startedIdSet.add(e.getKey())) {
+                result.add(processingUnitReferenceMap.get(e.getKey()));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * A processing of the group is ended
+     *
+     * @param processingResult the processing result
+     * @return the successors which have to be started now
+     */
+    public List<ProcessingUnitReference> end(IProcessingResult processingResult) {
+        final List<ProcessingUnitReference> successorList = new ArrayList<ProcessingUnitReference>();
+        List<String> runningIdList = null;
+        synchronized (this) {
+            if (processingResult == null || !processingUnitReferenceMap.containsKey(processingResult.getId()) || processingResultMap.containsKey(processingResult.getId())) {
+                return successorList;
+            }
+
+            processingResultMap.put(processingResult.getId(), processingResult);
+            if (processingResult.isAborted() || processingResult.isTimedOut()) {
+                skipSuccessors(processingResult.getId());
+                if (isFailFast && !isStopped) {
+                    runningIdList = stop();
+                }
+            } else if (!isStopped) {
+                for (String successor : successorMap.get(processingResult.getId())) {
+                    int numberOfOpenPredecessors = numberOfOpenPredecessorMap.get(successor).intValue() - 1;
+                    numberOfOpenPredecessorMap.put(successor, numberOfOpenPredecessors);
+                    if (numberOfOpenPredecessors == 0 && !skippedIdSet.contains(successor) && startedIdSet.add(successor)) {
+                        successorList.add(processingUnitReferenceMap.get(successor));
+                    }
+                }
+            }
+        }
+
+        if (runningIdList != null) {
+            stopProcessings(runningIdList, true);
+        }
+
+        completeIfEnded();
+        return successorList;
+    }
+
+
+    /**
+     * A processing of the group could not be started, it is skipped including all its successors
+     *
+     * @param processingId the id of the processing
+     */
+    public void reject(String processingId) {
+        synchronized (this) {
+            if (!processingUnitReferenceMap.containsKey(processingId) || processingResultMap.containsKey(processingId)) {
+                return;
+            }
+
+            startedIdSet.remove(processingId);
+            skippedIdSet.add(processingId);
+            skipSuccessors(processingId);
+        }
+
+        completeIfEnded();
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString() {
+        return "ProcessingGroup [id=" + id + ", idList=" + processingUnitReferenceMap.keySet() + ", startedIdSet=" + startedIdSet + ", skippedIdSet=" + skippedIdSet + ", ended=" + processingResultMap.keySet() 
+               + ", isFailFast=" + isFailFast + ", isStopped=" + isStopped + "]";
+    }
+
+
+    /**
+     * Stop the group: the not started processings are skipped
+     *
+     * @return the ids of the running processings
+     */
+    private List<String> stop() {
+        isStopped = true;
+        final List<String> runningIdList = new ArrayList<String>();
+        for (String processingId : processingUnitReferenceMap.keySet()) {
+            if (!startedIdSet.contains(processingId)) {
+                skippedIdSet.add(processingId);
+            } else if (!processingResultMap.containsKey(processingId)) {
+                runningIdList.add(processingId);
+            }
+        }
+
+        return runningIdList;
+    }
+
+
+    /**
+     * Stop the running processings
+     *
+     * @param runningIdList the ids of the running processings
+     * @param isAborted true if the processings end as aborted; false if they are suspended
+     */
+    private void stopProcessings(List<String> runningIdList, boolean isAborted) {
+        final IProcessingGroupController controller = processingGroupController;
+        if (controller == null) {
+            return;
+        }
+
+        for (String processingId : runningIdList) {
+            controller.stopProcessing(processingId, isAborted);
+        }
+    }
+
+
+    /**
+     * Complete the aggregated result in case the group is ended
+     */
+    private void completeIfEnded() {
+        final ProcessingResult aggregatedResult;
+        synchronized (this) {
+            if (result.isDone() || !isEnded()) {
+                return;
+            }
+
+            aggregatedResult = ProcessingResultUtil.getInstance().merge(id, null, new ArrayList<IProcessingResult>(processingResultMap.values()));
+            aggregatedResult.setIsAborted(aggregatedResult.isAborted() || (!skippedIdSet.isEmpty() && !isSuspended));
+        }
+
+        result.complete(aggregatedResult);
+    }
+
+
+    /**
+     * Skip all successors of a processing
+     *
+     * @param processingId the id of the processing
+     */
+    private void skipSuccessors(String processingId) {
+        Deque<String> stack = new ArrayDeque<String>(successorMap.get(processingId));
+        while (!stack.isEmpty()) {
+            String successor = stack.pop();
+            if (!startedIdSet.contains(successor) && skippedIdSet.add(successor)) {
+                stack.addAll(successorMap.get(successor));
+            }
+        }
+    }
+
+
+    /**
+     * Validate that the dependencies have no cycle
+     *
+     * @throws IllegalArgumentException In case of a cyclic dependency
+     */
+    private void validateAcyclic() throws IllegalArgumentException {
+        Map<String, Integer> inDegreeMap = new LinkedHashMap<String, Integer>(numberOfOpenPredecessorMap);
+        Deque<String> queue = new ArrayDeque<String>();
+        for (Map.Entry<String, Integer> e : inDegreeMap.entrySet()) {
+            if (e.getValue().intValue() == 0) {
+                queue.add(e.getKey());
+            }
+        }
+
+        int numberOfVisited = 0;
+        while (!queue.isEmpty()) {
+            String processingId = queue.poll();
+            numberOfVisited++;
+            for (String successor : successorMap.get(processingId)) {
+                int inDegree = inDegreeMap.get(successor).intValue() - 1;
+                inDegreeMap.put(successor, inDegree);
+                if (inDegree == 0) {
+                    queue.add(successor);
+                }
+            }
+        }
+
+        if (numberOfVisited < processingUnitReferenceMap.size()) {
+            throw new IllegalArgumentException("The processings have a cyclic dependency!");
+        }
+    }
+}
@@ -0,0 +1,719 @@
+/*
+ * ProcessingJournal.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.journal;
+
+import com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry;
+import com.github.toolarium.processing.engine.dto.journal.ProcessingJournalEntry;
+import com.github.toolarium.processing.engine.impl.util.ProcessingDirectoryLock;
+import com.github.toolarium.processing.engine.impl.util.ProcessingThreadFactory;
+import com.github.toolarium.processing.unit.dto.ProcessingActionStatus;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Implements the append-only journal of the processings: the submissions, state transitions, results and removals of the
+ * processings are appended to a memory mapped segment file. The records are synced to the disk by the commit thread once
+ * per commit interval (group commit), the appending threads never wait for the disk. A full segment is compacted: the
+ * new segment starts with one record per processing of the journal view and the previous segments are deleted.
+ * <pre>
+ * segment: magic (int, TPEJ), version (short), flags (short), records until a size of 0
+ * record:  size (int), CRC32 of the content (int), type (byte), timestamp (long), id (string), content of the type
+ * string:  size (short, -1 for null), UTF-8 bytes
+ * </pre>
+ * At the start the journal view is rebuilt from the segments of the previous engine, the processings which were not
+ * removed are the interrupted processings. They are kept in the journal view until they are removed, e.g. by a new
+ * submission with the same id which ends, or acknowledged. A record which is not completely written is detected by its
+ * checksum. The journal directory is locked by one journal at a time.
+ *
+ * @author patrick
+ */
+public class ProcessingJournal {
+    /** The default segment size */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingJournal.class);
+    private static final int MAGIC = 0x5450454A;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+    private static final short NULL_SIZE = -1;
+    private static final String SEGMENT_FILE_EXTENSION = ".journal";
+    private static final String SEGMENT_FILE_FORMAT = "%016d" + SEGMENT_FILE_EXTENSION;
+    private static final byte TYPE_SUBMIT = 1;
+    private static final byte TYPE_TRANSITION = 2;
+    private static final byte TYPE_RESULT = 3;
+    private static final byte TYPE_REMOVE = 4;
+    private static final byte TYPE_ENTRY = 5;
+    private final Path directory;
+    private final int segmentSize;
+    private final Object lock;
+    private final Map<String, ProcessingJournalEntry> entryMap;
+    private final Set<String> interruptedIdSet;
+    private final ProcessingDirectoryLock processingDirectoryLock;
+    private final ByteBuffer recordBuffer;
+    private final CRC32 crc;
+    private final AtomicLong numberOfRecords;
+    private final AtomicLong numberOfCommits;
+    private volatile long numberOfCommittedRecords;
+    private ScheduledExecutorService commitExecutor;
+    private long segmentSequence;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segmentBuffer;
+    private boolean isClosed;
+
+
+    /**
+     * Constructor for ProcessingJournal
+     *
+     * @param directory the journal directory, it is created in case it doesn't exist
+     * @param segmentSize the size of a segment in bytes
+     * @param commitIntervalInMilliseconds the commit interval in milliseconds, in case of 0 every record is synced
+     * @throws ProcessingException In case the journal can't be opened or the directory is used by an other journal
+     */
+    public ProcessingJournal(Path directory, int segmentSize, long commitIntervalInMilliseconds) throws ProcessingException {
+        this.directory = directory;
+        this.segmentSize = Math.max(HEADER_SIZE + MAX_RECORD_SIZE, segmentSize);
+        this.lock = new Object();
+        this.entryMap = new LinkedHashMap<String, ProcessingJournalEntry>();
+        this.interruptedIdSet = new LinkedHashSet<String>();
+        this.recordBuffer = ByteBuffer.allocate(MAX_RECORD_SIZE);
+        this.crc = new CRC32();
+        this.numberOfRecords = new AtomicLong(0);
+        this.numberOfCommits = new AtomicLong(0);
+        this.numberOfCommittedRecords = 0;
+        this.segmentSequence = 0;
+        this.isClosed = false;
+
+        this.processingDirectoryLock = new ProcessingDirectoryLock(directory);
+        try {
+            final List<Path> segmentList = recover();
+            interruptedIdSet.addAll(entryMap.keySet());
+            if (!interruptedIdSet.isEmpty()) {
+                LOG.warn("The journal " + directory + " has " + interruptedIdSet.size() + " interrupted processings: " + entryMap.values());
+            }
+
+            // the new segment starts with the interrupted processings, the previous segments are removed
+            roll(0);
+            delete(segmentList);
+        } catch (IOException e) {
+            processingDirectoryLock.release();
+            throw new ProcessingException("Could not open the journal [" + directory + "]: " + e.getMessage(), e, true);
+        }
+
+        commitExecutor = null;
+        if (commitIntervalInMilliseconds > 0) {
+            commitExecutor = Executors.newSingleThreadScheduledExecutor(ProcessingThreadFactory.getInstance());
+            commitExecutor.scheduleWithFixedDelay(this::commit, commitIntervalInMilliseconds, commitIntervalInMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Get the processings which were not removed from the previous engine, e.g. because of a crash. They are kept until
+     * they are removed or acknowledged.
+     *
+     * @return the interrupted processings
+     */
+    public List<IProcessingJournalEntry> getInterruptedProcessingList() {
+        final List<IProcessingJournalEntry> result = new ArrayList<IProcessingJournalEntry>();
+        synchronized (lock) {
+            for (String id : interruptedIdSet) {
+                result.add(copy(entryMap.get(id)));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Acknowledge an interrupted processing, e.g. as soon as it is handled: it is removed from the journal
+     *
+     * @param id the id of the interrupted processing
+     * @return true if the processing was interrupted; otherwise false
+     */
+    public boolean acknowledgeInterrupted(String id) {
+        synchronized (lock) {
+            if (id == null || !interruptedIdSet.contains(id)) {
+                return false;
+            }
+
+            remove(id);
+            return true;
+        }
+    }
+
+
+    /**
+     * Get the journal view: the processings which are submitted and not yet removed
+     *
+     * @return the processings of the journal
+     */
+    public List<IProcessingJournalEntry> getProcessingList() {
+        final List<IProcessingJournalEntry> result = new ArrayList<IProcessingJournalEntry>();
+        synchronized (lock) {
+            for (ProcessingJournalEntry processingJournalEntry : entryMap.values()) {
+                result.add(copy(processingJournalEntry));
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get the number of appended records
+     *
+     * @return the number of appended records
+     */
+    public long getNumberOfRecords() {
+        return numberOfRecords.get();
+    }
+
+
+    /**
+     * Get the number of commits, a commit syncs all records which are appended since the previous commit
+     *
+     * @return the number of commits
+     */
+    public long getNumberOfCommits() {
+        return numberOfCommits.get();
+    }
+
+
+    /**
+     * Append the submission of a processing
+     *
+     * @param id the id of the processing
+     * @param name the name of the processing
+     * @param processingUnitClassname the processing unit class name
+     */
+    public void submit(String id, String name, String processingUnitClassname) {
+        append(TYPE_SUBMIT, id, name, processingUnitClassname, 0);
+    }
+
+
+    /**
+     * Append the state transition of a processing
+     *
+     * @param id the id of the processing
+     * @param processingActionStatus the new processing action status
+     */
+    public void transition(String id, ProcessingActionStatus processingActionStatus) {
+        append(TYPE_TRANSITION, id, toName(processingActionStatus), null, 0);
+    }
+
+
+    /**
+     * Append the result of a processing
+     *
+     * @param id the id of the processing
+     * @param processingActionStatus the processing action status of the result
+     * @param numberOfProcessedUnits the number of processed units
+     */
+    public void result(String id, ProcessingActionStatus processingActionStatus, long numberOfProcessedUnits) {
+        append(TYPE_RESULT, id, toName(processingActionStatus), null, numberOfProcessedUnits);
+    }
+
+
+    /**
+     * Append the removal of a processing, it is not part of the journal view anymore
+     *
+     * @param id the id of the processing
+     */
+    public void remove(String id) {
+        append(TYPE_REMOVE, id, null, null, 0);
+    }
+
+
+    /**
+     * Sync the appended records to the disk. All records which are appended since the previous commit are synced at once,
+     * the appending threads are not blocked by the sync.
+     */
+    public void commit() {
+        final MappedByteBuffer buffer;
+        final long records;
+        synchronized (lock) {
+            records = numberOfRecords.get();
+            if (isClosed || records == numberOfCommittedRecords) {
+                return;
+            }
+
+            buffer = segmentBuffer;
+        }
+
+        buffer.force();
+        numberOfCommittedRecords = records;
+        numberOfCommits.incrementAndGet();
+    }
+
+
+    /**
+     * Compact the journal: a new segment starts with one record per processing of the journal view and the previous
+     * segments are deleted
+     *
+     * @throws ProcessingException In case the journal can't be compacted
+     */
+    public void compact() throws ProcessingException {
+        synchronized (lock) {
+            if (isClosed) {
+                return;
+            }
+
+            try {
+                roll(0);
+            } catch (IOException e) {
+                throw new ProcessingException("Could not compact the journal [" + directory + "]: " + e.getMessage(), e, true);
+            }
+        }
+    }
+
+
+    /**
+     * Close the journal, it is compacted and synced and the journal directory is released
+     */
+    public void close() {
+        if (commitExecutor != null) {
+            commitExecutor.shutdownNow();
+        }
+
+        synchronized (lock) {
+            if (isClosed) {
+                return;
+            }
+
+            try {
+                roll(0);
+                segmentChannel.close();
+            } catch (IOException e) {
+                LOG.warn("Could not close the journal [" + directory + "]: " + e.getMessage());
+            }
+
+            isClosed = true;
+            processingDirectoryLock.release();
+        }
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingJournal [directory=" + directory + ", segmentSequence=" + segmentSequence + ", numberOfRecords=" + numberOfRecords + ", numberOfCommits=" + numberOfCommits + "]";
+    }
+
+
+    /**
+     * Append a record to the segment and to the journal view
+     *
+     * @param type the type of the record
+     * @param id the id of the processing
+     * @param value the first value of the record
+     * @param secondValue the second value of the record, only used by a submission
+     * @param number the number of the record, only used by a result
+     */
+    private void append(byte type, String id, String value, String secondValue, long number) {
+        if (id == null) {
+            return;
+        }
+
+        synchronized (lock) {
+            if (isClosed) {
+                return;
+            }
+
+            try {
+                recordBuffer.clear();
+                recordBuffer.put(type);
+                recordBuffer.putLong(System.currentTimeMillis());
+                putString(recordBuffer, id);
+                if (type == TYPE_SUBMIT) {
+                    putString(recordBuffer, value);
+                    putString(recordBuffer, secondValue);
+                } else if (type == TYPE_TRANSITION) {
+                    putString(recordBuffer, value);
+                } else if (type == TYPE_RESULT) {
+                    putString(recordBuffer, value);
+                    recordBuffer.putLong(number);
+                }
+                recordBuffer.flip();
+
+                final int size = recordBuffer.remaining();
+                if (segmentBuffer.remaining() < RECORD_HEADER_SIZE + size) {
+                    roll(RECORD_HEADER_SIZE + size);
+                }
+
+                apply(recordBuffer.duplicate());
+                write(segmentBuffer, recordBuffer);
+                numberOfRecords.incrementAndGet();
+                if (commitExecutor == null) {
+                    segmentBuffer.force();
+                    numberOfCommittedRecords = numberOfRecords.get();
+                    numberOfCommits.incrementAndGet();
+                }
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Could not append to the journal [" + directory + "]: " + e.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * Write a record to a segment
+     *
+     * @param buffer the segment buffer
+     * @param record the record content
+     */
+    private void write(ByteBuffer buffer, ByteBuffer record) {
+        crc.reset();
+        crc.update(record.duplicate());
+        buffer.putInt(record.remaining());
+        buffer.putInt((int)crc.getValue());
+        buffer.put(record);
+    }
+
+
+    /**
+     * Start a new segment with the journal view, the previous segments are deleted as soon as the new segment is synced
+     *
+     * @param reservedSize the size which has to be available in the new segment
+     * @throws IOException In case of an I/O error
+     */
+    private void roll(int reservedSize) throws IOException {
+        // the record buffer may hold the pending record of an append
+        final ByteBuffer entryBuffer = ByteBuffer.allocate(MAX_RECORD_SIZE);
+        final List<ByteBuffer> entryRecordList = new ArrayList<ByteBuffer>(entryMap.size());
+        long size = HEADER_SIZE + reservedSize;
+        for (ProcessingJournalEntry processingJournalEntry : entryMap.values()) {
+            entryBuffer.clear();
+            entryBuffer.put(TYPE_ENTRY);
+            entryBuffer.putLong(processingJournalEntry.getTimestamp());
+            putString(entryBuffer, processingJournalEntry.getId());
+            putString(entryBuffer, processingJournalEntry.getName());
+            putString(entryBuffer, processingJournalEntry.getProcessingUnitClassname());
+            putString(entryBuffer, toName(processingJournalEntry.getProcessingActionStatus()));
+            entryBuffer.putLong(processingJournalEntry.getNumberOfProcessedUnits());
+            entryBuffer.flip();
+
+            final ByteBuffer entryRecord = ByteBuffer.allocate(entryBuffer.remaining());
+            entryRecord.put(entryBuffer).flip();
+            entryRecordList.add(entryRecord);
+            size += RECORD_HEADER_SIZE + entryRecord.remaining();
+        }
+
+        // in case the journal view doesn't fit into a segment the new segment is larger
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The journal view exceeds the max segment size!");
+        }
+
+        int newSegmentSize = segmentSize;
+        while (newSegmentSize < size) {
+            newSegmentSize = (int)Math.min(Integer.MAX_VALUE, 2L * newSegmentSize);
+        }
+
+        final FileChannel previousSegmentChannel = segmentChannel;
+        final Path previousSegmentPath = getSegmentPath(segmentSequence);
+        segmentSequence++;
+        final FileChannel channel = FileChannel.open(getSegmentPath(segmentSequence), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newSegmentSize);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short)0);
+        for (ByteBuffer entryRecord : entryRecordList) {
+            write(buffer, entryRecord);
+        }
+
+        buffer.force();
+        segmentChannel = channel;
+        segmentBuffer = buffer;
+        numberOfCommittedRecords = numberOfRecords.get();
+
+        if (previousSegmentChannel != null) {
+            previousSegmentChannel.close();
+            Files.deleteIfExists(previousSegmentPath);
+        }
+    }
+
+
+    /**
+     * Rebuild the journal view from the segments of the directory
+     *
+     * @return the read segments
+     * @throws IOException In case the directory can't be read
+     */
+    private List<Path> recover() throws IOException {
+        final List<Path> segmentList = new ArrayList<Path>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "*" + SEGMENT_FILE_EXTENSION)) {
+            for (Path path : directoryStream) {
+                segmentList.add(path);
+            }
+        }
+
+        // the segment file names are ordered by their sequence
+        Collections.sort(segmentList);
+        for (Path path : segmentList) {
+            final String filename = path.getFileName().toString();
+            try {
+                segmentSequence = Math.max(segmentSequence, Long.parseLong(filename.substring(0, filename.length() - SEGMENT_FILE_EXTENSION.length())));
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid journal segment name [" + path + "], it is skipped.");
+                continue;
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                read(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+
+        return segmentList;
+    }
+
+
+    /**
+     * Read the records of a segment into the journal view, the read stops at the first invalid record
+     *
+     * @param path the path of the segment
+     * @param buffer the segment buffer
+     */
+    private void read(Path path, ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            LOG.warn("Invalid journal segment [" + path + "], it is skipped.");
+            return;
+        }
+
+        final short version = buffer.getShort();
+        buffer.getShort();
+        if (version < 1 || version > VERSION) {
+            LOG.warn("Unsupported version " + version + " of the journal segment [" + path + "], it is skipped.");
+            return;
+        }
+
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            final int size = buffer.getInt();
+            final int checksum = buffer.getInt();
+            if (size <= 0 || size > MAX_RECORD_SIZE || size > buffer.remaining()) {
+                // the end of the segment
+                return;
+            }
+
+            final ByteBuffer record = buffer.slice();
+            record.limit(size);
+            crc.reset();
+            crc.update(record.duplicate());
+            if ((int)crc.getValue() != checksum) {
+                LOG.warn("The journal segment [" + path + "] ends with an incomplete record.");
+                return;
+            }
+
+            try {
+                apply(record);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Invalid record in the journal segment [" + path + "]: " + e.getMessage());
+                return;
+            }
+
+            buffer.position(buffer.position() + size);
+        }
+    }
+
+
+    /**
+     * Apply a record to the journal view
+     *
+     * @param record the record content
+     * @throws IOException In case of an unknown record type
+     */
+    private void apply(ByteBuffer record) throws IOException {
+        final byte type = record.get();
+        final long timestamp = record.getLong();
+        final String id = getString(record);
+        if (type == TYPE_REMOVE) {
+            entryMap.remove(id);
+            interruptedIdSet.remove(id);
+            return;
+        }
+
+        if (type == TYPE_SUBMIT || type == TYPE_ENTRY) {
+            // a new submission replaces an interrupted processing with the same id
+            interruptedIdSet.remove(id);
+            final ProcessingJournalEntry processingJournalEntry = new ProcessingJournalEntry();
+            processingJournalEntry.setId(id);
+            processingJournalEntry.setName(getString(record));
+            processingJournalEntry.setProcessingUnitClassname(getString(record));
+            processingJournalEntry.setTimestamp(timestamp);
+            if (type == TYPE_ENTRY) {
+                processingJournalEntry.setProcessingActionStatus(toProcessingActionStatus(getString(record)));
+                processingJournalEntry.setNumberOfProcessedUnits(record.getLong());
+            }
+
+            entryMap.put(id, processingJournalEntry);
+            return;
+        }
+
+        if (type != TYPE_TRANSITION && type != TYPE_RESULT) {
+            throw new IOException("Unknown record type " + type + "!");
+        }
+
+        final ProcessingJournalEntry processingJournalEntry = entryMap.get(id);
+        final ProcessingActionStatus processingActionStatus = toProcessingActionStatus(getString(record));
+        if (processingJournalEntry == null) {
+            // the submission is not journaled, e.g. it was appended before a compaction removed it
+            return;
+        }
+
+        processingJournalEntry.setProcessingActionStatus(processingActionStatus);
+        processingJournalEntry.setTimestamp(timestamp);
+        if (type == TYPE_RESULT) {
+            processingJournalEntry.setNumberOfProcessedUnits(record.getLong());
+        }
+    }
+
+
+    /**
+     * Put a string into a record buffer
+     *
+     * @param buffer the record buffer
+     * @param value the value or null
+     * @throws BufferOverflowException In case the record exceeds the max record size
+     */
+    private void putString(ByteBuffer buffer, String value) throws BufferOverflowException {
+        if (value == null) {
+            buffer.putShort(NULL_SIZE);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new BufferOverflowException();
+        }
+
+        buffer.putShort((short)bytes.length);
+        buffer.put(bytes);
+    }
+
+
+    /**
+     * Get a string of a record
+     *
+     * @param record the record content
+     * @return the value or null
+     * @throws BufferUnderflowException In case the record is too short
+     */
+    private String getString(ByteBuffer record) throws BufferUnderflowException {
+        final short size = record.getShort();
+        if (size < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[size];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Get the name of a processing action status
+     *
+     * @param processingActionStatus the processing action status or null
+     * @return the name or null
+     */
+    private String toName(ProcessingActionStatus processingActionStatus) {
+        if (processingActionStatus == null) {
+            return null;
+        }
+
+        return processingActionStatus.name();
+    }
+
+
+    /**
+     * Get the processing action status of a name
+     *
+     * @param processingActionStatus the name or null
+     * @return the processing action status or null if it is unknown
+     */
+    private ProcessingActionStatus toProcessingActionStatus(String processingActionStatus) {
+        if (processingActionStatus == null) {
+            return null;
+        }
+
+        try {
+            return ProcessingActionStatus.valueOf(processingActionStatus);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+
+    /**
+     * Copy a journal entry
+     *
+     * @param processingJournalEntry the journal entry
+     * @return the copy
+     */
+    private ProcessingJournalEntry copy(ProcessingJournalEntry processingJournalEntry) {
+        final ProcessingJournalEntry result = new ProcessingJournalEntry();
+        result.setId(processingJournalEntry.getId());
+        result.setName(processingJournalEntry.getName());
+        result.setProcessingUnitClassname(processingJournalEntry.getProcessingUnitClassname());
+        result.setProcessingActionStatus(processingJournalEntry.getProcessingActionStatus());
+        result.setNumberOfProcessedUnits(processingJournalEntry.getNumberOfProcessedUnits());
+        result.setTimestamp(processingJournalEntry.getTimestamp());
+        return result;
+    }
+
+
+    /**
+     * Get the path of a segment
+     *
+     * @param sequence the sequence of the segment
+     * @return the path
+     */
+    private Path getSegmentPath(long sequence) {
+        return directory.resolve(String.format(SEGMENT_FILE_FORMAT, sequence));
+    }
+
+
+    /**
+     * Delete segments
+     *
+     * @param segmentList the segments to delete
+     * @throws IOException In case a segment can't be deleted
+     */
+    private void delete(List<Path> segmentList) throws IOException {
+        for (Path path : segmentList) {
+            if (!path.equals(getSegmentPath(segmentSequence))) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * ProcessingUnitInstancePool.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.pool;
+
+import com.github.toolarium.processing.engine.dto.pool.IProcessingUnitPoolPolicy;
+import com.github.toolarium.processing.unit.IProcessingUnit;
+import com.github.toolarium.processing.unit.exception.ValidationException;
+import com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager;
+import com.github.toolarium.processing.unit.runtime.ProcessingUnitInstanceManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Implements the instance pool of the processing units: it sits in front of the processing unit instance manager and keeps
+ * the released instances of the pooled processing unit classes for the next processings. A released instance is released
+ * by the processing unit instance manager as every other instance, a pooled processing unit has to reset its state in its
+ * releaseResource; the processing unit classes without a pool policy get a new instance for every processing.
+ * The most recently released instance is reused first, it is the one which is most likely still warm. The pool policies
+ * are registered by class name in the processing unit registry and shared by all engines, an idle instance is only reused
+ * by the same class (class loader).
+ *
+ * @author patrick
+ */
+public final class ProcessingUnitInstancePool implements IProcessingUnitInstanceManager {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingUnitInstancePool.class);
+    private static final String WARM_UP_ID = "WARMUP";
+    private volatile IProcessingUnitInstanceManager processingUnitInstanceManager;
+    private Map<String, Pool> poolMap;
+
+
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     *
+     * @author patrick
+     */
+    private static class HOLDER {
+        static final ProcessingUnitInstancePool INSTANCE = new ProcessingUnitInstancePool();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private ProcessingUnitInstancePool() {
+        processingUnitInstanceManager = new ProcessingUnitInstanceManager();
+        poolMap = new ConcurrentHashMap<String, Pool>();
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static ProcessingUnitInstancePool getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Set the processing unit instance manager which creates and releases the instances
+     *
+     * @param processingUnitInstanceManager the processing unit instance manager
+     */
+    public void setProcessingUnitInstanceManager(IProcessingUnitInstanceManager processingUnitInstanceManager) {
+        if (processingUnitInstanceManager != null && processingUnitInstanceManager != this) {
+            this.processingUnitInstanceManager = processingUnitInstanceManager;
+        }
+    }
+
+
+    /**
+     * Get the processing unit instance manager which creates and releases the instances
+     *
+     * @return the processing unit instance manager
+     */
+    public IProcessingUnitInstanceManager getProcessingUnitInstanceManager() {
+        return processingUnitInstanceManager;
+    }
+
+
+    /**
+     * Check if a processing unit class is pooled
+     *
+     * @return true if at least one processing unit class has a pool
+     */
+    public boolean hasPool() {
+        return !poolMap.isEmpty();
+    }
+
+
+    /**
+     * Set the pool policy of a processing unit class. The idle instances of a previous pool are released.
+     *
+     * @param processingUnitClassname the processing unit class name
+     * @param poolPolicy the pool policy or null to remove the pool
+     */
+    public void setPoolPolicy(String processingUnitClassname, IProcessingUnitPoolPolicy poolPolicy) {
+        if (processingUnitClassname == null) {
+            return;
+        }
+
+        Pool previousPool;
+        if (poolPolicy == null || poolPolicy.getMaxNumberOfIdleInstances() <= 0) {
+            previousPool = poolMap.remove(processingUnitClassname);
+        } else {
+            previousPool = poolMap.put(processingUnitClassname, new Pool(poolPolicy));
+        }
+
+        if (previousPool != null) {
+            for (IProcessingUnit processingUnit = previousPool.poll(); processingUnit != null; processingUnit = previousPool.poll()) {
+                processingUnitInstanceManager.releaseResource(WARM_UP_ID, null, processingUnit);
+            }
+        }
+    }
+
+
+    /**
+     * Warm up the pool of a processing unit class: the instances are created up to the min number of idle instances
+     *
+     * @param processingUnitClass the processing unit class
+     * @return the number of created instances
+     * @throws ValidationException In case an instance can't be created
+     */
+    public int warmUp(Class<? extends IProcessingUnit> processingUnitClass) throws ValidationException {
+        if (processingUnitClass == null) {
+            return 0;
+        }
+
+        final Pool pool = poolMap.get(processingUnitClass.getName());
+        if (pool == null) {
+            return 0;
+        }
+
+        int result = 0;
+        final int minNumberOfIdleInstances = Math.min(pool.getPoolPolicy().getMinNumberOfIdleInstances(), pool.getPoolPolicy().getMaxNumberOfIdleInstances());
+        while (pool.size() < minNumberOfIdleInstances) {
+            final IProcessingUnit processingUnit = processingUnitInstanceManager.createProcessingUnitInstance(WARM_UP_ID, null, processingUnitClass);
+            pool.created();
+            if (!pool.offer(processingUnit)) {
+                processingUnitInstanceManager.releaseResource(WARM_UP_ID, null, processingUnit);
+                break;
+            }
+
+            result++;
+        }
+
+        if (result > 0) {
+            LOG.info("Warm up the instance pool of processing unit " + processingUnitClass.getName() + " with " + result + " instances.");
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get the number of idle instances of a processing unit class
+     *
+     * @param processingUnitClassname the processing unit class name
+     * @return the number of idle instances
+     */
+    public int getNumberOfIdleInstances(String processingUnitClassname) {
+        final Pool pool = getPool(processingUnitClassname);
+        if (pool == null) {
+            return 0;
+        }
+
+        return pool.size();
+    }
+
+
+    /**
+     * Get the number of instances of a processing unit class which are created by the pool
+     *
+     * @param processingUnitClassname the processing unit class name
+     * @return the number of created instances
+     */
+    public long getNumberOfCreatedInstances(String processingUnitClassname) {
+        final Pool pool = getPool(processingUnitClassname);
+        if (pool == null) {
+            return 0;
+        }
+
+        return pool.getNumberOfCreatedInstances();
+    }
+
+
+    /**
+     * Get the number of processings of a processing unit class which reused an idle instance
+     *
+     * @param processingUnitClassname the processing unit class name
+     * @return the number of reused instances
+     */
+    public long getNumberOfReusedInstances(String processingUnitClassname) {
+        final Pool pool = getPool(processingUnitClassname);
+        if (pool == null) {
+            return 0;
+        }
+
+        return pool.getNumberOfReusedInstances();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager#createProcessingUnitInstance(java.lang.String, java.lang.String, java.lang.Class)
+     */
+    @Override
+    public IProcessingUnit createProcessingUnitInstance(String id, String name, Class<? extends IProcessingUnit> processingUnitClass) throws ValidationException {
+        final IProcessingUnit processingUnit = take(processingUnitClass);
+        if (processingUnit != null) {
+            return processingUnit;
+        }
+
+        return processingUnitInstanceManager.createProcessingUnitInstance(id, name, processingUnitClass);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager#createParallelProcessingUnitInstance(java.lang.String, java.lang.String, java.lang.Class)
+     */
+    @Override
+    public IProcessingUnit createParallelProcessingUnitInstance(String id, String name, Class<? extends IProcessingUnit> processingUnitClass) throws ValidationException {
+        final IProcessingUnit processingUnit = take(processingUnitClass);
+        if (processingUnit != null) {
+            return processingUnit;
+        }
+
+        return processingUnitInstanceManager.createParallelProcessingUnitInstance(id, name, processingUnitClass);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager#releaseResource(java.lang.String, java.lang.String, com.github.toolarium.processing.unit.IProcessingUnit)
+     */
+    @Override
+    public void releaseResource(String id, String name, IProcessingUnit processingUnit) {
+        Pool pool = null;
+        if (processingUnit != null) {
+            pool = poolMap.get(processingUnit.getClass().getName());
+        }
+
+        if (pool == null || !pool.hasCapacity()) {
+            processingUnitInstanceManager.releaseResource(id, name, processingUnit);
+            return;
+        }
+        
+        try {
+            // the released instance is reset for the next processing
+            processingUnitInstanceManager.releaseResource(id, name, processingUnit);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not release the instance of processing unit " + processingUnit.getClass().getName() + ", it is dropped: " + e.getMessage());
+            return;
+        }
+
+        pool.offer(processingUnit);
+    }
+
+
+    /**
+     * Take an idle instance of a processing unit class
+     *
+     * @param processingUnitClass the processing unit class
+     * @return the idle instance or null in case a new instance has to be created
+     */
+    private IProcessingUnit take(Class<? extends IProcessingUnit> processingUnitClass) {
+        if (processingUnitClass == null) {
+            return null;
+        }
+
+        final Pool pool = poolMap.get(processingUnitClass.getName());
+        if (pool == null) {
+            return null;
+        }
+
+        // an instance of a class with the same name of an other class loader is dropped
+        final IProcessingUnit processingUnit = pool.poll();
+        if (processingUnit != null && processingUnit.getClass() == processingUnitClass) {
+            pool.reused();
+            return processingUnit;
+        }
+
+        pool.created();
+        return null;
+    }
+
+
+    /**
+     * Get the pool of a processing unit class
+     *
+     * @param processingUnitClassname the processing unit class name
+     * @return the pool or null
+     */
+    private Pool getPool(String processingUnitClassname) {
+        if (processingUnitClassname == null) {
+            return null;
+        }
+
+        return poolMap.get(processingUnitClassname);
+    }
+
+
+    /**
+     * The idle instances of a processing unit class
+     *
+     * @author patrick
+     */
+    private static class Pool {
+        private final IProcessingUnitPoolPolicy poolPolicy;
+        private final LinkedBlockingDeque<IProcessingUnit> idleInstanceQueue;
+        private final AtomicLong numberOfCreatedInstances;
+        private final AtomicLong numberOfReusedInstances;
+
+
+        /**
+         * Constructor for Pool
+         *
+         * @param poolPolicy the pool policy
+         */
+        Pool(IProcessingUnitPoolPolicy poolPolicy) {
+            this.poolPolicy = poolPolicy;
+            this.idleInstanceQueue = new LinkedBlockingDeque<IProcessingUnit>(poolPolicy.getMaxNumberOfIdleInstances());
+            this.numberOfCreatedInstances = new AtomicLong(0);
+            this.numberOfReusedInstances = new AtomicLong(0);
+        }
+
+
+        /**
+         * Get the pool policy
+         *
+         * @return the pool policy
+         */
+        IProcessingUnitPoolPolicy getPoolPolicy() {
+            return poolPolicy;
+        }
+
+
+        /**
+         * Take the most recently released idle instance
+         *
+         * @return the idle instance or null
+         */
+        IProcessingUnit poll() {
+            return idleInstanceQueue.pollFirst();
+        }
+
+
+        /**
+         * Keep an idle instance
+         *
+         * @param processingUnit the idle instance
+         * @return true if it is kept, false if the pool is full
+         */
+        boolean offer(IProcessingUnit processingUnit) {
+            return idleInstanceQueue.offerFirst(processingUnit);
+        }
+
+
+        /**
+         * Check if the pool can keep a further idle instance
+         *
+         * @return true if it has capacity
+         */
+        boolean hasCapacity() {
+            return idleInstanceQueue.remainingCapacity() > 0;
+        }
+
+
+        /**
+         * Get the number of idle instances
+         *
+         * @return the number of idle instances
+         */
+        int size() {
+            return idleInstanceQueue.size();
+        }
+
+
+        /**
+         * Count a created instance
+         */
+        void created() {
+            numberOfCreatedInstances.incrementAndGet();
+        }
+
+
+        /**
+         * Count a reused instance
+         */
+        void reused() {
+            numberOfReusedInstances.incrementAndGet();
+        }
+
+
+        /**
+         * Get the number of created instances
+         *
+         * @return the number of created instances
+         */
+        long getNumberOfCreatedInstances() {
+            return numberOfCreatedInstances.get();
+        }
+
+
+        /**
+         * Get the number of reused instances
+         *
+         * @return the number of reused instances
+         */
+        long getNumberOfReusedInstances() {
+            return numberOfReusedInstances.get();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * ProcessingRateLimiter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.ratelimit;
+
+import com.github.toolarium.processing.engine.IProcessingRateLimiter;
+import com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus;
+import com.github.toolarium.processing.engine.dto.ratelimit.ProcessingRateLimitScope;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Implements the {@link IProcessingRateLimiter}. A call reserves a token in every bucket which applies and waits for the
+ * longest of them.
+ *
+ * @author patrick
+ */
+public class ProcessingRateLimiter implements IProcessingRateLimiter {
+    private volatile ProcessingTokenBucket globalTokenBucket;
+    private Map<String, ProcessingTokenBucket> processingUnitTokenBucketMap;
+    private Map<String, ProcessingTokenBucket> tenantTokenBucketMap;
+    private Map<String, ProcessingTokenBucket> processingTokenBucketMap;
+
+
+    /**
+     * Constructor for ProcessingRateLimiter
+     */
+    public ProcessingRateLimiter() {
+        globalTokenBucket = null;
+        processingUnitTokenBucketMap = new ConcurrentHashMap<String, ProcessingTokenBucket>();
+        tenantTokenBucketMap = new ConcurrentHashMap<String, ProcessingTokenBucket>();
+        processingTokenBucketMap = new ConcurrentHashMap<String, ProcessingTokenBucket>();
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingRateLimiter#setMaxNumberOfCallsPerSecond(long)
+     */
+    @Override
+    public synchronized void setMaxNumberOfCallsPerSecond(long maxNumberOfCallsPerSecond) throws IllegalArgumentException {
+        validate(maxNumberOfCallsPerSecond);
+        if (maxNumberOfCallsPerSecond == 0) {
+            globalTokenBucket = null;
+        } else if (globalTokenBucket == null) {
+            globalTokenBucket = new ProcessingTokenBucket(ProcessingRateLimitScope.GLOBAL, null, maxNumberOfCallsPerSecond);
+        } else {
+            globalTokenBucket.setMaxNumberOfCallsPerSecond(maxNumberOfCallsPerSecond);
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingRateLimiter#setMaxNumberOfProcessingUnitCallsPerSecond(java.lang.String, long)
+     */
+    @Override
+    public void setMaxNumberOfProcessingUnitCallsPerSecond(String processingUnitClassname, long maxNumberOfCallsPerSecond) throws IllegalArgumentException {
+        if (processingUnitClassname == null || processingUnitClassname.isBlank()) {
+            throw new IllegalArgumentException("Invalid empty processing unit class name!");
+        }
+
+        setTokenBucket(processingUnitTokenBucketMap, ProcessingRateLimitScope.PROCESSING_UNIT, processingUnitClassname, maxNumberOfCallsPerSecond);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingRateLimiter#setMaxNumberOfTenantCallsPerSecond(java.lang.String, long)
+     */
+    @Override
+    public void setMaxNumberOfTenantCallsPerSecond(String tenant, long maxNumberOfCallsPerSecond) throws IllegalArgumentException {
+        if (tenant == null || tenant.isBlank()) {
+            throw new IllegalArgumentException("Invalid empty tenant!");
+        }
+
+        setTokenBucket(tenantTokenBucketMap, ProcessingRateLimitScope.TENANT, tenant, maxNumberOfCallsPerSecond);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingRateLimiter#setMaxNumberOfProcessingCallsPerSecond(java.lang.String, long)
+     */
+    @Override
+    public void setMaxNumberOfProcessingCallsPerSecond(String id, long maxNumberOfCallsPerSecond) throws IllegalArgumentException {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Invalid empty id!");
+        }
+
+        setTokenBucket(processingTokenBucketMap, ProcessingRateLimitScope.PROCESSING, id, maxNumberOfCallsPerSecond);
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingRateLimiter#getStatusList()
+     */
+    @Override
+    public List<IProcessingRateLimitStatus> getStatusList() {
+        List<IProcessingRateLimitStatus> result = new ArrayList<IProcessingRateLimitStatus>();
+        final ProcessingTokenBucket tokenBucket = globalTokenBucket;
+        if (tokenBucket != null) {
+            result.add(tokenBucket.getStatus());
+        }
+
+        for (ProcessingTokenBucket p : processingUnitTokenBucketMap.values()) {
+            result.add(p.getStatus());
+        }
+
+        for (ProcessingTokenBucket p : tenantTokenBucketMap.values()) {
+            result.add(p.getStatus());
+        }
+
+        for (ProcessingTokenBucket p : processingTokenBucketMap.values()) {
+            result.add(p.getStatus());
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Check if there is any rate limit
+     *
+     * @return true if there is at least one rate limit
+     */
+    public boolean isActive() {
+        return globalTokenBucket != null || !processingUnitTokenBucketMap.isEmpty() || !tenantTokenBucketMap.isEmpty() || !processingTokenBucketMap.isEmpty();
+    }
+
+
+    /**
+     * Reserve a token in every bucket which applies to a processing unit call
+     *
+     * @param processingUnitClassname the processing unit class name or null
+     * @param tenant the tenant or null
+     * @param id the id of the processing or null
+     * @param now the current time in nanoseconds
+     * @return the time in nanoseconds the call has to wait
+     */
+    public long reserve(String processingUnitClassname, String tenant, String id, long now) {
+        long waitTime = 0;
+        final ProcessingTokenBucket tokenBucket = globalTokenBucket;
+        if (tokenBucket != null) {
+            waitTime = tokenBucket.reserve(now);
+        }
+
+        waitTime = Math.max(waitTime, reserveToken(processingUnitTokenBucketMap, processingUnitClassname, now));
+        waitTime = Math.max(waitTime, reserveToken(tenantTokenBucketMap, tenant, now));
+        return Math.max(waitTime, reserveToken(processingTokenBucketMap, id, now));
+    }
+
+
+    /**
+     * Get the time a processing unit call has to wait without reserving any token
+     *
+     * @param processingUnitClassname the processing unit class name or null
+     * @param tenant the tenant or null
+     * @param id the id of the processing or null
+     * @param now the current time in nanoseconds
+     * @return the time in nanoseconds the call has to wait
+     */
+    public long getWaitTime(String processingUnitClassname, String tenant, String id, long now) {
+        long waitTime = 0;
+        final ProcessingTokenBucket tokenBucket = globalTokenBucket;
+        if (tokenBucket != null) {
+            waitTime = tokenBucket.getWaitTime(now);
+        }
+
+        waitTime = Math.max(waitTime, getTokenWaitTime(processingUnitTokenBucketMap, processingUnitClassname, now));
+        waitTime = Math.max(waitTime, getTokenWaitTime(tenantTokenBucketMap, tenant, now));
+        return Math.max(waitTime, getTokenWaitTime(processingTokenBucketMap, id, now));
+    }
+
+
+    /**
+     * Remove the rate limit of an ended processing
+     *
+     * @param id the id of the processing
+     */
+    public void removeProcessing(String id) {
+        if (id != null) {
+            processingTokenBucketMap.remove(id);
+        }
+    }
+
+
+    /**
+     * Validate a rate limit
+     *
+     * @param maxNumberOfCallsPerSecond the max number of calls per second
+     * @throws IllegalArgumentException In case of a negative rate limit
+     */
+    private void validate(long maxNumberOfCallsPerSecond) throws IllegalArgumentException {
+        if (maxNumberOfCallsPerSecond < 0) {
+            throw new IllegalArgumentException("Invalid max number of calls per second: " + maxNumberOfCallsPerSecond + "!");
+        }
+    }
+
+
+    /**
+     * Set the rate limit of a bucket
+     *
+     * @param tokenBucketMap the token bucket map of the scope
+     * @param scope the scope
+     * @param name the name within the scope
+     * @param maxNumberOfCallsPerSecond the max number of calls per second or 0 to remove the rate limit
+     * @throws IllegalArgumentException In case of a negative rate limit
+     */
+    private void setTokenBucket(Map<String, ProcessingTokenBucket> tokenBucketMap, ProcessingRateLimitScope scope, String name, long maxNumberOfCallsPerSecond) throws IllegalArgumentException {
+        validate(maxNumberOfCallsPerSecond);
+        if (maxNumberOfCallsPerSecond == 0) {
+            tokenBucketMap.remove(name);
+            return;
+        }
+
+        tokenBucketMap.compute(name, (n, tokenBucket) -> {
+            if (tokenBucket == null) {
+                return new ProcessingTokenBucket(scope, n, maxNumberOfCallsPerSecond);
+            }
+
+            tokenBucket.setMaxNumberOfCallsPerSecond(maxNumberOfCallsPerSecond);
+            return tokenBucket;
+        });
+    }
+
+
+    /**
+     * Reserve a token of a bucket
+     *
+     * @param tokenBucketMap the token bucket map of the scope
+     * @param name the name within the scope or null
+     * @param now the current time in nanoseconds
+     * @return the time in nanoseconds the call has to wait
+     */
+    private long reserveToken(Map<String, ProcessingTokenBucket> tokenBucketMap, String name, long now) {
+        if (name == null || tokenBucketMap.isEmpty()) {
+            return 0;
+        }
+
+        final ProcessingTokenBucket tokenBucket = tokenBucketMap.get(name);
+        if (tokenBucket == null) {
+            return 0;
+        }
+
+        return tokenBucket.reserve(now);
+    }
+
+
+    /**
+     * Get the wait time of a bucket
+     *
+     * @param tokenBucketMap the token bucket map of the scope
+     * @param name the name within the scope or null
+     * @param now the current time in nanoseconds
+     * @return the time in nanoseconds the call has to wait
+     */
+    private long getTokenWaitTime(Map<String, ProcessingTokenBucket> tokenBucketMap, String name, long now) {
+        if (name == null || tokenBucketMap.isEmpty()) {
+            return 0;
+        }
+
+        final ProcessingTokenBucket tokenBucket = tokenBucketMap.get(name);
+        if (tokenBucket == null) {
+            return 0;
+        }
+
+        return tokenBucket.getWaitTime(now);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * ProcessingTokenBucket.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.ratelimit;
+
+import com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus;
+import com.github.toolarium.processing.engine.dto.ratelimit.ProcessingRateLimitScope;
+import com.github.toolarium.processing.engine.dto.ratelimit.ProcessingRateLimitStatus;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Implements a token bucket as generic cell rate algorithm: instead of counting tokens it keeps the theoretical arrival time
+ * of the next call. A call reserves its token and gets the time it has to wait, therefore the rate is kept even if the
+ * calls don't wait exactly. The bucket holds the tokens of 100 milliseconds (at least one), an idle bucket allows only a
+ * small burst.
+ *
+ * @author patrick
+ */
+public class ProcessingTokenBucket {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long BURST_DIVISOR = 10;
+    private final ProcessingRateLimitScope scope;
+    private final String name;
+    private long maxNumberOfCallsPerSecond;
+    private long emissionIntervalInNanoseconds;
+    private long toleranceInNanoseconds;
+    private long theoreticalArrivalTime;
+    private boolean isInitialized;
+    private long numberOfCalls;
+    private long numberOfThrottledCalls;
+    private long throttleTimeInNanoseconds;
+
+
+    /**
+     * Constructor for ProcessingTokenBucket
+     *
+     * @param scope the scope
+     * @param name the name within the scope
+     * @param maxNumberOfCallsPerSecond the max number of calls per second
+     */
+    public ProcessingTokenBucket(ProcessingRateLimitScope scope, String name, long maxNumberOfCallsPerSecond) {
+        this.scope = scope;
+        this.name = name;
+        this.isInitialized = false;
+        this.numberOfCalls = 0;
+        this.numberOfThrottledCalls = 0;
+        this.throttleTimeInNanoseconds = 0;
+        setMaxNumberOfCallsPerSecond(maxNumberOfCallsPerSecond);
+    }
+
+
+    /**
+     * Set the max number of calls per second, the already reserved tokens are kept
+     *
+     * @param maxNumberOfCallsPerSecond the max number of calls per second, at least 1
+     */
+    public synchronized void setMaxNumberOfCallsPerSecond(long maxNumberOfCallsPerSecond) {
+        this.maxNumberOfCallsPerSecond = Math.max(1L, maxNumberOfCallsPerSecond);
+        this.emissionIntervalInNanoseconds = Math.max(1L, NANOS_PER_SECOND / this.maxNumberOfCallsPerSecond);
+        final long burst = Math.max(1L, this.maxNumberOfCallsPerSecond / BURST_DIVISOR);
+        this.toleranceInNanoseconds = (burst - 1) * emissionIntervalInNanoseconds;
+    }
+
+
+    /**
+     * Reserve a token
+     *
+     * @param now the current time in nanoseconds
+     * @return the time in nanoseconds the call has to wait until its token is valid
+     */
+    public synchronized long reserve(long now) {
+        final long waitTime = getWaitTime(now);
+        theoreticalArrivalTime = Math.max(theoreticalArrivalTime, now) + emissionIntervalInNanoseconds;
+        numberOfCalls++;
+        if (waitTime > 0) {
+            numberOfThrottledCalls++;
+            throttleTimeInNanoseconds += waitTime;
+        }
+
+        return waitTime;
+    }
+
+
+    /**
+     * Get the time a call has to wait for its token without reserving it
+     *
+     * @param now the current time in nanoseconds
+     * @return the wait time in nanoseconds
+     */
+    public synchronized long getWaitTime(long now) {
+        if (!isInitialized) {
+            // the time base of nano time is arbitrary
+            theoreticalArrivalTime = now;
+            isInitialized = true;
+        }
+
+        return Math.max(0L, theoreticalArrivalTime - toleranceInNanoseconds - now);
+    }
+
+
+    /**
+     * Get the status
+     *
+     * @return the status
+     */
+    public synchronized IProcessingRateLimitStatus getStatus() {
+        ProcessingRateLimitStatus status = new ProcessingRateLimitStatus();
+        status.setScope(scope);
+        status.setName(name);
+        status.setMaxNumberOfCallsPerSecond(maxNumberOfCallsPerSecond);
+        status.setNumberOfCalls(numberOfCalls);
+        status.setNumberOfThrottledCalls(numberOfThrottledCalls);
+        status.setThrottleTimeInMilliseconds(TimeUnit.NANOSECONDS.toMillis(throttleTimeInNanoseconds));
+        return status;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString() {
+        return "ProcessingTokenBucket [scope=" + scope + ", name=" + name + ", maxNumberOfCallsPerSecond=" + maxNumberOfCallsPerSecond + "]";
+    }
+}
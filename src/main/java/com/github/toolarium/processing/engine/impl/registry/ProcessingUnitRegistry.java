@@ -9,9 +9,13 @@ import com.github.toolarium.common.util.ClassInstanceUtil;
 import com.github.toolarium.processing.engine.IProcessingUnitRegistry;
 import com.github.toolarium.processing.engine.dto.parameter.IParameterDefinition;
 import com.github.toolarium.processing.engine.dto.parameter.ParameterDefinition;
+import com.github.toolarium.processing.engine.dto.pool.IProcessingUnitPoolPolicy;
+import com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy;
 import com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition;
 import com.github.toolarium.processing.engine.dto.unit.ProcessingUnitDefinition;
 import com.github.toolarium.processing.engine.exception.ValidationException;
+import com.github.toolarium.processing.engine.impl.executer.impl.ProcessingStepInstanceManager;
+import com.github.toolarium.processing.engine.impl.pool.ProcessingUnitInstancePool;
 import com.github.toolarium.processing.unit.IProcessingUnit;
 import com.github.toolarium.processing.unit.util.ProcessingUnitUtil;
 import java.util.ArrayList;
@@ -116,6 +120,92 @@ public final class ProcessingUnitRegistry implements IProcessingUnitRegistry {
     }
 
     
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingUnitRegistry#register(java.lang.Class, int, int)
+     */
+    @Override
+    public IProcessingUnitDefinition register(Class<? extends IProcessingUnit> processingUnitClass, int maxNumberOfConcurrentProcessings, int queueCapacity) throws ValidationException {
+        if (maxNumberOfConcurrentProcessings < 0 || queueCapacity < 0) {
+            throw new ValidationException("Invalid concurrency limit " + maxNumberOfConcurrentProcessings + " / queue capacity " + queueCapacity + "!");
+        }
+        
+        IProcessingUnitDefinition registeredProcessingUnit = register(processingUnitClass);
+        ProcessingUnitDefinition processingUnit = new ProcessingUnitDefinition(processingUnitClass, registeredProcessingUnit.getParameterDefinitionList());
+        processingUnit.setMaxNumberOfConcurrentProcessings(maxNumberOfConcurrentProcessings);
+        processingUnit.setQueueCapacity(queueCapacity);
+        processingUnit.setRetryPolicy(registeredProcessingUnit.getRetryPolicy());
+        processingUnit.setPoolPolicy(registeredProcessingUnit.getPoolPolicy());
+        
+        LOG.info("Set concurrency limit of processing unit " + processingUnitClass + " to " + maxNumberOfConcurrentProcessings + " (queue capacity " + queueCapacity + ").");
+        processingUnitMap.put(processingUnitClass.getName(), processingUnit);
+        return processingUnit;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingUnitRegistry#register(java.lang.Class, com.github.toolarium.processing.engine.dto.retry.IProcessingRetryPolicy)
+     */
+    @Override
+    public IProcessingUnitDefinition register(Class<? extends IProcessingUnit> processingUnitClass, IProcessingRetryPolicy retryPolicy) throws ValidationException {
+        if (retryPolicy != null && (retryPolicy.getMaxNumberOfAttempts() < 1 || retryPolicy.getInitialBackoffInMilliseconds() < 0)) {
+            throw new ValidationException("Invalid retry policy " + retryPolicy + "!");
+        }
+        
+        IProcessingUnitDefinition registeredProcessingUnit = register(processingUnitClass);
+        ProcessingUnitDefinition processingUnit = new ProcessingUnitDefinition(processingUnitClass, registeredProcessingUnit.getParameterDefinitionList());
+        processingUnit.setMaxNumberOfConcurrentProcessings(registeredProcessingUnit.getMaxNumberOfConcurrentProcessings());
+        processingUnit.setQueueCapacity(registeredProcessingUnit.getQueueCapacity());
+        processingUnit.setRetryPolicy(retryPolicy);
+        processingUnit.setPoolPolicy(registeredProcessingUnit.getPoolPolicy());
+        
+        LOG.info("Set retry policy of processing unit " + processingUnitClass + " to " + retryPolicy + ".");
+        processingUnitMap.put(processingUnitClass.getName(), processingUnit);
+        return processingUnit;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingUnitRegistry#register(java.lang.Class, com.github.toolarium.processing.engine.dto.pool.IProcessingUnitPoolPolicy)
+     */
+    @Override
+    public IProcessingUnitDefinition register(Class<? extends IProcessingUnit> processingUnitClass, IProcessingUnitPoolPolicy poolPolicy) throws ValidationException {
+        if (processingUnitClass == null) {
+            throw new ValidationException("Invalid empty proccessing unit class!");
+        }
+
+        if (poolPolicy != null && (poolPolicy.getMinNumberOfIdleInstances() < 0 || poolPolicy.getMaxNumberOfIdleInstances() < 0 
+                                   || poolPolicy.getMinNumberOfIdleInstances() > poolPolicy.getMaxNumberOfIdleInstances())) {
+            throw new ValidationException("Invalid pool policy " + poolPolicy + "!");
+        }
+
+        // the pool is set before the validation, the instance of the validation is the first idle instance
+        final IProcessingUnitDefinition registeredProcessingUnit;
+        ProcessingUnitInstancePool.getInstance().setPoolPolicy(processingUnitClass.getName(), poolPolicy);
+        if (poolPolicy != null) {
+            // the pool sits behind the decoration of the processing unit instance manager
+            ProcessingStepInstanceManager.getInstance().install();
+        }
+        
+        try {
+            registeredProcessingUnit = register(processingUnitClass);
+            ProcessingUnitInstancePool.getInstance().warmUp(processingUnitClass);
+        } catch (RuntimeException e) {
+            ProcessingUnitInstancePool.getInstance().setPoolPolicy(processingUnitClass.getName(), null);
+            throw e;
+        }
+
+        ProcessingUnitDefinition processingUnit = new ProcessingUnitDefinition(processingUnitClass, registeredProcessingUnit.getParameterDefinitionList());
+        processingUnit.setMaxNumberOfConcurrentProcessings(registeredProcessingUnit.getMaxNumberOfConcurrentProcessings());
+        processingUnit.setQueueCapacity(registeredProcessingUnit.getQueueCapacity());
+        processingUnit.setRetryPolicy(registeredProcessingUnit.getRetryPolicy());
+        processingUnit.setPoolPolicy(poolPolicy);
+        
+        LOG.info("Set pool policy of processing unit " + processingUnitClass + " to " + poolPolicy + ".");
+        processingUnitMap.put(processingUnitClass.getName(), processingUnit);
+        return processingUnit;
+    }
+
+    
     /**
      * @see com.github.toolarium.processing.engine.IProcessingUnitRegistry#unregister(java.lang.Class)
      */
@@ -139,6 +229,7 @@ public final class ProcessingUnitRegistry implements IProcessingUnitRegistry {
         }
         
         LOG.info("Unregister processing unit " + processingUnitClassName + ".");
+        ProcessingUnitInstancePool.getInstance().setPoolPolicy(processingUnitClassName, null);
         return processingUnitMap.remove(processingUnitClassName);
     }
 
@@ -6,6 +6,7 @@
 package com.github.toolarium.processing.engine.impl.status;
 
 import com.github.toolarium.processing.engine.IProcessingEngineStatus;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingAdmissionPolicy;
 
 /**
  * Defines the processing executer status
@@ -28,4 +29,28 @@ public interface IProcessingExecuterStatus extends IProcessingEngineStatus {
      * @return the core pool size
      */
     int getMaxPoolSize();
+
+    
+    /**
+     * Get the current number of worker threads
+     *
+     * @return the current number of worker threads
+     */
+    int getPoolSize();
+
+    
+    /**
+     * Get the admission policy
+     *
+     * @return the admission policy
+     */
+    ProcessingAdmissionPolicy getAdmissionPolicy();
+
+    
+    /**
+     * Get the time slice in milliseconds
+     *
+     * @return the time slice in milliseconds or 0 if time slicing is disabled
+     */
+    long getTimeSliceInMilliseconds();
 }
@@ -5,6 +5,18 @@
  */
 package com.github.toolarium.processing.engine.impl.status;
 
+import com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus;
+import com.github.toolarium.processing.engine.dto.channel.IProcessingChannelStatus;
+import com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingAdmissionPolicy;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingExecutionMode;
+import com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus;
+import com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus;
+import com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus;
+import com.github.toolarium.processing.engine.dto.tenant.IProcessingTenantStatus;
+import java.util.List;
+
+
 /**
  * Implements the {@link IProcessingExecuterStatus}.
  * 
@@ -14,7 +26,26 @@ public class ProcessingExecuterStatus implements IProcessingExecuterStatus {
     private int corePoolSize = 0;
     private int maximumPoolSize = Integer.MAX_VALUE;
     private long keepAliveTimeInSeconds = 60L;
+    private int poolSize;
     private long numberOfRunningProcessings;
+    private long numberOfQueuedProcessings;
+    private int queueCapacity;
+    private long numberOfRejectedProcessings;
+    private long numberOfCallerRunsProcessings;
+    private ProcessingAdmissionPolicy admissionPolicy;
+    private ProcessingExecutionMode executionMode;
+    private long numberOfCarrierThreadPinnings;
+    private long timeSliceInMilliseconds;
+    private long numberOfTimeSliceSwitches;
+    private List<IProcessingChannelStatus> processingChannelStatusList;
+    private List<IProcessingBulkheadStatus> processingBulkheadStatusList;
+    private List<IProcessingTenantStatus> processingTenantStatusList;
+    private List<IProcessingRateLimitStatus> processingRateLimitStatusList;
+    private List<IProcessingConcurrencyLimitStatus> processingConcurrencyLimitStatusList;
+    private IProcessingLoadSheddingStatus processingLoadSheddingStatus;
+    private long numberOfTimedOutProcessings;
+    private IProcessingSchedulerStatus processingSchedulerStatus;
+    private long numberOfRetries;
 
 
     /**
@@ -55,6 +86,25 @@ public class ProcessingExecuterStatus implements IProcessingExecuterStatus {
     }
 
 
+    /**
+     * @see com.github.toolarium.processing.engine.impl.status.IProcessingExecuterStatus#getPoolSize()
+     */
+    @Override
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    
+    /**
+     * Set the current pool size
+     *
+     * @param poolSize the current pool size
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+
     /**
      * @see com.github.toolarium.processing.engine.impl.status.IProcessingExecuterStatus#getKeepAliveTimeInSeconds()
      */
@@ -91,5 +141,346 @@ public class ProcessingExecuterStatus implements IProcessingExecuterStatus {
     public void setNumberOfRunningProcessings(long numberOfRunningProcessings) {
         this.numberOfRunningProcessings = numberOfRunningProcessings;
     }
-     
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getNumberOfQueuedProcessings()
+     */
+    @Override
+    public long getNumberOfQueuedProcessings() {
+        return numberOfQueuedProcessings;
+    }
+
+    
+    /**
+     * Set the number of queued processings
+     *
+     * @param numberOfQueuedProcessings the number of queued processings
+     */
+    public void setNumberOfQueuedProcessings(long numberOfQueuedProcessings) {
+        this.numberOfQueuedProcessings = numberOfQueuedProcessings;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getQueueCapacity()
+     */
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    
+    /**
+     * Set the queue capacity
+     *
+     * @param queueCapacity the queue capacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getNumberOfRejectedProcessings()
+     */
+    @Override
+    public long getNumberOfRejectedProcessings() {
+        return numberOfRejectedProcessings;
+    }
+
+    
+    /**
+     * Set the number of rejected processings
+     *
+     * @param numberOfRejectedProcessings the number of rejected processings
+     */
+    public void setNumberOfRejectedProcessings(long numberOfRejectedProcessings) {
+        this.numberOfRejectedProcessings = numberOfRejectedProcessings;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getNumberOfCallerRunsProcessings()
+     */
+    @Override
+    public long getNumberOfCallerRunsProcessings() {
+        return numberOfCallerRunsProcessings;
+    }
+
+    
+    /**
+     * Set the number of processings which ran in the caller thread
+     *
+     * @param numberOfCallerRunsProcessings the number of processings which ran in the caller thread
+     */
+    public void setNumberOfCallerRunsProcessings(long numberOfCallerRunsProcessings) {
+        this.numberOfCallerRunsProcessings = numberOfCallerRunsProcessings;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.impl.status.IProcessingExecuterStatus#getAdmissionPolicy()
+     */
+    @Override
+    public ProcessingAdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    
+    /**
+     * Set the admission policy
+     *
+     * @param admissionPolicy the admission policy
+     */
+    public void setAdmissionPolicy(ProcessingAdmissionPolicy admissionPolicy) {
+        this.admissionPolicy = admissionPolicy;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getExecutionMode()
+     */
+    @Override
+    public ProcessingExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    
+    /**
+     * Set the execution mode
+     *
+     * @param executionMode the execution mode
+     */
+    public void setExecutionMode(ProcessingExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getNumberOfCarrierThreadPinnings()
+     */
+    @Override
+    public long getNumberOfCarrierThreadPinnings() {
+        return numberOfCarrierThreadPinnings;
+    }
+
+    
+    /**
+     * Set the number of carrier thread pinnings
+     *
+     * @param numberOfCarrierThreadPinnings the number of carrier thread pinnings
+     */
+    public void setNumberOfCarrierThreadPinnings(long numberOfCarrierThreadPinnings) {
+        this.numberOfCarrierThreadPinnings = numberOfCarrierThreadPinnings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.impl.status.IProcessingExecuterStatus#getTimeSliceInMilliseconds()
+     */
+    @Override
+    public long getTimeSliceInMilliseconds() {
+        return timeSliceInMilliseconds;
+    }
+
+    
+    /**
+     * Set the time slice in milliseconds
+     *
+     * @param timeSliceInMilliseconds the time slice in milliseconds
+     */
+    public void setTimeSliceInMilliseconds(long timeSliceInMilliseconds) {
+        this.timeSliceInMilliseconds = timeSliceInMilliseconds;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getNumberOfTimeSliceSwitches()
+     */
+    @Override
+    public long getNumberOfTimeSliceSwitches() {
+        return numberOfTimeSliceSwitches;
+    }
+
+    
+    /**
+     * Set the number of time slice switches
+     *
+     * @param numberOfTimeSliceSwitches the number of time slice switches
+     */
+    public void setNumberOfTimeSliceSwitches(long numberOfTimeSliceSwitches) {
+        this.numberOfTimeSliceSwitches = numberOfTimeSliceSwitches;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getProcessingChannelStatusList()
+     */
+    @Override
+    public List<IProcessingChannelStatus> getProcessingChannelStatusList() {
+        return processingChannelStatusList;
+    }
+
+    
+    /**
+     * Set the channel status list
+     *
+     * @param processingChannelStatusList the channel status list
+     */
+    public void setProcessingChannelStatusList(List<IProcessingChannelStatus> processingChannelStatusList) {
+        this.processingChannelStatusList = processingChannelStatusList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getProcessingBulkheadStatusList()
+     */
+    @Override
+    public List<IProcessingBulkheadStatus> getProcessingBulkheadStatusList() {
+        return processingBulkheadStatusList;
+    }
+
+    
+    /**
+     * Set the bulkhead status list
+     *
+     * @param processingBulkheadStatusList the bulkhead status list
+     */
+    public void setProcessingBulkheadStatusList(List<IProcessingBulkheadStatus> processingBulkheadStatusList) {
+        this.processingBulkheadStatusList = processingBulkheadStatusList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getProcessingTenantStatusList()
+     */
+    @Override
+    public List<IProcessingTenantStatus> getProcessingTenantStatusList() {
+        return processingTenantStatusList;
+    }
+
+    
+    /**
+     * Set the tenant status list
+     *
+     * @param processingTenantStatusList the tenant status list
+     */
+    public void setProcessingTenantStatusList(List<IProcessingTenantStatus> processingTenantStatusList) {
+        this.processingTenantStatusList = processingTenantStatusList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getProcessingRateLimitStatusList()
+     */
+    @Override
+    public List<IProcessingRateLimitStatus> getProcessingRateLimitStatusList() {
+        return processingRateLimitStatusList;
+    }
+
+    
+    /**
+     * Set the status of the rate limits
+     *
+     * @param processingRateLimitStatusList the rate limit status list
+     */
+    public void setProcessingRateLimitStatusList(List<IProcessingRateLimitStatus> processingRateLimitStatusList) {
+        this.processingRateLimitStatusList = processingRateLimitStatusList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getProcessingConcurrencyLimitStatusList()
+     */
+    @Override
+    public List<IProcessingConcurrencyLimitStatus> getProcessingConcurrencyLimitStatusList() {
+        return processingConcurrencyLimitStatusList;
+    }
+
+    
+    /**
+     * Set the concurrency limit status list
+     *
+     * @param processingConcurrencyLimitStatusList the concurrency limit status list
+     */
+    public void setProcessingConcurrencyLimitStatusList(List<IProcessingConcurrencyLimitStatus> processingConcurrencyLimitStatusList) {
+        this.processingConcurrencyLimitStatusList = processingConcurrencyLimitStatusList;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getProcessingLoadSheddingStatus()
+     */
+    @Override
+    public IProcessingLoadSheddingStatus getProcessingLoadSheddingStatus() {
+        return processingLoadSheddingStatus;
+    }
+
+    
+    /**
+     * Set the load shedding status
+     *
+     * @param processingLoadSheddingStatus the load shedding status
+     */
+    public void setProcessingLoadSheddingStatus(IProcessingLoadSheddingStatus processingLoadSheddingStatus) {
+        this.processingLoadSheddingStatus = processingLoadSheddingStatus;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getNumberOfTimedOutProcessings()
+     */
+    @Override
+    public long getNumberOfTimedOutProcessings() {
+        return numberOfTimedOutProcessings;
+    }
+
+    
+    /**
+     * Set the number of timed out processings
+     *
+     * @param numberOfTimedOutProcessings the number of timed out processings
+     */
+    public void setNumberOfTimedOutProcessings(long numberOfTimedOutProcessings) {
+        this.numberOfTimedOutProcessings = numberOfTimedOutProcessings;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getProcessingSchedulerStatus()
+     */
+    @Override
+    public IProcessingSchedulerStatus getProcessingSchedulerStatus() {
+        return processingSchedulerStatus;
+    }
+
+    
+    /**
+     * Set the status of the scheduler
+     *
+     * @param processingSchedulerStatus the scheduler status
+     */
+    public void setProcessingSchedulerStatus(IProcessingSchedulerStatus processingSchedulerStatus) {
+        this.processingSchedulerStatus = processingSchedulerStatus;
+    }
+
+
+    /**
+     * @see com.github.toolarium.processing.engine.IProcessingEngineStatus#getNumberOfRetries()
+     */
+    @Override
+    public long getNumberOfRetries() {
+        return numberOfRetries;
+    }
+
+    
+    /**
+     * Set the number of retries of aborted processings
+     *
+     * @param numberOfRetries the number of retries
+     */
+    public void setNumberOfRetries(long numberOfRetries) {
+        this.numberOfRetries = numberOfRetries;
+    }
 }
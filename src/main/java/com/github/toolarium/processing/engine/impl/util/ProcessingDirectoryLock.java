@@ -0,0 +1,112 @@
+/*
+ * ProcessingDirectoryLock.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.util;
+
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Implements the exclusive lock of a directory of an engine, e.g. the checkpoint or journal directory: the lock file in the
+ * directory is locked until the lock is released. An other engine of the same or an other JVM can't lock the directory at
+ * the same time. The lock of a crashed engine is released by the operating system.
+ *
+ * @author patrick
+ */
+public final class ProcessingDirectoryLock {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingDirectoryLock.class);
+    private static final String LOCK_FILENAME = ".lock";
+    private final Path directory;
+    private final FileChannel channel;
+
+
+    /**
+     * Constructor for ProcessingDirectoryLock
+     *
+     * @param directory the directory, it is created in case it doesn't exist
+     * @throws ProcessingException In case the directory can't be locked or it is used by an other engine
+     */
+    public ProcessingDirectoryLock(Path directory) throws ProcessingException {
+        this.directory = directory;
+
+        FileChannel lockChannel = null;
+        FileLock fileLock = null;
+        try {
+            Files.createDirectories(directory);
+            lockChannel = FileChannel.open(directory.resolve(LOCK_FILENAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            fileLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // it is locked by an other engine of this JVM
+        } catch (IOException e) {
+            close(lockChannel);
+            throw new ProcessingException("Could not lock the directory [" + directory + "]: " + e.getMessage(), e, true);
+        }
+
+        if (fileLock == null) {
+            close(lockChannel);
+            throw new ProcessingException("The directory [" + directory + "] is used by an other engine!", null, true);
+        }
+
+        this.channel = lockChannel;
+    }
+
+
+    /**
+     * Get the locked directory
+     *
+     * @return the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+
+    /**
+     * Release the lock, the lock is released with its channel
+     */
+    public void release() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.warn("Could not release the lock of the directory [" + directory + "]: " + e.getMessage());
+        }
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ProcessingDirectoryLock [directory=" + directory + ", isLocked=" + channel.isOpen() + "]";
+    }
+
+
+    /**
+     * Close the channel of a lock file which is not taken, an error is ignored
+     *
+     * @param lockChannel the channel or null
+     */
+    private static void close(FileChannel lockChannel) {
+        if (lockChannel == null) {
+            return;
+        }
+
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            // NOP
+        }
+    }
+}
@@ -7,21 +7,76 @@ package com.github.toolarium.processing.engine.impl.util;
 
 import com.github.toolarium.common.util.TextUtil;
 import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingExecuterPersistenceContainer;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingScheduleReference;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingSuspendedState;
+import com.github.toolarium.processing.unit.dto.Parameter;
 import com.github.toolarium.processing.unit.exception.ProcessingException;
 import com.github.toolarium.processing.unit.util.ProcessingUnitUtil;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 
 /**
- * Defines the procesing persistence utility.
+ * Defines the procesing persistence utility. The persistence container is written in a length prefixed binary format:
+ * <pre>
+ * header:   magic (int, TPES), version (short), flags (short)
+ * entry:    tag (byte, 1 for a suspended state, 2 for a schedule), suspended state or schedule; the end tag (byte, 0) follows the last entry
+ * state:    id (string), processing unit class name (string), size (int), suspended state (bytes)
+ *           with the compression flag: codec (byte), in case of deflate the original size (int), size (int), compressed state (bytes)
+ * schedule: id, name, processing unit class name, cron expression (string), period in milliseconds, next execution time, 
+ *           number of executions (long), parameter list (size (int), java serialized list)
+ * string:   size (int, -1 for null), UTF-8 bytes
+ * </pre>
+ * The compression is chosen per suspended state: only the states which reach the compression threshold are compressed and
+ * only in case the compressed state is smaller. The format of the previous versions (java serialized container) is still read.
+ * The content is written to and read from a stream entry by entry: an entry is written as soon as it is passed, e.g. the 
+ * suspended state of a processing as soon as it is suspended by the shutdown, the memory of the read is bounded by the largest
+ * suspended state. A content without end tag is incomplete. The versions 1 and 2 have the number of suspended states and 
+ * schedules in the header instead of the tags, they are still read.
  *  
  * @author patrick
  */
 public final class ProcessingPersistenceUtil {
+    private static final int MAGIC = 0x54504553;
+    private static final short VERSION = 3;
+    private static final short FLAG_COMPRESSION = 0x1;
+    private static final byte CODEC_NONE = 0;
+    private static final byte CODEC_DEFLATE = 1;
+    private static final byte TAG_END = 0;
+    private static final byte TAG_SUSPENDED_STATE = 1;
+    private static final byte TAG_SCHEDULE = 2;
+    private static final int HEADER_SIZE = 8;
+    private static final int NULL_SIZE = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_COMPRESSION_RATIO = 1032;
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final byte[] JAVA_SERIALIZATION_MAGIC = {(byte)0xAC, (byte)0xED};
 
     /**
      * Private class, the only instance of the singelton which will be created by accessing the holder class.
@@ -59,16 +114,34 @@ public final class ProcessingPersistenceUtil {
      * @throws ProcessingException In case the processing container can't be serialized properly 
      */
     public byte[] toByteArray(ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer) throws ProcessingException {
+        return toByteArray(processingExecuterPersistenceContainer, 0);
+    }
+
+    
+    /**
+     * Convert the object into a byte array, the suspended states which reach the compression threshold are compressed
+     *
+     * @param processingExecuterPersistenceContainer the processing executer persistence container
+     * @param compressionThreshold the compression threshold in bytes or 0 to disable the compression
+     * @return the byte array to persist
+     * @throws ProcessingException In case the processing container can't be serialized properly 
+     */
+    public byte[] toByteArray(ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer, int compressionThreshold) throws ProcessingException {
         if (processingExecuterPersistenceContainer == null || processingExecuterPersistenceContainer.isEmpty()) {
             return null;
         }
         
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ObjectOutputStream objOutStream = new ObjectOutputStream(outputStream);
-            objOutStream.writeObject(processingExecuterPersistenceContainer);
-            objOutStream.close();
-            outputStream.close();
+            final List<ProcessingSuspendedState> suspendedStateList = processingExecuterPersistenceContainer.getSuspendedStateEntryList();
+            int size = HEADER_SIZE;
+            for (ProcessingSuspendedState suspendedState : suspendedStateList) {
+                size += suspendedState.getSize();
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(size);
+            DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+            write(dataOutputStream, compressionThreshold, toEntryProducer(processingExecuterPersistenceContainer));
+            dataOutputStream.close();
             return outputStream.toByteArray();
         } catch (RuntimeException | IOException e) {
             throw new ProcessingException("Could not serialize processing persistence conatiner [" + processingExecuterPersistenceContainer.getClass() + "]: " + e.getMessage(), e, true);
@@ -89,14 +162,37 @@ public final class ProcessingPersistenceUtil {
         }
         
         try {
-            ObjectInputStream objInStream = new ObjectInputStream(new ByteArrayInputStream(persistedState));
-            ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer = (ProcessingExecuterPersistenceContainer)objInStream.readObject();
-            objInStream.close();
+            if (isJavaSerialized(persistedState)) {
+                // the format of the previous versions
+                ObjectInputStream objInStream = new ObjectInputStream(new ByteArrayInputStream(persistedState));
+                ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer = (ProcessingExecuterPersistenceContainer)objInStream.readObject();
+                objInStream.close();
+                return processingExecuterPersistenceContainer;
+            }
+            
+            final ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer = new ProcessingExecuterPersistenceContainer();
+            final List<ProcessingScheduleReference> scheduleReferenceList = new ArrayList<ProcessingScheduleReference>();
+            read(new DataInputStream(new ByteArrayInputStream(persistedState)), processingExecuterPersistenceContainer::add, scheduleReferenceList::add);
+            processingExecuterPersistenceContainer.addSchedules(scheduleReferenceList);
             return processingExecuterPersistenceContainer;
         } catch (RuntimeException | ClassNotFoundException | IOException e) {
             throw new ProcessingException("Could not de-serialize processing persistence conatiner: " + e.getMessage(), e, true);
         }
     }
+
+
+    /**
+     * Check if the persisted state is in the format of the previous versions (java serialized container)
+     *
+     * @param persistedState the persisted state
+     * @return true if it is java serialized
+     */
+    public boolean isJavaSerialized(byte[] persistedState) {
+        return persistedState != null 
+               && persistedState.length >= JAVA_SERIALIZATION_MAGIC.length
+               && persistedState[0] == JAVA_SERIALIZATION_MAGIC[0]
+               && persistedState[1] == JAVA_SERIALIZATION_MAGIC[1];
+    }
     
     
     /**
@@ -107,7 +203,7 @@ public final class ProcessingPersistenceUtil {
      */
     public String toString(byte[] persistedState) {
         ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer = toProcessingExecuterPersistenceContainer(persistedState);
-        if (processingExecuterPersistenceContainer == null || processingExecuterPersistenceContainer.getSuspendedStateList().isEmpty()) {
+        if (processingExecuterPersistenceContainer == null || processingExecuterPersistenceContainer.isEmpty()) {
             return null;
         }
         
@@ -118,7 +214,629 @@ public final class ProcessingPersistenceUtil {
                 builder.append(TextUtil.NL);
             }
         }
+        
+        for (ProcessingScheduleReference processingScheduleReference : processingExecuterPersistenceContainer.getScheduleReferenceList()) {
+            if (builder.length() > 0) {
+                builder.append(TextUtil.NL);
+            }
+            
+            builder.append(processingScheduleReference);
+        }
 
         return builder.toString();
     }
+
+
+    /**
+     * Write the persistence container to a stream, see {@link #write(OutputStream, int, BiConsumer)}
+     *
+     * @param outputStream the output stream
+     * @param processingExecuterPersistenceContainer the processing executer persistence container or null
+     * @param compressionThreshold the compression threshold in bytes or 0 to disable the compression
+     * @throws ProcessingException In case the processing container can't be written properly 
+     */
+    public void write(OutputStream outputStream, ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer, int compressionThreshold) throws ProcessingException {
+        write(outputStream, compressionThreshold, toEntryProducer(processingExecuterPersistenceContainer));
+    }
+
+    
+    /**
+     * Write the entries of a producer to a stream: the producer passes the suspended states and the pending schedules one by 
+     * one to the consumers, every entry is written as soon as it is passed. The consumers are not thread safe, the producer has
+     * to pass one entry at a time. The end tag is written after the producer returned, the stream is flushed but not closed.
+     *
+     * @param outputStream the output stream
+     * @param compressionThreshold the compression threshold in bytes or 0 to disable the compression
+     * @param entryProducer the producer of the entries, e.g. the shutdown of the executer
+     * @throws ProcessingException In case the entries can't be written properly 
+     */
+    public void write(OutputStream outputStream, int compressionThreshold, BiConsumer<Consumer<ProcessingSuspendedState>, Consumer<ProcessingScheduleReference>> entryProducer) 
+            throws ProcessingException {
+        try {
+            DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+            write(dataOutputStream, compressionThreshold, entryProducer);
+            dataOutputStream.flush();
+        } catch (IOException e) {
+            throw new ProcessingException("Could not write processing persistence conatiner: " + e.getMessage(), e, true);
+        }
+    }
+
+    
+    /**
+     * Write the persistence container to a file: it is written to a temporary file which replaces the file as soon as it is
+     * completely written and synced. In case of an error the temporary file is removed and the file is kept.
+     *
+     * @param path the path of the file
+     * @param processingExecuterPersistenceContainer the processing executer persistence container or null
+     * @param compressionThreshold the compression threshold in bytes or 0 to disable the compression
+     * @throws ProcessingException In case the processing container can't be written properly 
+     */
+    public void write(Path path, ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer, int compressionThreshold) throws ProcessingException {
+        write(path, compressionThreshold, toEntryProducer(processingExecuterPersistenceContainer));
+    }
+
+    
+    /**
+     * Write the entries of a producer to a file, see {@link #write(OutputStream, int, BiConsumer)}: they are written to a 
+     * temporary file which replaces the file as soon as it is completely written and synced. In case of an error the temporary 
+     * file is removed and the file is kept.
+     *
+     * @param path the path of the file
+     * @param compressionThreshold the compression threshold in bytes or 0 to disable the compression
+     * @param entryProducer the producer of the entries, e.g. the shutdown of the executer
+     * @throws ProcessingException In case the entries can't be written properly 
+     */
+    public void write(Path path, int compressionThreshold, BiConsumer<Consumer<ProcessingSuspendedState>, Consumer<ProcessingScheduleReference>> entryProducer) throws ProcessingException {
+        final Path tempPath = path.resolveSibling(path.getFileName() + TEMP_FILE_EXTENSION);
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                write(Channels.newOutputStream(channel), compressionThreshold, entryProducer);
+                channel.force(true);
+            }
+            
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            delete(tempPath);
+            throw new ProcessingException("Could not write processing persistence conatiner to [" + path + "]: " + e.getMessage(), e, true);
+        } catch (RuntimeException e) {
+            delete(tempPath);
+            throw e;
+        }
+    }
+
+    
+    /**
+     * Write the header, the entries of the producer and the end tag
+     *
+     * @param out the output
+     * @param compressionThreshold the compression threshold in bytes or 0 to disable the compression
+     * @param entryProducer the producer of the entries
+     * @throws IOException In case of an I/O error
+     */
+    private void write(DataOutputStream out, int compressionThreshold, BiConsumer<Consumer<ProcessingSuspendedState>, Consumer<ProcessingScheduleReference>> entryProducer) 
+            throws IOException {
+        short flags = 0;
+        if (compressionThreshold > 0) {
+            flags |= FLAG_COMPRESSION;
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(flags);
+        
+        try {
+            entryProducer.accept(suspendedState -> writeEntry(out, suspendedState, compressionThreshold), 
+                                 processingScheduleReference -> writeEntry(out, processingScheduleReference));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        
+        out.writeByte(TAG_END);
+    }
+
+    
+    /**
+     * Write a suspended state entry
+     *
+     * @param out the output
+     * @param suspendedState the suspended state
+     * @param compressionThreshold the compression threshold in bytes or 0 to disable the compression
+     * @throws UncheckedIOException In case of an I/O error
+     */
+    private void writeEntry(DataOutputStream out, ProcessingSuspendedState suspendedState, int compressionThreshold) throws UncheckedIOException {
+        try {
+            out.writeByte(TAG_SUSPENDED_STATE);
+            writeString(out, suspendedState.getId());
+            writeString(out, suspendedState.getProcessingUnitClassname());
+            if (compressionThreshold > 0) {
+                writeCompressedBytes(out, suspendedState.getSuspendedState(), compressionThreshold);
+            } else {
+                writeBytes(out, suspendedState.getSuspendedState());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    
+    /**
+     * Write a pending schedule entry
+     *
+     * @param out the output
+     * @param processingScheduleReference the pending schedule
+     * @throws UncheckedIOException In case of an I/O error
+     */
+    private void writeEntry(DataOutputStream out, ProcessingScheduleReference processingScheduleReference) throws UncheckedIOException {
+        try {
+            out.writeByte(TAG_SCHEDULE);
+            writeString(out, processingScheduleReference.getId());
+            writeString(out, processingScheduleReference.getName());
+            writeString(out, processingScheduleReference.getProcessingUnitClassname());
+            writeString(out, processingScheduleReference.getCronExpression());
+            out.writeLong(processingScheduleReference.getPeriodInMilliseconds());
+            out.writeLong(processingScheduleReference.getNextExecutionTime());
+            out.writeLong(processingScheduleReference.getNumberOfExecutions());
+            writeBytes(out, toParameterByteArray(processingScheduleReference.getParameterList()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    
+    /**
+     * Get the producer of the entries of a persistence container, the suspended states are followed by the pending schedules
+     *
+     * @param processingExecuterPersistenceContainer the processing executer persistence container or null
+     * @return the producer of the entries
+     */
+    private BiConsumer<Consumer<ProcessingSuspendedState>, Consumer<ProcessingScheduleReference>> toEntryProducer(ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer) {
+        return (suspendedStateConsumer, scheduleReferenceConsumer) -> {
+            if (processingExecuterPersistenceContainer != null) {
+                processingExecuterPersistenceContainer.getSuspendedStateEntryList().forEach(suspendedStateConsumer);
+                processingExecuterPersistenceContainer.getScheduleReferenceList().forEach(scheduleReferenceConsumer);
+            }
+        };
+    }
+
+    
+    /**
+     * Read the persistence container from a stream: the suspended states and the pending schedules are passed one by one to 
+     * their consumer as soon as they are read. The stream is not closed.
+     *
+     * @param inputStream the input stream
+     * @param suspendedStateConsumer the consumer of the suspended states
+     * @param scheduleReferenceConsumer the consumer of the pending schedules
+     * @throws ProcessingException In case the processing container can't be read properly 
+     */
+    public void read(InputStream inputStream, Consumer<ProcessingSuspendedState> suspendedStateConsumer, Consumer<ProcessingScheduleReference> scheduleReferenceConsumer) 
+            throws ProcessingException {
+        try {
+            final BufferedInputStream in = new BufferedInputStream(inputStream, BUFFER_SIZE);
+            in.mark(JAVA_SERIALIZATION_MAGIC.length);
+            final byte[] magic = new byte[JAVA_SERIALIZATION_MAGIC.length];
+            if (in.readNBytes(magic, 0, magic.length) <= 0) {
+                // empty content
+                return;
+            }
+            
+            in.reset();
+            if (!isJavaSerialized(magic)) {
+                read(new DataInputStream(in), suspendedStateConsumer, scheduleReferenceConsumer);
+                return;
+            }
+            
+            // the format of the previous versions
+            ObjectInputStream objInStream = new ObjectInputStream(in);
+            ProcessingExecuterPersistenceContainer processingExecuterPersistenceContainer = (ProcessingExecuterPersistenceContainer)objInStream.readObject();
+            for (ProcessingSuspendedState suspendedState : processingExecuterPersistenceContainer.getSuspendedStateEntryList()) {
+                suspendedStateConsumer.accept(suspendedState);
+            }
+            
+            for (ProcessingScheduleReference processingScheduleReference : processingExecuterPersistenceContainer.getScheduleReferenceList()) {
+                scheduleReferenceConsumer.accept(processingScheduleReference);
+            }
+        } catch (ClassNotFoundException | IOException e) {
+            throw new ProcessingException("Could not read processing persistence conatiner: " + e.getMessage(), e, true);
+        }
+    }
+
+    
+    /**
+     * Read the persistence container from a file, see {@link #read(InputStream, Consumer, Consumer)}
+     *
+     * @param path the path of the file
+     * @param suspendedStateConsumer the consumer of the suspended states
+     * @param scheduleReferenceConsumer the consumer of the pending schedules
+     * @throws ProcessingException In case the processing container can't be read properly 
+     */
+    public void read(Path path, Consumer<ProcessingSuspendedState> suspendedStateConsumer, Consumer<ProcessingScheduleReference> scheduleReferenceConsumer) throws ProcessingException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            read(Channels.newInputStream(channel), suspendedStateConsumer, scheduleReferenceConsumer);
+        } catch (IOException e) {
+            throw new ProcessingException("Could not read processing persistence conatiner from [" + path + "]: " + e.getMessage(), e, true);
+        }
+    }
+
+    
+    /**
+     * Read the persistence container
+     *
+     * @param in the input
+     * @param suspendedStateConsumer the consumer of the suspended states
+     * @param scheduleReferenceConsumer the consumer of the pending schedules
+     * @throws IOException In case of an I/O error or an invalid format
+     * @throws ClassNotFoundException In case a parameter class of a schedule can't be found
+     */
+    private void read(DataInputStream in, Consumer<ProcessingSuspendedState> suspendedStateConsumer, Consumer<ProcessingScheduleReference> scheduleReferenceConsumer) 
+            throws IOException, ClassNotFoundException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Invalid format, the header is missing!");
+        }
+        
+        final short version = in.readShort();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported version " + version + ", supported up to " + VERSION + "!");
+        }
+        
+        // the flags are defined since version 2
+        short flags = in.readShort();
+        if (version < 2) {
+            flags = 0;
+        }
+        
+        final boolean isCompressed = (flags & FLAG_COMPRESSION) != 0;
+        if (version < 3) {
+            // the previous versions have the number of entries in the header
+            final int numberOfSuspendedStates = readSize(in);
+            final int numberOfSchedules = readSize(in);
+            for (int i = 0; i < numberOfSuspendedStates; i++) {
+                suspendedStateConsumer.accept(readSuspendedState(in, isCompressed));
+            }
+            
+            for (int i = 0; i < numberOfSchedules; i++) {
+                scheduleReferenceConsumer.accept(readScheduleReference(in));
+            }
+            
+            return;
+        }
+        
+        // the entries are read until the end tag, a content without end tag ends with an error
+        for (byte tag = in.readByte(); tag != TAG_END; tag = in.readByte()) {
+            if (tag == TAG_SUSPENDED_STATE) {
+                suspendedStateConsumer.accept(readSuspendedState(in, isCompressed));
+            } else if (tag == TAG_SCHEDULE) {
+                scheduleReferenceConsumer.accept(readScheduleReference(in));
+            } else {
+                throw new IOException("Invalid format, the tag " + tag + " is not supported!");
+            }
+        }
+    }
+
+    
+    /**
+     * Read a suspended state
+     *
+     * @param in the input
+     * @param isCompressed true if the suspended state has its codec
+     * @return the suspended state
+     * @throws IOException In case of an I/O error or an invalid format
+     */
+    private ProcessingSuspendedState readSuspendedState(DataInputStream in, boolean isCompressed) throws IOException {
+        final String id = readString(in);
+        final String processingUnitClassname = readString(in);
+        byte[] suspendedState;
+        if (isCompressed) {
+            suspendedState = readCompressedBytes(in);
+        } else {
+            suspendedState = readBytes(in);
+        }
+        
+        return new ProcessingSuspendedState(id, processingUnitClassname, suspendedState);
+    }
+
+    
+    /**
+     * Read a pending schedule
+     *
+     * @param in the input
+     * @return the pending schedule
+     * @throws IOException In case of an I/O error or an invalid format
+     * @throws ClassNotFoundException In case a parameter class of the schedule can't be found
+     */
+    private ProcessingScheduleReference readScheduleReference(DataInputStream in) throws IOException, ClassNotFoundException {
+        final String id = readString(in);
+        final String name = readString(in);
+        final String processingUnitClassname = readString(in);
+        final String cronExpression = readString(in);
+        final long periodInMilliseconds = in.readLong();
+        final long nextExecutionTime = in.readLong();
+        final long numberOfExecutions = in.readLong();
+        ProcessingScheduleReference processingScheduleReference = new ProcessingScheduleReference(id, name, processingUnitClassname, toParameterList(readBytes(in)));
+        processingScheduleReference.setCronExpression(cronExpression);
+        processingScheduleReference.setPeriodInMilliseconds(periodInMilliseconds);
+        processingScheduleReference.setNextExecutionTime(nextExecutionTime);
+        processingScheduleReference.setNumberOfExecutions(numberOfExecutions);
+        return processingScheduleReference;
+    }
+
+    
+    /**
+     * Write a string
+     *
+     * @param out the output
+     * @param value the value or null
+     * @throws IOException In case of an I/O error
+     */
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_SIZE);
+            return;
+        }
+        
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    
+    /**
+     * Read a string
+     *
+     * @param in the input
+     * @return the value or null
+     * @throws IOException In case of an I/O error
+     */
+    private String readString(DataInputStream in) throws IOException {
+        final byte[] value = readBytes(in);
+        if (value == null) {
+            return null;
+        }
+        
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    
+    /**
+     * Write a byte array with its size
+     *
+     * @param out the output
+     * @param value the value or null
+     * @throws IOException In case of an I/O error
+     */
+    private void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_SIZE);
+            return;
+        }
+        
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    
+    /**
+     * Read a byte array with its size
+     *
+     * @param in the input
+     * @return the value or null
+     * @throws IOException In case of an I/O error
+     */
+    private byte[] readBytes(DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        if (size == NULL_SIZE) {
+            return null;
+        }
+        
+        if (size < 0) {
+            throw new IOException("Invalid size " + size + "!");
+        }
+        
+        // the size is not trusted, the value grows with the bytes which are read
+        final byte[] value = in.readNBytes(size);
+        if (value.length != size) {
+            throw new IOException("Invalid size " + size + ", only " + value.length + " bytes available!");
+        }
+        
+        return value;
+    }
+
+    
+    /**
+     * Write a byte array with its codec: it is compressed in case it reaches the compression threshold and the compressed
+     * byte array is smaller.
+     *
+     * @param out the output
+     * @param value the value or null
+     * @param compressionThreshold the compression threshold in bytes
+     * @throws IOException In case of an I/O error
+     */
+    private void writeCompressedBytes(DataOutputStream out, byte[] value, int compressionThreshold) throws IOException {
+        if (value != null && value.length >= compressionThreshold) {
+            final byte[] compressedValue = deflate(value);
+            if (compressedValue != null) {
+                out.writeByte(CODEC_DEFLATE);
+                out.writeInt(value.length);
+                writeBytes(out, compressedValue);
+                return;
+            }
+        }
+        
+        out.writeByte(CODEC_NONE);
+        writeBytes(out, value);
+    }
+
+    
+    /**
+     * Read a byte array with its codec
+     *
+     * @param in the input
+     * @return the value or null
+     * @throws IOException In case of an I/O error or an unknown codec
+     */
+    private byte[] readCompressedBytes(DataInputStream in) throws IOException {
+        final byte codec = in.readByte();
+        if (codec == CODEC_NONE) {
+            return readBytes(in);
+        }
+        
+        if (codec != CODEC_DEFLATE) {
+            throw new IOException("Unsupported codec " + codec + "!");
+        }
+        
+        final int size = readSize(in);
+        final byte[] compressedValue = readBytes(in);
+        if (compressedValue == null) {
+            throw new IOException("Invalid compressed size!");
+        }
+        
+        if (size > (long)compressedValue.length * MAX_COMPRESSION_RATIO + BUFFER_SIZE) {
+            throw new IOException("Invalid size " + size + " of " + compressedValue.length + " compressed bytes!");
+        }
+        
+        return inflate(compressedValue, size);
+    }
+
+    
+    /**
+     * Compress a byte array, the fast compression level is used to keep the shutdown short
+     *
+     * @param value the value
+     * @return the compressed value or null in case it is not smaller
+     */
+    private byte[] deflate(byte[] value) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            
+            // the compressed value has to be smaller, otherwise it is not used 
+            final byte[] buffer = new byte[value.length];
+            int size = 0;
+            while (!deflater.finished() && size < buffer.length) {
+                size += deflater.deflate(buffer, size, buffer.length - size);
+            }
+            
+            if (!deflater.finished() || size >= value.length) {
+                return null;
+            }
+            
+            return Arrays.copyOf(buffer, size);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    
+    /**
+     * De-compress a byte array, the value grows with the de-compressed bytes up to the size of the original value
+     *
+     * @param compressedValue the compressed value
+     * @param size the size of the original value
+     * @return the value
+     * @throws IOException In case the compressed value is invalid
+     */
+    private byte[] inflate(byte[] compressedValue, int size) throws IOException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressedValue);
+            byte[] value = new byte[Math.min(size, BUFFER_SIZE)];
+            int length = 0;
+            while (length < size && !inflater.finished()) {
+                if (length == value.length) {
+                    value = Arrays.copyOf(value, (int)Math.min(size, 2L * value.length));
+                }
+                
+                final int n = inflater.inflate(value, length, value.length - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                
+                length += n;
+            }
+            
+            if (length != size || !inflater.finished()) {
+                throw new IOException("Invalid compressed content, expected size " + size + " but got " + length + "!");
+            }
+            
+            return value;
+        } catch (DataFormatException e) {
+            throw new IOException("Invalid compressed content: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    
+    /**
+     * Read a size
+     *
+     * @param in the input
+     * @return the size
+     * @throws IOException In case of an I/O error or an invalid size
+     */
+    private int readSize(DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid size " + size + "!");
+        }
+        
+        return size;
+    }
+
+    
+    /**
+     * Serialize a parameter list, the parameter values are not known by the format
+     *
+     * @param parameterList the parameter list
+     * @return the serialized parameter list or null
+     * @throws IOException In case of an I/O error
+     */
+    private byte[] toParameterByteArray(List<Parameter> parameterList) throws IOException {
+        if (parameterList == null || parameterList.isEmpty()) {
+            return null;
+        }
+        
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objOutStream = new ObjectOutputStream(outputStream);
+        objOutStream.writeObject(new ArrayList<Parameter>(parameterList));
+        objOutStream.close();
+        return outputStream.toByteArray();
+    }
+
+    
+    /**
+     * De-serialize a parameter list
+     *
+     * @param parameterList the serialized parameter list or null
+     * @return the parameter list or null
+     * @throws IOException In case of an I/O error
+     * @throws ClassNotFoundException In case a parameter class can't be found
+     */
+    @SuppressWarnings("unchecked")
+    private List<Parameter> toParameterList(byte[] parameterList) throws IOException, ClassNotFoundException {
+        if (parameterList == null) {
+            return null;
+        }
+        
+        ObjectInputStream objInStream = new ObjectInputStream(new ByteArrayInputStream(parameterList));
+        List<Parameter> result = (List<Parameter>)objInStream.readObject();
+        objInStream.close();
+        return result;
+    }
+
+    
+    /**
+     * Delete a temporary file, an error is ignored because the cause of the delete is already reported
+     *
+     * @param tempPath the path of the temporary file
+     */
+    private void delete(Path tempPath) {
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException e) {
+            // NOP
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * ProcessingPinningMonitor.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Monitors the carrier thread pinning of virtual threads. It listens to the flight recorder event 
+ * <code>jdk.VirtualThreadPinned</code> which is reported in case a virtual thread blocks while it is 
+ * pinned to its carrier thread (e.g. inside a synchronized block). The recording stream is resolved by 
+ * reflection, in case it is not supported the monitor is not active. The event is reported for all virtual threads
+ * of the jvm, therefore there is one monitor per jvm which is shared by the engines: the recording stream is started 
+ * by the first engine and closed as soon as the last engine stopped the monitoring.
+ * 
+ * @author patrick
+ */
+public final class ProcessingPinningMonitor {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingPinningMonitor.class);
+    private static final String RECORDING_STREAM_CLASSNAME = "jdk.jfr.consumer.RecordingStream";
+    private static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private final AtomicLong numberOfPinnedEvents;
+    private Object recordingStream;
+    private int numberOfUsers;
+
+    
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     */
+    private static class HOLDER {
+        static final ProcessingPinningMonitor INSTANCE = new ProcessingPinningMonitor();
+    }
+
+    
+    /**
+     * Constructor for ProcessingPinningMonitor
+     */
+    private ProcessingPinningMonitor() {
+        numberOfPinnedEvents = new AtomicLong(0);
+        recordingStream = null;
+        numberOfUsers = 0;
+    }
+
+    
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static ProcessingPinningMonitor getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+    
+    /**
+     * Start the monitoring, every start has to be followed by a stop
+     *
+     * @return true if the monitoring could be started
+     */
+    public synchronized boolean start() {
+        numberOfUsers++;
+        if (recordingStream != null) {
+            return true;
+        }
+        
+        try {
+            Class<?> recordingStreamClass = Class.forName(RECORDING_STREAM_CLASSNAME);
+            Object stream = recordingStreamClass.getConstructor().newInstance();
+            recordingStreamClass.getMethod("enable", String.class).invoke(stream, VIRTUAL_THREAD_PINNED_EVENT);
+            
+            Consumer<Object> eventConsumer = e -> numberOfPinnedEvents.incrementAndGet();
+            recordingStreamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, VIRTUAL_THREAD_PINNED_EVENT, eventConsumer);
+            recordingStreamClass.getMethod("startAsync").invoke(stream);
+            recordingStream = stream;
+            return true;
+        } catch (Exception | LinkageError e) {
+            LOG.info("Carrier thread pinning can not be monitored: " + e.getMessage());
+            return false;
+        }
+    }
+
+    
+    /**
+     * Stop the monitoring, the recording stream is closed as soon as the monitoring is stopped as often as it was started
+     */
+    public synchronized void stop() {
+        if (numberOfUsers > 0) {
+            numberOfUsers--;
+        }
+        
+        if (recordingStream == null || numberOfUsers > 0) {
+            return;
+        }
+        
+        try {
+            recordingStream.getClass().getMethod("close").invoke(recordingStream);
+        } catch (Exception | LinkageError e) {
+            LOG.debug("Could not close recording stream: " + e.getMessage());
+        }
+        
+        recordingStream = null;
+    }
+
+    
+    /**
+     * Check if the monitoring is active
+     *
+     * @return true if it is active
+     */
+    public synchronized boolean isActive() {
+        return recordingStream != null;
+    }
+
+    
+    /**
+     * Get the number of pinned events of the jvm: a virtual thread was blocked while it was pinned to its carrier thread
+     *
+     * @return the number of pinned events
+     */
+    public long getNumberOfPinnedEvents() {
+        return numberOfPinnedEvents.get();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * ProcessingResultUtil.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.util;
+
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
+import com.github.toolarium.processing.engine.dto.result.ProcessingResult;
+import com.github.toolarium.processing.engine.dto.result.ProcessingStatistic;
+import com.github.toolarium.processing.unit.dto.ProcessingRuntimeStatus;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Defines the processing result utility.
+ *
+ * @author patrick
+ */
+public final class ProcessingResultUtil {
+
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     *
+     * @author patrick
+     */
+    private static class HOLDER {
+        static final ProcessingResultUtil INSTANCE = new ProcessingResultUtil();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private ProcessingResultUtil() {
+        // NOP
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static ProcessingResultUtil getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Merge processing results into one result. The units, messages and statistic are summarized, the time stamps
+     * span all results, the duration is the longest duration (the processings run in parallel) and the progress is
+     * the average progress. The worst runtime status is taken and the result is aborted if one of the results is aborted.
+     *
+     * @param id the id of the merged result
+     * @param name the name of the merged result
+     * @param processingResultList the processing results to merge
+     * @return the merged processing result
+     */
+    public ProcessingResult merge(String id, String name, List<? extends IProcessingResult> processingResultList) {
+        ProcessingResult result = new ProcessingResult();
+        result.setId(id);
+        result.setName(name);
+        result.setStatusMessageList(new ArrayList<String>());
+
+        ProcessingStatistic processingStatistic = new ProcessingStatistic();
+        result.setProcessingStatistic(processingStatistic);
+        if (processingResultList == null || processingResultList.isEmpty()) {
+            return result;
+        }
+
+        long progress = 0;
+        for (IProcessingResult p : processingResultList) {
+            if (result.getProcessingUnitClassname() == null) {
+                result.setProcessingUnitClassname(p.getProcessingUnitClassname());
+            }
+
+            if (p.getStartTimestamp() != null && (result.getStartTimestamp() == null || p.getStartTimestamp().isBefore(result.getStartTimestamp()))) {
+                result.setStartTimestamp(p.getStartTimestamp());
+            }
+
+            if (p.getStopTimestamp() != null && (result.getStopTimestamp() == null || p.getStopTimestamp().isAfter(result.getStopTimestamp()))) {
+                result.setStopTimestamp(p.getStopTimestamp());
+            }
+
+            result.setProcessingDuration(Math.max(result.getProcessingDuration(), p.getProcessingDuration()));
+            result.setNumberOfProcessedUnits(result.getNumberOfProcessedUnits() + p.getNumberOfProcessedUnits());
+            result.setNumberOfSuccessfulUnits(result.getNumberOfSuccessfulUnits() + p.getNumberOfSuccessfulUnits());
+            result.setNumberOfFailedUnits(result.getNumberOfFailedUnits() + p.getNumberOfFailedUnits());
+            result.setIsAborted(result.isAborted() || p.isAborted());
+            result.setIsTimedOut(result.isTimedOut() || p.isTimedOut());
+            progress += p.getProgress();
+
+            if (p.getProcessingRuntimeStatus() != null
+                    && (result.getProcessingRuntimeStatus() == null || p.getProcessingRuntimeStatus().compareTo(result.getProcessingRuntimeStatus()) > 0)) {
+                result.setProcessingRuntimeStatus(p.getProcessingRuntimeStatus());
+            }
+
+            if (p.getStatusMessageList() != null) {
+                result.getStatusMessageList().addAll(p.getStatusMessageList());
+            }
+
+            processingStatistic.add(p.getProcesingStatistic());
+        }
+
+        result.setProgress((int)(progress / processingResultList.size()));
+        if (result.getProcessingRuntimeStatus() == null) {
+            result.setProcessingRuntimeStatus(ProcessingRuntimeStatus.SUCCESSFUL);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * ProcessingVirtualThreadFactory.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.util;
+
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Defines the processing virtual thread factory. The virtual threads are resolved by reflection, in case the 
+ * runtime don't support virtual threads (before java 21) the factory is not supported.
+ * 
+ * @author patrick
+ */
+public final class ProcessingVirtualThreadFactory implements ThreadFactory {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingVirtualThreadFactory.class);
+    private static final String THREAD_NAME_PREFIX = "processing-virtual-thread-";
+    private final ThreadFactory virtualThreadFactory;
+    
+    
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     */
+    private static class HOLDER {
+        static final ProcessingVirtualThreadFactory INSTANCE = new ProcessingVirtualThreadFactory();
+    }
+
+    
+    /**
+     * Constructor
+     */
+    private ProcessingVirtualThreadFactory() {
+        virtualThreadFactory = createVirtualThreadFactory();
+    }
+
+    
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static ProcessingVirtualThreadFactory getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+    
+    /**
+     * Check if virtual threads are supported by the runtime
+     *
+     * @return true if virtual threads are supported
+     */
+    public boolean isSupported() {
+        return virtualThreadFactory != null;
+    }
+
+
+    /**
+     * Validate that virtual threads are supported by the runtime
+     *
+     * @throws IllegalArgumentException In case the runtime doesn't support virtual threads
+     */
+    public void validate() throws IllegalArgumentException {
+        if (!isSupported()) {
+            throw new IllegalArgumentException("The execution mode VIRTUAL_THREAD requires java 21 or above, the runtime is java " + System.getProperty("java.version") + "!");
+        }
+    }
+
+
+    /**
+     * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+     */
+    @Override
+    public Thread newThread(Runnable r) {
+        if (virtualThreadFactory == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by the runtime " + System.getProperty("java.version") + "!");
+        }
+        
+        return virtualThreadFactory.newThread(r);
+    }
+
+    
+    /**
+     * Create the virtual thread factory: Thread.ofVirtual().name(prefix, 0).factory()
+     *
+     * @return the virtual thread factory or null if it is not supported
+     */
+    private ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (Exception | LinkageError e) {
+            LOG.debug("Virtual threads are not supported: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * ProcessingChannelUtil.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.util;
+
+import com.github.toolarium.processing.engine.IProcessingChannel;
+import com.github.toolarium.processing.engine.impl.channel.ProcessingChannelRegistry;
+import com.github.toolarium.processing.unit.ParameterDefinitionBuilder;
+import com.github.toolarium.processing.unit.dto.ParameterDefinition;
+
+
+/**
+ * Defines the processing channel utility. The processing units of a pipeline get the name of their channels as parameter
+ * {@link #INPUT_CHANNEL_PARAMETER} and {@link #OUTPUT_CHANNEL_PARAMETER} and resolve the channel by {@link #getChannel(String)}.
+ * The engine passes the name scoped by the engine, the channels of different engines with the same name don't collide.
+ * The upstream processing unit offers its records in its processing steps (a full channel pauses the steps), the downstream
+ * processing unit polls them in its processing steps until the channel is done.
+ *
+ * @author patrick
+ */
+public final class ProcessingChannelUtil {
+    /** INPUT_CHANNEL_PARAMETER: the name of the channel to read the records from. */
+    public static final ParameterDefinition INPUT_CHANNEL_PARAMETER = new ParameterDefinitionBuilder().name("inputChannel").description("The name of the channel to read the records from.").build();
+
+    /** OUTPUT_CHANNEL_PARAMETER: the name of the channel to write the records to. */
+    public static final ParameterDefinition OUTPUT_CHANNEL_PARAMETER = new ParameterDefinitionBuilder().name("outputChannel").description("The name of the channel to write the records to.").build();
+
+
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     *
+     * @author patrick
+     */
+    private static class HOLDER {
+        static final ProcessingChannelUtil INSTANCE = new ProcessingChannelUtil();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private ProcessingChannelUtil() {
+        // NOP
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static ProcessingChannelUtil getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Get a channel
+     *
+     * @param <T> the record type
+     * @param name the name of the channel as it is passed as parameter
+     * @return the channel or null if it don't exist
+     */
+    public <T> IProcessingChannel<T> getChannel(String name) {
+        return ProcessingChannelRegistry.resolveChannel(name);
+    }
+}
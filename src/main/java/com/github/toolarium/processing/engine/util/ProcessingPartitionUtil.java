@@ -0,0 +1,119 @@
+/*
+ * ProcessingPartitionUtil.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.util;
+
+import com.github.toolarium.processing.unit.ParameterDefinitionBuilder;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.dto.ParameterDefinition;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Defines the processing partition utility. A partitioned processing is started once per partition, each with the
+ * additional parameters {@link #PARTITION_INDEX_PARAMETER} and {@link #NUMBER_OF_PARTITIONS_PARAMETER}. A processing unit
+ * which supports partitions registers these parameter definitions and processes only the units of its own partition,
+ * see {@link #getPartitionStart(long, int, int)} and {@link #getNumberOfUnits(long, int, int)}.
+ *
+ * @author patrick
+ */
+public final class ProcessingPartitionUtil {
+    /** PARTITION_INDEX_PARAMETER: the index of the partition, starting with 0. */
+    public static final ParameterDefinition PARTITION_INDEX_PARAMETER = new ParameterDefinitionBuilder().name("partitionIndex").description("The index of the partition, starting with 0.").build();
+
+    /** NUMBER_OF_PARTITIONS_PARAMETER: the number of partitions of the processing. */
+    public static final ParameterDefinition NUMBER_OF_PARTITIONS_PARAMETER = new ParameterDefinitionBuilder().name("numberOfPartitions").description("The number of partitions of the processing.").build();
+
+
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     *
+     * @author patrick
+     */
+    private static class HOLDER {
+        static final ProcessingPartitionUtil INSTANCE = new ProcessingPartitionUtil();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private ProcessingPartitionUtil() {
+        // NOP
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static ProcessingPartitionUtil getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Create the parameter list of a partition
+     *
+     * @param parameterList the parameter list of the processing
+     * @param partitionIndex the partition index
+     * @param numberOfPartitions the number of partitions
+     * @return the parameter list of the partition
+     */
+    public List<Parameter> createPartitionParameterList(List<Parameter> parameterList, int partitionIndex, int numberOfPartitions) {
+        List<Parameter> result = new ArrayList<Parameter>();
+        if (parameterList != null) {
+            result.addAll(parameterList);
+        }
+
+        result.add(new Parameter(PARTITION_INDEX_PARAMETER.getKey(), String.valueOf(partitionIndex)));
+        result.add(new Parameter(NUMBER_OF_PARTITIONS_PARAMETER.getKey(), String.valueOf(numberOfPartitions)));
+        return result;
+    }
+
+
+    /**
+     * Get the first unit (0 based) of a partition. The units are split evenly, the first partitions get one unit more
+     * in case the units can't be divided without remainder.
+     *
+     * @param numberOfUnits the total number of units
+     * @param partitionIndex the partition index
+     * @param numberOfPartitions the number of partitions
+     * @return the first unit of the partition
+     */
+    public long getPartitionStart(long numberOfUnits, int partitionIndex, int numberOfPartitions) {
+        if (numberOfPartitions <= 1) {
+            return 0;
+        }
+
+        long unitsPerPartition = numberOfUnits / numberOfPartitions;
+        long remainder = numberOfUnits % numberOfPartitions;
+        return partitionIndex * unitsPerPartition + Math.min(partitionIndex, remainder);
+    }
+
+
+    /**
+     * Get the number of units of a partition
+     *
+     * @param numberOfUnits the total number of units
+     * @param partitionIndex the partition index
+     * @param numberOfPartitions the number of partitions
+     * @return the number of units of the partition
+     */
+    public long getNumberOfUnits(long numberOfUnits, int partitionIndex, int numberOfPartitions) {
+        if (numberOfPartitions <= 1) {
+            return numberOfUnits;
+        }
+
+        long unitsPerPartition = numberOfUnits / numberOfPartitions;
+        if (partitionIndex < numberOfUnits % numberOfPartitions) {
+            return unitsPerPartition + 1;
+        }
+
+        return unitsPerPartition;
+    }
+}
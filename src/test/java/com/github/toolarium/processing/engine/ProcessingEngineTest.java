@@ -5,21 +5,43 @@
  */
 package com.github.toolarium.processing.engine;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.toolarium.common.util.TextUtil;
 import com.github.toolarium.common.util.ThreadUtil;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingExecution;
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
 import com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition;
+import com.github.toolarium.processing.engine.exception.ValidationException;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingSuspendedState;
 import com.github.toolarium.processing.engine.impl.util.ProcessingPersistenceUtil;
 import com.github.toolarium.processing.engine.listener.LogProcessingListener;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitBlockingSample;
 import com.github.toolarium.processing.engine.unit.ProcessingUnitSample;
 import com.github.toolarium.processing.engine.unit.ProcessingUnitSample2;
 import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
 import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnable;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,9 +57,11 @@ public class ProcessingEngineTest {
     
     /**
      * Tets
+     *
+     * @throws InterruptedException In case of interruption
      */
     @Test
-    public void test() {
+    public void test() throws InterruptedException {
         IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
         processEngine.addListener(new LogProcessingListener());
 
@@ -58,10 +82,7 @@ public class ProcessingEngineTest {
 
         
         // wait processing
-        while (processEngine.getStatus().getNumberOfRunningProcessings() > 0) {
-            LOG.debug("WAIT");
-            ThreadUtil.getInstance().sleep(500L);
-        }
+        assertTrue(processEngine.awaitAll(60, TimeUnit.SECONDS));
         
         // shutdown processing
         byte[] persistedContent = processEngine.shutdown();
@@ -69,11 +90,81 @@ public class ProcessingEngineTest {
     }
 
 
+    /**
+     * Test the submit
+     *
+     * @throws InterruptedException In case of interruption
+     * @throws ExecutionException In case of an execution exception
+     * @throws TimeoutException In case of a timeout
+     */
+    @Test
+    public void testSubmit() throws InterruptedException, ExecutionException, TimeoutException {
+        IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
+        processEngine.addListener(new LogProcessingListener());
+        IProcessingUnitDefinition p1 =  processEngine.getProcessingUnitRegistry().register(ProcessingUnitSample.class);
+
+        IProcessingHandle handle = processEngine.submit(null, "submit", p1.getProcessingClassname(),
+                                                        List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename")));
+        assertNotNull(handle.getId());
+        
+        IProcessingResult processingResult = handle.getResult().get(60, TimeUnit.SECONDS);
+        assertEquals(handle.getId(), processingResult.getId());
+        assertFalse(processingResult.isAborted());
+        assertTrue(processEngine.awaitAll(60, TimeUnit.SECONDS));
+        
+        // shutdown processing
+        assertNull(processEngine.shutdown());
+    }
+
+
+    /**
+     * Test the batch submission
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testExecuteAll() throws InterruptedException {
+        IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
+        processEngine.addListener(new LogProcessingListener());
+        IProcessingUnitDefinition p1 =  processEngine.getProcessingUnitRegistry().register(ProcessingUnitSample.class);
+        final List<Parameter> parameterList = List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename"));
+
+        // an unknown processing unit rejects the whole batch before anything is started
+        assertThrows(ValidationException.class, () -> {
+            processEngine.executeAll(List.of(new ProcessingExecution(null, p1.getProcessingClassname(), parameterList), new ProcessingExecution(null, "my.unknown.Unit", parameterList)));
+        });
+        assertEquals(0, processEngine.getStatus().getNumberOfRunningProcessings());
+
+        final List<ProcessingExecution> executionList = new ArrayList<ProcessingExecution>();
+        for (int i = 0; i < 20; i++) {
+            executionList.add(new ProcessingExecution(null, p1.getProcessingClassname(), parameterList));
+        }
+        executionList.get(0).setId("my-batch-id");
+
+        final List<IProcessingHandle> handleList = processEngine.executeAll(executionList);
+        assertEquals(20, handleList.size());
+        assertEquals("my-batch-id", handleList.get(0).getId());
+        assertEquals(p1.getProcessingClassname(), handleList.get(1).getName());
+        assertEquals(20, handleList.stream().map(IProcessingHandle::getId).distinct().count());
+        
+        for (IProcessingHandle handle : handleList) {
+            IProcessingResult processingResult = handle.getResult().join();
+            assertEquals(handle.getId(), processingResult.getId());
+            assertFalse(processingResult.isAborted());
+        }
+        
+        assertTrue(processEngine.awaitAll(60, TimeUnit.SECONDS));
+        assertNull(processEngine.shutdown());
+    }
+
+
     /**
      * Tets
+     *
+     * @throws InterruptedException In case of interruption
      */
     @Test
-    public void testSuspendAndResume() {
+    public void testSuspendAndResume() throws InterruptedException {
         IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
         processEngine.addListener(new LogProcessingListener());
 
@@ -102,10 +193,7 @@ public class ProcessingEngineTest {
         processEngine.addListener(new LogProcessingListener());
         
         // wait processing
-        while (processEngine.getStatus().getNumberOfRunningProcessings() > 0) {
-            LOG.debug("WAIT");
-            ThreadUtil.getInstance().sleep(500L);
-        }
+        assertTrue(processEngine.awaitAll(60, TimeUnit.SECONDS));
         
         // shutdown processing
         persistedContent = processEngine.shutdown();
@@ -113,11 +201,92 @@ public class ProcessingEngineTest {
     }
 
     
+    /**
+     * Test the suspend into a file and the resume from the file
+     *
+     * @param tempDir the temporary directory
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testSuspendAndResumeByFile(@TempDir Path tempDir) throws Exception {
+        final Path path = tempDir.resolve("processing-engine.state");
+        assertTrue(ProcessingEngineFactory.getInstance().getProcessingEngine().execute(path).isEmpty());
+        
+        final IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
+        processEngine.getProcessingUnitRegistry().register(ProcessingUnitBlockingSample.class);
+        ProcessingUnitBlockingSample.LATCH.set(new CountDownLatch(1));
+        ProcessingUnitBlockingSample.NUMBER_OF_CALLS.set(0);
+        processEngine.execute(UUID.randomUUID().toString(), "test1", ProcessingUnitBlockingSample.class.getName(), new ArrayList<Parameter>());
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        while (ProcessingUnitBlockingSample.NUMBER_OF_CALLS.get() < 1 && System.currentTimeMillis() < deadline) {
+            ThreadUtil.getInstance().sleep(5L);
+        }
+        
+        // suspend all processings into the file: the blocked processing is released unit by unit until it is suspended
+        final CompletableFuture<Void> shutdown = CompletableFuture.runAsync(() -> processEngine.shutdown(path));
+        ThreadUtil.getInstance().sleep(50L);
+        while (!shutdown.isDone() && System.currentTimeMillis() < deadline) {
+            ProcessingUnitBlockingSample.LATCH.getAndSet(new CountDownLatch(1)).countDown();
+            ThreadUtil.getInstance().sleep(20L);
+        }
+        shutdown.get(60, TimeUnit.SECONDS);
+        ProcessingUnitBlockingSample.LATCH.getAndSet(new CountDownLatch(0)).countDown();
+        assertFalse(Files.exists(tempDir.resolve("processing-engine.state.tmp")));
+        
+        final List<ProcessingSuspendedState> suspendedStateList = new ArrayList<ProcessingSuspendedState>();
+        ProcessingPersistenceUtil.getInstance().read(path, suspendedStateList::add, scheduleReference -> { });
+        final int numberOfSuspendedStates = suspendedStateList.size();
+        assertTrue(numberOfSuspendedStates > 0);
+        
+        // a content without end tag: the resumed processings are returned
+        final byte[] persistedContent = Files.readAllBytes(path);
+        final IProcessEngine partialProcessEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
+        partialProcessEngine.getProcessingUnitRegistry().register(ProcessingUnitBlockingSample.class);
+        assertEquals(numberOfSuspendedStates, partialProcessEngine.execute(new ByteArrayInputStream(Arrays.copyOf(persistedContent, persistedContent.length - 1))).size());
+        assertTrue(partialProcessEngine.awaitAll(60, TimeUnit.SECONDS));
+        partialProcessEngine.shutdown();
+        
+        assertThrows(ProcessingException.class, () -> ProcessingEngineFactory.getInstance().getProcessingEngine().execute(new ByteArrayInputStream(new byte[] {1, 2, 3})));
+        
+        LOG.info("Resume from " + path + "...");
+        final List<IProcessingResult> processingResultList = new CopyOnWriteArrayList<IProcessingResult>();
+        final IProcessEngine resumedProcessEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
+        resumedProcessEngine.getProcessingUnitRegistry().register(ProcessingUnitBlockingSample.class);
+        resumedProcessEngine.addListener(new LogProcessingListener() {
+            
+            /**
+             * @see com.github.toolarium.processing.engine.listener.LogProcessingListener#notifyProcessEnd(com.github.toolarium.processing.engine.dto.result.IProcessingResult)
+             */
+            @Override
+            public void notifyProcessEnd(IProcessingResult processingResult) {
+                super.notifyProcessEnd(processingResult);
+                processingResultList.add(processingResult);
+            }
+        });
+        assertEquals(numberOfSuspendedStates, resumedProcessEngine.execute(path).size());
+        assertTrue(resumedProcessEngine.awaitAll(60, TimeUnit.SECONDS));
+        
+        // the resumed processings continue with the units of their suspended state
+        assertEquals(numberOfSuspendedStates, processingResultList.size());
+        for (IProcessingResult processingResult : processingResultList) {
+            assertFalse(processingResult.isAborted());
+            assertEquals(10, processingResult.getNumberOfSuccessfulUnits());
+        }
+        
+        // the file is replaced by the empty content
+        resumedProcessEngine.shutdown(path);
+        assertTrue(ProcessingEngineFactory.getInstance().getProcessingEngine().execute(path).isEmpty());
+        resumedProcessEngine.getProcessingUnitRegistry().unregister(ProcessingUnitBlockingSample.class);
+    }
+
+    
     /**
      * Tets
+     *
+     * @throws InterruptedException In case of interruption
      */
     @Test
-    public void testSuspendTwoEnginesAndResumeByOne() {
+    public void testSuspendTwoEnginesAndResumeByOne() throws InterruptedException {
         IProcessEngine processEngineA = ProcessingEngineFactory.getInstance().getProcessingEngine();
         processEngineA.addListener(new LogProcessingListener());
 
@@ -172,13 +341,56 @@ public class ProcessingEngineTest {
         processEngineA.execute(persistedContentB);
         
         // wait processing
-        while (processEngineA.getStatus().getNumberOfRunningProcessings() > 0) {
-            LOG.debug("WAIT");
-            ThreadUtil.getInstance().sleep(500L);
-        }
+        assertTrue(processEngineA.awaitAll(60, TimeUnit.SECONDS));
         
         // shutdown processing
         persistedContentA = processEngineA.shutdown();
         assertNull(persistedContentA); // if there were no processings it is null!
     }
+
+
+    /**
+     * Test the schedules survive a shutdown
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testSchedule() throws InterruptedException {
+        IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
+        processEngine.addListener(new LogProcessingListener());
+        IProcessingUnitDefinition p1 = processEngine.getProcessingUnitRegistry().register(ProcessingUnitSample.class);
+        List<Parameter> parameterList = List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename"));
+
+        final IProcessingSchedule fixedRate = processEngine.schedule("fixedRate", p1.getProcessingClassname(), parameterList, 0, 50, TimeUnit.MILLISECONDS);
+        final IProcessingSchedule cron = processEngine.schedule("cron", p1.getProcessingClassname(), parameterList, "0 0 1 1 *");
+        assertThrows(ValidationException.class, () -> processEngine.schedule("invalid", p1.getProcessingClassname(), parameterList, "0 0 32 * *"));
+        assertThrows(ValidationException.class, () -> processEngine.schedule("invalid", "unknown", parameterList, 10, TimeUnit.MILLISECONDS));
+        assertEquals(2, processEngine.getProcessingScheduleList().size());
+
+        // the fixed rate schedule executes every 50ms, it is bounded like awaitAll
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        while (fixedRate.getNumberOfExecutions() < 3 && System.currentTimeMillis() < deadline) {
+            ThreadUtil.getInstance().sleep(10L);
+        }
+
+        assertTrue(fixedRate.getNumberOfExecutions() >= 3);
+        assertEquals(0, cron.getNumberOfExecutions());
+        assertTrue(processEngine.getStatus().getProcessingSchedulerStatus().getNumberOfExecutions() >= 3);
+
+        // the pending schedules are persisted
+        byte[] persistedContent = processEngine.shutdown();
+        assertNotNull(persistedContent);
+        assertTrue(fixedRate.isDone());
+        LOG.info("Persisted state:" + TextUtil.NL + ProcessingPersistenceUtil.getInstance().toString(persistedContent));
+
+        IProcessEngine resumedProcessEngine = ProcessingEngineFactory.getInstance().getProcessingEngine(persistedContent);
+        resumedProcessEngine.addListener(new LogProcessingListener());
+        assertEquals(2, resumedProcessEngine.getProcessingScheduleList().size());
+        for (IProcessingSchedule schedule : resumedProcessEngine.getProcessingScheduleList()) {
+            assertTrue(schedule.cancel());
+        }
+
+        assertTrue(resumedProcessEngine.awaitAll(60, TimeUnit.SECONDS));
+        assertNull(resumedProcessEngine.shutdown());
+    }
 }
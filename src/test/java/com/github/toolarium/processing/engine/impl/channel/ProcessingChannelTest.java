@@ -0,0 +1,158 @@
+/*
+ * ProcessingChannelTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.channel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.processing.engine.IProcessingChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingChannel}.
+ *
+ * @author patrick
+ */
+public class ProcessingChannelTest {
+
+    /**
+     * Test the capacity and close
+     */
+    @Test
+    public void testCapacity() {
+        ProcessingChannel<Integer> channel = new ProcessingChannel<Integer>("test", 3);
+        assertTrue(channel.offer(1));
+        assertTrue(channel.offer(2));
+        assertTrue(channel.offer(3));
+        assertFalse(channel.offer(4));
+        assertFalse(channel.offer(4, 5, TimeUnit.MILLISECONDS));
+        assertEquals(3, channel.size());
+        assertEquals(1, channel.getStatus().getNumberOfBackpressureWaits());
+
+        assertEquals(1, channel.poll());
+        assertTrue(channel.offer(4));
+        channel.close();
+        assertFalse(channel.offer(5));
+        assertFalse(channel.isDone());
+
+        assertEquals(2, channel.poll());
+        assertEquals(3, channel.poll());
+        assertEquals(4, channel.poll(5, TimeUnit.MILLISECONDS));
+        assertNull(channel.poll(1, TimeUnit.SECONDS));
+        assertTrue(channel.isDone());
+        assertEquals(4, channel.getStatus().getNumberOfOfferedRecords());
+        assertEquals(4, channel.getStatus().getNumberOfPolledRecords());
+        
+        // a channel with only one slot
+        ProcessingChannel<Integer> singleSlotChannel = new ProcessingChannel<Integer>("single", 1);
+        assertTrue(singleSlotChannel.offer(1));
+        assertFalse(singleSlotChannel.offer(2));
+        assertEquals(1, singleSlotChannel.poll());
+        assertTrue(singleSlotChannel.offer(2));
+        assertEquals(2, singleSlotChannel.poll());
+        assertNull(singleSlotChannel.poll());
+    }
+
+
+    /**
+     * Test multiple producers and consumers
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testProducerConsumer() throws InterruptedException {
+        final int numberOfRecords = 20000;
+        final ProcessingChannel<Long> channel = new ProcessingChannel<Long>("test", 16);
+        final AtomicLong sum = new AtomicLong();
+        final AtomicLong count = new AtomicLong();
+
+        List<Thread> producerList = new ArrayList<Thread>();
+        for (int p = 0; p < 2; p++) {
+            producerList.add(new Thread(() -> {
+                for (long i = 1; i <= numberOfRecords; i++) {
+                    while (!channel.offer(i, 10, TimeUnit.MILLISECONDS)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        List<Thread> consumerList = new ArrayList<Thread>();
+        for (int c = 0; c < 2; c++) {
+            consumerList.add(new Thread(() -> {
+                while (!channel.isDone()) {
+                    Long value = channel.poll(10, TimeUnit.MILLISECONDS);
+                    if (value != null) {
+                        sum.addAndGet(value);
+                        count.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        producerList.forEach(Thread::start);
+        consumerList.forEach(Thread::start);
+        for (Thread t : producerList) {
+            t.join();
+        }
+
+        channel.close();
+        for (Thread t : consumerList) {
+            t.join();
+        }
+
+        assertEquals(2L * numberOfRecords, count.get());
+        assertEquals(2L * numberOfRecords * (numberOfRecords + 1) / 2, sum.get());
+        assertEquals(0, channel.size());
+    }
+
+
+    /**
+     * Test the registry
+     */
+    @Test
+    public void testRegistry() {
+        final String name = "registry-test";
+        final ProcessingChannelRegistry processingChannelRegistry = new ProcessingChannelRegistry();
+        IProcessingChannel<String> channel = processingChannelRegistry.create(name, 10);
+        assertSame(channel, processingChannelRegistry.getChannel(name));
+        assertSame(channel, processingChannelRegistry.create(name, 5));
+        assertEquals(1, processingChannelRegistry.getStatusList().size());
+        assertEquals(10, processingChannelRegistry.getStatusList().get(0).getCapacity());
+
+        // a closed channel is replaced
+        channel.close();
+        final IProcessingChannel<String> newChannel = processingChannelRegistry.create(name, 5);
+        assertNotSame(channel, newChannel);
+        assertEquals(5, newChannel.getCapacity());
+        
+        // the channels of another registry with the same name don't collide
+        final ProcessingChannelRegistry otherProcessingChannelRegistry = new ProcessingChannelRegistry();
+        final IProcessingChannel<String> otherChannel = otherProcessingChannelRegistry.create(name, 3);
+        assertNotSame(newChannel, otherChannel);
+        assertSame(newChannel, ProcessingChannelRegistry.resolveChannel(processingChannelRegistry.toScopedName(name)));
+        assertSame(otherChannel, ProcessingChannelRegistry.resolveChannel(otherProcessingChannelRegistry.toScopedName(name)));
+        assertNull(ProcessingChannelRegistry.resolveChannel(name));
+        
+        assertTrue(processingChannelRegistry.remove(name));
+        assertNull(processingChannelRegistry.getChannel(name));
+        
+        // a closed registry closes its channels
+        otherProcessingChannelRegistry.close();
+        assertTrue(otherChannel.isClosed());
+        assertNull(ProcessingChannelRegistry.resolveChannel(otherProcessingChannelRegistry.toScopedName(name)));
+        processingChannelRegistry.close();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * ProcessingCheckpointStoreTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.checkpoint;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.common.util.ThreadUtil;
+import com.github.toolarium.processing.engine.IProcessEngine;
+import com.github.toolarium.processing.engine.ProcessingEngineFactory;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingSuspendedState;
+import com.github.toolarium.processing.engine.impl.executer.impl.ProcessingExecuterImpl;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitBlockingSample;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitSample;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+/**
+ * Test the {@link ProcessingCheckpointStore}.
+ *
+ * @author patrick
+ */
+public class ProcessingCheckpointStoreTest {
+    private static final String CLASSNAME = ProcessingUnitSample.class.getName();
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String ID = "id/1";
+
+
+    /**
+     * Test the write, read and remove of the checkpoints
+     *
+     * @param tempDir the temporary directory
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testStore(@TempDir Path tempDir) throws IOException {
+        ProcessingCheckpointStore processingCheckpointStore = new ProcessingCheckpointStore(tempDir.resolve(CHECKPOINT), 0);
+        processingCheckpointStore.write(new ProcessingSuspendedState(ID, CLASSNAME, new byte[] {1, 2, 3}));
+        processingCheckpointStore.write(new ProcessingSuspendedState(ID, CLASSNAME, new byte[] {4, 5, 6}));
+        processingCheckpointStore.write(new ProcessingSuspendedState("id2", CLASSNAME, new byte[] {7}));
+        processingCheckpointStore.remove("id2");
+        assertTrue(processingCheckpointStore.close(10000L));
+        assertTrue(processingCheckpointStore.getNumberOfCheckpoints() >= 1);
+
+        // an invalid checkpoint is skipped
+        Files.write(tempDir.resolve(CHECKPOINT).resolve("invalid.checkpoint"), new byte[] {1, 2, 3, 4, 5});
+
+        // the latest checkpoint of a processing is kept
+        processingCheckpointStore = new ProcessingCheckpointStore(tempDir.resolve(CHECKPOINT), 0);
+        final List<ProcessingSuspendedState> suspendedStateList = new ArrayList<ProcessingSuspendedState>();
+        assertEquals(1, processingCheckpointStore.read(suspendedStateList::add));
+        assertEquals(ID, suspendedStateList.get(0).getId());
+        assertArrayEquals(new byte[] {4, 5, 6}, suspendedStateList.get(0).getSuspendedState());
+
+        // the checkpoint directory is locked until the store is closed
+        assertThrows(ProcessingException.class, () -> new ProcessingCheckpointStore(tempDir.resolve(CHECKPOINT), 0));
+        processingCheckpointStore.remove(ID);
+        assertTrue(processingCheckpointStore.close(10000L));
+        suspendedStateList.clear();
+        processingCheckpointStore = new ProcessingCheckpointStore(tempDir.resolve(CHECKPOINT), 0);
+        assertEquals(0, processingCheckpointStore.read(suspendedStateList::add));
+        assertTrue(processingCheckpointStore.close(10000L));
+    }
+
+
+    /**
+     * Test the resume of a crashed engine from its checkpoints, the steps of the processing are released one by one until
+     * its checkpoint is taken
+     *
+     * @param tempDir the temporary directory
+     * @throws InterruptedException In case of interruption
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testResume(@TempDir Path tempDir) throws InterruptedException, IOException {
+        final Path checkpointDirectory = tempDir.resolve(CHECKPOINT);
+        ProcessingEngineConfiguration processingEngineConfiguration = new ProcessingEngineConfiguration();
+        processingEngineConfiguration.setCheckpointIntervalInMilliseconds(20L);
+        processingEngineConfiguration.setCheckpointDirectory(checkpointDirectory.toString());
+
+        IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine(processingEngineConfiguration);
+        processEngine.getProcessingUnitRegistry().register(ProcessingUnitBlockingSample.class);
+        ProcessingUnitBlockingSample.LATCH.set(new CountDownLatch(1));
+        ProcessingUnitBlockingSample.NUMBER_OF_CALLS.set(0);
+        processEngine.execute(UUID.randomUUID().toString(), "checkpoint", ProcessingUnitBlockingSample.class.getName(), new ArrayList<Parameter>());
+
+        // the checkpoint is taken between two steps as soon as the interval is passed
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        int numberOfCalls = 1;
+        while (listCheckpoints(checkpointDirectory).isEmpty() && numberOfCalls < 10 && System.currentTimeMillis() < deadline) {
+            awaitCalls(numberOfCalls, deadline);
+            ThreadUtil.getInstance().sleep(2 * processingEngineConfiguration.getCheckpointIntervalInMilliseconds());
+            final CountDownLatch latch = ProcessingUnitBlockingSample.LATCH.getAndSet(new CountDownLatch(1));
+            latch.countDown();
+            numberOfCalls++;
+            awaitCalls(numberOfCalls, deadline);
+        }
+
+        // the blocked processing keeps its checkpoint, it is kept as crash
+        while (listCheckpoints(checkpointDirectory).isEmpty() && System.currentTimeMillis() < deadline) {
+            ThreadUtil.getInstance().sleep(5L);
+        }
+        final Path crashDirectory = tempDir.resolve("crash");
+        Files.createDirectories(crashDirectory);
+        for (Path path : listCheckpoints(checkpointDirectory)) {
+            Files.copy(path, crashDirectory.resolve(path.getFileName()));
+        }
+        assertEquals(1, listCheckpoints(crashDirectory).size());
+
+        // the checkpoint directory is locked by the running engine
+        assertThrows(ProcessingException.class, () -> new ProcessingCheckpointStore(checkpointDirectory, 0));
+        
+        // an ended processing removes its checkpoint
+        ProcessingUnitBlockingSample.LATCH.getAndSet(new CountDownLatch(0)).countDown();
+        assertTrue(processEngine.awaitAll(60, TimeUnit.SECONDS));
+        processEngine.shutdown();
+        assertTrue(listCheckpoints(checkpointDirectory).isEmpty());
+
+        // the engine resumes the processing from the checkpoint of the crash as soon as it is called
+        processingEngineConfiguration.setCheckpointDirectory(crashDirectory.toString());
+        processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine(processingEngineConfiguration);
+        assertEquals(0, processEngine.getStatus().getNumberOfRunningProcessings() + processEngine.getStatus().getNumberOfQueuedProcessings());
+        assertEquals(1, processEngine.resumeCheckpoints().size());
+        assertTrue(processEngine.awaitAll(60, TimeUnit.SECONDS));
+        processEngine.shutdown();
+        assertTrue(listCheckpoints(crashDirectory).isEmpty());
+        processEngine.getProcessingUnitRegistry().unregister(ProcessingUnitBlockingSample.class);
+    }
+
+
+    /**
+     * Test the checkpoint of a processing which is suspended by its timeout, it is kept until the shutdown
+     *
+     * @param tempDir the temporary directory
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testSuspendedProcessing(@TempDir Path tempDir) throws Exception {
+        final Path checkpointDirectory = tempDir.resolve(CHECKPOINT);
+        ProcessingEngineConfiguration processingEngineConfiguration = new ProcessingEngineConfiguration();
+        processingEngineConfiguration.setCheckpointIntervalInMilliseconds(TimeUnit.MINUTES.toMillis(10));
+        processingEngineConfiguration.setCheckpointDirectory(checkpointDirectory.toString());
+        processingEngineConfiguration.setTimeoutInMilliseconds(100L);
+
+        final ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl(processingEngineConfiguration);
+        final List<Parameter> parameterList = List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-suspended-file"));
+        final IProcessingResult processingResult = processingExecuter.submit(UUID.randomUUID().toString(), "suspended", ProcessingUnitSample.class, parameterList, null).getResult().get(30, TimeUnit.SECONDS);
+        assertTrue(processingResult.isTimedOut());
+
+        // the suspended state survives a crash as checkpoint
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (listCheckpoints(checkpointDirectory).isEmpty() && System.currentTimeMillis() < deadline) {
+            ThreadUtil.getInstance().sleep(5L);
+        }
+        assertEquals(1, listCheckpoints(checkpointDirectory).size());
+
+        // the shutdown takes it over into the persisted content
+        assertEquals(1, processingExecuter.shutdown().getSuspendedStateList().size());
+        assertTrue(listCheckpoints(checkpointDirectory).isEmpty());
+    }
+
+
+    /**
+     * Wait until the processing unit is called the number of times
+     *
+     * @param numberOfCalls the number of calls
+     * @param deadline the deadline in milliseconds
+     */
+    private void awaitCalls(int numberOfCalls, long deadline) {
+        while (ProcessingUnitBlockingSample.NUMBER_OF_CALLS.get() < numberOfCalls && System.currentTimeMillis() < deadline) {
+            ThreadUtil.getInstance().sleep(5L);
+        }
+    }
+
+
+    /**
+     * List the checkpoint files of a directory
+     *
+     * @param directory the directory
+     * @return the checkpoint files
+     * @throws IOException In case of an I/O error
+     */
+    private List<Path> listCheckpoints(Path directory) throws IOException {
+        final List<Path> result = new ArrayList<Path>();
+        if (!Files.exists(directory)) {
+            return result;
+        }
+
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.filter(path -> path.getFileName().toString().endsWith("." + CHECKPOINT)).forEach(result::add);
+        }
+
+        return result;
+    }
+}
@@ -8,18 +8,52 @@ package com.github.toolarium.processing.engine.impl.executer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.toolarium.common.util.ThreadUtil;
+import com.github.toolarium.processing.engine.IProcessingGroup;
+import com.github.toolarium.processing.engine.IProcessingHandle;
+import com.github.toolarium.processing.engine.dto.bulkhead.IProcessingBulkheadStatus;
+import com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingAdmissionPolicy;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingTimeoutPolicy;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingExecutionBuilder;
+import com.github.toolarium.processing.engine.dto.execution.ProcessingUnitReference;
+import com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus;
+import com.github.toolarium.processing.engine.dto.ratelimit.IProcessingRateLimitStatus;
+import com.github.toolarium.processing.engine.dto.ratelimit.ProcessingRateLimitScope;
+import com.github.toolarium.processing.engine.dto.result.IProcessingResult;
+import com.github.toolarium.processing.engine.dto.retry.ProcessingRetryPolicy;
+import com.github.toolarium.processing.engine.exception.ProcessingRejectedException;
 import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingExecuterPersistenceContainer;
-import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingUnitReference;
 import com.github.toolarium.processing.engine.impl.executer.impl.ProcessingExecuterImpl;
+import com.github.toolarium.processing.engine.impl.registry.ProcessingUnitRegistry;
 import com.github.toolarium.processing.engine.listener.LogProcessingListener;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitBlockingSample;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitConsumerSample;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitFailureSample;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitProducerSample;
 import com.github.toolarium.processing.engine.unit.ProcessingUnitSample;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitSample2;
 import com.github.toolarium.processing.unit.IProcessingUnitContext;
+import com.github.toolarium.processing.unit.IProcessingUnitProgress;
 import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.dto.ProcessingActionStatus;
+import com.github.toolarium.processing.unit.runtime.IProcessingUnitRuntimeTimeMeasurement;
+import com.github.toolarium.processing.unit.runtime.runnable.IProcessingUnitRunnable;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 
@@ -96,8 +130,8 @@ public class TestProcessingExecuter {
         IProcessingExecuter processingExecuter = new ProcessingExecuterImpl().setProcessingExecuterListener(new LogProcessingListener());
         IProcessingUnitContext processingUnitContext = null;
         
-        // execute
-        processingExecuter.execute(list, processingUnitContext);
+        // execute, the processings are independent of each other
+        assertEquals(2, processingExecuter.execute(list, processingUnitContext).size());
         
         while (processingExecuter.getStatus().getNumberOfRunningProcessings() > 0) {
             ThreadUtil.getInstance().sleep(20L);
@@ -153,4 +187,706 @@ public class TestProcessingExecuter {
         assertNotNull(processingExecuterSuspendedContent.getSuspendedStateList());
         assertTrue(processingExecuterSuspendedContent.getSuspendedStateList().isEmpty());
     }
+
+
+    /**
+     * Test the bounded queue with the reject admission policy
+     */
+    @Test
+    public void testAdmissionReject() {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setMaxNumberOfWorkerThreads(1);
+        configuration.setQueueCapacity(1);
+        configuration.setAdmissionPolicy(ProcessingAdmissionPolicy.REJECT);
+        
+        // get a processing executer
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener());
+        processingExecuter.execute("1", "name1", ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename1")));
+        processingExecuter.execute("2", "name2", ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename2")));
+        assertThrows(ProcessingRejectedException.class, () -> {
+            processingExecuter.execute("3", "name3", ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename3")));
+        });
+
+        assertEquals(2, processingExecuter.getStatus().getNumberOfRunningProcessings());
+        assertEquals(1, processingExecuter.getStatus().getNumberOfQueuedProcessings());
+        assertEquals(1, processingExecuter.getStatus().getNumberOfRejectedProcessings());
+        assertEquals(1, processingExecuter.getStatus().getMaxPoolSize());
+
+        while (processingExecuter.getStatus().getNumberOfRunningProcessings() > 0) {
+            ThreadUtil.getInstance().sleep(50L);
+        }
+
+        ProcessingExecuterPersistenceContainer processingExecuterSuspendedContent = processingExecuter.shutdown();
+        assertTrue(processingExecuterSuspendedContent.getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test the bounded queue with the default number of worker threads and the caller runs admission policy
+     */
+    @Test
+    public void testAdmissionCallerRuns() {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setQueueCapacity(1);
+        configuration.setAdmissionPolicy(ProcessingAdmissionPolicy.CALLER_RUNS);
+        
+        // the worker threads of a bounded queue are bounded by the number of processors by default
+        ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener());
+        final int numberOfWorkerThreads = Runtime.getRuntime().availableProcessors();
+        assertEquals(numberOfWorkerThreads, processingExecuter.getStatus().getMaxPoolSize());
+        assertEquals(numberOfWorkerThreads, processingExecuter.getStatus().getCorePoolSize());
+        
+        // the worker threads and the queue are busy, the last processing runs in the caller thread
+        for (int i = 0; i < numberOfWorkerThreads + 1; i++) {
+            processingExecuter.execute("c" + i, "name" + i, ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename" + i)));
+        }
+
+        // the steps of the processing in the caller thread pass the rate limit as well
+        processingExecuter.getProcessingRateLimiter().setMaxNumberOfProcessingUnitCallsPerSecond(ProcessingUnitSample2.class.getName(), 1000);
+        processingExecuter.execute("c" + (numberOfWorkerThreads + 1), "caller", ProcessingUnitSample2.class, List.of(new Parameter(ProcessingUnitSample2.INPUT_FILENAME_PARAMETER.getKey(), "my-caller-file")));
+        assertEquals(10, processingExecuter.getStatus().getProcessingRateLimitStatusList().get(0).getNumberOfCalls());
+
+        assertTrue(processingExecuter.getStatus().getPoolSize() <= numberOfWorkerThreads);
+        assertEquals(1, processingExecuter.getStatus().getNumberOfCallerRunsProcessings());
+        assertEquals(0, processingExecuter.getStatus().getNumberOfRejectedProcessings());
+        assertTrue(processingExecuter.shutdown().getSuspendedStateList().size() <= numberOfWorkerThreads + 1);
+    }
+
+
+    /**
+     * Test the batch submission: the processings are enqueued together, the rejected ones complete exceptionally
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testExecuteAll() throws InterruptedException {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setMaxNumberOfWorkerThreads(1);
+        configuration.setQueueCapacity(3);
+        configuration.setAdmissionPolicy(ProcessingAdmissionPolicy.REJECT);
+        
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener());
+        
+        // the only worker thread is blocked until the batch is submitted
+        ProcessingUnitBlockingSample.LATCH.set(new CountDownLatch(1));
+        ProcessingUnitBlockingSample.NUMBER_OF_CALLS.set(0);
+        processingExecuter.execute("blocking", "blocking", ProcessingUnitBlockingSample.class, new ArrayList<Parameter>());
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        while (ProcessingUnitBlockingSample.NUMBER_OF_CALLS.get() == 0 && System.currentTimeMillis() < deadline) {
+            ThreadUtil.getInstance().sleep(5L);
+        }
+        assertEquals(1, ProcessingUnitBlockingSample.NUMBER_OF_CALLS.get());
+
+        final List<ProcessingUnitReference> referenceList = new ArrayList<ProcessingUnitReference>();
+        for (int i = 0; i < 6; i++) {
+            referenceList.add(new ProcessingUnitReference("b" + i, "batch" + i, ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-batch-file"))));
+        }
+
+        // the ids must be unique within the batch and the running processings
+        final ProcessingUnitReference duplicate = new ProcessingUnitReference("blocking", "duplicate", ProcessingUnitSample.class, new ArrayList<Parameter>());
+        assertThrows(IllegalArgumentException.class, () -> processingExecuter.executeAll(List.of(referenceList.get(0), referenceList.get(0)), null));
+        assertThrows(IllegalArgumentException.class, () -> processingExecuter.executeAll(List.of(referenceList.get(0), duplicate), null));
+
+        final List<IProcessingHandle> handleList = processingExecuter.executeAll(referenceList, null);
+        assertEquals(6, handleList.size());
+        assertEquals("b5", handleList.get(5).getId());
+        ProcessingUnitBlockingSample.LATCH.get().countDown();
+        assertTrue(processingExecuter.awaitAll(60, TimeUnit.SECONDS));
+
+        int numberOfRejectedProcessings = 0;
+        for (IProcessingHandle handle : handleList) {
+            assertTrue(handle.getResult().isDone());
+            if (handle.getResult().isCompletedExceptionally()) {
+                assertThrows(ProcessingRejectedException.class, () -> {
+                    try {
+                        handle.getResult().join();
+                    } catch (CompletionException e) {
+                        throw e.getCause();
+                    }
+                });
+                numberOfRejectedProcessings++;
+            } else {
+                assertFalse(handle.getResult().join().isAborted());
+            }
+        }
+        
+        // the queue took the first three processings at once, the remaining ones are rejected
+        assertEquals(3, numberOfRejectedProcessings);
+        assertEquals(numberOfRejectedProcessings, processingExecuter.getStatus().getNumberOfRejectedProcessings());
+        assertTrue(processingExecuter.executeAll(List.of(), null).isEmpty());
+        assertTrue(processingExecuter.shutdown().getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test the load shedding: a new processing is shed as soon as the queue delay stays above its target
+     */
+    @Test
+    public void testLoadShedding() {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setMaxNumberOfWorkerThreads(1);
+        configuration.setQueueCapacity(10);
+        configuration.setQueueDelayTargetInMilliseconds(10L);
+        configuration.setQueueDelayIntervalInMilliseconds(50L);
+        
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener());
+        final List<Parameter> parameterList = List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-load-shedding-file"));
+        for (int i = 0; i < 4; i++) {
+            processingExecuter.execute("s" + i, "loadShedding" + i, ProcessingUnitSample.class, parameterList);
+        }
+
+        // the third processing waited longer than the target and the interval, the last one is still queued
+        while (!processingExecuter.getStatus().getProcessingLoadSheddingStatus().isOverloaded()) {
+            ThreadUtil.getInstance().sleep(10L);
+        }
+
+        assertThrows(ProcessingRejectedException.class, () -> {
+            processingExecuter.execute("s4", "loadShedding4", ProcessingUnitSample.class, parameterList);
+        });
+        
+        IProcessingLoadSheddingStatus processingLoadSheddingStatus = processingExecuter.getStatus().getProcessingLoadSheddingStatus();
+        assertEquals(1, processingLoadSheddingStatus.getNumberOfShedProcessings());
+        assertTrue(processingLoadSheddingStatus.getMaxQueueDelayInMilliseconds() >= 50);
+
+        // the queue is empty: no overload anymore
+        while (processingExecuter.getStatus().getNumberOfRunningProcessings() > 0) {
+            ThreadUtil.getInstance().sleep(50L);
+        }
+        
+        assertFalse(processingExecuter.getStatus().getProcessingLoadSheddingStatus().isOverloaded());
+        assertTrue(processingExecuter.shutdown().getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test the load shedding without a queue of the worker threads: the processings wait in the queue of their bulkhead
+     */
+    @Test
+    public void testLoadSheddingBulkhead() {
+        ProcessingUnitRegistry.getInstance().register(ProcessingUnitSample2.class, 1, 10);
+        try {
+            ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+            configuration.setQueueDelayTargetInMilliseconds(10L);
+            configuration.setQueueDelayIntervalInMilliseconds(50L);
+            
+            IProcessingExecuter processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener());
+            final List<Parameter> parameterList = List.of(new Parameter(ProcessingUnitSample2.INPUT_FILENAME_PARAMETER.getKey(), "my-load-shedding-file"));
+            for (int i = 0; i < 4; i++) {
+                processingExecuter.execute("sb" + i, "loadSheddingBulkhead" + i, ProcessingUnitSample2.class, parameterList);
+            }
+    
+            // the third processing waited in the bulkhead longer than the target and the interval
+            final long deadline = System.currentTimeMillis() + 30000L;
+            while (!processingExecuter.getStatus().getProcessingLoadSheddingStatus().isOverloaded() && System.currentTimeMillis() < deadline) {
+                ThreadUtil.getInstance().sleep(10L);
+            }
+    
+            assertTrue(processingExecuter.getStatus().getProcessingLoadSheddingStatus().isOverloaded());
+            assertThrows(ProcessingRejectedException.class, () -> {
+                processingExecuter.execute("sb4", "loadSheddingBulkhead4", ProcessingUnitSample2.class, parameterList);
+            });
+            assertEquals(1, processingExecuter.getStatus().getProcessingLoadSheddingStatus().getNumberOfShedProcessings());
+            assertTrue(processingExecuter.shutdown().getSuspendedStateList().size() <= 3);
+        } finally {
+            ProcessingUnitRegistry.getInstance().unregister(ProcessingUnitSample2.class);
+        }
+    }
+
+
+    /**
+     * Test the time slicing: three processings share one worker thread
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testTimeSlice() throws InterruptedException {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setMaxNumberOfWorkerThreads(1);
+        configuration.setTimeSliceInMilliseconds(50L);
+        final List<String> runningIdList = new CopyOnWriteArrayList<String>();
+        final Map<String, Instant> startTimestampMap = new ConcurrentHashMap<String, Instant>();
+        final List<IProcessingResult> processingResultList = new CopyOnWriteArrayList<IProcessingResult>();
+        
+        // get a processing executer
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener() {
+            
+            /**
+             * @see com.github.toolarium.processing.engine.listener.LogProcessingListener#notifyProcessingUnitState(java.lang.String, java.lang.String, java.lang.String, 
+             *      com.github.toolarium.processing.unit.dto.ProcessingActionStatus, com.github.toolarium.processing.unit.dto.ProcessingActionStatus, 
+             *      com.github.toolarium.processing.unit.IProcessingUnitProgress, com.github.toolarium.processing.unit.runtime.IProcessingUnitRuntimeTimeMeasurement, 
+             *      com.github.toolarium.processing.unit.IProcessingUnitContext)
+             */
+            @Override
+            public void notifyProcessingUnitState(String id, String name, String processingUnitClass, ProcessingActionStatus previousProcessingActionStatus, ProcessingActionStatus processingActionStatus,
+                                                  IProcessingUnitProgress processingUnitProgress, IProcessingUnitRuntimeTimeMeasurement runtimeTimeMeasurment, IProcessingUnitContext processingUnitContext) {
+                super.notifyProcessingUnitState(id, name, processingUnitClass, previousProcessingActionStatus, processingActionStatus, processingUnitProgress, runtimeTimeMeasurment, processingUnitContext);
+                if (ProcessingActionStatus.RUNNING.equals(processingActionStatus)) {
+                    runningIdList.add(id);
+                    startTimestampMap.putIfAbsent(id, runtimeTimeMeasurment.getStartTimestamp());
+                }
+            }
+
+            
+            /**
+             * @see com.github.toolarium.processing.engine.listener.LogProcessingListener#notifyProcessEnd(com.github.toolarium.processing.engine.dto.result.IProcessingResult)
+             */
+            @Override
+            public void notifyProcessEnd(IProcessingResult processingResult) {
+                super.notifyProcessEnd(processingResult);
+                processingResultList.add(processingResult);
+            }
+        });
+        final IProcessingUnitRunnable processingUnitRunnable = processingExecuter.execute("1", "name1", ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename1")));
+        processingExecuter.execute("2", "name2", ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename2")));
+        processingExecuter.execute("3", "name3", ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-filename3")));
+        assertEquals(3, processingExecuter.getStatus().getNumberOfRunningProcessings());
+        assertEquals(1, processingExecuter.getStatus().getMaxPoolSize());
+        assertTrue(processingExecuter.awaitAll(60, TimeUnit.SECONDS));
+        assertTrue(processingExecuter.getStatus().getNumberOfTimeSliceSwitches() > 0);
+        
+        // a time slice continues the processing: it is running once and its result covers all time slices
+        assertEquals(3, runningIdList.size());
+        assertEquals(3, processingResultList.size());
+        for (IProcessingResult processingResult : processingResultList) {
+            assertEquals(startTimestampMap.get(processingResult.getId()), processingResult.getStartTimestamp());
+            assertEquals(10, processingResult.getNumberOfProcessedUnits());
+        }
+
+        // the returned runnable follows the processing across its time slices until its end
+        assertEquals("1", processingUnitRunnable.getId());
+        assertEquals(ProcessingActionStatus.ENDED, processingUnitRunnable.getProcessingActionStatus());
+        assertEquals(processingUnitRunnable, processingUnitRunnable);
+        assertEquals(50L, processingExecuter.getStatus().getTimeSliceInMilliseconds());
+        ProcessingExecuterPersistenceContainer processingExecuterSuspendedContent = processingExecuter.shutdown();
+        assertTrue(processingExecuterSuspendedContent.getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test the shutdown: it takes no longer than the suspend of the processings or the shutdown timeout
+     * 
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testShutdown() throws Exception {
+        final Parameter parameter = new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-shutdown-file");
+        
+        // the processings are suspended within their current step
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl().setProcessingExecuterListener(new LogProcessingListener());
+        processingExecuter.execute("s1", "shutdown1", ProcessingUnitSample.class, List.of(parameter));
+        processingExecuter.execute("s2", "shutdown2", ProcessingUnitSample.class, List.of(parameter));
+        ThreadUtil.getInstance().sleep(10L);
+        long start = System.currentTimeMillis();
+        ProcessingExecuterPersistenceContainer processingExecuterSuspendedContent = processingExecuter.shutdown();
+        assertTrue(System.currentTimeMillis() - start < 1000L);
+        assertEquals(2, processingExecuterSuspendedContent.getSuspendedStateList().size());
+        assertEquals(0, processingExecuter.getStatus().getNumberOfRunningProcessings());
+        
+        // the processing is not suspended within the shutdown timeout, it is aborted and its result is completed
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setShutdownTimeoutInMilliseconds(1L);
+        final List<IProcessingResult> processingResultList = new CopyOnWriteArrayList<IProcessingResult>();
+        processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener() {
+            
+            /**
+             * @see com.github.toolarium.processing.engine.listener.LogProcessingListener#notifyProcessEnd(com.github.toolarium.processing.engine.dto.result.IProcessingResult)
+             */
+            @Override
+            public void notifyProcessEnd(IProcessingResult processingResult) {
+                super.notifyProcessEnd(processingResult);
+                processingResultList.add(processingResult);
+            }
+        });
+        final IProcessingHandle processingHandle = processingExecuter.submit("s3", "shutdown3", ProcessingUnitSample.class, List.of(parameter), null);
+        ThreadUtil.getInstance().sleep(10L);
+        start = System.currentTimeMillis();
+        processingExecuter.shutdown();
+        assertTrue(System.currentTimeMillis() - start < 1000L);
+        assertEquals(0, processingExecuter.getStatus().getNumberOfRunningProcessings());
+        assertTrue(processingHandle.getResult().get(10, TimeUnit.SECONDS).isAborted());
+        assertEquals(1, processingResultList.size());
+        assertEquals("s3", processingResultList.get(0).getId());
+    }
+
+
+    /**
+     * Test the bulkhead: the concurrency limit of a processing unit class don't affect other processing unit classes
+     * 
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testBulkhead() throws InterruptedException {
+        ProcessingUnitRegistry.getInstance().register(ProcessingUnitSample2.class, 1, 1);
+        try {
+            final Parameter parameter = new Parameter(ProcessingUnitSample2.INPUT_FILENAME_PARAMETER.getKey(), "my-bulkhead-file");
+            IProcessingExecuter processingExecuter = new ProcessingExecuterImpl().setProcessingExecuterListener(new LogProcessingListener());
+            processingExecuter.execute("b1", "bulkhead1", ProcessingUnitSample2.class, List.of(parameter));
+            processingExecuter.execute("b2", "bulkhead2", ProcessingUnitSample2.class, List.of(parameter));
+            assertThrows(ProcessingRejectedException.class, () -> {
+                processingExecuter.execute("b3", "bulkhead3", ProcessingUnitSample2.class, List.of(parameter));
+            });
+            processingExecuter.execute("b4", "bulkhead4", ProcessingUnitSample.class, List.of(parameter));
+            
+            assertEquals(3, processingExecuter.getStatus().getNumberOfRunningProcessings());
+            assertEquals(1, processingExecuter.getStatus().getProcessingBulkheadStatusList().size());
+            IProcessingBulkheadStatus processingBulkheadStatus = processingExecuter.getStatus().getProcessingBulkheadStatusList().get(0);
+            assertEquals(ProcessingUnitSample2.class.getName(), processingBulkheadStatus.getProcessingUnitClassname());
+            assertEquals(1, processingBulkheadStatus.getNumberOfActiveProcessings());
+            assertEquals(1, processingBulkheadStatus.getNumberOfQueuedProcessings());
+            assertEquals(1, processingBulkheadStatus.getNumberOfRejectedProcessings());
+            
+            assertTrue(processingExecuter.awaitAll(30, TimeUnit.SECONDS));
+            processingBulkheadStatus = processingExecuter.getStatus().getProcessingBulkheadStatusList().get(0);
+            assertEquals(0, processingBulkheadStatus.getNumberOfActiveProcessings());
+            assertEquals(0, processingBulkheadStatus.getNumberOfQueuedProcessings());
+            assertTrue(processingExecuter.shutdown().getSuspendedStateList().isEmpty());
+        } finally {
+            ProcessingUnitRegistry.getInstance().unregister(ProcessingUnitSample2.class);
+        }
+    }
+
+
+    /**
+     * Test the rate limit: a throttled processing gives its worker thread free while it waits for its tokens
+     * 
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testRateLimit() throws Exception {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setMaxNumberOfWorkerThreads(1);
+        configuration.setTimeSliceInMilliseconds(20L);
+        ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener());
+        processingExecuter.getProcessingRateLimiter().setMaxNumberOfProcessingCallsPerSecond("r1", 5);
+        
+        final Parameter parameter = new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-rate-limit-file");
+        IProcessingHandle throttledHandle = processingExecuter.submit("r1", "rateLimit1", ProcessingUnitSample.class, List.of(parameter), null);
+        IProcessingHandle handle = processingExecuter.submit("r2", "rateLimit2", ProcessingUnitSample.class, List.of(parameter), null);
+        
+        // the unthrottled processing shares the only worker thread and ends first
+        assertNotNull(handle.getResult().get(30, TimeUnit.SECONDS));
+        assertFalse(throttledHandle.getResult().isDone());
+        IProcessingRateLimitStatus processingRateLimitStatus = processingExecuter.getStatus().getProcessingRateLimitStatusList().get(0);
+        assertEquals(ProcessingRateLimitScope.PROCESSING, processingRateLimitStatus.getScope());
+        assertTrue(processingRateLimitStatus.getNumberOfCalls() > 0);
+        
+        assertNotNull(throttledHandle.getResult().get(30, TimeUnit.SECONDS));
+        assertTrue(processingExecuter.getStatus().getProcessingRateLimitStatusList().isEmpty());
+        assertTrue(processingExecuter.shutdown().getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test the adaptive concurrency limit: the steps of a processing unit class pass the limit
+     * 
+     * @throws Exception in case of an error
+     */
+    @Test
+    public void testAdaptiveConcurrencyLimit() throws Exception {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setAdaptiveConcurrencyLimit(true);
+        ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener());
+        assertTrue(processingExecuter.getStatus().getProcessingConcurrencyLimitStatusList().isEmpty());
+        
+        final Parameter parameter = new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-concurrency-limit-file");
+        IProcessingHandle handle1 = processingExecuter.submit("c1", "concurrencyLimit1", ProcessingUnitSample.class, List.of(parameter), null);
+        IProcessingHandle handle2 = processingExecuter.submit("c2", "concurrencyLimit2", ProcessingUnitSample.class, List.of(parameter), null);
+        assertNotNull(handle1.getResult().get(30, TimeUnit.SECONDS));
+        assertNotNull(handle2.getResult().get(30, TimeUnit.SECONDS));
+        
+        List<IProcessingConcurrencyLimitStatus> processingConcurrencyLimitStatusList = processingExecuter.getStatus().getProcessingConcurrencyLimitStatusList();
+        assertEquals(1, processingConcurrencyLimitStatusList.size());
+        assertEquals(ProcessingUnitSample.class.getName(), processingConcurrencyLimitStatusList.get(0).getProcessingUnitClassname());
+        assertTrue(processingConcurrencyLimitStatusList.get(0).getNumberOfCalls() > 0);
+        assertTrue(processingConcurrencyLimitStatusList.get(0).getLimit() > 0);
+        assertEquals(0, processingConcurrencyLimitStatusList.get(0).getNumberOfActiveCalls());
+        assertTrue(processingExecuter.shutdown().getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test the timeouts: a processing which is not ended within its timeout is aborted or suspended
+     * 
+     * @throws Exception in case of an error
+     */
+    @Test
+    public void testTimeout() throws Exception {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setTimeoutInMilliseconds(100L);
+        final List<IProcessingResult> processingResultList = new CopyOnWriteArrayList<IProcessingResult>();
+        ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl(configuration).setProcessingExecuterListener(new LogProcessingListener() {
+            
+            /**
+             * @see com.github.toolarium.processing.engine.listener.LogProcessingListener#notifyProcessEnd(com.github.toolarium.processing.engine.dto.result.IProcessingResult)
+             */
+            @Override
+            public void notifyProcessEnd(IProcessingResult processingResult) {
+                super.notifyProcessEnd(processingResult);
+                processingResultList.add(processingResult);
+            }
+        });
+
+        // the own timeout of the processing
+        final Parameter parameter = new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-timeout-file");
+        processingExecuter.execute(new ProcessingExecutionBuilder().id("t1").processingUnitClass(ProcessingUnitSample.class).parameter(parameter).timeout(50L, ProcessingTimeoutPolicy.ABORT).build(), null);
+        
+        // the default timeout
+        IProcessingHandle handle = processingExecuter.submit("t2", "timeout2", ProcessingUnitSample.class, List.of(parameter), null);
+        IProcessingResult processingResult = handle.getResult().get(30, TimeUnit.SECONDS);
+        assertTrue(processingResult.isTimedOut());
+        assertFalse(processingResult.isAborted());
+        assertTrue(processingResult.getNumberOfProcessedUnits() < 10);
+        
+        while (processingResultList.size() < 2) {
+            ThreadUtil.getInstance().sleep(10L);
+        }
+        
+        final IProcessingResult abortedResult = processingResultList.get(0);
+        assertEquals("t1", abortedResult.getId());
+        assertTrue(abortedResult.isTimedOut());
+        assertTrue(abortedResult.isAborted());
+        assertEquals(2, processingExecuter.getStatus().getNumberOfTimedOutProcessings());
+        
+        // the state of the suspended processing is kept
+        assertEquals(1, processingExecuter.shutdown().getSuspendedStateList().size());
+    }
+
+
+    /**
+     * Test the retries: an aborted processing is resumed after its backoff as long as its error is retryable
+     * 
+     * @throws Exception in case of an error
+     */
+    @Test
+    public void testRetry() throws Exception {
+        final List<IProcessingResult> processingResultList = new CopyOnWriteArrayList<IProcessingResult>();
+        ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl().setProcessingExecuterListener(new LogProcessingListener() {
+            
+            /**
+             * @see com.github.toolarium.processing.engine.listener.LogProcessingListener#notifyProcessEnd(com.github.toolarium.processing.engine.dto.result.IProcessingResult)
+             */
+            @Override
+            public void notifyProcessEnd(IProcessingResult processingResult) {
+                super.notifyProcessEnd(processingResult);
+                processingResultList.add(processingResult);
+            }
+        });
+
+        // two transient failures within three attempts
+        ProcessingUnitFailureSample.NUMBER_OF_FAILURES.set(2);
+        processingExecuter.execute(new ProcessingExecutionBuilder().id("r1").processingUnitClass(ProcessingUnitFailureSample.class).retry(new ProcessingRetryPolicy(3, 20L)).build(), null);
+        assertTrue(processingExecuter.awaitAll(30, TimeUnit.SECONDS));
+        assertEquals(1, processingResultList.size());
+        assertFalse(processingResultList.get(0).isAborted());
+        assertEquals(10, processingResultList.get(0).getNumberOfSuccessfulUnits());
+        assertEquals(2, processingExecuter.getStatus().getNumberOfRetries());
+
+        // a non retryable error
+        final ProcessingRetryPolicy retryPolicy = new ProcessingRetryPolicy(3, 20L);
+        retryPolicy.setNonRetryableExceptionList(List.of(IllegalStateException.class.getName()));
+        ProcessingUnitFailureSample.NUMBER_OF_FAILURES.set(1);
+        processingExecuter.execute(new ProcessingExecutionBuilder().id("r2").processingUnitClass(ProcessingUnitFailureSample.class).retry(retryPolicy).build(), null);
+        assertTrue(processingExecuter.awaitAll(30, TimeUnit.SECONDS));
+        assertEquals(2, processingResultList.size());
+        assertTrue(processingResultList.get(1).isAborted());
+        assertEquals(2, processingExecuter.getStatus().getNumberOfRetries());
+        assertThrows(IllegalArgumentException.class, () -> new ProcessingExecutionBuilder().retry(new ProcessingRetryPolicy(0, 20L)));
+        processingExecuter.shutdown();
+    }
+
+
+    /**
+     * Test the partitioned execution: the results of the partitions are merged into one result
+     */
+    @Test
+    public void testPartitions() {
+        List<ProcessingUnitReference> list = new ProcessingExecutionBuilder()
+            .id("partition")
+            .name("partitionName")
+            .processingUnitClass(ProcessingUnitSample.class)
+            .parameter(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-partition-filename"))
+            .partitions(3)
+            .build();
+        
+        // get a processing executer
+        final List<IProcessingResult> processingResultList = new CopyOnWriteArrayList<IProcessingResult>();
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl().setProcessingExecuterListener(new LogProcessingListener() {
+            
+            /**
+             * @see com.github.toolarium.processing.engine.listener.LogProcessingListener#notifyProcessEnd(com.github.toolarium.processing.engine.dto.result.IProcessingResult)
+             */
+            @Override
+            public void notifyProcessEnd(IProcessingResult processingResult) {
+                super.notifyProcessEnd(processingResult);
+                processingResultList.add(processingResult);
+            }
+        });
+        
+        assertEquals(3, processingExecuter.execute(list, null).size());
+        while (processingExecuter.getStatus().getNumberOfRunningProcessings() > 0 || processingResultList.isEmpty()) {
+            ThreadUtil.getInstance().sleep(50L);
+        }
+
+        assertEquals(1, processingResultList.size());
+        assertEquals("partition", processingResultList.get(0).getId());
+        assertEquals(30, processingResultList.get(0).getNumberOfProcessedUnits());
+        assertFalse(processingResultList.get(0).isAborted());
+        
+        ProcessingExecuterPersistenceContainer processingExecuterSuspendedContent = processingExecuter.shutdown();
+        assertTrue(processingExecuterSuspendedContent.getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test the dependencies: B and C depend on A, D depends on B and C
+     */
+    @Test
+    public void testDependsOn() {
+        final String a = "A";
+        final String b = "B";
+        final String c = "C";
+        final String d = "D";
+        final Parameter parameter = new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-dag-filename");
+        List<ProcessingUnitReference> list = new ProcessingExecutionBuilder()
+            .id(a).processingUnitClass(ProcessingUnitSample.class).parameter(parameter)
+            .newProcessingUnit()
+            .id(b).processingUnitClass(ProcessingUnitSample.class).parameter(parameter).dependsOn(a)
+            .newProcessingUnit()
+            .id(c).processingUnitClass(ProcessingUnitSample.class).parameter(parameter).dependsOn(a)
+            .newProcessingUnit()
+            .id(d).processingUnitClass(ProcessingUnitSample.class).parameter(parameter).dependsOn(b, c)
+            .build();
+        
+        // get a processing executer, the dependencies are only supported by a group
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl().setProcessingExecuterListener(new LogProcessingListener());
+        assertThrows(IllegalArgumentException.class, () -> processingExecuter.execute(list, null));
+        IProcessingGroup processingGroup = processingExecuter.executeGroup(list, null);
+        assertEquals(List.of(a), processingGroup.getStartedIdList());
+        
+        while (!processingGroup.isEnded()) {
+            ThreadUtil.getInstance().sleep(50L);
+        }
+
+        Map<String, IProcessingResult> resultMap = processingGroup.getProcessingResultList().stream().collect(Collectors.toMap(IProcessingResult::getId, r -> r));
+        assertEquals(4, resultMap.size());
+        assertTrue(processingGroup.getSkippedIdList().isEmpty());
+        assertFalse(resultMap.get(b).getStartTimestamp().isBefore(resultMap.get(a).getStopTimestamp()));
+        assertFalse(resultMap.get(c).getStartTimestamp().isBefore(resultMap.get(a).getStopTimestamp()));
+        assertFalse(resultMap.get(d).getStartTimestamp().isBefore(resultMap.get(b).getStopTimestamp()));
+        assertFalse(resultMap.get(d).getStartTimestamp().isBefore(resultMap.get(c).getStopTimestamp()));
+
+        // cyclic dependency
+        final List<ProcessingUnitReference> cyclicList = new ProcessingExecutionBuilder()
+            .id("X").processingUnitClass(ProcessingUnitSample.class).parameter(parameter).dependsOn("Y")
+            .newProcessingUnit()
+            .id("Y").processingUnitClass(ProcessingUnitSample.class).parameter(parameter).dependsOn("X")
+            .build();
+        assertThrows(IllegalArgumentException.class, () -> {
+            processingExecuter.executeGroup(cyclicList, null);
+        });
+        
+        ProcessingExecuterPersistenceContainer processingExecuterSuspendedContent = processingExecuter.shutdown();
+        assertTrue(processingExecuterSuspendedContent.getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test a pipeline: the consumer gets all records of the producer; in case the consumer aborts, the producer is ended 
+     * instead of waiting for a free slot of the channel forever
+     * 
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testPipeline() throws InterruptedException {
+        final String producer = "producer";
+        final String consumer = "consumer";
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl().setProcessingExecuterListener(new LogProcessingListener());
+        ProcessingUnitProducerSample.CHANNEL_REGISTRY.set(processingExecuter.getProcessingChannelRegistry());
+        ProcessingUnitConsumerSample.IS_FAILING.set(false);
+        IProcessingGroup processingGroup = processingExecuter.executeGroup(new ProcessingExecutionBuilder()
+            .id(producer).processingUnitClass(ProcessingUnitProducerSample.class).outputChannel(ProcessingUnitProducerSample.CHANNEL_NAME, 2)
+            .newProcessingUnit()
+            .id(consumer).processingUnitClass(ProcessingUnitConsumerSample.class).inputChannel(ProcessingUnitProducerSample.CHANNEL_NAME)
+            .build(), null);
+        assertTrue(processingGroup.await(60, TimeUnit.SECONDS));
+        Map<String, IProcessingResult> resultMap = processingGroup.getProcessingResultList().stream().collect(Collectors.toMap(IProcessingResult::getId, r -> r));
+        assertFalse(resultMap.get(producer).isAborted());
+        assertFalse(resultMap.get(consumer).isAborted());
+        assertEquals(10, resultMap.get(consumer).getNumberOfProcessedUnits());
+        assertNull(processingExecuter.getProcessingChannelRegistry().getChannel(ProcessingUnitProducerSample.CHANNEL_NAME));
+
+        // the consumer aborts after its first record
+        ProcessingUnitConsumerSample.IS_FAILING.set(true);
+        processingGroup = processingExecuter.executeGroup(new ProcessingExecutionBuilder()
+            .id(producer + 2).processingUnitClass(ProcessingUnitProducerSample.class).outputChannel(ProcessingUnitProducerSample.CHANNEL_NAME, 1)
+            .newProcessingUnit()
+            .id(consumer + 2).processingUnitClass(ProcessingUnitConsumerSample.class).inputChannel(ProcessingUnitProducerSample.CHANNEL_NAME)
+            .build(), null);
+        assertTrue(processingGroup.await(60, TimeUnit.SECONDS));
+        resultMap = processingGroup.getProcessingResultList().stream().collect(Collectors.toMap(IProcessingResult::getId, r -> r));
+        assertTrue(resultMap.get(consumer + 2).isAborted());
+        assertTrue(resultMap.get(producer + 2).isAborted());
+        ProcessingUnitConsumerSample.IS_FAILING.set(false);
+        
+        assertTrue(processingExecuter.shutdown().getSuspendedStateList().isEmpty());
+        assertTrue(processingExecuter.getProcessingChannelRegistry().getStatusList().isEmpty());
+    }
+
+
+    /**
+     * Test the group handle: await, cancel, suspend, fail fast and the aggregated result
+     * 
+     * @throws Exception in case of an error
+     */
+    @Test
+    public void testGroup() throws Exception {
+        final Parameter parameter = new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-group-filename");
+        IProcessingExecuter processingExecuter = new ProcessingExecuterImpl().setProcessingExecuterListener(new LogProcessingListener());
+
+        // the aggregated result
+        IProcessingGroup processingGroup = processingExecuter.executeGroup(new ProcessingExecutionBuilder()
+                .id("A").processingUnitClass(ProcessingUnitSample.class).parameter(parameter)
+                .newProcessingUnit()
+                .id("B").processingUnitClass(ProcessingUnitSample.class).parameter(parameter)
+                .build(), null);
+        assertTrue(processingGroup.await(30, TimeUnit.SECONDS));
+        IProcessingResult groupResult = processingGroup.getResult().get();
+        assertEquals(processingGroup.getId(), groupResult.getId());
+        assertEquals(20, groupResult.getNumberOfSuccessfulUnits());
+        assertFalse(groupResult.isAborted());
+
+        // cancel: the running processing is aborted, its successor is skipped
+        processingGroup = processingExecuter.executeGroup(new ProcessingExecutionBuilder()
+                .id("C").processingUnitClass(ProcessingUnitSample.class).parameter(parameter)
+                .newProcessingUnit()
+                .id("D").processingUnitClass(ProcessingUnitSample.class).parameter(parameter).dependsOn("C")
+                .build(), null);
+        processingGroup.cancel();
+        assertTrue(processingGroup.await(30, TimeUnit.SECONDS));
+        assertTrue(processingGroup.getResult().get().isAborted());
+        assertEquals(List.of("D"), processingGroup.getSkippedIdList());
+        assertTrue(processingGroup.getProcessingResultList().get(0).isAborted());
+
+        // fail fast: the failed processing cancels the running one
+        ProcessingUnitFailureSample.NUMBER_OF_FAILURES.set(1);
+        processingGroup = processingExecuter.executeGroup(new ProcessingExecutionBuilder()
+                .id("E").processingUnitClass(ProcessingUnitFailureSample.class)
+                .newProcessingUnit()
+                .id("F").processingUnitClass(ProcessingUnitSample.class).parameter(parameter)
+                .failFast()
+                .build(), null);
+        assertTrue(processingGroup.isFailFast());
+        assertTrue(processingGroup.await(30, TimeUnit.SECONDS));
+        assertTrue(processingGroup.getResult().get().isAborted());
+        assertTrue(processingGroup.getResult().get().getNumberOfSuccessfulUnits() < 10);
+        
+        // suspend: the suspended state is kept for the shutdown
+        processingGroup = processingExecuter.executeGroup(new ProcessingExecutionBuilder()
+                .id("G").processingUnitClass(ProcessingUnitSample.class).parameter(parameter)
+                .build(), null);
+        processingGroup.suspend();
+        assertTrue(processingGroup.await(30, TimeUnit.SECONDS));
+        assertFalse(processingGroup.getResult().get().isAborted());
+        assertEquals(1, processingExecuter.shutdown().getSuspendedStateList().size());
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * ProcessingConcurrencyLimitTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.common.util.ThreadUtil;
+import com.github.toolarium.processing.engine.dto.concurrency.IProcessingConcurrencyLimitStatus;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingConcurrencyLimit}.
+ *
+ * @author patrick
+ */
+public class ProcessingConcurrencyLimitTest {
+    private static final String CLASSNAME = "com.github.toolarium.processing.engine.unit.ProcessingUnitSample";
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+
+    /**
+     * Test the additive increase and the multiplicative decrease
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testAimd() throws InterruptedException {
+        ProcessingConcurrencyLimit concurrencyLimit = new ProcessingConcurrencyLimit(CLASSNAME, 100);
+        assertEquals(20, concurrencyLimit.getLimit());
+
+        // the limit is used up and the latency is stable
+        for (int i = 0; i < concurrencyLimit.getLimit(); i++) {
+            concurrencyLimit.acquire();
+        }
+
+        runSteps(concurrencyLimit, 200, MILLISECOND);
+        final int increasedLimit = concurrencyLimit.getLimit();
+        assertTrue(increasedLimit > 20, "Expected increased limit: " + increasedLimit);
+        assertEquals(0, concurrencyLimit.getStatus().getNumberOfLimitDecreases());
+
+        // the latency rises
+        runSteps(concurrencyLimit, 50, 5 * MILLISECOND);
+        IProcessingConcurrencyLimitStatus status = concurrencyLimit.getStatus();
+        assertTrue(status.getLimit() < increasedLimit, "Expected decreased limit: " + status.getLimit());
+        assertTrue(status.getNumberOfLimitDecreases() > 0);
+        assertTrue(status.getShortTermLatencyInMicroseconds() > status.getLongTermLatencyInMicroseconds());
+        assertEquals(250, status.getNumberOfCalls());
+        assertEquals(100, status.getMaxLimit());
+    }
+
+
+    /**
+     * Test a step waits as long as the limit is reached
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testWait() throws InterruptedException {
+        ProcessingConcurrencyLimit concurrencyLimit = new ProcessingConcurrencyLimit(CLASSNAME, 1);
+        assertEquals(1, concurrencyLimit.getLimit());
+        concurrencyLimit.acquire();
+
+        final AtomicBoolean acquired = new AtomicBoolean(false);
+        Thread thread = new Thread(() -> {
+            try {
+                concurrencyLimit.acquire();
+                acquired.set(true);
+            } catch (InterruptedException e) {
+                // NOP
+            }
+        });
+        thread.start();
+
+        while (concurrencyLimit.getStatus().getNumberOfWaitingCalls() == 0) {
+            ThreadUtil.getInstance().sleep(5L);
+        }
+        assertEquals(1, concurrencyLimit.getStatus().getNumberOfActiveCalls());
+        assertTrue(!acquired.get());
+
+        concurrencyLimit.release(MILLISECOND);
+        while (!acquired.get()) {
+            ThreadUtil.getInstance().sleep(5L);
+        }
+        assertEquals(1, concurrencyLimit.getStatus().getNumberOfActiveCalls());
+        assertEquals(0, concurrencyLimit.getStatus().getNumberOfWaitingCalls());
+
+        concurrencyLimit.release(MILLISECOND);
+        assertEquals(0, concurrencyLimit.getStatus().getNumberOfActiveCalls());
+        assertEquals(1, concurrencyLimit.getLimit());
+    }
+
+
+    /**
+     * Test an interrupted step gets no permit
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testInterrupt() throws InterruptedException {
+        ProcessingConcurrencyLimit concurrencyLimit = new ProcessingConcurrencyLimit(CLASSNAME, 1);
+        concurrencyLimit.acquire();
+
+        final AtomicBoolean interrupted = new AtomicBoolean(false);
+        Thread thread = new Thread(() -> {
+            try {
+                concurrencyLimit.acquire();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        thread.start();
+
+        while (concurrencyLimit.getStatus().getNumberOfWaitingCalls() == 0) {
+            ThreadUtil.getInstance().sleep(5L);
+        }
+
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(60));
+        assertTrue(interrupted.get());
+        assertEquals(1, concurrencyLimit.getStatus().getNumberOfActiveCalls());
+        assertEquals(0, concurrencyLimit.getStatus().getNumberOfWaitingCalls());
+
+        concurrencyLimit.release(MILLISECOND);
+        assertEquals(0, concurrencyLimit.getStatus().getNumberOfActiveCalls());
+    }
+
+
+    /**
+     * Run steps in a steady state: the ended steps are replaced by new ones as long as the limit allows
+     *
+     * @param concurrencyLimit the concurrency limit
+     * @param numberOfSteps the number of steps
+     * @param latency the latency of the steps in nanoseconds
+     * @throws InterruptedException In case of interruption
+     */
+    private void runSteps(ProcessingConcurrencyLimit concurrencyLimit, int numberOfSteps, long latency) throws InterruptedException {
+        for (int i = 0; i < numberOfSteps; i++) {
+            concurrencyLimit.release(latency);
+            while (concurrencyLimit.getStatus().getNumberOfActiveCalls() < concurrencyLimit.getLimit()) {
+                concurrencyLimit.acquire();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * ProcessingCronExpressionTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingCronExpression}.
+ *
+ * @author patrick
+ */
+public class ProcessingCronExpressionTest {
+    // a wednesday
+    private static final ZonedDateTime START = ZonedDateTime.of(2025, 1, 15, 10, 7, 30, 0, ZoneOffset.UTC);
+
+
+    /**
+     * Test the next execution time
+     */
+    @Test
+    public void testNextExecutionTime() {
+        assertEquals(START.withMinute(8).withSecond(0), next("* * * * *"));
+        assertEquals(START.withMinute(15).withSecond(0), next("*/15 * * * *"));
+        assertEquals(START.withHour(11).withMinute(0).withSecond(0), next("0 * * * *"));
+        assertEquals(ZonedDateTime.of(2025, 1, 16, 2, 30, 0, 0, ZoneOffset.UTC), next("30 2 * * *"));
+        assertEquals(ZonedDateTime.of(2025, 1, 20, 8, 0, 0, 0, ZoneOffset.UTC), next("0 8-18/2 * * MON"));
+        assertEquals(ZonedDateTime.of(2025, 1, 19, 0, 0, 0, 0, ZoneOffset.UTC), next("0 0 * * 7"));
+        assertEquals(ZonedDateTime.of(2025, 2, 1, 0, 0, 0, 0, ZoneOffset.UTC), next("@monthly"));
+        assertEquals(ZonedDateTime.of(2025, 3, 5, 12, 0, 0, 0, ZoneOffset.UTC), next("0 12 5 mar,jun *"));
+        assertEquals(ZonedDateTime.of(2028, 2, 29, 0, 0, 0, 0, ZoneOffset.UTC), next("0 0 29 2 *"));
+
+        // day of month or day of week: the 20th or the next friday
+        assertEquals(ZonedDateTime.of(2025, 1, 17, 0, 0, 0, 0, ZoneOffset.UTC), next("0 0 20 * FRI"));
+    }
+
+
+    /**
+     * Test the invalid expressions
+     */
+    @Test
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new ProcessingCronExpression(null));
+        assertThrows(IllegalArgumentException.class, () -> new ProcessingCronExpression("* * * *"));
+        assertThrows(IllegalArgumentException.class, () -> new ProcessingCronExpression("60 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> new ProcessingCronExpression("* * 0 * *"));
+        assertThrows(IllegalArgumentException.class, () -> new ProcessingCronExpression("5-1 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> new ProcessingCronExpression("* * * FOO *"));
+        assertThrows(IllegalArgumentException.class, () -> new ProcessingCronExpression("*/0 * * * *"));
+    }
+
+
+    /**
+     * Get the next execution time after the start
+     *
+     * @param expression the cron expression
+     * @return the next execution time
+     */
+    private ZonedDateTime next(String expression) {
+        return new ProcessingCronExpression(expression).getNextExecutionTime(START);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * ProcessingLoadShedderTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.processing.engine.dto.loadshedding.IProcessingLoadSheddingStatus;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingLoadShedder}.
+ *
+ * @author patrick
+ */
+public class ProcessingLoadShedderTest {
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+
+    /**
+     * Test the overload detection: the queue delay has to stay above the target for a whole interval
+     */
+    @Test
+    public void testOverload() {
+        ProcessingLoadShedder loadShedder = new ProcessingLoadShedder(10L, 100L, 0);
+        assertTrue(loadShedder.isActive());
+
+        // a short burst is not shed
+        final long now = 1_000_000_000L;
+        loadShedder.dequeued(20 * MILLISECOND, false, now);
+        loadShedder.dequeued(20 * MILLISECOND, false, now + 50 * MILLISECOND);
+        assertFalse(loadShedder.isOverloaded());
+        assertTrue(loadShedder.admit(0));
+
+        // a standing queue
+        loadShedder.dequeued(30 * MILLISECOND, false, now + 100 * MILLISECOND);
+        assertTrue(loadShedder.isOverloaded());
+        assertFalse(loadShedder.admit(0));
+        assertFalse(loadShedder.admit(-1));
+        assertTrue(loadShedder.admit(1));
+
+        IProcessingLoadSheddingStatus status = loadShedder.getStatus();
+        assertTrue(status.isOverloaded());
+        assertEquals(2, status.getNumberOfShedProcessings());
+        assertEquals(10, status.getQueueDelayTargetInMilliseconds());
+        assertEquals(20, status.getQueueDelayP50InMilliseconds());
+        assertEquals(30, status.getQueueDelayP99InMilliseconds());
+        assertEquals(30, status.getMaxQueueDelayInMilliseconds());
+
+        // the queue delay drops below the target
+        loadShedder.dequeued(5 * MILLISECOND, false, now + 150 * MILLISECOND);
+        assertFalse(loadShedder.isOverloaded());
+        assertTrue(loadShedder.admit(0));
+
+        // an empty queue ends the overload
+        loadShedder.dequeued(20 * MILLISECOND, false, now + 200 * MILLISECOND);
+        loadShedder.dequeued(20 * MILLISECOND, false, now + 300 * MILLISECOND);
+        assertTrue(loadShedder.isOverloaded());
+        loadShedder.dequeued(20 * MILLISECOND, true, now + 310 * MILLISECOND);
+        assertFalse(loadShedder.isOverloaded());
+    }
+
+
+    /**
+     * Test the disabled load shedding
+     */
+    @Test
+    public void testDisabled() {
+        ProcessingLoadShedder loadShedder = new ProcessingLoadShedder(0L, 100L, 0);
+        assertFalse(loadShedder.isActive());
+
+        final long now = 1_000_000_000L;
+        for (int i = 0; i < 10; i++) {
+            loadShedder.dequeued(1000 * MILLISECOND, false, now + i * 1000 * MILLISECOND);
+        }
+
+        assertFalse(loadShedder.isOverloaded());
+        assertTrue(loadShedder.admit(0));
+        assertEquals(0, loadShedder.getStatus().getNumberOfShedProcessings());
+        assertEquals(1000, loadShedder.getStatus().getQueueDelayP90InMilliseconds());
+    }
+}
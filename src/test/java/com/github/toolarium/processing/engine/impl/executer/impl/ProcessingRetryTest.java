@@ -0,0 +1,71 @@
+/*
+ * ProcessingRetryTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.processing.engine.dto.retry.ProcessingRetryPolicy;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitSample;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingRetry}.
+ *
+ * @author patrick
+ */
+public class ProcessingRetryTest {
+
+    /**
+     * Test the exponential backoff incl. its jitter
+     */
+    @Test
+    public void testBackoff() {
+        ProcessingRetryPolicy retryPolicy = new ProcessingRetryPolicy(10, 100L);
+        retryPolicy.setMaxBackoffInMilliseconds(1000L);
+        ProcessingRetry processingRetry = new ProcessingRetry("id", "name", ProcessingUnitSample.class, null, null, retryPolicy);
+
+        assertEquals(100L, processingRetry.getBackoffInMilliseconds(1, 0.0));
+        assertEquals(200L, processingRetry.getBackoffInMilliseconds(2, 0.0));
+        assertEquals(800L, processingRetry.getBackoffInMilliseconds(4, 0.0));
+        assertEquals(1000L, processingRetry.getBackoffInMilliseconds(5, 0.0));
+        assertEquals(1000L, processingRetry.getBackoffInMilliseconds(50, 0.0));
+
+        // the jitter reduces the backoff up to its half
+        assertEquals(50L, processingRetry.getBackoffInMilliseconds(1, 1.0));
+        assertEquals(150L, processingRetry.getBackoffInMilliseconds(2, 0.5));
+    }
+
+
+    /**
+     * Test the classification of the errors
+     */
+    @Test
+    public void testRetryable() {
+        ProcessingRetryPolicy retryPolicy = new ProcessingRetryPolicy();
+        ProcessingRetry processingRetry = new ProcessingRetry("id", "name", ProcessingUnitSample.class, null, null, retryPolicy);
+        assertTrue(processingRetry.isRetryable(null));
+        assertTrue(processingRetry.isRetryable(new IllegalStateException()));
+
+        // the causes and the super classes are classified
+        retryPolicy.setRetryableExceptionList(List.of(IOException.class.getName()));
+        assertFalse(processingRetry.isRetryable(null));
+        assertFalse(processingRetry.isRetryable(new IllegalStateException()));
+        assertTrue(processingRetry.isRetryable(new UncheckedIOException(new IOException())));
+        assertTrue(processingRetry.isRetryable(new FileNotFoundException()));
+
+        // a non retryable error wins
+        retryPolicy.setNonRetryableExceptionList(List.of(FileNotFoundException.class.getName()));
+        assertFalse(processingRetry.isRetryable(new RuntimeException(new FileNotFoundException())));
+        assertTrue(processingRetry.isRetryable(new IOException()));
+    }
+}
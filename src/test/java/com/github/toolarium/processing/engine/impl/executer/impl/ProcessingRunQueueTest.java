@@ -0,0 +1,123 @@
+/*
+ * ProcessingRunQueueTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.common.util.ThreadUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingRunQueue}.
+ *
+ * @author patrick
+ */
+public class ProcessingRunQueueTest {
+
+    /**
+     * Test the order by priority, the same priority is first in first out
+     */
+    @Test
+    public void testPriority() {
+        final Map<Runnable, Integer> priorityMap = new ConcurrentHashMap<Runnable, Integer>();
+        final Runnable bulk1 = () -> { };
+        final Runnable bulk2 = () -> { };
+        final Runnable interactive = () -> { };
+        priorityMap.put(bulk1, -1);
+        priorityMap.put(bulk2, -1);
+        priorityMap.put(interactive, 5);
+
+        ProcessingRunQueue queue = new ProcessingRunQueue(2, 0L, r -> priorityMap.getOrDefault(r, 0));
+        assertTrue(queue.offer(bulk1));
+        assertTrue(queue.offer(bulk2));
+        assertFalse(queue.offer(interactive));
+        queue.requeue(interactive);
+        assertEquals(3, queue.size());
+
+        assertEquals(interactive, queue.poll());
+        assertEquals(bulk1, queue.poll());
+        assertEquals(bulk2, queue.poll());
+    }
+
+
+    /**
+     * Test the aging: a processing which waits long enough is preferred to a processing with a higher priority
+     */
+    @Test
+    public void testAging() {
+        final Map<Runnable, Integer> priorityMap = new ConcurrentHashMap<Runnable, Integer>();
+        final Runnable bulk = () -> { };
+        final Runnable interactive = () -> { };
+        priorityMap.put(bulk, 0);
+        priorityMap.put(interactive, 1);
+
+        ProcessingRunQueue queue = new ProcessingRunQueue(10, 10L, r -> priorityMap.getOrDefault(r, 0));
+        assertTrue(queue.offer(bulk));
+        ThreadUtil.getInstance().sleep(50L);
+        assertTrue(queue.offer(interactive));
+        assertEquals(bulk, queue.poll());
+        assertEquals(interactive, queue.poll());
+
+        // without waiting time the priority counts
+        assertTrue(queue.offer(bulk));
+        assertTrue(queue.offer(interactive));
+        assertEquals(interactive, queue.poll());
+        assertEquals(bulk, queue.poll());
+    }
+
+
+    /**
+     * Test the fair share: the tenants get the worker threads in relation to their weight, independent of the number of waiting processings 
+     */
+    @Test
+    public void testFairShare() {
+        final ProcessingTenant tenantA = new ProcessingTenant("A", 2);
+        final ProcessingTenant tenantB = new ProcessingTenant("B", 1);
+        final Map<Runnable, ProcessingTenant> tenantMap = new ConcurrentHashMap<Runnable, ProcessingTenant>();
+        final List<Runnable> listA = new ArrayList<Runnable>();
+        final List<Runnable> listB = new ArrayList<Runnable>();
+        for (int i = 0; i < 100; i++) {
+            final Runnable a = () -> { };
+            tenantMap.put(a, tenantA);
+            listA.add(a);
+        }
+        
+        for (int i = 0; i < 3; i++) {
+            final Runnable b = () -> { };
+            tenantMap.put(b, tenantB);
+            listB.add(b);
+        }
+
+        ProcessingRunQueue queue = new ProcessingRunQueue(Integer.MAX_VALUE, 0L, null, tenantMap::get);
+        listA.forEach(queue::offer);
+        listB.forEach(queue::offer);
+        assertEquals(103, queue.size());
+        assertEquals(100, tenantA.getStatus().getNumberOfQueuedProcessings());
+
+        StringBuilder order = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            order.append(tenantMap.get(queue.poll()).getName());
+        }
+        assertEquals("AABAABAABAAA", order.toString());
+        assertEquals(9, tenantA.getStatus().getNumberOfScheduledProcessings());
+        assertEquals(3, tenantB.getStatus().getNumberOfScheduledProcessings());
+        
+        // a tenant which comes back joins the round after the tenant which has still a share of the current round
+        assertTrue(queue.remove(listA.get(50)));
+        queue.requeue(listB.get(0));
+        assertEquals(tenantA, tenantMap.get(queue.poll()));
+        assertEquals(tenantB, tenantMap.get(queue.poll()));
+        assertEquals(89, queue.size());
+        assertEquals(89, tenantA.getStatus().getNumberOfQueuedProcessings());
+    }
+}
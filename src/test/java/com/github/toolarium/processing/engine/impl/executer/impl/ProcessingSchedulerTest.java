@@ -0,0 +1,161 @@
+/*
+ * ProcessingSchedulerTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.common.util.ThreadUtil;
+import com.github.toolarium.processing.engine.IProcessingSchedule;
+import com.github.toolarium.processing.engine.dto.schedule.IProcessingSchedulerStatus;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingScheduleReference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingScheduler}.
+ *
+ * @author patrick
+ */
+public class ProcessingSchedulerTest {
+    private static final String CLASSNAME = "com.github.toolarium.processing.engine.unit.ProcessingUnitSample";
+
+
+    /**
+     * Test the delayed and the fixed rate schedules
+     */
+    @Test
+    public void testSchedule() {
+        final List<String> executionList = new CopyOnWriteArrayList<String>();
+        final ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl();
+        ProcessingScheduler processingScheduler = processingExecuter.getProcessingScheduler();
+        processingScheduler.setProcessingScheduleConsumer(p -> executionList.add(p.getName()));
+
+        ProcessingScheduleReference delayed = new ProcessingScheduleReference(null, "delayed", CLASSNAME, null);
+        delayed.setNextExecutionTime(System.currentTimeMillis() + 50L);
+        final IProcessingSchedule delayedSchedule = processingScheduler.schedule(delayed);
+
+        ProcessingScheduleReference fixedRate = new ProcessingScheduleReference(null, "fixedRate", CLASSNAME, null);
+        fixedRate.setNextExecutionTime(System.currentTimeMillis() + 20L);
+        fixedRate.setPeriodInMilliseconds(30L);
+        IProcessingSchedule fixedRateSchedule = processingScheduler.schedule(fixedRate);
+        assertEquals(2, processingScheduler.getScheduleList().size());
+
+        while (!delayedSchedule.isDone() || fixedRateSchedule.getNumberOfExecutions() < 5) {
+            ThreadUtil.getInstance().sleep(10L);
+        }
+
+        assertEquals(1, delayedSchedule.getNumberOfExecutions());
+        assertNull(delayedSchedule.getNextExecutionTime());
+        assertFalse(fixedRateSchedule.isDone());
+        assertNotNull(fixedRateSchedule.getNextExecutionTime());
+
+        assertTrue(fixedRateSchedule.cancel());
+        assertFalse(fixedRateSchedule.cancel());
+        assertTrue(fixedRateSchedule.isDone());
+        assertEquals(0, processingScheduler.getScheduleList().size());
+
+        IProcessingSchedulerStatus status = processingScheduler.getStatus();
+        assertTrue(status.getNumberOfExecutions() >= 6);
+        assertEquals(1, executionList.stream().filter("delayed"::equals).count());
+        assertTrue(status.getMaxFiringJitterInMicroseconds() >= status.getFiringJitterP50InMicroseconds());
+        assertTrue(processingScheduler.shutdown().isEmpty());
+        processingExecuter.shutdown();
+    }
+
+
+    /**
+     * Test the timer thread is not blocked by the start of a processing
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testBlockingConsumer() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl();
+        ProcessingScheduler processingScheduler = processingExecuter.getProcessingScheduler();
+        processingScheduler.setProcessingScheduleConsumer(p -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        ProcessingScheduleReference fixedRate = new ProcessingScheduleReference(null, "fixedRate", CLASSNAME, null);
+        fixedRate.setNextExecutionTime(System.currentTimeMillis() + 10L);
+        fixedRate.setPeriodInMilliseconds(20L);
+        IProcessingSchedule fixedRateSchedule = processingScheduler.schedule(fixedRate);
+        final long firstExecutionTime = fixedRate.getNextExecutionTime();
+
+        // the schedule keeps firing while the first start blocks
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (fixedRateSchedule.getNextExecutionTime().toEpochMilli() < firstExecutionTime + 5 * 20L && System.currentTimeMillis() < deadline) {
+            ThreadUtil.getInstance().sleep(10L);
+        }
+
+        assertTrue(fixedRateSchedule.getNextExecutionTime().toEpochMilli() >= firstExecutionTime + 5 * 20L);
+        assertEquals(0, processingScheduler.getStatus().getNumberOfExecutions());
+        latch.countDown();
+        assertEquals(1, processingScheduler.shutdown().size());
+        processingExecuter.shutdown();
+    }
+
+
+    /**
+     * Test the pending schedules of a shutdown and their resume: the missed execution times are skipped
+     */
+    @Test
+    public void testShutdownAndResume() {
+        final ProcessingExecuterImpl processingExecuter = new ProcessingExecuterImpl();
+        ProcessingScheduler processingScheduler = processingExecuter.getProcessingScheduler();
+        ProcessingScheduleReference fixedRate = new ProcessingScheduleReference(null, "fixedRate", CLASSNAME, null);
+        fixedRate.setNextExecutionTime(System.currentTimeMillis() + 60_000L);
+        fixedRate.setPeriodInMilliseconds(1000L);
+        processingScheduler.schedule(fixedRate);
+
+        ProcessingScheduleReference cron = new ProcessingScheduleReference(null, "cron", CLASSNAME, null);
+        cron.setCronExpression("0 2 * * *");
+        IProcessingSchedule cronSchedule = processingScheduler.schedule(cron);
+        assertTrue(cronSchedule.getNextExecutionTime().toEpochMilli() > System.currentTimeMillis());
+
+        List<ProcessingScheduleReference> pendingList = processingScheduler.shutdown();
+        assertEquals(2, pendingList.size());
+        assertTrue(cronSchedule.isDone());
+        assertThrows(IllegalStateException.class, () -> processingScheduler.schedule(cron));
+
+        // resume after a downtime of 10 periods
+        final List<String> executionList = new CopyOnWriteArrayList<String>();
+        final ProcessingExecuterImpl resumedProcessingExecuter = new ProcessingExecuterImpl();
+        ProcessingScheduler resumedProcessingScheduler = resumedProcessingExecuter.getProcessingScheduler();
+        resumedProcessingScheduler.setProcessingScheduleConsumer(p -> executionList.add(p.getId()));
+        fixedRate.setNextExecutionTime(System.currentTimeMillis() - 10_500L);
+        final IProcessingSchedule fixedRateSchedule = resumedProcessingScheduler.schedule(fixedRate);
+        resumedProcessingScheduler.schedule(cron);
+        assertThrows(IllegalArgumentException.class, () -> resumedProcessingScheduler.schedule(cron));
+
+        while (resumedProcessingScheduler.getStatus().getNumberOfSkippedExecutions() < 10 || fixedRateSchedule.getNumberOfExecutions() < 1) {
+            ThreadUtil.getInstance().sleep(10L);
+        }
+
+        assertEquals(List.of(fixedRate.getId()), executionList);
+        assertEquals(1, fixedRateSchedule.getNumberOfExecutions());
+        assertEquals(10, resumedProcessingScheduler.getStatus().getNumberOfSkippedExecutions());
+        assertTrue(fixedRateSchedule.getNextExecutionTime().toEpochMilli() > System.currentTimeMillis());
+        assertEquals(2, resumedProcessingScheduler.getStatus().getNumberOfSchedules());
+        assertEquals(2, resumedProcessingScheduler.shutdown().size());
+        processingExecuter.shutdown();
+        resumedProcessingExecuter.shutdown();
+    }
+}
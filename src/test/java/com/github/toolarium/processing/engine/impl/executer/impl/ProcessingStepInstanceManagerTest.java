@@ -0,0 +1,89 @@
+/*
+ * ProcessingStepInstanceManagerTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.processing.engine.unit.ProcessingUnitSample;
+import com.github.toolarium.processing.unit.IProcessingUnit;
+import com.github.toolarium.processing.unit.runtime.IProcessingUnitInstanceManager;
+import com.github.toolarium.processing.unit.runtime.ProcessingUnitInstanceManager;
+import com.github.toolarium.processing.unit.util.ProcessingUnitUtil;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingStepInstanceManager}.
+ *
+ * @author patrick
+ */
+public class ProcessingStepInstanceManagerTest {
+    private static final String ID = "step";
+    private static final String NAME = "name";
+
+
+    /**
+     * Test that the installation keeps a custom processing unit instance manager and the steps pass the interceptor of their engine
+     */
+    @Test
+    public void testInstanceManager() {
+        final ProcessingStepInstanceManager processingStepInstanceManager = ProcessingStepInstanceManager.getInstance();
+        final AtomicInteger numberOfCreatedInstances = new AtomicInteger(0);
+        final IProcessingUnitInstanceManager customInstanceManager = new ProcessingUnitInstanceManager() {
+            /**
+             * @see com.github.toolarium.processing.unit.runtime.ProcessingUnitInstanceManager#createProcessingUnitInstance(java.lang.String, java.lang.String, java.lang.Class)
+             */
+            @Override
+            public IProcessingUnit createProcessingUnitInstance(String id, String name, Class<? extends IProcessingUnit> processingUnitClass) {
+                numberOfCreatedInstances.incrementAndGet();
+                return super.createProcessingUnitInstance(id, name, processingUnitClass);
+            }
+        };
+
+        final ProcessingExecuterImpl engine1 = new ProcessingExecuterImpl();
+        final ProcessingExecuterImpl engine2 = new ProcessingExecuterImpl();
+        ProcessingUnitUtil.getInstance().setProcessingUnitInstanceManager(customInstanceManager);
+        try {
+            processingStepInstanceManager.register(ID, engine1);
+            processingStepInstanceManager.register(ID, engine2);
+            assertSame(processingStepInstanceManager, ProcessingUnitUtil.getInstance().getProcessingUnitInstanceManager());
+
+            // the custom instance manager creates the instances, only the registered processings are decorated
+            final IProcessingUnit processingUnit = ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID, NAME, ProcessingUnitSample.class);
+            assertTrue(Proxy.isProxyClass(processingUnit.getClass()));
+            assertFalse(Proxy.isProxyClass(ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID + 2, NAME, ProcessingUnitSample.class).getClass()));
+            assertEquals(2, numberOfCreatedInstances.get());
+
+            // the same id in two engines: the step passes the engine of its worker thread
+            assertNull(processingStepInstanceManager.getProcessingStepInterceptor(ID));
+            processingStepInstanceManager.bind(engine2);
+            assertSame(engine2, processingStepInstanceManager.getProcessingStepInterceptor(ID));
+            processingStepInstanceManager.unregister(ID, engine1);
+            assertSame(engine2, processingStepInstanceManager.getProcessingStepInterceptor(ID));
+            processingStepInstanceManager.unregister(ID, engine2);
+            assertNull(processingStepInstanceManager.getProcessingStepInterceptor(ID));
+            ProcessingUnitUtil.getInstance().releaseResource(ID, NAME, processingUnit);
+            
+            // without intercepted processings the custom instance manager is restored, a registration installs it again
+            processingStepInstanceManager.uninstall();
+            assertSame(customInstanceManager, ProcessingUnitUtil.getInstance().getProcessingUnitInstanceManager());
+            processingStepInstanceManager.register(ID, engine1);
+            assertSame(processingStepInstanceManager, ProcessingUnitUtil.getInstance().getProcessingUnitInstanceManager());
+            processingStepInstanceManager.unregister(ID, engine1);
+        } finally {
+            processingStepInstanceManager.bind(null);
+            processingStepInstanceManager.setProcessingUnitInstanceManager(new ProcessingUnitInstanceManager());
+            engine1.shutdown();
+            engine2.shutdown();
+        }
+    }
+}
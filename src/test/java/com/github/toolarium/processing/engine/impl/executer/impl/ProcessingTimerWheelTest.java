@@ -0,0 +1,70 @@
+/*
+ * ProcessingTimerWheelTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.executer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingTimerWheel}.
+ *
+ * @author patrick
+ */
+public class ProcessingTimerWheelTest {
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long START = 1_000_000_000L;
+
+
+    /**
+     * Test the expiry incl. timeouts which need several rounds of the wheel
+     */
+    @Test
+    public void testExpiry() {
+        // 8 slots of 10 milliseconds: one round is 80 milliseconds
+        ProcessingTimerWheel timerWheel = new ProcessingTimerWheel(10L, 5, START);
+        timerWheel.schedule("a", START + 25 * MILLISECOND);
+        timerWheel.schedule("b", START + 105 * MILLISECOND);
+        timerWheel.schedule("c", START + 500 * MILLISECOND);
+        assertEquals(3, timerWheel.size());
+
+        assertTrue(timerWheel.advance(START + 20 * MILLISECOND).isEmpty());
+        assertEquals(List.of("a"), timerWheel.advance(START + 30 * MILLISECOND));
+
+        // b shares the slot of a but one round later
+        assertTrue(timerWheel.advance(START + 100 * MILLISECOND).isEmpty());
+        assertEquals(List.of("b"), timerWheel.advance(START + 110 * MILLISECOND));
+        assertEquals(1, timerWheel.size());
+
+        assertTrue(timerWheel.advance(START + 490 * MILLISECOND).isEmpty());
+        assertEquals(List.of("c"), timerWheel.advance(START + 1000 * MILLISECOND));
+        assertEquals(0, timerWheel.size());
+    }
+
+
+    /**
+     * Test the cancel and the reschedule of a timeout
+     */
+    @Test
+    public void testCancel() {
+        ProcessingTimerWheel timerWheel = new ProcessingTimerWheel(10L, 8, START);
+        timerWheel.schedule("a", START + 50 * MILLISECOND);
+        timerWheel.schedule("b", START + 50 * MILLISECOND);
+        assertTrue(timerWheel.cancel("a"));
+        assertFalse(timerWheel.cancel("a"));
+
+        // a deadline in the past expires with the next tick
+        timerWheel.schedule("b", START - 50 * MILLISECOND);
+        assertEquals(1, timerWheel.size());
+        assertEquals(List.of("b"), timerWheel.advance(START + 10 * MILLISECOND));
+        assertTrue(timerWheel.advance(START + 100 * MILLISECOND).isEmpty());
+    }
+}
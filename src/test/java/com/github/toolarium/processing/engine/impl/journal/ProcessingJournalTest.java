@@ -0,0 +1,290 @@
+/*
+ * ProcessingJournalTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.processing.engine.IProcessEngine;
+import com.github.toolarium.processing.engine.ProcessingEngineFactory;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.journal.IProcessingJournalEntry;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitSample;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.dto.ProcessingActionStatus;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Test the {@link ProcessingJournal}.
+ *
+ * @author patrick
+ */
+public class ProcessingJournalTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingJournalTest.class);
+    private static final String CLASSNAME = ProcessingUnitSample.class.getName();
+    private static final String JOURNAL = "journal";
+    private static final String ID1 = "id1";
+    private static final String ID2 = "id2";
+    private static final String ID3 = "id3";
+    private static final String CRASH = "crash";
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+
+    /**
+     * Test the recovery of the journal view
+     *
+     * @param tempDir the temporary directory
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testRecovery(@TempDir Path tempDir) throws IOException {
+        final Path directory = tempDir.resolve(JOURNAL);
+        ProcessingJournal processingJournal = new ProcessingJournal(directory, SEGMENT_SIZE, 0L);
+        assertTrue(processingJournal.getInterruptedProcessingList().isEmpty());
+        processingJournal.submit(ID1, "name1", CLASSNAME);
+        processingJournal.transition(ID1, ProcessingActionStatus.RUNNING);
+        processingJournal.submit(ID2, "name2", CLASSNAME);
+        processingJournal.result(ID2, ProcessingActionStatus.ENDED, 10);
+        processingJournal.remove(ID2);
+        processingJournal.submit(ID3, null, CLASSNAME);
+        processingJournal.result(ID3, ProcessingActionStatus.ABORTED, 3);
+        assertEquals(7, processingJournal.getNumberOfRecords());
+        assertEquals(7, processingJournal.getNumberOfCommits());
+        assertEquals(2, processingJournal.getProcessingList().size());
+
+        // the directory is locked by the journal
+        assertThrows(ProcessingException.class, () -> new ProcessingJournal(directory, SEGMENT_SIZE, 0L));
+
+        // the segments of the open journal are kept, like a crash
+        final Path crashDirectory = crash(directory, tempDir.resolve(CRASH));
+        processingJournal.close();
+        processingJournal = new ProcessingJournal(crashDirectory, SEGMENT_SIZE, 0L);
+        final List<IProcessingJournalEntry> interruptedProcessingList = processingJournal.getInterruptedProcessingList();
+        assertEquals(2, interruptedProcessingList.size());
+        assertEquals(ID1, interruptedProcessingList.get(0).getId());
+        assertEquals("name1", interruptedProcessingList.get(0).getName());
+        assertEquals(CLASSNAME, interruptedProcessingList.get(0).getProcessingUnitClassname());
+        assertEquals(ProcessingActionStatus.RUNNING, interruptedProcessingList.get(0).getProcessingActionStatus());
+        assertNull(interruptedProcessingList.get(1).getName());
+        assertEquals(ProcessingActionStatus.ABORTED, interruptedProcessingList.get(1).getProcessingActionStatus());
+        assertEquals(3, interruptedProcessingList.get(1).getNumberOfProcessedUnits());
+
+        // the interrupted processings are kept until they are acknowledged
+        assertEquals(2, processingJournal.getProcessingList().size());
+        assertTrue(processingJournal.acknowledgeInterrupted(ID1));
+        assertFalse(processingJournal.acknowledgeInterrupted(ID1));
+        assertFalse(processingJournal.acknowledgeInterrupted(ID2));
+        processingJournal.close();
+        
+        processingJournal = new ProcessingJournal(crashDirectory, SEGMENT_SIZE, 0L);
+        assertEquals(1, processingJournal.getInterruptedProcessingList().size());
+        assertEquals(ID3, processingJournal.getInterruptedProcessingList().get(0).getId());
+        
+        // a new submission with the same id is not interrupted anymore
+        processingJournal.submit(ID3, "name3", CLASSNAME);
+        assertTrue(processingJournal.getInterruptedProcessingList().isEmpty());
+        processingJournal.remove(ID3);
+        processingJournal.close();
+        
+        processingJournal = new ProcessingJournal(crashDirectory, SEGMENT_SIZE, 0L);
+        assertTrue(processingJournal.getInterruptedProcessingList().isEmpty());
+        processingJournal.close();
+    }
+
+
+    /**
+     * Test the recovery of a journal with an incomplete record at its end
+     *
+     * @param tempDir the temporary directory
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testIncompleteRecord(@TempDir Path tempDir) throws IOException {
+        final Path directory = tempDir.resolve(JOURNAL);
+        ProcessingJournal processingJournal = new ProcessingJournal(directory, SEGMENT_SIZE, 0L);
+        processingJournal.submit(ID1, ID1, CLASSNAME);
+        processingJournal.submit(ID2, ID2, CLASSNAME);
+        final Path crashDirectory = crash(directory, tempDir.resolve(CRASH));
+        processingJournal.close();
+
+        // the second record is torn
+        final List<Path> segmentList = listSegments(crashDirectory);
+        assertEquals(1, segmentList.size());
+        try (FileChannel channel = FileChannel.open(segmentList.get(0), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(4);
+            channel.read(buffer, 8);
+            final long position = 8 + 8 + buffer.flip().getInt() + 8 + 4;
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f, 0x7f}), position);
+        }
+
+        processingJournal = new ProcessingJournal(crashDirectory, SEGMENT_SIZE, 0L);
+        final List<IProcessingJournalEntry> interruptedProcessingList = processingJournal.getInterruptedProcessingList();
+        assertEquals(1, interruptedProcessingList.size());
+        assertEquals(ID1, interruptedProcessingList.get(0).getId());
+        processingJournal.close();
+    }
+
+
+    /**
+     * Test the compaction of a full segment
+     *
+     * @param tempDir the temporary directory
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testCompaction(@TempDir Path tempDir) throws IOException {
+        final Path directory = tempDir.resolve(JOURNAL);
+        ProcessingJournal processingJournal = new ProcessingJournal(directory, 0, 0L);
+        processingJournal.submit(ID1, ID1, CLASSNAME);
+        for (int i = 0; i < 10000; i++) {
+            processingJournal.submit(ID2 + i, ID2, CLASSNAME);
+            processingJournal.transition(ID2 + i, ProcessingActionStatus.RUNNING);
+            processingJournal.remove(ID2 + i);
+        }
+        processingJournal.result(ID1, ProcessingActionStatus.ENDED, 42);
+
+        // only the compacted segment is kept
+        assertEquals(1, listSegments(directory).size());
+        assertTrue(Files.size(listSegments(directory).get(0)) < 30000L * 32);
+        processingJournal.compact();
+        assertEquals(1, listSegments(directory).size());
+        processingJournal.close();
+
+        processingJournal = new ProcessingJournal(directory, 0, 0L);
+        final List<IProcessingJournalEntry> interruptedProcessingList = processingJournal.getInterruptedProcessingList();
+        assertEquals(1, interruptedProcessingList.size());
+        assertEquals(ProcessingActionStatus.ENDED, interruptedProcessingList.get(0).getProcessingActionStatus());
+        assertEquals(42, interruptedProcessingList.get(0).getNumberOfProcessedUnits());
+        processingJournal.close();
+    }
+
+
+    /**
+     * Test the throughput of the group commit, it is only logged
+     *
+     * @param tempDir the temporary directory
+     */
+    @Test
+    public void testGroupCommit(@TempDir Path tempDir) {
+        final ProcessingJournal processingJournal = new ProcessingJournal(tempDir.resolve(JOURNAL), SEGMENT_SIZE, 10L);
+        final int numberOfTransitions = 100000;
+        final long start = System.nanoTime();
+        for (int i = 0; i < numberOfTransitions / 4; i++) {
+            final String id = "id" + i;
+            processingJournal.submit(id, JOURNAL, CLASSNAME);
+            processingJournal.transition(id, ProcessingActionStatus.RUNNING);
+            processingJournal.result(id, ProcessingActionStatus.ENDED, i);
+            processingJournal.remove(id);
+        }
+        final long duration = Math.max(1L, System.nanoTime() - start);
+        processingJournal.commit();
+        LOG.info("Appended " + numberOfTransitions + " records in " + TimeUnit.NANOSECONDS.toMillis(duration) + "ms ("
+                 + (numberOfTransitions * TimeUnit.SECONDS.toNanos(1) / duration) + " records/s, " + processingJournal.getNumberOfCommits() + " commits).");
+
+        assertEquals(numberOfTransitions, processingJournal.getNumberOfRecords());
+        assertTrue(processingJournal.getNumberOfCommits() < numberOfTransitions);
+        assertTrue(processingJournal.getProcessingList().isEmpty());
+        processingJournal.close();
+    }
+
+
+    /**
+     * Test the journal of the engine
+     *
+     * @param tempDir the temporary directory
+     * @throws InterruptedException In case of interruption
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testEngine(@TempDir Path tempDir) throws InterruptedException, IOException {
+        // a crashed engine left a running processing
+        final ProcessingJournal processingJournal = new ProcessingJournal(tempDir.resolve(CRASH), SEGMENT_SIZE, 0L);
+        processingJournal.submit(ID1, "crashed", CLASSNAME);
+        processingJournal.transition(ID1, ProcessingActionStatus.RUNNING);
+        final Path directory = crash(tempDir.resolve(CRASH), tempDir.resolve(JOURNAL));
+        processingJournal.close();
+
+        ProcessingEngineConfiguration processingEngineConfiguration = new ProcessingEngineConfiguration();
+        processingEngineConfiguration.setJournalDirectory(directory.toString());
+        processingEngineConfiguration.setJournalSegmentSize(SEGMENT_SIZE);
+        IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine(processingEngineConfiguration);
+        assertEquals(1, processEngine.getInterruptedProcessingList().size());
+        assertEquals(ID1, processEngine.getInterruptedProcessingList().get(0).getId());
+
+        // the journal directory is used by one engine at a time
+        assertThrows(ProcessingException.class, () -> ProcessingEngineFactory.getInstance().getProcessingEngine(processingEngineConfiguration));
+        
+        // the ended processings are removed from the journal, the interrupted one is kept
+        processEngine.getProcessingUnitRegistry().register(ProcessingUnitSample.class);
+        processEngine.execute(UUID.randomUUID().toString(), JOURNAL, CLASSNAME, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-journal-file")));
+        assertTrue(processEngine.awaitAll(60, TimeUnit.SECONDS));
+        processEngine.shutdown();
+        processEngine.getProcessingUnitRegistry().unregister(ProcessingUnitSample.class);
+
+        processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine(processingEngineConfiguration);
+        assertEquals(1, processEngine.getInterruptedProcessingList().size());
+        assertTrue(processEngine.acknowledgeInterruptedProcessing(ID1));
+        processEngine.shutdown();
+
+        processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine(processingEngineConfiguration);
+        assertTrue(processEngine.getInterruptedProcessingList().isEmpty());
+        processEngine.shutdown();
+    }
+
+
+    /**
+     * Copy the segments of an open journal into a new directory, the copy is the journal of a crash
+     *
+     * @param directory the directory of the open journal
+     * @param crashDirectory the directory of the copy
+     * @return the directory of the copy
+     * @throws IOException In case of an I/O error
+     */
+    private Path crash(Path directory, Path crashDirectory) throws IOException {
+        Files.createDirectories(crashDirectory);
+        for (Path path : listSegments(directory)) {
+            Files.copy(path, crashDirectory.resolve(path.getFileName()));
+        }
+
+        return crashDirectory;
+    }
+
+
+    /**
+     * List the segment files of a directory
+     *
+     * @param directory the directory
+     * @return the segment files
+     * @throws IOException In case of an I/O error
+     */
+    private List<Path> listSegments(Path directory) throws IOException {
+        final List<Path> result = new ArrayList<Path>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.filter(path -> path.getFileName().toString().endsWith("." + JOURNAL)).forEach(result::add);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * ProcessingUnitInstancePoolTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.common.util.ThreadUtil;
+import com.github.toolarium.processing.engine.IProcessEngine;
+import com.github.toolarium.processing.engine.IProcessingHandle;
+import com.github.toolarium.processing.engine.ProcessingEngineFactory;
+import com.github.toolarium.processing.engine.dto.pool.ProcessingUnitPoolPolicy;
+import com.github.toolarium.processing.engine.dto.unit.IProcessingUnitDefinition;
+import com.github.toolarium.processing.engine.exception.ValidationException;
+import com.github.toolarium.processing.engine.impl.registry.ProcessingUnitRegistry;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitSample;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitSample2;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitStatefulSample;
+import com.github.toolarium.processing.unit.IProcessingUnit;
+import com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.runtime.ProcessingUnitInstanceManager;
+import com.github.toolarium.processing.unit.util.ProcessingUnitUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingUnitInstancePool}.
+ *
+ * @author patrick
+ */
+public class ProcessingUnitInstancePoolTest {
+    private static final String CLASSNAME = ProcessingUnitSample.class.getName();
+    private static final String ID = "id";
+    private static final String NAME = "name";
+
+
+    /**
+     * Test the warm start and the reuse of the released instances
+     */
+    @Test
+    public void testPool() {
+        final ProcessingUnitInstancePool pool = ProcessingUnitInstancePool.getInstance();
+        assertThrows(ValidationException.class, () -> ProcessingUnitRegistry.getInstance().register(ProcessingUnitSample.class, new ProcessingUnitPoolPolicy(3, 1)));
+        assertEquals(0, pool.getNumberOfIdleInstances(CLASSNAME));
+
+        // the instance of the registration is kept, the warm up creates the rest
+        IProcessingUnitDefinition processingUnitDefinition = ProcessingUnitRegistry.getInstance().register(ProcessingUnitSample.class, new ProcessingUnitPoolPolicy(2, 3));
+        assertEquals(3, processingUnitDefinition.getPoolPolicy().getMaxNumberOfIdleInstances());
+        assertEquals(2, pool.getNumberOfIdleInstances(CLASSNAME));
+
+        // the most recently released instance is reused first
+        final IProcessingUnit instance = ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID, NAME, ProcessingUnitSample.class);
+        assertEquals(1, pool.getNumberOfIdleInstances(CLASSNAME));
+        ProcessingUnitUtil.getInstance().releaseResource(ID, NAME, instance);
+        assertSame(instance, ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID, NAME, ProcessingUnitSample.class));
+        ProcessingUnitUtil.getInstance().releaseResource(ID, NAME, instance);
+        assertEquals(2, pool.getNumberOfReusedInstances(CLASSNAME));
+
+        // the pool keeps at most the max number of idle instances
+        final List<IProcessingUnit> instanceList = new ArrayList<IProcessingUnit>();
+        for (int i = 0; i < 5; i++) {
+            instanceList.add(ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID + i, NAME, ProcessingUnitSample.class));
+        }
+
+        assertEquals(0, pool.getNumberOfIdleInstances(CLASSNAME));
+        for (IProcessingUnit processingUnit : instanceList) {
+            ProcessingUnitUtil.getInstance().releaseResource(ID, NAME, processingUnit);
+        }
+
+        assertEquals(3, pool.getNumberOfIdleInstances(CLASSNAME));
+
+        // a processing unit class without pool gets a new instance
+        ProcessingUnitRegistry.getInstance().register(ProcessingUnitSample2.class);
+        final IProcessingUnit instance2 = ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID, NAME, ProcessingUnitSample2.class);
+        ProcessingUnitUtil.getInstance().releaseResource(ID, NAME, instance2);
+        assertNotSame(instance2, ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID, NAME, ProcessingUnitSample2.class));
+        assertEquals(0, pool.getNumberOfIdleInstances(ProcessingUnitSample2.class.getName()));
+
+        ProcessingUnitRegistry.getInstance().unregister(ProcessingUnitSample.class);
+        ProcessingUnitRegistry.getInstance().unregister(ProcessingUnitSample2.class);
+        assertEquals(0, pool.getNumberOfIdleInstances(CLASSNAME));
+    }
+
+
+    /**
+     * Test a reused instance is released by the processing unit instance manager and starts clean
+     */
+    @Test
+    public void testReuse() {
+        final ProcessingUnitInstancePool pool = ProcessingUnitInstancePool.getInstance();
+        final AtomicInteger numberOfReleasedInstances = new AtomicInteger(0);
+        ProcessingEngineFactory.getInstance().setProcessingUnitInstanceManager(new ProcessingUnitInstanceManager() {
+            /**
+             * @see com.github.toolarium.processing.unit.runtime.ProcessingUnitInstanceManager#releaseResource(java.lang.String, java.lang.String, com.github.toolarium.processing.unit.IProcessingUnit)
+             */
+            @Override
+            public void releaseResource(String id, String name, IProcessingUnit processingUnit) {
+                numberOfReleasedInstances.incrementAndGet();
+                super.releaseResource(id, name, processingUnit);
+            }
+        });
+
+        try {
+            ProcessingUnitRegistry.getInstance().register(ProcessingUnitStatefulSample.class, new ProcessingUnitPoolPolicy(1, 1));
+            final ProcessingUnitStatefulSample instance = (ProcessingUnitStatefulSample)ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID, NAME, ProcessingUnitStatefulSample.class);
+            instance.processUnit(new ProcessingUnitStatusBuilder());
+            instance.processUnit(new ProcessingUnitStatusBuilder());
+            assertEquals(2, instance.getNumberOfCalls());
+
+            // the pooled instance is released as every other instance before it is reused
+            numberOfReleasedInstances.set(0);
+            ProcessingUnitUtil.getInstance().releaseResource(ID, NAME, instance);
+            assertEquals(1, numberOfReleasedInstances.get());
+            assertEquals(1, pool.getNumberOfIdleInstances(ProcessingUnitStatefulSample.class.getName()));
+            final ProcessingUnitStatefulSample reusedInstance = (ProcessingUnitStatefulSample)ProcessingUnitUtil.getInstance().createProcessingUnitInstance(ID, NAME, ProcessingUnitStatefulSample.class);
+            assertSame(instance, reusedInstance);
+            assertEquals(0, reusedInstance.getNumberOfCalls());
+        } finally {
+            ProcessingUnitRegistry.getInstance().unregister(ProcessingUnitStatefulSample.class);
+            ProcessingEngineFactory.getInstance().setProcessingUnitInstanceManager(new ProcessingUnitInstanceManager());
+        }
+    }
+
+
+    /**
+     * Test the processings with pooled instances
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testProcessing() throws InterruptedException {
+        IProcessEngine processEngine = ProcessingEngineFactory.getInstance().getProcessingEngine();
+        processEngine.getProcessingUnitRegistry().register(ProcessingUnitSample.class, new ProcessingUnitPoolPolicy(1, 2));
+        final List<Parameter> parameterList = List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-pool-file"));
+        final long numberOfWarmUpInstances = ProcessingUnitInstancePool.getInstance().getNumberOfCreatedInstances(CLASSNAME);
+        for (int i = 0; i < 3; i++) {
+            IProcessingHandle handle = processEngine.submit(null, "pool" + i, CLASSNAME, parameterList);
+            assertFalse(handle.getResult().join().isAborted());
+        }
+
+        // the first processing got the warm instance, the released instances are kept for the next processings
+        assertTrue(processEngine.awaitAll(60, TimeUnit.SECONDS));
+        assertTrue(ProcessingUnitInstancePool.getInstance().getNumberOfReusedInstances(CLASSNAME) >= 1);
+        assertEquals(3 + numberOfWarmUpInstances, ProcessingUnitInstancePool.getInstance().getNumberOfReusedInstances(CLASSNAME) + ProcessingUnitInstancePool.getInstance().getNumberOfCreatedInstances(CLASSNAME));
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        while (ProcessingUnitInstancePool.getInstance().getNumberOfIdleInstances(CLASSNAME) == 0 && System.currentTimeMillis() < deadline) {
+            ThreadUtil.getInstance().sleep(10L);
+        }
+        
+        assertTrue(ProcessingUnitInstancePool.getInstance().getNumberOfIdleInstances(CLASSNAME) > 0);
+
+        processEngine.shutdown();
+        processEngine.getProcessingUnitRegistry().unregister(ProcessingUnitSample.class);
+    }
+}
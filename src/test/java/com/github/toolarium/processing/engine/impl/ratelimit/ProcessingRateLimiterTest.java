@@ -0,0 +1,89 @@
+/*
+ * ProcessingRateLimiterTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.processing.engine.dto.ratelimit.ProcessingRateLimitScope;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingRateLimiter}.
+ *
+ * @author patrick
+ */
+public class ProcessingRateLimiterTest {
+    private static final String ID = "id";
+    private static final String CLASSNAME = "com.github.toolarium.Sample";
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    
+    /**
+     * Test the token bucket: a small burst, then the calls are spaced by the emission interval
+     */
+    @Test
+    public void testTokenBucket() {
+        ProcessingTokenBucket tokenBucket = new ProcessingTokenBucket(ProcessingRateLimitScope.GLOBAL, null, 100);
+        final long now = 1_000_000_000L;
+        
+        // 100 calls per second: a burst of 10 calls, then one call per 10 milliseconds
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, tokenBucket.reserve(now));
+        }
+        assertEquals(10 * MILLISECOND, tokenBucket.reserve(now));
+        assertEquals(20 * MILLISECOND, tokenBucket.getWaitTime(now));
+        assertEquals(0, tokenBucket.getWaitTime(now + 20 * MILLISECOND));
+        assertEquals(11, tokenBucket.getStatus().getNumberOfCalls());
+        assertEquals(1, tokenBucket.getStatus().getNumberOfThrottledCalls());
+        
+        // an idle bucket fills up to the burst only
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, tokenBucket.reserve(now + 10_000 * MILLISECOND));
+        }
+        assertEquals(10 * MILLISECOND, tokenBucket.reserve(now + 10_000 * MILLISECOND));
+    }
+
+    
+    /**
+     * Test the hierarchy: a call waits for the slowest of all rate limits which apply
+     */
+    @Test
+    public void testHierarchy() {
+        ProcessingRateLimiter rateLimiter = new ProcessingRateLimiter();
+        assertFalse(rateLimiter.isActive());
+        assertEquals(0, rateLimiter.reserve(CLASSNAME, "tenant", ID, 0));
+        
+        rateLimiter.setMaxNumberOfCallsPerSecond(1000);
+        rateLimiter.setMaxNumberOfProcessingUnitCallsPerSecond(CLASSNAME, 10);
+        rateLimiter.setMaxNumberOfTenantCallsPerSecond("tenant", 1);
+        assertTrue(rateLimiter.isActive());
+        assertEquals(3, rateLimiter.getStatusList().size());
+        
+        final long now = 1_000_000_000L;
+        assertEquals(0, rateLimiter.reserve(CLASSNAME, "tenant", ID, now));
+        assertEquals(1000 * MILLISECOND, rateLimiter.reserve(CLASSNAME, "tenant", ID, now));
+        
+        // another tenant is only limited by the processing unit class
+        // the throttled call reserved its token in all buckets
+        assertEquals(200 * MILLISECOND, rateLimiter.reserve(CLASSNAME, "other", ID, now));
+        assertEquals(300 * MILLISECOND, rateLimiter.getWaitTime(CLASSNAME, "other", ID, now));
+        assertEquals(0, rateLimiter.getWaitTime("other", "other", ID, now));
+        
+        // adjust at runtime
+        rateLimiter.setMaxNumberOfProcessingUnitCallsPerSecond(CLASSNAME, 0);
+        rateLimiter.setMaxNumberOfProcessingCallsPerSecond(ID, 5);
+        assertEquals(0, rateLimiter.getWaitTime(CLASSNAME, "other", ID, now));
+        rateLimiter.removeProcessing(ID);
+        assertEquals(2, rateLimiter.getStatusList().size());
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.setMaxNumberOfCallsPerSecond(-1));
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.setMaxNumberOfTenantCallsPerSecond(" ", 1));
+    }
+}
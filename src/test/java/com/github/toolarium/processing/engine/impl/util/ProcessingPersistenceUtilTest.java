@@ -0,0 +1,363 @@
+/*
+ * ProcessingPersistenceUtilTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingExecuterPersistenceContainer;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingScheduleReference;
+import com.github.toolarium.processing.engine.impl.executer.dto.ProcessingSuspendedState;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+/**
+ * Test the {@link ProcessingPersistenceUtil}.
+ *
+ * @author patrick
+ */
+public class ProcessingPersistenceUtilTest {
+    private static final String CLASSNAME = "com.github.toolarium.processing.engine.unit.ProcessingUnitSample";
+
+
+    /**
+     * Test the round trip of the binary format
+     */
+    @Test
+    public void testRoundTrip() {
+        assertNull(ProcessingPersistenceUtil.getInstance().toByteArray(new ProcessingExecuterPersistenceContainer()));
+
+        final ProcessingExecuterPersistenceContainer container = createContainer();
+        final byte[] persistedState = ProcessingPersistenceUtil.getInstance().toByteArray(container);
+        assertFalse(ProcessingPersistenceUtil.getInstance().isJavaSerialized(persistedState));
+
+        final ProcessingExecuterPersistenceContainer result = ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(persistedState);
+        assertEquals(container.getSuspendedStateEntryList(), result.getSuspendedStateEntryList());
+        assertEquals(2, result.getSuspendedStateList().size());
+        assertArrayEquals(container.getSuspendedStateList().get(1), result.getSuspendedStateList().get(1));
+        assertNull(result.getSuspendedStateEntryList().get(1).getId());
+        assertEquals(container.getScheduleReferenceList().toString(), result.getScheduleReferenceList().toString());
+        assertEquals("0 2 * * *", result.getScheduleReferenceList().get(0).getCronExpression());
+        assertEquals("inputFilename", result.getScheduleReferenceList().get(0).getParameterList().get(0).getKey());
+    }
+
+
+    /**
+     * Test the compression of the suspended states
+     */
+    @Test
+    public void testCompression() {
+        final byte[] compressible = new byte[64 * 1024];
+        for (int i = 0; i < compressible.length; i++) {
+            compressible[i] = (byte)(i % 16);
+        }
+        
+        final byte[] incompressible = new byte[8 * 1024];
+        new Random(42).nextBytes(incompressible);
+        
+        final ProcessingExecuterPersistenceContainer container = createContainer();
+        container.add(new ProcessingSuspendedState("id2", CLASSNAME, compressible));
+        container.add(new ProcessingSuspendedState("id3", CLASSNAME, incompressible));
+        final byte[] uncompressed = ProcessingPersistenceUtil.getInstance().toByteArray(container);
+        final byte[] compressed = ProcessingPersistenceUtil.getInstance().toByteArray(container, 1024);
+        assertTrue(compressed.length < uncompressed.length - compressible.length / 2);
+        assertTrue(compressed.length > incompressible.length);
+        
+        final ProcessingExecuterPersistenceContainer result = ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(compressed);
+        assertEquals(container.getSuspendedStateEntryList(), result.getSuspendedStateEntryList());
+        assertArrayEquals(compressible, result.getSuspendedStateList().get(2));
+        assertArrayEquals(incompressible, result.getSuspendedStateList().get(3));
+        assertEquals(container.getScheduleReferenceList().toString(), result.getScheduleReferenceList().toString());
+        
+        // a corrupt compressed state, it is the end of the content
+        final ProcessingExecuterPersistenceContainer compressibleContainer = new ProcessingExecuterPersistenceContainer();
+        compressibleContainer.add(compressible);
+        final byte[] corrupt = ProcessingPersistenceUtil.getInstance().toByteArray(compressibleContainer, 1024);
+        for (int i = corrupt.length - 8; i < corrupt.length; i++) {
+            corrupt[i] = (byte)~corrupt[i];
+        }
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(corrupt));
+    }
+
+    
+    /**
+     * Test the streaming of the binary format
+     */
+    @Test
+    public void testStream() {
+        final ProcessingExecuterPersistenceContainer container = createContainer();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ProcessingPersistenceUtil.getInstance().write(outputStream, container, 0);
+        assertArrayEquals(ProcessingPersistenceUtil.getInstance().toByteArray(container), outputStream.toByteArray());
+        
+        final List<ProcessingSuspendedState> suspendedStateList = new ArrayList<ProcessingSuspendedState>();
+        final List<ProcessingScheduleReference> scheduleReferenceList = new ArrayList<ProcessingScheduleReference>();
+        ProcessingPersistenceUtil.getInstance().read(new ByteArrayInputStream(outputStream.toByteArray()), suspendedStateList::add, scheduleReferenceList::add);
+        assertEquals(container.getSuspendedStateEntryList(), suspendedStateList);
+        assertEquals(container.getScheduleReferenceList().toString(), scheduleReferenceList.toString());
+        
+        // an empty stream has nothing to resume, the empty container has a header
+        suspendedStateList.clear();
+        ProcessingPersistenceUtil.getInstance().read(new ByteArrayInputStream(new byte[0]), suspendedStateList::add, scheduleReferenceList::add);
+        final ByteArrayOutputStream emptyOutputStream = new ByteArrayOutputStream();
+        ProcessingPersistenceUtil.getInstance().write(emptyOutputStream, null, 0);
+        ProcessingPersistenceUtil.getInstance().read(new ByteArrayInputStream(emptyOutputStream.toByteArray()), suspendedStateList::add, scheduleReferenceList::add);
+        assertTrue(suspendedStateList.isEmpty());
+        assertTrue(emptyOutputStream.size() > 0);
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().read(new ByteArrayInputStream(new byte[] {1, 2, 3}), suspendedStateList::add, scheduleReferenceList::add));
+    }
+
+    
+    /**
+     * Test the streaming of the entries of a producer: the entries are written as soon as they are passed, a content without
+     * end tag is incomplete
+     */
+    @Test
+    public void testStreamEntries() {
+        final ProcessingExecuterPersistenceContainer container = createContainer();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ProcessingPersistenceUtil.getInstance().write(outputStream, 0, (suspendedStateConsumer, scheduleReferenceConsumer) -> {
+            scheduleReferenceConsumer.accept(container.getScheduleReferenceList().get(0));
+            for (ProcessingSuspendedState suspendedState : container.getSuspendedStateEntryList()) {
+                suspendedStateConsumer.accept(suspendedState);
+            }
+        });
+        
+        final ProcessingExecuterPersistenceContainer result = ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(outputStream.toByteArray());
+        assertEquals(container.getSuspendedStateEntryList(), result.getSuspendedStateEntryList());
+        assertEquals(container.getScheduleReferenceList().toString(), result.getScheduleReferenceList().toString());
+        
+        // the entries before the missing end tag are read
+        final byte[] persistedState = outputStream.toByteArray();
+        final List<ProcessingSuspendedState> suspendedStateList = new ArrayList<ProcessingSuspendedState>();
+        final List<ProcessingScheduleReference> scheduleReferenceList = new ArrayList<ProcessingScheduleReference>();
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().read(new ByteArrayInputStream(Arrays.copyOf(persistedState, persistedState.length - 1)), 
+                                                                                                   suspendedStateList::add, scheduleReferenceList::add));
+        assertEquals(container.getSuspendedStateEntryList(), suspendedStateList);
+        assertEquals(1, scheduleReferenceList.size());
+        
+        // an unknown tag
+        final byte[] unknownTag = persistedState.clone();
+        unknownTag[8] = 9;
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(unknownTag));
+        
+        // an error of the producer
+        assertThrows(IllegalStateException.class, () -> ProcessingPersistenceUtil.getInstance().write(new ByteArrayOutputStream(), 0, (suspendedStateConsumer, scheduleReferenceConsumer) -> {
+            throw new IllegalStateException("producer");
+        }));
+    }
+
+    
+    /**
+     * Test the write to a file: the temporary file is removed in case the file can't be replaced
+     *
+     * @param tempDir the temporary directory
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testWriteFile(@TempDir Path tempDir) throws IOException {
+        final Path path = tempDir.resolve("processing-engine.state");
+        ProcessingPersistenceUtil.getInstance().write(path, createContainer(), 0);
+        final List<ProcessingSuspendedState> suspendedStateList = new ArrayList<ProcessingSuspendedState>();
+        ProcessingPersistenceUtil.getInstance().read(path, suspendedStateList::add, scheduleReference -> { });
+        assertEquals(createContainer().getSuspendedStateEntryList(), suspendedStateList);
+        
+        // a not empty directory can't be replaced
+        final Path directory = tempDir.resolve("directory");
+        Files.createDirectories(directory.resolve("entry"));
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().write(directory, createContainer(), 0));
+        assertFalse(Files.exists(tempDir.resolve("directory.tmp")));
+        assertTrue(Files.isDirectory(directory));
+    }
+
+    
+    /**
+     * Test the migration of the java serialized format of the previous versions
+     *
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testMigration() throws IOException {
+        final ProcessingExecuterPersistenceContainer container = createContainer();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objOutStream = new ObjectOutputStream(outputStream);
+        objOutStream.writeObject(container);
+        objOutStream.close();
+        final byte[] javaSerialized = outputStream.toByteArray();
+        assertTrue(ProcessingPersistenceUtil.getInstance().isJavaSerialized(javaSerialized));
+
+        // the previous format has no metadata of the suspended states
+        final ProcessingExecuterPersistenceContainer legacy = ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(javaSerialized);
+        assertEquals(2, legacy.getSuspendedStateEntryList().size());
+        assertNull(legacy.getSuspendedStateEntryList().get(0).getId());
+        assertArrayEquals(container.getSuspendedStateList().get(0), legacy.getSuspendedStateEntryList().get(0).getSuspendedState());
+        assertEquals(container.getScheduleReferenceList().toString(), legacy.getScheduleReferenceList().toString());
+
+        // it is written in the binary format which is smaller
+        final byte[] persistedState = ProcessingPersistenceUtil.getInstance().toByteArray(legacy);
+        assertTrue(persistedState.length < javaSerialized.length);
+        assertEquals(legacy.getSuspendedStateEntryList(), ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(persistedState).getSuspendedStateEntryList());
+        
+        // the java serialized content can be streamed as well
+        final List<ProcessingSuspendedState> suspendedStateList = new ArrayList<ProcessingSuspendedState>();
+        ProcessingPersistenceUtil.getInstance().read(new ByteArrayInputStream(javaSerialized), suspendedStateList::add, scheduleReference -> { });
+        assertEquals(legacy.getSuspendedStateEntryList(), suspendedStateList);
+    }
+
+
+    /**
+     * Test the invalid content
+     *
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testInvalid() throws IOException {
+        final byte[] persistedState = ProcessingPersistenceUtil.getInstance().toByteArray(createContainer());
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(new byte[] {1, 2, 3, 4, 5}));
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(Arrays.copyOf(persistedState, persistedState.length - 1)));
+
+        // a newer version
+        final byte[] newerVersion = persistedState.clone();
+        newerVersion[5] = 99;
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(newerVersion));
+        
+        // the previous versions have the number of entries in the header, the first version has no flags
+        final List<ProcessingSuspendedState> expected = List.of(new ProcessingSuspendedState("id1", CLASSNAME, new byte[] {1, 2, 3}));
+        assertEquals(expected, ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(createPreviousVersion(2, 0)).getSuspendedStateEntryList());
+        assertEquals(expected, ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(createPreviousVersion(2, 1)).getSuspendedStateEntryList());
+        assertEquals(expected, ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(createPreviousVersion(1, 1)).getSuspendedStateEntryList());
+        final byte[] previousVersion = createPreviousVersion(2, 0);
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(Arrays.copyOf(previousVersion, previousVersion.length - 1)));
+    }
+
+
+    /**
+     * Test that a corrupt size is not trusted: the content is rejected without allocating the size
+     */
+    @Test
+    public void testInvalidSize() {
+        final byte[] persistedState = ProcessingPersistenceUtil.getInstance().toByteArray(createContainer());
+        writeInt(persistedState, indexOf(persistedState, 3, 0), Integer.MAX_VALUE - 8);
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(persistedState));
+
+        // the size of the de-compressed state
+        final byte[] compressible = new byte[64 * 1024];
+        final ProcessingExecuterPersistenceContainer compressibleContainer = new ProcessingExecuterPersistenceContainer();
+        compressibleContainer.add(compressible);
+        final byte[] compressed = ProcessingPersistenceUtil.getInstance().toByteArray(compressibleContainer, 1024);
+        final int index = indexOf(compressed, compressible.length, 0);
+        writeInt(compressed, index, Integer.MAX_VALUE - 8);
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(compressed));
+        writeInt(compressed, index, compressible.length + 1);
+        assertThrows(ProcessingException.class, () -> ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(compressed));
+        writeInt(compressed, index, compressible.length);
+        assertArrayEquals(compressible, ProcessingPersistenceUtil.getInstance().toProcessingExecuterPersistenceContainer(compressed).getSuspendedStateList().get(0));
+    }
+
+
+    /**
+     * Get the index of a big endian int
+     *
+     * @param content the content
+     * @param value the value
+     * @param fromIndex the index to start
+     * @return the index or -1
+     */
+    private int indexOf(byte[] content, int value, int fromIndex) {
+        for (int i = fromIndex; i <= content.length - 4; i++) {
+            if (((content[i] & 0xFF) << 24 | (content[i + 1] & 0xFF) << 16 | (content[i + 2] & 0xFF) << 8 | (content[i + 3] & 0xFF)) == value) {
+                return i;
+            }
+        }
+        
+        return -1;
+    }
+
+
+    /**
+     * Write a big endian int
+     *
+     * @param content the content
+     * @param index the index
+     * @param value the value
+     */
+    private void writeInt(byte[] content, int index, int value) {
+        content[index] = (byte)(value >>> 24);
+        content[index + 1] = (byte)(value >>> 16);
+        content[index + 2] = (byte)(value >>> 8);
+        content[index + 3] = (byte)value;
+    }
+
+
+    /**
+     * Create the content of a previous version with one suspended state, the number of entries is part of the header
+     *
+     * @param version the version
+     * @param flags the flags
+     * @return the content
+     * @throws IOException In case of an I/O error
+     */
+    private byte[] createPreviousVersion(int version, int flags) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(0x54504553);
+        out.writeShort(version);
+        out.writeShort(flags);
+        out.writeInt(1);
+        out.writeInt(0);
+        out.writeInt(3);
+        out.write("id1".getBytes(StandardCharsets.UTF_8));
+        out.writeInt(CLASSNAME.length());
+        out.write(CLASSNAME.getBytes(StandardCharsets.UTF_8));
+        if (version > 1 && flags != 0) {
+            // the codec of the uncompressed state
+            out.writeByte(0);
+        }
+        
+        out.writeInt(3);
+        out.write(new byte[] {1, 2, 3});
+        out.close();
+        return outputStream.toByteArray();
+    }
+
+
+    /**
+     * Create a container
+     *
+     * @return the container
+     */
+    private ProcessingExecuterPersistenceContainer createContainer() {
+        final ProcessingExecuterPersistenceContainer container = new ProcessingExecuterPersistenceContainer();
+        container.add(new ProcessingSuspendedState("id1", CLASSNAME, new byte[] {1, 2, 3}));
+        container.add(new byte[] {4, 5});
+
+        ProcessingScheduleReference processingScheduleReference = new ProcessingScheduleReference("schedule1", "cron", CLASSNAME, List.of(new Parameter("inputFilename", "my-file")));
+        processingScheduleReference.setCronExpression("0 2 * * *");
+        processingScheduleReference.setNextExecutionTime(1000L);
+        processingScheduleReference.setNumberOfExecutions(3);
+        container.addSchedules(List.of(processingScheduleReference));
+        return container;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * ProcessingVirtualThreadFactoryTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.impl.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingEngineConfiguration;
+import com.github.toolarium.processing.engine.dto.configuration.ProcessingExecutionMode;
+import com.github.toolarium.processing.engine.impl.executer.IProcessingExecuter;
+import com.github.toolarium.processing.engine.impl.executer.impl.ProcessingExecuterImpl;
+import com.github.toolarium.processing.engine.unit.ProcessingUnitSample;
+import com.github.toolarium.processing.unit.dto.Parameter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link ProcessingVirtualThreadFactory} and the {@link ProcessingPinningMonitor}.
+ *
+ * @author patrick
+ */
+public class ProcessingVirtualThreadFactoryTest {
+
+    /**
+     * Test the execution mode virtual thread, it depends on the runtime
+     *
+     * @throws InterruptedException In case of interruption
+     */
+    @Test
+    public void testVirtualThreadMode() throws InterruptedException {
+        ProcessingEngineConfiguration configuration = new ProcessingEngineConfiguration();
+        configuration.setExecutionMode(ProcessingExecutionMode.VIRTUAL_THREAD);
+        configuration.setQueueCapacity(10);
+
+        if (!ProcessingVirtualThreadFactory.getInstance().isSupported()) {
+            // the engine can't be created before java 21
+            assertThrows(IllegalArgumentException.class, () -> ProcessingVirtualThreadFactory.getInstance().validate());
+            assertThrows(IllegalArgumentException.class, () -> new ProcessingExecuterImpl(configuration));
+            assertThrows(UnsupportedOperationException.class, () -> ProcessingVirtualThreadFactory.getInstance().newThread(() -> { }));
+            return;
+        }
+
+        // the virtual threads are not bounded by the number of processors
+        final IProcessingExecuter processingExecuter = new ProcessingExecuterImpl(configuration);
+        assertEquals(ProcessingExecutionMode.VIRTUAL_THREAD, processingExecuter.getStatus().getExecutionMode());
+        assertEquals(Integer.MAX_VALUE, processingExecuter.getStatus().getMaxPoolSize());
+        assertTrue(ProcessingVirtualThreadFactory.getInstance().newThread(() -> { }).isDaemon());
+
+        processingExecuter.execute("v1", "virtual", ProcessingUnitSample.class, List.of(new Parameter(ProcessingUnitSample.INPUT_FILENAME_PARAMETER.getKey(), "my-virtual-file")));
+        assertTrue(processingExecuter.awaitAll(60, TimeUnit.SECONDS));
+        assertTrue(processingExecuter.shutdown().getSuspendedStateList().isEmpty());
+    }
+
+
+    /**
+     * Test the shared pinning monitor: it is active until the last engine stopped it
+     */
+    @Test
+    public void testPinningMonitor() {
+        final ProcessingPinningMonitor processingPinningMonitor = ProcessingPinningMonitor.getInstance();
+        final boolean isStarted = processingPinningMonitor.start();
+        processingPinningMonitor.start();
+        assertEquals(isStarted, processingPinningMonitor.isActive());
+
+        processingPinningMonitor.stop();
+        assertEquals(isStarted, processingPinningMonitor.isActive());
+        processingPinningMonitor.stop();
+        assertFalse(processingPinningMonitor.isActive());
+        assertTrue(processingPinningMonitor.getNumberOfPinnedEvents() >= 0);
+    }
+}
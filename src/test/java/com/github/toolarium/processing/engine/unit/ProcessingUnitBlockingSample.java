@@ -0,0 +1,54 @@
+/*
+ * ProcessingUnitBlockingSample.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.unit;
+
+import com.github.toolarium.processing.unit.IProcessingUnitStatus;
+import com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder;
+import com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Implements a processing unit which blocks its worker thread until the latch is opened
+ *   
+ * @author patrick
+ */
+public class ProcessingUnitBlockingSample extends AbstractProcessingUnitImpl {
+    /** LATCH: the processing unit calls wait until it is opened */
+    public static final AtomicReference<CountDownLatch> LATCH = new AtomicReference<CountDownLatch>(new CountDownLatch(0));
+    
+    /** NUMBER_OF_CALLS: the number of processing unit calls */
+    public static final AtomicInteger NUMBER_OF_CALLS = new AtomicInteger(0);
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#estimateNumberOfUnitsToProcess()
+     */
+    @Override
+    public long estimateNumberOfUnitsToProcess() {
+        return getProcessingUnitProgress().setNumberOfUnitsToProcess(10);
+    }
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#processUnit(com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder)
+     */
+    @Override
+    public IProcessingUnitStatus processUnit(ProcessingUnitStatusBuilder processingUnitStatusBuilder) throws ProcessingException {
+        NUMBER_OF_CALLS.incrementAndGet();
+        try {
+            LATCH.get().await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        processingUnitStatusBuilder.increaseNumberOfSuccessfulUnits();
+        return processingUnitStatusBuilder.hasNextIfHasUnprocessedUnits().build();        
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * ProcessingUnitConsumerSample.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.unit;
+
+import com.github.toolarium.processing.engine.IProcessingChannel;
+import com.github.toolarium.processing.unit.IProcessingUnitStatus;
+import com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder;
+import com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Implements the downstream processing unit of a pipeline: it polls the records of the channel of the 
+ * {@link ProcessingUnitProducerSample}
+ *   
+ * @author patrick
+ */
+public class ProcessingUnitConsumerSample extends AbstractProcessingUnitImpl {
+    /** IS_FAILING: true to abort the processing after the first record */
+    public static final AtomicBoolean IS_FAILING = new AtomicBoolean(false);
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#estimateNumberOfUnitsToProcess()
+     */
+    @Override
+    public long estimateNumberOfUnitsToProcess() {
+        return getProcessingUnitProgress().setNumberOfUnitsToProcess(10);
+    }
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#processUnit(com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder)
+     */
+    @Override
+    public IProcessingUnitStatus processUnit(ProcessingUnitStatusBuilder processingUnitStatusBuilder) throws ProcessingException {
+        final IProcessingChannel<Long> channel = ProcessingUnitProducerSample.CHANNEL_REGISTRY.get().getChannel(ProcessingUnitProducerSample.CHANNEL_NAME);
+        if (channel != null && channel.poll(10, TimeUnit.MILLISECONDS) != null) {
+            if (IS_FAILING.get()) {
+                throw new IllegalStateException("Consumer failure!");
+            }
+            
+            processingUnitStatusBuilder.increaseNumberOfSuccessfulUnits();
+        }
+
+        return processingUnitStatusBuilder.hasNextIfHasUnprocessedUnits().build();        
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * ProcessingUnitFailureSample.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.unit;
+
+import com.github.toolarium.common.util.ThreadUtil;
+import com.github.toolarium.processing.unit.IProcessingUnitStatus;
+import com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder;
+import com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Implements a processing unit which fails with a transient error
+ *   
+ * @author patrick
+ */
+public class ProcessingUnitFailureSample extends AbstractProcessingUnitImpl {
+    /** NUMBER_OF_FAILURES: the number of the remaining failures of all instances */
+    public static final AtomicInteger NUMBER_OF_FAILURES = new AtomicInteger(0);
+    
+    
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#estimateNumberOfUnitsToProcess()
+     */
+    @Override
+    public long estimateNumberOfUnitsToProcess() {
+        return getProcessingUnitProgress().setNumberOfUnitsToProcess(10);
+    }
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#processUnit(com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder)
+     */
+    @Override
+    public IProcessingUnitStatus processUnit(ProcessingUnitStatusBuilder processingUnitStatusBuilder) throws ProcessingException {
+        ThreadUtil.getInstance().sleep(5L);
+        if (NUMBER_OF_FAILURES.getAndDecrement() > 0) {
+            throw new IllegalStateException("Transient failure!");
+        }
+
+        processingUnitStatusBuilder.increaseNumberOfSuccessfulUnits();
+        return processingUnitStatusBuilder.hasNextIfHasUnprocessedUnits().build();        
+    }
+}
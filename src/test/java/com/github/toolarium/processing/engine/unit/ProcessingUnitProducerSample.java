@@ -0,0 +1,53 @@
+/*
+ * ProcessingUnitProducerSample.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.unit;
+
+import com.github.toolarium.processing.engine.IProcessingChannel;
+import com.github.toolarium.processing.engine.IProcessingChannelRegistry;
+import com.github.toolarium.processing.unit.IProcessingUnitStatus;
+import com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder;
+import com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Implements the upstream processing unit of a pipeline: it offers one record per processing step to its channel
+ *   
+ * @author patrick
+ */
+public class ProcessingUnitProducerSample extends AbstractProcessingUnitImpl {
+    /** CHANNEL_NAME: the name of the channel */
+    public static final String CHANNEL_NAME = "sample-channel";
+
+    /** CHANNEL_REGISTRY: the channel registry of the executer */
+    public static final AtomicReference<IProcessingChannelRegistry> CHANNEL_REGISTRY = new AtomicReference<IProcessingChannelRegistry>();
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#estimateNumberOfUnitsToProcess()
+     */
+    @Override
+    public long estimateNumberOfUnitsToProcess() {
+        return getProcessingUnitProgress().setNumberOfUnitsToProcess(10);
+    }
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#processUnit(com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder)
+     */
+    @Override
+    public IProcessingUnitStatus processUnit(ProcessingUnitStatusBuilder processingUnitStatusBuilder) throws ProcessingException {
+        // a full channel pauses the processing step
+        final IProcessingChannel<Long> channel = CHANNEL_REGISTRY.get().getChannel(CHANNEL_NAME);
+        if (channel != null && channel.offer(Long.valueOf(1), 10, TimeUnit.MILLISECONDS)) {
+            processingUnitStatusBuilder.increaseNumberOfSuccessfulUnits();
+        }
+
+        return processingUnitStatusBuilder.hasNextIfHasUnprocessedUnits().build();        
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * ProcessingUnitStatefulSample.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.processing.engine.unit;
+
+import com.github.toolarium.processing.unit.IProcessingUnitStatus;
+import com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder;
+import com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl;
+import com.github.toolarium.processing.unit.exception.ProcessingException;
+
+
+/**
+ * Implements a processing unit with an own state, it is reset by the release of the instance
+ *   
+ * @author patrick
+ */
+public class ProcessingUnitStatefulSample extends AbstractProcessingUnitImpl {
+    private int numberOfCalls;
+    
+
+    /**
+     * Get the number of processing unit calls since the last release
+     *
+     * @return the number of processing unit calls
+     */
+    public int getNumberOfCalls() {
+        return numberOfCalls;
+    }
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#estimateNumberOfUnitsToProcess()
+     */
+    @Override
+    public long estimateNumberOfUnitsToProcess() {
+        return getProcessingUnitProgress().setNumberOfUnitsToProcess(10);
+    }
+    
+
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#processUnit(com.github.toolarium.processing.unit.ProcessingUnitStatusBuilder)
+     */
+    @Override
+    public IProcessingUnitStatus processUnit(ProcessingUnitStatusBuilder processingUnitStatusBuilder) throws ProcessingException {
+        numberOfCalls++;
+        processingUnitStatusBuilder.increaseNumberOfSuccessfulUnits();
+        return processingUnitStatusBuilder.hasNextIfHasUnprocessedUnits().build();        
+    }
+
+    
+    /**
+     * @see com.github.toolarium.processing.unit.base.AbstractProcessingUnitImpl#releaseResource()
+     */
+    @Override
+    public void releaseResource() throws ProcessingException {
+        super.releaseResource();
+        numberOfCalls = 0;
+    }
+}